@@ -16,6 +16,9 @@
 
 package io.nem.symbol.core.crypto;
 
+import java.util.List;
+import java.util.stream.Collectors;
+
 /**
  * Represents a cryptographic engine that is a factory of crypto-providers.
  */
@@ -36,6 +39,25 @@ public interface CryptoEngine {
      */
     DsaSigner createDsaSigner(final KeyPair keyPair);
 
+    /**
+     * Verifies many signatures at once. By default each signature is verified with a {@link
+     * DsaSigner} of the signer's public key.
+     *
+     * The ed25519 engine verifies valid batches faster. It accepts every signature accepted by
+     * its {@link DsaSigner}, but it uses the cofactored verification equation, so it also accepts
+     * the signatures that are only invalid because R or the public key has a small order
+     * component. The result of a signature doesn't depend on the other signatures of the batch,
+     * except with a negligible probability.
+     *
+     * @param signedData the signed messages.
+     * @return one entry per signed message, true if its signature is valid.
+     */
+    default List<Boolean> verifyBatch(final List<SignedData> signedData) {
+        return signedData.stream().map(item -> createDsaSigner(
+            KeyPair.onlyPublic(item.getPublicKey(), this))
+            .verify(item.getData(), item.getSignature())).collect(Collectors.toList());
+    }
+
     /**
      * Creates a key generator.
      *
@@ -17,6 +17,7 @@
 package io.nem.symbol.core.crypto;
 
 import io.nem.symbol.core.crypto.ed25519.Ed25519CryptoEngine;
+import io.nem.symbol.core.crypto.ed25519.Ed25519Radix51CryptoEngine;
 
 /**
  * Static class that exposes crypto engines.
@@ -24,10 +25,12 @@ import io.nem.symbol.core.crypto.ed25519.Ed25519CryptoEngine;
 public class CryptoEngines {
 
     private static final CryptoEngine ED25519_ENGINE;
+    private static final CryptoEngine ED25519_RADIX51_ENGINE;
     private static final CryptoEngine DEFAULT_ENGINE;
 
     static {
         ED25519_ENGINE = new Ed25519CryptoEngine();
+        ED25519_RADIX51_ENGINE = new Ed25519Radix51CryptoEngine();
         DEFAULT_ENGINE = ED25519_ENGINE;
     }
 
@@ -54,4 +57,13 @@ public class CryptoEngines {
     public static CryptoEngine ed25519Engine() {
         return ED25519_ENGINE;
     }
+
+    /**
+     * Gets the ED25519 crypto engine that uses the radix 2^51 field arithmetic.
+     *
+     * @return The ED25519 radix 2^51 crypto engine.
+     */
+    public static CryptoEngine ed25519Radix51Engine() {
+        return ED25519_RADIX51_ENGINE;
+    }
 }
@@ -17,14 +17,15 @@
 package io.nem.symbol.core.crypto;
 
 import io.nem.symbol.core.utils.ConvertUtils;
-import io.nem.symbol.core.utils.ExceptionUtils;
-import java.security.MessageDigest;
-import java.security.Security;
+import java.util.function.Supplier;
 import org.bouncycastle.crypto.Digest;
+import org.bouncycastle.crypto.digests.KeccakDigest;
+import org.bouncycastle.crypto.digests.RIPEMD160Digest;
 import org.bouncycastle.crypto.digests.SHA256Digest;
+import org.bouncycastle.crypto.digests.SHA3Digest;
+import org.bouncycastle.crypto.digests.SHA512Digest;
 import org.bouncycastle.crypto.generators.HKDFBytesGenerator;
 import org.bouncycastle.crypto.params.HKDFParameters;
-import org.bouncycastle.jce.provider.BouncyCastleProvider;
 import org.bouncycastle.util.encoders.Hex;
 
 /**
@@ -33,42 +34,59 @@ import org.bouncycastle.util.encoders.Hex;
 public class Hashes {
 
     /**
-     * The provider.
+     * The supported algorithms. Each one keeps a digest instance per thread, so hashing doesn't
+     * look up the security provider nor allocate a new digest on every call.
      */
-    private static final String BC = "BC";
+    enum Algorithm {
 
-    /**
-     * The SHA256 algorithm.
-     */
-    private static final String SHA_256 = "SHA256";
+        SHA_256(SHA256Digest::new),
 
-    /**
-     * The SHA512 algorithm.
-     */
-    private static final String SHA_512 = "SHA512";
+        SHA_512(SHA512Digest::new),
 
-    /**
-     * The RIPEMD_160 algorithm.
-     */
-    private static final String RIPEMD_160 = "RIPEMD160";
+        RIPEMD_160(RIPEMD160Digest::new),
 
-    /**
-     * The SHA3-256 algorithm.
-     */
-    private static final String SHA_3_256 = "SHA3-256";
+        SHA_3_256(() -> new SHA3Digest(256)),
 
-    /**
-     * The SHA3-512 algorithm.
-     */
-    private static final String SHA_3_512 = "SHA3-512";
-    /**
-     * The KECCAK-256 algorithm.
-     */
-    private static final String KECCAK_256 = "KECCAK-256";
-    /**
-     * The KECCAK-512 algorithm.
-     */
-    private static final String KECCAK_512 = "KECCAK-512";
+        SHA_3_512(() -> new SHA3Digest(512)),
+
+        KECCAK_256(() -> new KeccakDigest(256)),
+
+        KECCAK_512(() -> new KeccakDigest(512));
+
+        private final Supplier<Digest> factory;
+
+        private final ThreadLocal<Digest> digest;
+
+        Algorithm(Supplier<Digest> factory) {
+            this.factory = factory;
+            this.digest = ThreadLocal.withInitial(factory);
+        }
+
+        /**
+         * @return a new digest of this algorithm.
+         */
+        Digest create() {
+            return factory.get();
+        }
+
+        /**
+         * It hashes the concatenated inputs with the current thread's digest.
+         *
+         * @param inputs the byte arrays to concatenate and hash.
+         * @return the hash.
+         */
+        byte[] hash(final byte[]... inputs) {
+            final Digest threadDigest = digest.get();
+            // A failed previous call may have left data in the digest.
+            threadDigest.reset();
+            for (final byte[] input : inputs) {
+                threadDigest.update(input, 0, input.length);
+            }
+            final byte[] result = new byte[threadDigest.getDigestSize()];
+            threadDigest.doFinal(result, 0);
+            return result;
+        }
+    }
 
     /**
      * Private constructor for this utility class.
@@ -76,10 +94,6 @@ public class Hashes {
     private Hashes() {
     }
 
-    static {
-        Security.addProvider(new BouncyCastleProvider());
-    }
-
     /**
      * Performs a SHA_3_256 hash of the concatenated inputs.
      *
@@ -89,7 +103,7 @@ public class Hashes {
      */
     @SuppressWarnings("squid:S00100")
     public static byte[] sha3_256(final byte[]... inputs) {
-        return hash(SHA_3_256, inputs);
+        return Algorithm.SHA_3_256.hash(inputs);
     }
 
     /**
@@ -101,7 +115,7 @@ public class Hashes {
      */
     @SuppressWarnings("squid:S00100")
     public static byte[] sha3_512(final byte[]... inputs) {
-        return hash(SHA_3_512, inputs);
+        return Algorithm.SHA_3_512.hash(inputs);
     }
 
     /**
@@ -112,7 +126,7 @@ public class Hashes {
      * @throws CryptoException if the hash operation failed.
      */
     public static byte[] ripemd160(final byte[]... inputs) {
-        return hash(RIPEMD_160, inputs);
+        return Algorithm.RIPEMD_160.hash(inputs);
     }
 
     /**
@@ -123,7 +137,7 @@ public class Hashes {
      * @throws CryptoException if the hash operation failed.
      */
     public static byte[] keccak256(final byte[]... inputs) {
-        return hash(KECCAK_256, inputs);
+        return Algorithm.KECCAK_256.hash(inputs);
     }
 
     /**
@@ -134,7 +148,7 @@ public class Hashes {
      * @throws CryptoException if the hash operation failed.
      */
     public static byte[] keccak512(final byte[]... inputs) {
-        return hash(KECCAK_512, inputs);
+        return Algorithm.KECCAK_512.hash(inputs);
     }
 
     /**
@@ -145,7 +159,7 @@ public class Hashes {
      * @throws CryptoException if the hash operation failed.
      */
     public static byte[] sha512(final byte[]... inputs) {
-        return hash(SHA_512, inputs);
+        return Algorithm.SHA_512.hash(inputs);
     }
 
     /**
@@ -156,8 +170,8 @@ public class Hashes {
      * @throws CryptoException if the hash operation failed.
      */
     public static byte[] hash256(final byte[]... inputs) {
-        byte[] hashedSha256 = hash(SHA_256, inputs);
-        return hash(SHA_256, ConvertUtils.toHex(hashedSha256).getBytes());
+        byte[] hashedSha256 = Algorithm.SHA_256.hash(inputs);
+        return Algorithm.SHA_256.hash(ConvertUtils.toHex(hashedSha256).getBytes());
     }
 
     /**
@@ -168,22 +182,8 @@ public class Hashes {
      * @throws CryptoException if the hash operation failed.
      */
     public static byte[] hash160(final byte[]... inputs) {
-        byte[] hashedSha256 = hash(SHA_256, inputs);
-        return hash(RIPEMD_160, Hex.toHexString(hashedSha256).getBytes());
-    }
-
-    private static byte[] hash(final String algorithm, final byte[]... inputs) {
-        return ExceptionUtils.propagate(
-            () -> {
-                final MessageDigest digest = MessageDigest.getInstance(algorithm, BC);
-
-                for (final byte[] input : inputs) {
-                    digest.update(input);
-                }
-
-                return digest.digest();
-            },
-            CryptoException::new);
+        byte[] hashedSha256 = Algorithm.SHA_256.hash(inputs);
+        return Algorithm.RIPEMD_160.hash(Hex.toHexString(hashedSha256).getBytes());
     }
 
     /**
@@ -0,0 +1,190 @@
+/*
+ * Copyright 2020 NEM
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package io.nem.symbol.core.crypto;
+
+import io.nem.symbol.core.crypto.Hashes.Algorithm;
+import java.nio.ByteBuffer;
+import org.apache.commons.lang3.Validate;
+import org.bouncycastle.crypto.Digest;
+
+/**
+ * A hasher that is fed incrementally, from arrays or buffers, and writes the hash into a caller
+ * provided array. After {@link #doFinal(byte[], int)} the hasher is reset and can be reused.
+ *
+ * Instances are not thread safe. Callers hashing many values should keep one instance per thread
+ * instead of creating a new one per value.
+ */
+public class IncrementalHasher {
+
+    /**
+     * Size of the chunks copied from buffers without an accessible array.
+     */
+    private static final int CHUNK_SIZE = 256;
+
+    private final Digest digest;
+
+    private byte[] chunk;
+
+    /**
+     * Private constructor, use the static constructors.
+     *
+     * @param digest the digest.
+     */
+    private IncrementalHasher(Digest digest) {
+        this.digest = digest;
+    }
+
+    /**
+     * @return a new SHA3-256 hasher.
+     */
+    @SuppressWarnings("squid:S00100")
+    public static IncrementalHasher sha3_256() {
+        return new IncrementalHasher(Algorithm.SHA_3_256.create());
+    }
+
+    /**
+     * @return a new SHA3-512 hasher.
+     */
+    @SuppressWarnings("squid:S00100")
+    public static IncrementalHasher sha3_512() {
+        return new IncrementalHasher(Algorithm.SHA_3_512.create());
+    }
+
+    /**
+     * @return a new KECCAK-256 hasher.
+     */
+    public static IncrementalHasher keccak256() {
+        return new IncrementalHasher(Algorithm.KECCAK_256.create());
+    }
+
+    /**
+     * @return a new KECCAK-512 hasher.
+     */
+    public static IncrementalHasher keccak512() {
+        return new IncrementalHasher(Algorithm.KECCAK_512.create());
+    }
+
+    /**
+     * @return a new SHA-512 hasher.
+     */
+    public static IncrementalHasher sha512() {
+        return new IncrementalHasher(Algorithm.SHA_512.create());
+    }
+
+    /**
+     * @return a new SHA-256 hasher.
+     */
+    public static IncrementalHasher sha256() {
+        return new IncrementalHasher(Algorithm.SHA_256.create());
+    }
+
+    /**
+     * @return a new RIPEMD-160 hasher.
+     */
+    public static IncrementalHasher ripemd160() {
+        return new IncrementalHasher(Algorithm.RIPEMD_160.create());
+    }
+
+    /**
+     * @return the size of the hash in bytes.
+     */
+    public int getDigestSize() {
+        return digest.getDigestSize();
+    }
+
+    /**
+     * It adds the bytes to the hash.
+     *
+     * @param input the bytes.
+     * @return this hasher.
+     */
+    public IncrementalHasher update(byte[] input) {
+        Validate.notNull(input, "Input must not be null");
+        return update(input, 0, input.length);
+    }
+
+    /**
+     * It adds a range of the bytes to the hash.
+     *
+     * @param input the bytes.
+     * @param offset the offset of the first byte.
+     * @param length the number of bytes.
+     * @return this hasher.
+     */
+    public IncrementalHasher update(byte[] input, int offset, int length) {
+        digest.update(input, offset, length);
+        return this;
+    }
+
+    /**
+     * It adds the remaining bytes of the buffer to the hash. The buffer's position is advanced to
+     * its limit.
+     *
+     * @param input the buffer, heap, direct or read only.
+     * @return this hasher.
+     */
+    public IncrementalHasher update(ByteBuffer input) {
+        Validate.notNull(input, "Input must not be null");
+        if (input.hasArray()) {
+            digest.update(input.array(), input.arrayOffset() + input.position(), input.remaining());
+            input.position(input.limit());
+            return this;
+        }
+        if (chunk == null) {
+            chunk = new byte[CHUNK_SIZE];
+        }
+        while (input.hasRemaining()) {
+            int length = Math.min(chunk.length, input.remaining());
+            input.get(chunk, 0, length);
+            digest.update(chunk, 0, length);
+        }
+        return this;
+    }
+
+    /**
+     * It writes the hash of the added bytes and resets this hasher.
+     *
+     * @param output the destination array.
+     * @param offset the offset where the hash is written.
+     * @return the number of written bytes, the {@link #getDigestSize()}.
+     */
+    public int doFinal(byte[] output, int offset) {
+        Validate.notNull(output, "Output must not be null");
+        Validate.isTrue(offset >= 0 && output.length - offset >= getDigestSize(),
+            "Output doesn't have %s bytes after offset %s", getDigestSize(), offset);
+        return digest.doFinal(output, offset);
+    }
+
+    /**
+     * It returns the hash of the added bytes and resets this hasher.
+     *
+     * @return a new array with the hash.
+     */
+    public byte[] digest() {
+        byte[] output = new byte[getDigestSize()];
+        doFinal(output, 0);
+        return output;
+    }
+
+    /**
+     * It discards the added bytes.
+     */
+    public void reset() {
+        digest.reset();
+    }
+}
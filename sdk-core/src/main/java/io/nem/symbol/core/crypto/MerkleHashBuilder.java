@@ -16,59 +16,93 @@
 
 package io.nem.symbol.core.crypto;
 
+import io.nem.symbol.core.utils.ConvertUtils;
+import io.nem.symbol.sdk.model.blockchain.MerklePathItem;
+import io.nem.symbol.sdk.model.blockchain.Position;
 import java.util.ArrayList;
 import java.util.List;
+import org.apache.commons.lang3.Validate;
 
 /**
  * Merkle hash builder.
+ *
+ * The tree is built incrementally. Every level keeps the hashes of its complete subtrees, so
+ * adding a hash costs one hash per completed subtree and the root only needs to hash the
+ * incomplete right edge of the tree. If a level has an odd number of hashes, the last one is
+ * paired with itself.
  */
 public class MerkleHashBuilder {
 
-    private final List<byte[]> hashes;
+    private static final Hasher HASHER = Hashes::sha3_256;
+
+    /**
+     * The hashes of the complete subtrees of each level, level 0 are the added hashes.
+     */
+    private final List<List<byte[]>> levels;
 
     /**
      * Constructor.
      */
     public MerkleHashBuilder() {
-        this.hashes = new ArrayList<>();
+        this.levels = new ArrayList<>();
+        this.levels.add(new ArrayList<>());
     }
 
-    private byte[] getRootHash(List<byte[]> hashes) {
-        if (hashes.isEmpty()) {
+    /**
+     * Get the merkle tree root hash.
+     *
+     * @return Root hash.
+     */
+    public byte[] getRootHash() {
+        if (size() == 0) {
             return new byte[32];
         }
+        List<byte[]> partialHashes = getPartialHashes();
+        return getHash(partialHashes, partialHashes.size() - 1, 0);
+    }
 
-        // build the merkle tree
-        int numRemainingHashes = hashes.size();
-
-        Hasher hasher = Hashes::sha3_256;
-        while (numRemainingHashes > 1) {
-
-            for (int i = 0; i < numRemainingHashes; i += 2) {
-                if (i + 1 < numRemainingHashes) {
-                    hashes.add(i / 2, hasher.hash(hashes.get(i), hashes.get(i + 1)));
-                    continue;
-                }
-
-                // if there is an odd number of hashes, duplicate the last one
-                hashes.add(i / 2, hasher.hash(hashes.get(i), hashes.get(i)));
-                ++numRemainingHashes;
-            }
-
-            numRemainingHashes /= 2;
+    /**
+     * Get the merkle path from the hash at the given index to the root hash. Each item is the
+     * sibling hash of a level, from the bottom to the top of the tree, and its position relative
+     * to the hash being evaluated. A tree of one hash has an empty path.
+     *
+     * @param index the index of the added hash.
+     * @return the merkle path.
+     */
+    public List<MerklePathItem> getProof(int index) {
+        Validate.isTrue(index >= 0 && index < size(), "Index %s is out of bounds [0, %s)",
+            index, size());
+        List<byte[]> partialHashes = getPartialHashes();
+        List<MerklePathItem> path = new ArrayList<>(partialHashes.size() - 1);
+        int levelIndex = index;
+        for (int level = 0; level < partialHashes.size() - 1; level++) {
+            int siblingIndex = levelIndex ^ 1;
+            byte[] siblingHash = siblingIndex < getLevelSize(partialHashes, level) ? getHash(
+                partialHashes, level, siblingIndex) : getHash(partialHashes, level, levelIndex);
+            Position position = (levelIndex & 1) == 0 ? Position.RIGHT : Position.LEFT;
+            path.add(new MerklePathItem(position, ConvertUtils.toHex(siblingHash)));
+            levelIndex >>= 1;
         }
-
-        return hashes.get(0);
+        return path;
     }
 
     /**
-     * Get the merkle tree root hash.
+     * It calculates the root hash of a tree from one of its hashes and the merkle path of the
+     * hash. Each sibling hash is decoded once and hashed with the raw bytes of the previous
+     * level.
      *
-     * @return Root hash.
+     * @param hash the hash being evaluated.
+     * @param merklePath the merkle path from the hash to the root.
+     * @return the root hash, the given hash if the path is empty.
      */
-    public byte[] getRootHash() {
-        // build the merkle root
-        return getRootHash(hashes);
+    public static byte[] calculateRootHash(byte[] hash, List<MerklePathItem> merklePath) {
+        byte[] proofHash = hash;
+        for (MerklePathItem pathItem : merklePath) {
+            byte[] siblingHash = ConvertUtils.fromHexToBytes(pathItem.getHash());
+            proofHash = pathItem.getPosition() == Position.LEFT ? HASHER
+                .hash(siblingHash, proofHash) : HASHER.hash(proofHash, siblingHash);
+        }
+        return proofHash;
     }
 
     /**
@@ -77,6 +111,63 @@ public class MerkleHashBuilder {
      * @param hash Hash to add.
      */
     public void update(final byte[] hash) {
-        hashes.add(hash);
+        List<byte[]> nodes = levels.get(0);
+        nodes.add(hash);
+        int level = 0;
+        while (nodes.size() % 2 == 0) {
+            byte[] parent = HASHER.hash(nodes.get(nodes.size() - 2), nodes.get(nodes.size() - 1));
+            level++;
+            if (level == levels.size()) {
+                levels.add(new ArrayList<>());
+            }
+            nodes = levels.get(level);
+            nodes.add(parent);
+        }
+    }
+
+    /**
+     * @return the number of added hashes.
+     */
+    public int size() {
+        return levels.get(0).size();
+    }
+
+    /**
+     * It calculates the hash of the incomplete subtree at the end of every level, null if all
+     * the subtrees of the level are complete. The last level of the returned list is the root.
+     *
+     * @return the partial hash of each level.
+     */
+    private List<byte[]> getPartialHashes() {
+        List<byte[]> partialHashes = new ArrayList<>();
+        byte[] partial = null;
+        for (int level = 0; getLevelSize(level, partial) > 1; level++) {
+            partialHashes.add(partial);
+            List<byte[]> nodes = levels.get(level);
+            boolean odd = nodes.size() % 2 == 1;
+            byte[] last = odd ? nodes.get(nodes.size() - 1) : null;
+            if (partial != null) {
+                partial = odd ? HASHER.hash(last, partial) : HASHER.hash(partial, partial);
+            } else if (odd) {
+                partial = HASHER.hash(last, last);
+            }
+        }
+        partialHashes.add(partial);
+        return partialHashes;
+    }
+
+    private int getLevelSize(int level, byte[] partial) {
+        int completeSize = level < levels.size() ? levels.get(level).size() : 0;
+        return partial == null ? completeSize : completeSize + 1;
+    }
+
+    private int getLevelSize(List<byte[]> partialHashes, int level) {
+        return getLevelSize(level, partialHashes.get(level));
+    }
+
+    private byte[] getHash(List<byte[]> partialHashes, int level, int index) {
+        List<byte[]> nodes = level < levels.size() ? levels.get(level) : null;
+        return nodes != null && index < nodes.size() ? nodes.get(index)
+            : partialHashes.get(level);
     }
 }
@@ -0,0 +1,70 @@
+/*
+ * Copyright 2020 NEM
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package io.nem.symbol.core.crypto;
+
+import org.apache.commons.lang3.Validate;
+
+/**
+ * A signed message: the signer's public key, the signed data and the signature. It's the input of
+ * the batch signature verification.
+ */
+public class SignedData {
+
+    private final PublicKey publicKey;
+
+    private final byte[] data;
+
+    private final Signature signature;
+
+    /**
+     * Constructor.
+     *
+     * @param publicKey the signer's public key.
+     * @param data the signed data.
+     * @param signature the signature.
+     */
+    public SignedData(PublicKey publicKey, byte[] data, Signature signature) {
+        Validate.notNull(publicKey, "PublicKey must not be null");
+        Validate.notNull(data, "Data must not be null");
+        Validate.notNull(signature, "Signature must not be null");
+        this.publicKey = publicKey;
+        this.data = data;
+        this.signature = signature;
+    }
+
+    /**
+     * @return the signer's public key.
+     */
+    public PublicKey getPublicKey() {
+        return publicKey;
+    }
+
+    /**
+     * @return the signed data.
+     */
+    public byte[] getData() {
+        return data;
+    }
+
+    /**
+     * @return the signature.
+     */
+    public Signature getSignature() {
+        return signature;
+    }
+}
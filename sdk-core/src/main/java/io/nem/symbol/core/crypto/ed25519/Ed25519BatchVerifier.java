@@ -0,0 +1,253 @@
+/*
+ * Copyright 2020 NEM
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package io.nem.symbol.core.crypto.ed25519;
+
+import io.nem.symbol.core.crypto.Hashes;
+import io.nem.symbol.core.crypto.PublicKey;
+import io.nem.symbol.core.crypto.Signature;
+import io.nem.symbol.core.crypto.SignedData;
+import io.nem.symbol.core.crypto.ed25519.arithmetic.Ed25519EncodedFieldElement;
+import io.nem.symbol.core.crypto.ed25519.arithmetic.Ed25519EncodedGroupElement;
+import io.nem.symbol.core.crypto.ed25519.arithmetic.Ed25519Group;
+import io.nem.symbol.core.crypto.ed25519.arithmetic.Ed25519GroupElement;
+import io.nem.symbol.core.utils.ArrayUtils;
+import java.math.BigInteger;
+import java.security.SecureRandom;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import org.apache.commons.lang3.Validate;
+
+/**
+ * Ed25519 batch signature verification using a random linear combination of the verification
+ * equations.
+ *
+ * For signatures (R_i, S_i) of the messages M_i signed by the keys A_i and random coefficients
+ * z_i mod group order, the batch is valid when
+ *
+ * <pre>
+ * 8 * ((sum z_i * S_i) * B - sum (z_i * H(R_i, A_i, M_i)) * A_i - sum z_i * R_i) = 0
+ * </pre>
+ *
+ * where 8 is the cofactor of the curve. The left side is calculated with a single multi scalar
+ * multiplication, sharing the doublings of all the terms. If the equation doesn't hold, each
+ * signature is checked on its own with the same cofactored equation to locate the invalid ones.
+ *
+ * The cofactored equation ignores the small order components of R_i and A_i. Without the
+ * cofactor, the random combination can cancel them out only for some coefficients, so the result
+ * would depend on the coefficients and the other signatures of the batch. A signature is valid
+ * here when 8 * (S * B - H(R, A, M) * A - R) = 0, independently of the batch it's in. This
+ * accepts every signature accepted by {@link Ed25519DsaSigner#verify(byte[], Signature)}, the
+ * cofactorless single verification, and also the signatures that are only invalid because of a
+ * small order component, which an honest signer never produces.
+ */
+public class Ed25519BatchVerifier {
+
+    /**
+     * The maximum number of signatures verified with one multi scalar multiplication. Smaller
+     * chunks keep the per signature fallback cheap when a chunk contains an invalid signature.
+     */
+    static final int CHUNK_SIZE = 64;
+
+    private static final SecureRandom RANDOM = new SecureRandom();
+
+    private static final Ed25519EncodedFieldElement ZERO = new Ed25519EncodedFieldElement(
+        new byte[32]);
+
+    /**
+     * group order - 1, multiplying by it negates a scalar mod group order.
+     */
+    private static final Ed25519EncodedFieldElement MINUS_ONE = new Ed25519EncodedFieldElement(
+        ArrayUtils.toByteArray(Ed25519Group.GROUP_ORDER.subtract(BigInteger.ONE), 32));
+
+    /**
+     * Verifies the signatures.
+     *
+     * @param signedData the signed messages.
+     * @return one entry per signed message, true if its signature is valid.
+     */
+    public List<Boolean> verify(List<SignedData> signedData) {
+        Validate.notNull(signedData, "SignedData must not be null");
+        Boolean[] results = new Boolean[signedData.size()];
+        for (int from = 0; from < signedData.size(); from += CHUNK_SIZE) {
+            int to = Math.min(from + CHUNK_SIZE, signedData.size());
+            verifyChunk(signedData, from, to, results);
+        }
+        return Arrays.asList(results);
+    }
+
+    private void verifyChunk(List<SignedData> signedData, int from, int to, Boolean[] results) {
+        List<Ed25519GroupElement> groupElements = new ArrayList<>();
+        List<Ed25519EncodedFieldElement> scalars = new ArrayList<>();
+        Map<PublicKey, Integer> publicKeyIndexes = new HashMap<>();
+        Map<Integer, Prepared> batched = new LinkedHashMap<>();
+
+        // B's scalar is accumulated while the other terms are added.
+        groupElements.add(Ed25519Group.BASE_POINT);
+        scalars.add(ZERO);
+        for (int i = from; i < to; i++) {
+            SignedData item = signedData.get(i);
+            Prepared prepared = prepare(item);
+            if (prepared == null) {
+                results[i] = false;
+                continue;
+            }
+            batched.put(i, prepared);
+            Ed25519EncodedFieldElement z = randomCoefficient();
+            Ed25519EncodedFieldElement minusZ = z.multiplyAndAddModQ(MINUS_ONE, ZERO);
+            scalars.set(0, z.multiplyAndAddModQ(prepared.s, scalars.get(0)));
+
+            // Signatures of the same key share the A term.
+            Integer publicKeyIndex = publicKeyIndexes.get(item.getPublicKey());
+            if (publicKeyIndex == null) {
+                publicKeyIndexes.put(item.getPublicKey(), groupElements.size());
+                groupElements.add(prepared.a);
+                scalars.add(prepared.hModQ.multiplyAndAddModQ(minusZ, ZERO));
+            } else {
+                scalars.set(publicKeyIndex,
+                    prepared.hModQ.multiplyAndAddModQ(minusZ, scalars.get(publicKeyIndex)));
+            }
+
+            groupElements.add(prepared.r);
+            scalars.add(minusZ);
+        }
+
+        if (batched.isEmpty()) {
+            return;
+        }
+
+        // The R tables of the chunk share one field inversion.
+        Ed25519GroupElement.precomputeForDoubleScalarMultiplication(groupElements);
+        boolean valid = hasSmallOrder(
+            Ed25519GroupElement.multiScalarMultiplyVariableTime(groupElements, scalars));
+        batched.forEach((i, prepared) -> results[i] = valid || verifySingle(prepared));
+    }
+
+    /**
+     * It checks one signature with the cofactored equation of the batch.
+     *
+     * @param prepared the prepared values of the signed message.
+     * @return true if the signature is valid.
+     */
+    private static boolean verifySingle(Prepared prepared) {
+        return hasSmallOrder(Ed25519GroupElement.multiScalarMultiplyVariableTime(
+            Arrays.asList(Ed25519Group.BASE_POINT, prepared.a, prepared.r),
+            Arrays.asList(prepared.s, prepared.hModQ.multiplyAndAddModQ(MINUS_ONE, ZERO),
+                MINUS_ONE)));
+    }
+
+    /**
+     * It checks if a point has a small order, multiplying it by the cofactor with three doublings.
+     *
+     * @param groupElement the group element in P2 coordinate system.
+     * @return true if 8 times the point is the neutral element.
+     */
+    private static boolean hasSmallOrder(Ed25519GroupElement groupElement) {
+        return groupElement.dbl().toP2().dbl().toP2().dbl().toP2().isNeutral();
+    }
+
+    /**
+     * It decodes the points and calculates the hash of a signed message. The checks done by {@link
+     * Ed25519DsaSigner#verify(byte[], Signature)} before the scalar multiplication are done here.
+     *
+     * @param item the signed message.
+     * @return the prepared values or null if the signature is known to be invalid.
+     */
+    private static Prepared prepare(SignedData item) {
+        Signature signature = item.getSignature();
+        byte[] rawEncodedA = item.getPublicKey().getBytes();
+        byte[] rawEncodedR = signature.getBinaryR();
+        if (!isCanonical(signature) || rawEncodedA.length != 32
+            || 1 == ArrayUtils.isEqualConstantTime(rawEncodedA, new byte[32])) {
+            return null;
+        }
+        try {
+            Ed25519GroupElement a = Ed25519PublicKeyCache.getDefault()
+                .getForVerification(item.getPublicKey());
+            Ed25519GroupElement r = new Ed25519EncodedGroupElement(rawEncodedR).decode();
+            // verify compares the encoding of the calculated R with the raw one, so only the
+            // canonical encoding of R is accepted.
+            if (!isCanonicalEncoding(rawEncodedR, r)) {
+                return null;
+            }
+            Ed25519EncodedFieldElement hModQ = new Ed25519EncodedFieldElement(
+                Hashes.sha512(rawEncodedR, rawEncodedA, item.getData())).modQ();
+            return new Prepared(a, r, hModQ,
+                new Ed25519EncodedFieldElement(signature.getBinaryS()));
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
+    }
+
+    private static boolean isCanonical(Signature signature) {
+        return 0 > signature.getS().compareTo(Ed25519Group.GROUP_ORDER)
+            && 0 < signature.getS().compareTo(BigInteger.ZERO);
+    }
+
+    /**
+     * It checks the encoding without calculating the affine coordinates of the decoded point: y
+     * must be reduced and x = 0 must not have the sign bit set.
+     */
+    private static boolean isCanonicalEncoding(byte[] raw, Ed25519GroupElement decoded) {
+        byte[] y = Arrays.copyOf(raw, 32);
+        y[31] &= 0x7F;
+        if (1 != ArrayUtils.isEqualConstantTime(decoded.getY().encode().getRaw(), y)) {
+            return false;
+        }
+        return decoded.getX().isNonZero() || 0 == ArrayUtils.getBit(raw, 255);
+    }
+
+    /**
+     * It draws a uniformly random scalar mod group order from 512 random bits. Zero would drop the
+     * signature from the batch, it's drawn again.
+     */
+    private static Ed25519EncodedFieldElement randomCoefficient() {
+        byte[] random = new byte[64];
+        Ed25519EncodedFieldElement z;
+        do {
+            RANDOM.nextBytes(random);
+            z = new Ed25519EncodedFieldElement(random).modQ();
+        } while (!z.isNonZero());
+        return z;
+    }
+
+    /**
+     * The decoded values of a signed message.
+     */
+    private static class Prepared {
+
+        private final Ed25519GroupElement a;
+
+        private final Ed25519GroupElement r;
+
+        private final Ed25519EncodedFieldElement hModQ;
+
+        private final Ed25519EncodedFieldElement s;
+
+        Prepared(Ed25519GroupElement a, Ed25519GroupElement r,
+            Ed25519EncodedFieldElement hModQ, Ed25519EncodedFieldElement s) {
+            this.a = a;
+            this.r = r;
+            this.hModQ = hModQ;
+            this.s = s;
+        }
+    }
+}
@@ -21,7 +21,6 @@ import io.nem.symbol.core.crypto.Hashes;
 import io.nem.symbol.core.crypto.KeyPair;
 import io.nem.symbol.core.crypto.PrivateKey;
 import io.nem.symbol.core.crypto.PublicKey;
-import io.nem.symbol.core.crypto.ed25519.arithmetic.Ed25519EncodedGroupElement;
 import io.nem.symbol.core.crypto.ed25519.arithmetic.Ed25519GroupElement;
 import io.nem.symbol.sdk.infrastructure.RandomUtils;
 import java.util.Arrays;
@@ -132,8 +131,7 @@ public class Ed25519BlockCipher implements BlockCipher {
     }
 
     public static byte[] getSharedSecret(final PrivateKey privateKey, final PublicKey publicKey) {
-        final Ed25519GroupElement senderA =
-            new Ed25519EncodedGroupElement(publicKey.getBytes()).decode();
+        final Ed25519GroupElement senderA = Ed25519PublicKeyCache.getDefault().decode(publicKey);
         senderA.precomputeForScalarMultiplication();
         return senderA
             .scalarMultiply(Ed25519Utils.prepareForScalarMultiply(privateKey))
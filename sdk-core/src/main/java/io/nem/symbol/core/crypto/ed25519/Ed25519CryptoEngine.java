@@ -23,6 +23,8 @@ import io.nem.symbol.core.crypto.DsaSigner;
 import io.nem.symbol.core.crypto.KeyAnalyzer;
 import io.nem.symbol.core.crypto.KeyGenerator;
 import io.nem.symbol.core.crypto.KeyPair;
+import io.nem.symbol.core.crypto.SignedData;
+import java.util.List;
 
 /**
  * Class that wraps the Ed25519 specific implementation.
@@ -39,6 +41,11 @@ public class Ed25519CryptoEngine implements CryptoEngine {
         return new Ed25519DsaSigner(keyPair);
     }
 
+    @Override
+    public List<Boolean> verifyBatch(final List<SignedData> signedData) {
+        return new Ed25519BatchVerifier().verify(signedData);
+    }
+
     @Override
     public KeyGenerator createKeyGenerator( ) {
         return new Ed25519KeyGenerator();
@@ -23,12 +23,13 @@ import io.nem.symbol.core.crypto.Hashes;
 import io.nem.symbol.core.crypto.KeyPair;
 import io.nem.symbol.core.crypto.Signature;
 import io.nem.symbol.core.crypto.ed25519.arithmetic.Ed25519EncodedFieldElement;
-import io.nem.symbol.core.crypto.ed25519.arithmetic.Ed25519EncodedGroupElement;
 import io.nem.symbol.core.crypto.ed25519.arithmetic.Ed25519Group;
 import io.nem.symbol.core.crypto.ed25519.arithmetic.Ed25519GroupElement;
 import io.nem.symbol.core.utils.ArrayUtils;
+import io.nem.symbol.core.utils.Suppliers;
 import java.math.BigInteger;
 import java.util.Arrays;
+import java.util.function.Supplier;
 
 /**
  * Implementation of the DSA signer for Ed25519.
@@ -38,6 +39,11 @@ public class Ed25519DsaSigner implements DsaSigner {
 
     private final KeyPair keyPair;
 
+    /**
+     * The expanded private key, it's calculated the first time the signer signs.
+     */
+    private final Supplier<Ed25519ExpandedPrivateKey> expandedPrivateKey;
+
     /**
      * Creates a Ed25519 DSA signer.
      *
@@ -45,6 +51,8 @@ public class Ed25519DsaSigner implements DsaSigner {
      */
     public Ed25519DsaSigner(final KeyPair keyPair) {
         this.keyPair = keyPair;
+        this.expandedPrivateKey = Suppliers
+            .memoize(() -> new Ed25519ExpandedPrivateKey(keyPair.getPrivateKey()));
     }
 
     /**
@@ -63,25 +71,23 @@ public class Ed25519DsaSigner implements DsaSigner {
             throw new CryptoException("cannot sign without private key");
         }
 
-        Hasher hasher32 = Hashes::sha512;
         Hasher hasher64 = Hashes::sha512;
 
-        // Hash the private key to improve randomness.
-        final byte[] hash = hasher32.hash(this.getKeyPair().getPrivateKey().getBytes());
+        // The private key hash (to improve randomness) is only calculated once per signer.
+        final Ed25519ExpandedPrivateKey expandedKey = this.expandedPrivateKey.get();
 
         // r = H(hash_b,...,hash_2b-1, data) where b=256.
         final Ed25519EncodedFieldElement r =
             new Ed25519EncodedFieldElement(
-                hasher64.hash(Arrays.copyOfRange(
-                    hash, 32, 64), // only include the last 32 bytes of the private key hash
+                hasher64.hash(
+                    expandedKey.getRawPrefix(), // only the last 32 bytes of the private key hash
                     data));
 
         // Reduce size of r since we are calculating mod group order anyway
         final Ed25519EncodedFieldElement rModQ = r.modQ();
 
         // R = rModQ * base point.
-        final Ed25519GroupElement R = Ed25519Group.BASE_POINT.scalarMultiply(rModQ);
-        final Ed25519EncodedGroupElement encodedR = R.encode();
+        final byte[] encodedR = this.multiplyBasePoint(rModQ);
 
         // S = (r + H(encodedR, encodedA, data) * a) mod group order where
         // encodedR and encodedA are the little endian encodings of the group element R and the public
@@ -89,18 +95,15 @@ public class Ed25519DsaSigner implements DsaSigner {
         // a is the lower 32 bytes of hash after clamping.
         final Ed25519EncodedFieldElement h =
             new Ed25519EncodedFieldElement(
-                hasher64.hash(encodedR.getRaw(),
+                hasher64.hash(encodedR,
                     this.getKeyPair().getPublicKey().getBytes(),
                     data));
         final Ed25519EncodedFieldElement hModQ = h.modQ();
         final Ed25519EncodedFieldElement encodedS =
-            hModQ.multiplyAndAddModQ(
-                Ed25519Utils
-                    .prepareForScalarMultiply(this.getKeyPair().getPrivateKey()),
-                rModQ);
+            hModQ.multiplyAndAddModQ(expandedKey.getScalar(), rModQ);
 
         // Signature is (encodedR, encodedS)
-        final Signature signature = new Signature(encodedR.getRaw(), encodedS.getRaw());
+        final Signature signature = new Signature(encodedR, encodedS.getRaw());
         if (!this.isCanonicalSignature(signature)) {
             throw new CryptoException("Generated signature is not canonical");
         }
@@ -128,21 +131,41 @@ public class Ed25519DsaSigner implements DsaSigner {
         // hReduced = h mod group order
         final Ed25519EncodedFieldElement hModQ = h.modQ();
 
-        // Must compute A.
-        final Ed25519GroupElement a = new Ed25519EncodedGroupElement(rawEncodedA).decode();
-        a.precomputeForDoubleScalarMultiplication();
-
         // R = encodedS * B - H(encodedR, encodedA, data) * A
-        final Ed25519GroupElement calculatedR =
-            Ed25519Group.BASE_POINT.doubleScalarMultiplyVariableTime(
-                a, hModQ, new Ed25519EncodedFieldElement(signature.getBinaryS()));
+        final byte[] encodedCalculatedR = this.calculateR(hModQ,
+            new Ed25519EncodedFieldElement(signature.getBinaryS()));
 
         // Compare calculated R to given R.
-        final byte[] encodedCalculatedR = calculatedR.encode().getRaw();
         final int result = ArrayUtils.isEqualConstantTime(encodedCalculatedR, rawEncodedR);
         return 1 == result;
     }
 
+    /**
+     * It calculates the encoded R = r * B of a signature where B is the base point.
+     *
+     * @param r the nonce reduced mod group order.
+     * @return the encoded group element.
+     */
+    protected byte[] multiplyBasePoint(final Ed25519EncodedFieldElement r) {
+        return Ed25519Group.scalarMultiplyBase(r).encode().getRaw();
+    }
+
+    /**
+     * It calculates the encoded R = s * B - h * A used to verify a signature where B is the base
+     * point and A is the public key of this signer.
+     *
+     * @param h the hash H(encodedR, encodedA, data) reduced mod group order.
+     * @param s the S part of the signature.
+     * @return the encoded group element.
+     */
+    protected byte[] calculateR(final Ed25519EncodedFieldElement h,
+        final Ed25519EncodedFieldElement s) {
+        // Must compute A.
+        final Ed25519GroupElement a = Ed25519PublicKeyCache.getDefault()
+            .getForVerification(this.getKeyPair().getPublicKey());
+        return Ed25519Group.BASE_POINT.doubleScalarMultiplyVariableTime(a, h, s).encode().getRaw();
+    }
+
     @Override
     public boolean isCanonicalSignature(final Signature signature) {
         return 0 > signature.getS().compareTo(Ed25519Group.GROUP_ORDER)
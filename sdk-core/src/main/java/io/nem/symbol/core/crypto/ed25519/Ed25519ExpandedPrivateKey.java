@@ -0,0 +1,75 @@
+/*
+ * Copyright 2020 NEM
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.nem.symbol.core.crypto.ed25519;
+
+import io.nem.symbol.core.crypto.Hashes;
+import io.nem.symbol.core.crypto.PrivateKey;
+import io.nem.symbol.core.crypto.ed25519.arithmetic.Ed25519EncodedFieldElement;
+import java.util.Arrays;
+import org.apache.commons.lang3.Validate;
+
+/**
+ * The expanded form of a Ed25519 private key: the SHA-512 hash of the key split into the clamped
+ * scalar used to multiply and the prefix used to derive the signature nonce.
+ *
+ * Signers keep this object so the private key is hashed and clamped only once per key instead of
+ * once per signature.
+ */
+public class Ed25519ExpandedPrivateKey {
+
+    private final Ed25519EncodedFieldElement scalar;
+
+    private final byte[] prefix;
+
+    /**
+     * Constructor.
+     *
+     * @param privateKey the private key to expand.
+     */
+    public Ed25519ExpandedPrivateKey(PrivateKey privateKey) {
+        Validate.notNull(privateKey, "PrivateKey must not be null");
+        final byte[] hash = Hashes.sha512(privateKey.getBytes());
+        final byte[] a = Arrays.copyOfRange(hash, 0, 32);
+        a[31] &= 0x7F;
+        a[31] |= 0x40;
+        a[0] &= 0xF8;
+        this.scalar = new Ed25519EncodedFieldElement(a);
+        this.prefix = Arrays.copyOfRange(hash, 32, 64);
+    }
+
+    /**
+     * @return the clamped scalar, the lower 32 bytes of the private key hash prepared for scalar
+     * multiplication.
+     */
+    public Ed25519EncodedFieldElement getScalar() {
+        return scalar;
+    }
+
+    /**
+     * @return a copy of the prefix, the upper 32 bytes of the private key hash.
+     */
+    public byte[] getPrefix() {
+        return Arrays.copyOf(prefix, prefix.length);
+    }
+
+    /**
+     * @return the prefix without copying it. It must not be modified.
+     */
+    byte[] getRawPrefix() {
+        return prefix;
+    }
+}
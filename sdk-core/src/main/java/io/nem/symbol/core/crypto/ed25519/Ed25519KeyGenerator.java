@@ -47,7 +47,7 @@ public class Ed25519KeyGenerator implements KeyGenerator {
         final Ed25519EncodedFieldElement a = Ed25519Utils.prepareForScalarMultiply(privateKey);
 
         // a * base point is the public key.
-        final Ed25519GroupElement pubKey = Ed25519Group.BASE_POINT.scalarMultiply(a);
+        final Ed25519GroupElement pubKey = Ed25519Group.scalarMultiplyBase(a);
 
         // verification of signatures will be about twice as fast when pre-calculating
         // a suitable table of group elements.
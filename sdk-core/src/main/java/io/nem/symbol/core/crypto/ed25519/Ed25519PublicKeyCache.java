@@ -0,0 +1,126 @@
+/*
+ * Copyright 2020 NEM
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package io.nem.symbol.core.crypto.ed25519;
+
+import io.nem.symbol.core.crypto.PublicKey;
+import io.nem.symbol.core.crypto.ed25519.arithmetic.Ed25519EncodedGroupElement;
+import io.nem.symbol.core.crypto.ed25519.arithmetic.Ed25519GroupElement;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import org.apache.commons.lang3.Validate;
+
+/**
+ * Bounded, thread safe, least recently used cache of decoded public keys.
+ *
+ * Decoding a public key requires a square root and verifying requires a table of precomputed
+ * multiples of the key. Both are calculated once per cached key. The larger table used by the
+ * constant time scalar multiplication (around 64 KB per key) is not cached.
+ */
+public class Ed25519PublicKeyCache {
+
+    /**
+     * The number of keys held by the default cache.
+     */
+    public static final int DEFAULT_MAX_SIZE = 4096;
+
+    private static final Ed25519PublicKeyCache DEFAULT = new Ed25519PublicKeyCache(
+        DEFAULT_MAX_SIZE);
+
+    private final Map<PublicKey, Ed25519GroupElement> cache;
+
+    /**
+     * Constructor.
+     *
+     * @param maxSize the maximum number of cached keys.
+     */
+    public Ed25519PublicKeyCache(int maxSize) {
+        Validate.isTrue(maxSize > 0, "Max size must be greater than 0");
+        this.cache = new LinkedHashMap<PublicKey, Ed25519GroupElement>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<PublicKey, Ed25519GroupElement> eldest) {
+                return size() > maxSize;
+            }
+        };
+    }
+
+    /**
+     * @return the cache shared by the Ed25519 signers, verifiers and block ciphers.
+     */
+    public static Ed25519PublicKeyCache getDefault() {
+        return DEFAULT;
+    }
+
+    /**
+     * It returns the decoded public key, precomputed for double scalar multiplication. The
+     * returned element is shared and must not be modified.
+     *
+     * @param publicKey the public key.
+     * @return the decoded group element in P3 coordinate system.
+     * @throws IllegalArgumentException if the public key is not a valid encoded group element.
+     */
+    public Ed25519GroupElement getForVerification(PublicKey publicKey) {
+        Validate.notNull(publicKey, "PublicKey must not be null");
+        Ed25519GroupElement groupElement;
+        synchronized (cache) {
+            groupElement = cache.get(publicKey);
+        }
+        if (groupElement == null) {
+            // Decoded outside of the lock, concurrent misses of the same key just decode it twice.
+            byte[] bytes = Arrays.copyOf(publicKey.getBytes(), publicKey.getBytes().length);
+            groupElement = new Ed25519EncodedGroupElement(bytes).decode();
+            groupElement.precomputeForDoubleScalarMultiplication();
+            synchronized (cache) {
+                cache.put(new PublicKey(bytes), groupElement);
+            }
+        }
+        return groupElement;
+    }
+
+    /**
+     * It returns a new copy of the decoded public key. The copy is not precomputed and can be
+     * precomputed for single scalar multiplication without growing the cache.
+     *
+     * @param publicKey the public key.
+     * @return a new group element in P3 coordinate system.
+     * @throws IllegalArgumentException if the public key is not a valid encoded group element.
+     */
+    public Ed25519GroupElement decode(PublicKey publicKey) {
+        Ed25519GroupElement groupElement = getForVerification(publicKey);
+        return Ed25519GroupElement.p3(groupElement.getX(), groupElement.getY(),
+            groupElement.getZ(), groupElement.getT());
+    }
+
+    /**
+     * @return the number of cached keys.
+     */
+    public int size() {
+        synchronized (cache) {
+            return cache.size();
+        }
+    }
+
+    /**
+     * It removes all the cached keys.
+     */
+    public void clear() {
+        synchronized (cache) {
+            cache.clear();
+        }
+    }
+}
@@ -0,0 +1,39 @@
+/*
+ * Copyright 2020 NEM
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.nem.symbol.core.crypto.ed25519;
+
+import io.nem.symbol.core.crypto.DsaSigner;
+import io.nem.symbol.core.crypto.KeyGenerator;
+import io.nem.symbol.core.crypto.KeyPair;
+
+/**
+ * Ed25519 crypto engine that signs, verifies and derives public keys with the radix 2^51 (5 x
+ * long) field arithmetic instead of the ref10 (10 x int) one. Keys and signatures are compatible
+ * with {@link Ed25519CryptoEngine}.
+ */
+public class Ed25519Radix51CryptoEngine extends Ed25519CryptoEngine {
+
+    @Override
+    public DsaSigner createDsaSigner(final KeyPair keyPair) {
+        return new Ed25519Radix51DsaSigner(keyPair);
+    }
+
+    @Override
+    public KeyGenerator createKeyGenerator() {
+        return new Ed25519Radix51KeyGenerator();
+    }
+}
@@ -0,0 +1,60 @@
+/*
+ * Copyright 2020 NEM
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.nem.symbol.core.crypto.ed25519;
+
+import io.nem.symbol.core.crypto.KeyPair;
+import io.nem.symbol.core.crypto.ed25519.arithmetic.Ed25519EncodedFieldElement;
+import io.nem.symbol.core.crypto.ed25519.arithmetic.Ed25519Radix51GroupElement;
+import io.nem.symbol.core.utils.Suppliers;
+import java.util.function.Supplier;
+
+/**
+ * Ed25519 DSA signer that uses the radix 2^51 field arithmetic. Signatures are identical to the
+ * ones of {@link Ed25519DsaSigner}.
+ */
+public class Ed25519Radix51DsaSigner extends Ed25519DsaSigner {
+
+    /**
+     * The odd multiples of the public key used to verify, calculated the first time the signer
+     * verifies.
+     */
+    private final Supplier<Ed25519Radix51GroupElement[]> publicKeyTable;
+
+    /**
+     * Creates a Ed25519 DSA signer.
+     *
+     * @param keyPair The key pair to use.
+     */
+    public Ed25519Radix51DsaSigner(final KeyPair keyPair) {
+        super(keyPair);
+        this.publicKeyTable = Suppliers.memoize(() -> Ed25519Radix51GroupElement
+            .precomputeForDoubleScalarMultiplication(
+                Ed25519Radix51GroupElement.decode(keyPair.getPublicKey().getBytes())));
+    }
+
+    @Override
+    protected byte[] multiplyBasePoint(final Ed25519EncodedFieldElement r) {
+        return Ed25519Radix51GroupElement.scalarMultiplyBase(r).encode();
+    }
+
+    @Override
+    protected byte[] calculateR(final Ed25519EncodedFieldElement h,
+        final Ed25519EncodedFieldElement s) {
+        return Ed25519Radix51GroupElement
+            .doubleScalarMultiplyBaseVariableTime(this.publicKeyTable.get(), h, s).encode();
+    }
+}
@@ -0,0 +1,34 @@
+/*
+ * Copyright 2020 NEM
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.nem.symbol.core.crypto.ed25519;
+
+import io.nem.symbol.core.crypto.PrivateKey;
+import io.nem.symbol.core.crypto.PublicKey;
+import io.nem.symbol.core.crypto.ed25519.arithmetic.Ed25519Radix51GroupElement;
+
+/**
+ * Ed25519 key generator that derives the public keys with the radix 2^51 field arithmetic.
+ */
+public class Ed25519Radix51KeyGenerator extends Ed25519KeyGenerator {
+
+    @Override
+    public PublicKey derivePublicKey(final PrivateKey privateKey) {
+        // a * base point is the public key.
+        return new PublicKey(Ed25519Radix51GroupElement
+            .scalarMultiplyBase(Ed25519Utils.prepareForScalarMultiply(privateKey)).encode());
+    }
+}
@@ -16,10 +16,8 @@
 
 package io.nem.symbol.core.crypto.ed25519;
 
-import io.nem.symbol.core.crypto.Hashes;
 import io.nem.symbol.core.crypto.PrivateKey;
 import io.nem.symbol.core.crypto.ed25519.arithmetic.Ed25519EncodedFieldElement;
-import java.util.Arrays;
 
 /**
  * Utility methods for Ed25519.
@@ -40,11 +38,6 @@ public class Ed25519Utils {
      * @return The prepared encoded field element.
      */
     public static Ed25519EncodedFieldElement prepareForScalarMultiply(final PrivateKey key) {
-        final byte[] hash = Hashes.sha512(key.getBytes());
-        final byte[] a = Arrays.copyOfRange(hash, 0, 32);
-        a[31] &= 0x7F;
-        a[31] |= 0x40;
-        a[0] &= 0xF8;
-        return new Ed25519EncodedFieldElement(a);
+        return new Ed25519ExpandedPrivateKey(key).getScalar();
     }
 }
@@ -110,13 +110,23 @@ public class Ed25519FieldElement implements Serializable {
      * @return The field element this + val.
      */
     public Ed25519FieldElement add(final Ed25519FieldElement g) {
-        final int[] gValues = g.values;
         final int[] h = new int[10];
+        add(this.values, g.values, h);
+        return new Ed25519FieldElement(h);
+    }
+
+    /**
+     * Adds the raw representations f and g and stores the result in h. h may be the same array
+     * as f or g.
+     *
+     * @param f The first operand.
+     * @param g The second operand.
+     * @param h The array receiving f + g.
+     */
+    static void add(final int[] f, final int[] g, final int[] h) {
         for (int i = 0; i < 10; i++) {
-            h[i] = this.values[i] + gValues[i];
+            h[i] = f[i] + g[i];
         }
-
-        return new Ed25519FieldElement(h);
     }
 
     /**
@@ -134,13 +144,23 @@ public class Ed25519FieldElement implements Serializable {
      * @return The field element this - val.
      */
     public Ed25519FieldElement subtract(final Ed25519FieldElement g) {
-        final int[] gValues = g.values;
         final int[] h = new int[10];
+        subtract(this.values, g.values, h);
+        return new Ed25519FieldElement(h);
+    }
+
+    /**
+     * Subtracts the raw representations f and g and stores the result in h. h may be the same array
+     * as f or g.
+     *
+     * @param f The first operand.
+     * @param g The second operand.
+     * @param h The array receiving f - g.
+     */
+    static void subtract(final int[] f, final int[] g, final int[] h) {
         for (int i = 0; i < 10; i++) {
-            h[i] = this.values[i] - gValues[i];
+            h[i] = f[i] - g[i];
         }
-
-        return new Ed25519FieldElement(h);
     }
 
     /**
@@ -157,11 +177,35 @@ public class Ed25519FieldElement implements Serializable {
      */
     public Ed25519FieldElement negate() {
         final int[] h = new int[10];
+        negate(this.values, h);
+        return new Ed25519FieldElement(h);
+    }
+
+    /**
+     * Negates the raw representation f and stores the result in h. h may be the same array as f.
+     *
+     * @param f The field element to negate.
+     * @param h The array receiving -f.
+     */
+    static void negate(final int[] f, final int[] h) {
         for (int i = 0; i < 10; i++) {
-            h[i] = -this.values[i];
+            h[i] = -f[i];
         }
+    }
 
-        return new Ed25519FieldElement(h);
+    /**
+     * Constant-time conditional move of raw representations. Replaces f with g if b == 1, leaves
+     * f unchanged if b == 0.
+     *
+     * @param f The array to update.
+     * @param g The values to move into f if b == 1.
+     * @param b in {0, 1}
+     */
+    static void cmov(final int[] f, final int[] g, final int b) {
+        final int mask = -b;
+        for (int i = 0; i < 10; i++) {
+            f[i] ^= mask & (f[i] ^ g[i]);
+        }
     }
 
     /**
@@ -187,27 +231,40 @@ public class Ed25519FieldElement implements Serializable {
      * @return The (reasonably reduced) field element this * val.
      */
     public Ed25519FieldElement multiply(final Ed25519FieldElement g) {
-        final int[] gValues = g.values;
-        final int f0 = this.values[0];
-        final int f1 = this.values[1];
-        final int f2 = this.values[2];
-        final int f3 = this.values[3];
-        final int f4 = this.values[4];
-        final int f5 = this.values[5];
-        final int f6 = this.values[6];
-        final int f7 = this.values[7];
-        final int f8 = this.values[8];
-        final int f9 = this.values[9];
-        final int g0 = gValues[0];
-        final int g1 = gValues[1];
-        final int g2 = gValues[2];
-        final int g3 = gValues[3];
-        final int g4 = gValues[4];
-        final int g5 = gValues[5];
-        final int g6 = gValues[6];
-        final int g7 = gValues[7];
-        final int g8 = gValues[8];
-        final int g9 = gValues[9];
+        final int[] h = new int[10];
+        multiply(this.values, g.values, h);
+        return new Ed25519FieldElement(h);
+    }
+
+    /**
+     * Multiplies the raw representations f and g and stores the result in h, see {@link
+     * #multiply(Ed25519FieldElement)}. h may be the same array as f or g.
+     *
+     * @param f The first factor.
+     * @param g The second factor.
+     * @param h The array receiving f * g.
+     */
+    static void multiply(final int[] f, final int[] g, final int[] h) {
+        final int f0 = f[0];
+        final int f1 = f[1];
+        final int f2 = f[2];
+        final int f3 = f[3];
+        final int f4 = f[4];
+        final int f5 = f[5];
+        final int f6 = f[6];
+        final int f7 = f[7];
+        final int f8 = f[8];
+        final int f9 = f[9];
+        final int g0 = g[0];
+        final int g1 = g[1];
+        final int g2 = g[2];
+        final int g3 = g[3];
+        final int g4 = g[4];
+        final int g5 = g[5];
+        final int g6 = g[6];
+        final int g7 = g[7];
+        final int g8 = g[8];
+        final int g9 = g[9];
         final int g1_19 = 19 * g1; /* 1.959375*2^29 */
         final int g2_19 = 19 * g2; /* 1.959375*2^30; still ok */
         final int g3_19 = 19 * g3;
@@ -436,7 +493,6 @@ public class Ed25519FieldElement implements Serializable {
         /* |h0| <= 2^25; from now on fits into int32 unchanged */
         /* |h1| <= 1.01*2^24 */
 
-        final int[] h = new int[10];
         h[0] = (int) h0;
         h[1] = (int) h1;
         h[2] = (int) h2;
@@ -447,8 +503,6 @@ public class Ed25519FieldElement implements Serializable {
         h[7] = (int) h7;
         h[8] = (int) h8;
         h[9] = (int) h9;
-
-        return new Ed25519FieldElement(h);
     }
 
     /**
@@ -504,16 +558,30 @@ public class Ed25519FieldElement implements Serializable {
      * @return The square of this field element times 2.
      */
     private Ed25519FieldElement squareAndOptionalDouble(final boolean dbl) {
-        final int f0 = this.values[0];
-        final int f1 = this.values[1];
-        final int f2 = this.values[2];
-        final int f3 = this.values[3];
-        final int f4 = this.values[4];
-        final int f5 = this.values[5];
-        final int f6 = this.values[6];
-        final int f7 = this.values[7];
-        final int f8 = this.values[8];
-        final int f9 = this.values[9];
+        final int[] h = new int[10];
+        square(this.values, h, dbl);
+        return new Ed25519FieldElement(h);
+    }
+
+    /**
+     * Squares the raw representation f, optionally multiplies by two and stores the result in h,
+     * see {@link #squareAndOptionalDouble(boolean)}. h may be the same array as f.
+     *
+     * @param f The field element to square.
+     * @param h The array receiving f * f or 2 * f * f.
+     * @param dbl If the square should be multiplied by two.
+     */
+    static void square(final int[] f, final int[] h, final boolean dbl) {
+        final int f0 = f[0];
+        final int f1 = f[1];
+        final int f2 = f[2];
+        final int f3 = f[3];
+        final int f4 = f[4];
+        final int f5 = f[5];
+        final int f6 = f[6];
+        final int f7 = f[7];
+        final int f8 = f[8];
+        final int f9 = f[9];
         final int f0_2 = 2 * f0;
         final int f1_2 = 2 * f1;
         final int f2_2 = 2 * f2;
@@ -659,7 +727,6 @@ public class Ed25519FieldElement implements Serializable {
         h1 += carry0;
         h0 -= carry0 << 26;
 
-        final int[] h = new int[10];
         h[0] = (int) h0;
         h[1] = (int) h1;
         h[2] = (int) h2;
@@ -670,7 +737,6 @@ public class Ed25519FieldElement implements Serializable {
         h[7] = (int) h7;
         h[8] = (int) h8;
         h[9] = (int) h9;
-        return new Ed25519FieldElement(h);
     }
 
     /**
@@ -52,6 +52,40 @@ public class Ed25519Group {
     public static final Ed25519GroupElement ZERO_PRECOMPUTED =
         Ed25519GroupElement.precomputed(Ed25519Field.ONE, Ed25519Field.ONE, Ed25519Field.ZERO);
 
+    /**
+     * If {@link #scalarMultiplyBase} uses the wide window table of the base point.
+     */
+    private static volatile boolean wideBaseTableEnabled;
+
+    /**
+     * It enables or disables the wide window table of the base point used by {@link
+     * #scalarMultiplyBase} to sign and derive public keys. The table trades about 500 KB of heap
+     * for half the point additions, it's built the first time it's used.
+     *
+     * @param enabled if the wide window table should be used.
+     */
+    public static void setWideBaseTableEnabled(final boolean enabled) {
+        wideBaseTableEnabled = enabled;
+    }
+
+    /**
+     * @return if {@link #scalarMultiplyBase} uses the wide window table of the base point.
+     */
+    public static boolean isWideBaseTableEnabled() {
+        return wideBaseTableEnabled;
+    }
+
+    /**
+     * h = a * B where B is the base point. Constant time.
+     *
+     * @param a The encoded field element, bit 255 must be cleared.
+     * @return The resulting group element in P3 coordinates.
+     */
+    public static Ed25519GroupElement scalarMultiplyBase(final Ed25519EncodedFieldElement a) {
+        return wideBaseTableEnabled ? BASE_POINT.scalarMultiplyWide(a)
+            : BASE_POINT.scalarMultiply(a);
+    }
+
     private static Ed25519GroupElement getBasePoint() {
         final byte[] rawEncodedGroupElement =
             ConvertUtils.getBytes("5866666666666666666666666666666666666666666666666666666666666666");
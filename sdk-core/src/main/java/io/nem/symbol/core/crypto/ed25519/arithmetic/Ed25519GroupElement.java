@@ -16,9 +16,10 @@
 
 package io.nem.symbol.core.crypto.ed25519.arithmetic;
 
-import io.nem.symbol.core.utils.ByteUtils;
 import java.io.Serializable;
-import java.util.Objects;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
 
 /**
  * A point on the ED25519 curve which represents a group element. This implementation is based on
@@ -33,6 +34,21 @@ import java.util.Objects;
  */
 public class Ed25519GroupElement implements Serializable {
 
+    /**
+     * Bits per digit of the wide window scalar multiplication.
+     */
+    static final int WIDE_WINDOW_BITS = 8;
+
+    /**
+     * Number of rows of the wide window table, one for every second radix 2^8 digit.
+     */
+    static final int WIDE_TABLE_ROWS = 16;
+
+    /**
+     * Number of entries per row of the wide window table, the absolute value of a signed digit.
+     */
+    static final int WIDE_TABLE_COLUMNS = 128;
+
     private final CoordinateSystem coordinateSystem;
 
     @SuppressWarnings("NonConstantFieldWithUpperCaseName")
@@ -50,12 +66,17 @@ public class Ed25519GroupElement implements Serializable {
     /**
      * Precomputed table for a single scalar multiplication.
      */
-    private Ed25519GroupElement[][] precomputedForSingle;
+    private volatile Ed25519GroupElement[][] precomputedForSingle;
 
     /**
      * Precomputed table for a double scalar multiplication
      */
-    private Ed25519GroupElement[] precomputedForDouble;
+    private volatile Ed25519GroupElement[] precomputedForDouble;
+
+    /**
+     * Precomputed table for a wide window single scalar multiplication, 16 x 128 elements.
+     */
+    private volatile Ed25519GroupElement[][] precomputedForWide;
 
     // region constructors
 
@@ -184,9 +205,20 @@ public class Ed25519GroupElement implements Serializable {
      * @param encoded The encode field element.
      * @return 64 bytes, each between -8 and 7
      */
-    private static byte[] toRadix16(final Ed25519EncodedFieldElement encoded) {
-        final byte[] a = encoded.getRaw();
+    static byte[] toRadix16(final Ed25519EncodedFieldElement encoded) {
         final byte[] e = new byte[64];
+        toRadix16(encoded, e);
+        return e;
+    }
+
+    /**
+     * Convert a to 2^16 bit representation into the given array.
+     *
+     * @param encoded The encode field element.
+     * @param e The array receiving the 64 digits, each between -8 and 7.
+     */
+    static void toRadix16(final Ed25519EncodedFieldElement encoded, final byte[] e) {
+        final byte[] a = encoded.getRaw();
         int i;
         for (i = 0; i < 32; i++) {
             e[2 * i] = (byte) (a[i] & 15);
@@ -202,10 +234,37 @@ public class Ed25519GroupElement implements Serializable {
             e[i] -= carry << 4;
         }
         e[63] += carry;
+    }
 
+    /**
+     * Convert a to radix 2^8 signed digits.
+     *
+     * @param encoded The encoded field element, bit 255 must be cleared.
+     * @return 32 ints, the first 31 between -128 and 127 and the last between 0 and 128.
+     */
+    static int[] toRadix256(final Ed25519EncodedFieldElement encoded) {
+        final int[] e = new int[32];
+        toRadix256(encoded, e);
         return e;
     }
 
+    /**
+     * Convert a to radix 2^8 signed digits into the given array.
+     *
+     * @param encoded The encoded field element, bit 255 must be cleared.
+     * @param e The array receiving the 32 digits.
+     */
+    static void toRadix256(final Ed25519EncodedFieldElement encoded, final int[] e) {
+        final byte[] a = encoded.getRaw();
+        int carry = 0;
+        for (int i = 0; i < 31; i++) {
+            e[i] = (a[i] & 0xFF) + carry;
+            carry = (e[i] + 128) >> 8;
+            e[i] -= carry << 8;
+        }
+        e[31] = (a[31] & 0xFF) + carry;
+    }
+
     /**
      * Calculates a sliding-windows base 2 representation for a given encoded field element a. To
      * learn more about it see [6] page 8. <br> Output: r which satisfies a = r0 * 2^0 + r1 * 2^1 +
@@ -216,9 +275,22 @@ public class Ed25519GroupElement implements Serializable {
      * @return The byte array r in the above described form.
      */
     @SuppressWarnings({"squid:S3034","squid:S3776"})
-    private static byte[] slide(final Ed25519EncodedFieldElement encoded) {
-        final byte[] a = encoded.getRaw();
+    static byte[] slide(final Ed25519EncodedFieldElement encoded) {
         final byte[] r = new byte[256];
+        slide(encoded, r);
+        return r;
+    }
+
+    /**
+     * Calculates the sliding-windows base 2 representation of {@link
+     * #slide(Ed25519EncodedFieldElement)} into the given array.
+     *
+     * @param encoded The encoded field element.
+     * @param r The array receiving the 256 digits.
+     */
+    @SuppressWarnings({"squid:S3034","squid:S3776"})
+    static void slide(final Ed25519EncodedFieldElement encoded, final byte[] r) {
+        final byte[] a = encoded.getRaw();
 
         // Put each bit of 'a' into a separate byte, 0 or 1
         for (int i = 0; i < 256; ++i) {
@@ -250,8 +322,6 @@ public class Ed25519GroupElement implements Serializable {
                 }
             }
         }
-
-        return r;
     }
 
     /**
@@ -333,6 +403,15 @@ public class Ed25519GroupElement implements Serializable {
         return this.precomputedForDouble;
     }
 
+    /**
+     * Gets the table with the precomputed group elements for wide window scalar multiplication.
+     *
+     * @return The precomputed table, null if it has not been precomputed.
+     */
+    public Ed25519GroupElement[][] getPrecomputedForWide() {
+        return this.precomputedForWide;
+    }
+
     /**
      * Converts the group element to an encoded point on the curve.
      *
@@ -452,17 +531,12 @@ public class Ed25519GroupElement implements Serializable {
         }
 
         Ed25519GroupElement bi = this;
-        this.precomputedForSingle = new Ed25519GroupElement[32][8];
+        final Ed25519GroupElement[][] table = new Ed25519GroupElement[32][8];
 
         for (int i = 0; i < 32; i++) {
             Ed25519GroupElement bij = bi;
             for (int j = 0; j < 8; j++)  {
-                final Ed25519FieldElement inverse = bij.z.invert();
-                final Ed25519FieldElement xElement = bij.x.multiply(inverse);
-                final Ed25519FieldElement yElement = bij.y.multiply(inverse);
-                this.precomputedForSingle[i][j] =
-                    precomputed(yElement.add(xElement), yElement.subtract(xElement),
-                        xElement.multiply(yElement).multiply(Ed25519Field.D_Times_TWO));
+                table[i][j] = bij.toAffinePrecomputed();
                 bij = bij.add(bi.toCached()).toP3();
             }
             // Only every second summand is precomputed (16^2 = 256).
@@ -470,6 +544,8 @@ public class Ed25519GroupElement implements Serializable {
                 bi = bi.add(bi.toCached()).toP3();
             }
         }
+        // Published once complete so shared elements can be precomputed concurrently.
+        this.precomputedForSingle = table;
     }
 
     /**
@@ -480,16 +556,117 @@ public class Ed25519GroupElement implements Serializable {
             return;
         }
         Ed25519GroupElement bi = this;
-        this.precomputedForDouble = new Ed25519GroupElement[8];
+        final Ed25519GroupElement[] table = new Ed25519GroupElement[8];
         for (int i = 0; i < 8; i++) {
-            final Ed25519FieldElement inverse = bi.z.invert();
-            final Ed25519FieldElement xElement = bi.x.multiply(inverse);
-            final Ed25519FieldElement yElement = bi.y.multiply(inverse);
-            this.precomputedForDouble[i] =
-                precomputed(yElement.add(xElement), yElement.subtract(xElement),
-                    xElement.multiply(yElement).multiply(Ed25519Field.D_Times_TWO));
+            table[i] = bi.toAffinePrecomputed();
             bi = this.add(this.add(bi.toCached()).toP3().toCached()).toP3();
         }
+        this.precomputedForDouble = table;
+    }
+
+    /**
+     * Precomputes the group elements used to speed up a double scalar multiplication for several
+     * group elements. The affine coordinates of all the tables share one field inversion
+     * (Montgomery's trick) instead of one inversion per table entry.
+     *
+     * @param groupElements the group elements in P3 coordinate system.
+     */
+    public static void precomputeForDoubleScalarMultiplication(
+        final List<Ed25519GroupElement> groupElements) {
+        final List<Ed25519GroupElement> pending = new ArrayList<>();
+        for (final Ed25519GroupElement groupElement : groupElements) {
+            if (null == groupElement.precomputedForDouble) {
+                pending.add(groupElement);
+            }
+        }
+        final Ed25519GroupElement[] points = new Ed25519GroupElement[8 * pending.size()];
+        for (int j = 0; j < pending.size(); j++) {
+            final Ed25519GroupElement groupElement = pending.get(j);
+            Ed25519GroupElement bi = groupElement;
+            for (int i = 0; i < 8; i++) {
+                points[8 * j + i] = bi;
+                bi = groupElement.add(groupElement.add(bi.toCached()).toP3().toCached()).toP3();
+            }
+        }
+
+        final Ed25519FieldElement[] inverses = invertZ(points);
+        for (int j = 0; j < pending.size(); j++) {
+            final Ed25519GroupElement[] table = new Ed25519GroupElement[8];
+            for (int i = 0; i < 8; i++) {
+                table[i] = points[8 * j + i].toAffinePrecomputed(inverses[8 * j + i]);
+            }
+            pending.get(j).precomputedForDouble = table;
+        }
+    }
+
+    /**
+     * It inverts the Z coordinates of the points with a single field inversion: the running
+     * products of the Z coordinates are inverted once and unwound backwards.
+     */
+    private static Ed25519FieldElement[] invertZ(final Ed25519GroupElement[] points) {
+        final Ed25519FieldElement[] inverses = new Ed25519FieldElement[points.length];
+        if (0 == points.length) {
+            return inverses;
+        }
+        final Ed25519FieldElement[] products = new Ed25519FieldElement[points.length];
+        products[0] = points[0].z;
+        for (int i = 1; i < points.length; i++) {
+            products[i] = products[i - 1].multiply(points[i].z);
+        }
+        Ed25519FieldElement inverse = products[points.length - 1].invert();
+        for (int i = points.length - 1; i > 0; i--) {
+            inverses[i] = inverse.multiply(products[i - 1]);
+            inverse = inverse.multiply(points[i].z);
+        }
+        inverses[0] = inverse;
+        return inverses;
+    }
+
+    /**
+     * Precomputes the group elements used by {@link #scalarMultiplyWide}: row i holds j * 2^(16 *
+     * i) * this for j = 1, ..., 128 (about 500 KB for the base point). It halves the additions of
+     * {@link #scalarMultiply} at the cost of a larger table.
+     */
+    public void precomputeForWideScalarMultiplication() {
+        if (null != this.precomputedForWide) {
+            return;
+        }
+
+        Ed25519GroupElement bi = this;
+        final Ed25519GroupElement[][] table =
+            new Ed25519GroupElement[WIDE_TABLE_ROWS][WIDE_TABLE_COLUMNS];
+
+        for (int i = 0; i < WIDE_TABLE_ROWS; i++) {
+            final Ed25519GroupElement biCached = bi.toCached();
+            Ed25519GroupElement bij = bi;
+            for (int j = 0; j < WIDE_TABLE_COLUMNS; j++) {
+                table[i][j] = bij.toAffinePrecomputed();
+                bij = bij.add(biCached).toP3();
+            }
+            // Only every second digit is precomputed (256^2 = 2^16).
+            for (int k = 0; k < 2 * WIDE_WINDOW_BITS; k++) {
+                bi = bi.dbl().toP3();
+            }
+        }
+        // Published once complete so shared elements can be precomputed concurrently.
+        this.precomputedForWide = table;
+    }
+
+    /**
+     * Converts a P3 group element to the PRECOMPUTED coordinate system (y + x, y - x, 2 * d * x *
+     * y) using its affine coordinates.
+     *
+     * @return The group element in the PRECOMPUTED coordinate system.
+     */
+    private Ed25519GroupElement toAffinePrecomputed() {
+        return toAffinePrecomputed(this.z.invert());
+    }
+
+    private Ed25519GroupElement toAffinePrecomputed(final Ed25519FieldElement inverse) {
+        final Ed25519FieldElement xElement = this.x.multiply(inverse);
+        final Ed25519FieldElement yElement = this.y.multiply(inverse);
+        return precomputed(yElement.add(xElement), yElement.subtract(xElement),
+            xElement.multiply(yElement).multiply(Ed25519Field.D_Times_TWO));
     }
 
     /**
@@ -536,82 +713,6 @@ public class Ed25519GroupElement implements Serializable {
         }
     }
 
-    /**
-     * Ed25519GroupElement addition using the twisted Edwards addition law for extended coordinates.
-     * this must be given in P^3 coordinate system and g in PRECOMPUTED coordinate system. r = this
-     * + g where this = (X1 : Y1 : Z1 : T1), g = (g.X, g.Y, g.Z) = (Y2/Z2 + X2/Z2, Y2/Z2 - X2/Z2, 2
-     * * d * X2/Z2 * Y2/Z2) <br> r in P x P coordinate system: <br> r = ((X' : Z'), (Y' : T')) where
-     * X' = (Y1 + X1) * g.X - (Y1 - X1) * q.Y = ((Y1 + X1) * (Y2 + X2) - (Y1 - X1) * (Y2 - X2)) *
-     * 1/Z2 Y' = (Y1 + X1) * g.X + (Y1 - X1) * q.Y = ((Y1 + X1) * (Y2 + X2) + (Y1 - X1) * (Y2 - X2))
-     * * 1/Z2 Z' = 2 * Z1 + T1 * g.Z = 2 * Z1 + T1 * 2 * d * X2 * Y2 * 1/Z2^2 = (2 * Z1 * Z2 + 2 * d
-     * * T1 * T2) * 1/Z2 T' = 2 * Z1 - T1 * g.Z = 2 * Z1 - T1 * 2 * d * X2 * Y2 * 1/Z2^2 = (2 * Z1 *
-     * Z2 - 2 * d * T1 * T2) * 1/Z2 <br> Formula for the P x P coordinate system is in agreement
-     * with the formula given in file ge25519.c method add_p1p1() in ref implementation. Setting A =
-     * (Y1 - X1) * (Y2 - X2), B = (Y1 + X1) * (Y2 + X2), C = 2 * d * T1 * T2, D = 2 * Z1 * Z2 we get
-     * X' = (B - A) * 1/Z2 Y' = (B + A) * 1/Z2 Z' = (D + C) * 1/Z2 T' = (D - C) * 1/Z2 <br> r
-     * converted from P x P to P^2 coordinate system: <br> r = (X'' : Y'' : Z'' : T'') where X'' =
-     * X' * T' = (B - A) * (D - C) * 1/Z2^2 Y'' = Y' * Z' = (B + A) * (D + C) * 1/Z2^2 Z'' = Z' * T'
-     * = (D + C) * (D - C) * 1/Z2^2 T'' = X' * Y' = (B - A) * (B + A) * 1/Z2^2 <br> Formula above
-     * for the P^2 coordinate system is in agreement with the formula given in [2] page 6 (the
-     * common factor 1/Z2^2 does not matter) E = B - A, F = D - C, G = D + C, H = B + A X3 = E * F =
-     * (B - A) * (D - C); Y3 = G * H = (D + C) * (B + A); Z3 = F * G = (D - C) * (D + C); T3 = E * H
-     * = (B - A) * (B + A);
-     *
-     * @param g The group element to add.
-     * @return The resulting group element in the P x P coordinate system.
-     */
-    private Ed25519GroupElement precomputedAdd(final Ed25519GroupElement g) {
-        if (this.coordinateSystem != CoordinateSystem.P3) {
-            throw new UnsupportedOperationException();
-        }
-        if (g.coordinateSystem != CoordinateSystem.PRECOMPUTED) {
-            throw new IllegalArgumentException();
-        }
-
-        final Ed25519FieldElement yPlusX;
-        final Ed25519FieldElement yMinusX;
-        final Ed25519FieldElement a;
-        final Ed25519FieldElement b;
-        final Ed25519FieldElement c;
-        final Ed25519FieldElement d;
-        yPlusX = this.y.add(this.x);
-        yMinusX = this.y.subtract(this.x);
-        a = yPlusX.multiply(g.x);
-        b = yMinusX.multiply(g.y);
-        c = g.z.multiply(this.t);
-        d = this.z.add(this.z);
-
-        return p1xp1(a.subtract(b), a.add(b), d.add(c), d.subtract(c));
-    }
-
-    /**
-     * Ed25519GroupElement subtraction using the twisted Edwards addition law for extended
-     * coordinates. this must be given in P^3 coordinate system and g in PRECOMPUTED coordinate
-     * system. r = this - g where this = (X1 : Y1 : Z1 : T1), g = (g.X, g.Y, g.Z) = (Y2/Z2 + X2/Z2,
-     * Y2/Z2 - X2/Z2, 2 * d * X2/Z2 * Y2/Z2) <br> Negating g means negating the value of X2 and T2
-     * (the latter is irrelevant here). The formula is in accordance to the above addition.
-     *
-     * @param g he group element to subtract.
-     * @return The result in the P x P coordinate system.
-     */
-    private Ed25519GroupElement precomputedSubtract(final Ed25519GroupElement g) {
-        if (this.coordinateSystem != CoordinateSystem.P3) {
-            throw new UnsupportedOperationException();
-        }
-        if (g.coordinateSystem != CoordinateSystem.PRECOMPUTED) {
-            throw new IllegalArgumentException();
-        }
-
-        final Ed25519FieldElement yPlusX = this.y.add(this.x);
-        final Ed25519FieldElement yMinusX = this.y.subtract(this.x);
-        final Ed25519FieldElement a = yPlusX.multiply(g.y);
-        final Ed25519FieldElement b = yMinusX.multiply(g.x);
-        final Ed25519FieldElement c = g.z.multiply(this.t);
-        final Ed25519FieldElement d = this.z.add(this.z);
-
-        return p1xp1(a.subtract(b), a.add(b), d.subtract(c), d.add(c));
-    }
-
     /**
      * Ed25519GroupElement addition using the twisted Edwards addition law for extended coordinates.
      * this must be given in P^3 coordinate system and g in CACHED coordinate system. r = this + g
@@ -622,7 +723,8 @@ public class Ed25519GroupElement implements Serializable {
      * X1) * (Y2 + X2) + (Y1 - X1) * (Y2 - X2) Z' = 2 * Z1 * Z2 + 2 * d * T1 * T2 T' = 2 * Z1 * T2 -
      * 2 * d * T1 * T2 <br> Setting A = (Y1 - X1) * (Y2 - X2), B = (Y1 + X1) * (Y2 + X2), C = 2 * d
      * * T1 * T2, D = 2 * Z1 * Z2 we get X' = (B - A) Y' = (B + A) Z' = (D + C) T' = (D - C) <br>
-     * Same result as in precomputedAdd() (up to a common factor which does not matter).
+     * Same result as the PRECOMPUTED addition of {@link Ed25519GroupWorkspace} (up to a common
+     * factor which does not matter).
      *
      * @param g The group element to add.
      * @return The result in the P x P coordinate system.
@@ -748,110 +850,87 @@ public class Ed25519GroupElement implements Serializable {
     }
 
     /**
-     * Constant-time conditional move. Replaces this with u if b == 1. Replaces this with this if b
-     * == 0.
+     * h = a * B where a = a[0]+256*a[1]+...+256^31 a[31] and B is this point. If its lookup table
+     * has not been precomputed, it will be at the start of the method (and cached for later calls).
+     * Constant time.
      *
-     * @param u The group element to return if b == 1.
-     * @param b in {0, 1}
-     * @return u if b == 1; this if b == 0; null otherwise.
+     * @param a The encoded field element.
+     * @return The resulting group element.
      */
-    private Ed25519GroupElement cmov(final Ed25519GroupElement u, final int b) {
-        Ed25519GroupElement ret = null;
-        for (int i = 0; i < b; i++) {
-            // Only for b == 1
-            ret = u;
-        }
-        for (int i = 0; i < 1 - b; i++) {
-            // Only for b == 0
-            ret = this;
-        }
-        return ret;
-    }
+    public Ed25519GroupElement scalarMultiply(final Ed25519EncodedFieldElement a) {
+        final Ed25519GroupElement[][] table = this.precomputedForSingle;
+        final Ed25519GroupWorkspace h = Ed25519GroupWorkspace.get();
+        final byte[] e = h.radix16;
+        try {
+            toRadix16(a, e);
+            h.setNeutral();
+            int i;
+            for (i = 1; i < 64; i += 2) {
+                h.select(table[i / 2], e[i]);
+                h.addSelected();
+                h.toP3();
+            }
 
-    /**
-     * Constant-time conditional move. Replaces this with u if b == 1. Replaces this with this if b
-     * == 0.
-     *
-     * @param u The group element to return if b == 1.
-     * @param b in {0, 1}
-     * @return u if b == 1; this if b == 0; @{@link IllegalStateException} otherwise.
-     */
-    private Ed25519GroupElement nullSafeCmov(final Ed25519GroupElement u, final int b) {
-        Ed25519GroupElement ret = cmov(u, b);
-        if (ret == null) {
-            throw new IllegalStateException(
-                "Ed25519GroupElement " + Objects.toString(u, "NULL") + " and argument " + b
-                    + " resolved a null cmov");
-        }
-        return ret;
-    }
+            for (i = 0; i < 3; i++) {
+                h.dbl();
+                h.toP2();
+            }
+            h.dbl();
+            h.toP3();
 
-    /**
-     * Look up 16^i r_i B in the precomputed table. No secret array indices, no secret branching.
-     * Constant time. <br> Must have previously precomputed.
-     *
-     * @param pos = i/2 for i in {0, 2, 4,..., 62}
-     * @param b = r_i
-     * @return The Ed25519GroupElement
-     */
-    private Ed25519GroupElement select(final int pos, final int b) {
-        // Is r_i negative?
-        final int bNegative = ByteUtils.isNegativeConstantTime(b);
-        // |r_i|
-        final int bAbs = b - (((-bNegative) & b) << 1);
+            for (i = 0; i < 64; i += 2) {
+                h.select(table[i / 2], e[i]);
+                h.addSelected();
+                h.toP3();
+            }
 
-        // 16^i |r_i| B
-        final Ed25519GroupElement tElement =
-            Ed25519Group.ZERO_PRECOMPUTED
-                .nullSafeCmov(this.precomputedForSingle[pos][0],
-                    ByteUtils.isEqualConstantTime(bAbs, 1))
-                .nullSafeCmov(this.precomputedForSingle[pos][1],
-                    ByteUtils.isEqualConstantTime(bAbs, 2))
-                .nullSafeCmov(this.precomputedForSingle[pos][2],
-                    ByteUtils.isEqualConstantTime(bAbs, 3))
-                .nullSafeCmov(this.precomputedForSingle[pos][3],
-                    ByteUtils.isEqualConstantTime(bAbs, 4))
-                .nullSafeCmov(this.precomputedForSingle[pos][4],
-                    ByteUtils.isEqualConstantTime(bAbs, 5))
-                .nullSafeCmov(this.precomputedForSingle[pos][5],
-                    ByteUtils.isEqualConstantTime(bAbs, 6))
-                .nullSafeCmov(this.precomputedForSingle[pos][6],
-                    ByteUtils.isEqualConstantTime(bAbs, 7))
-                .nullSafeCmov(this.precomputedForSingle[pos][7],
-                    ByteUtils.isEqualConstantTime(bAbs, 8));
-        // -16^i |r_i| B
-        //noinspection SuspiciousNameCombination
-        final Ed25519GroupElement tMinus = precomputed(tElement.y, tElement.x, tElement.z.negate());
-        // 16^i r_i B
-        return tElement.nullSafeCmov(tMinus, bNegative);
+            return h.toP3Element();
+        } finally {
+            // the digits are the private key or the nonce when signing
+            Arrays.fill(e, (byte) 0);
+        }
     }
 
     /**
-     * h = a * B where a = a[0]+256*a[1]+...+256^31 a[31] and B is this point. If its lookup table
-     * has not been precomputed, it will be at the start of the method (and cached for later calls).
-     * Constant time.
+     * h = a * B where B is this point, using the wide window table. Same result as {@link
+     * #scalarMultiply} with half the additions. The table is precomputed the first time. Constant
+     * time.
      *
-     * @param a The encoded field element.
+     * @param a The encoded field element, bit 255 must be cleared.
      * @return The resulting group element.
      */
-    public Ed25519GroupElement scalarMultiply(final Ed25519EncodedFieldElement a) {
-        Ed25519GroupElement g;
-        int i;
-        final byte[] e = toRadix16(a);
-        Ed25519GroupElement h = Ed25519Group.ZERO_P3;
-        for (i = 1; i < 64; i += 2) {
-            g = this.select(i / 2, e[i]);
-            h = h.precomputedAdd(g).toP3();
-        }
+    public Ed25519GroupElement scalarMultiplyWide(final Ed25519EncodedFieldElement a) {
+        this.precomputeForWideScalarMultiplication();
+        final Ed25519GroupElement[][] table = this.precomputedForWide;
+        final Ed25519GroupWorkspace h = Ed25519GroupWorkspace.get();
+        final int[] e = h.radix256;
+        try {
+            toRadix256(a, e);
+            h.setNeutral();
+            for (int i = 1; i < 32; i += 2) {
+                h.select(table[i / 2], e[i]);
+                h.addSelected();
+                h.toP3();
+            }
+
+            for (int i = 0; i < WIDE_WINDOW_BITS - 1; i++) {
+                h.dbl();
+                h.toP2();
+            }
+            h.dbl();
+            h.toP3();
 
-        h = h.dbl().toP2().dbl().toP2().dbl().toP2().dbl().toP3();
+            for (int i = 0; i < 32; i += 2) {
+                h.select(table[i / 2], e[i]);
+                h.addSelected();
+                h.toP3();
+            }
 
-        for (i = 0; i < 64; i += 2) {
-            g = this.select(i / 2, e[i]);
-            h = h.precomputedAdd(g).toP3();
+            return h.toP3Element();
+        } finally {
+            // the digits are the private key or the nonce when signing
+            Arrays.fill(e, 0);
         }
-
-        return h;
     }
 
     /**
@@ -867,9 +946,14 @@ public class Ed25519GroupElement implements Serializable {
         final Ed25519GroupElement aGroupElement,
         final Ed25519EncodedFieldElement a,
         final Ed25519EncodedFieldElement b) {
-        final byte[] aSlide = slide(a);
-        final byte[] bSlide = slide(b);
-        Ed25519GroupElement r = Ed25519Group.ZERO_P2;
+        final Ed25519GroupWorkspace r = Ed25519GroupWorkspace.get();
+        final byte[] aSlide = r.aSlide;
+        final byte[] bSlide = r.bSlide;
+        slide(a, aSlide);
+        slide(b, bSlide);
+        final Ed25519GroupElement[] aTable = aGroupElement.precomputedForDouble;
+        final Ed25519GroupElement[] bTable = this.precomputedForDouble;
+        r.setNeutral();
 
         int i;
         for (i = 255; i >= 0; --i) {
@@ -879,26 +963,103 @@ public class Ed25519GroupElement implements Serializable {
         }
 
         for (; i >= 0; --i) {
-            Ed25519GroupElement tElement = r.dbl();
+            r.dbl();
 
             if (aSlide[i] > 0) {
-                tElement = tElement.toP3()
-                    .precomputedSubtract(aGroupElement.precomputedForDouble[aSlide[i] / 2]);
+                r.toP3();
+                r.precomputedSubtract(aTable[aSlide[i] / 2]);
             } else if (aSlide[i] < 0) {
-                tElement = tElement.toP3().precomputedAdd(aGroupElement.precomputedForDouble[(-aSlide[i]) / 2]);
+                r.toP3();
+                r.precomputedAdd(aTable[(-aSlide[i]) / 2]);
             }
 
             if (bSlide[i] > 0) {
-                tElement = tElement.toP3().precomputedAdd(this.precomputedForDouble[bSlide[i] / 2]);
+                r.toP3();
+                r.precomputedAdd(bTable[bSlide[i] / 2]);
             } else if (bSlide[i] < 0) {
-                tElement = tElement.toP3()
-                    .precomputedSubtract(this.precomputedForDouble[(-bSlide[i]) / 2]);
+                r.toP3();
+                r.precomputedSubtract(bTable[(-bSlide[i]) / 2]);
             }
 
-            r = tElement.toP2();
+            r.toP2();
         }
 
-        return r;
+        return r.toP2Element();
+    }
+
+    /**
+     * r = s_0 * P_0 + s_1 * P_1 + ... + s_n-1 * P_n-1 where s_i are encoded field elements and P_i
+     * are group elements. All the elements must have been previously precomputed for double
+     * scalar multiplication. The sliding windows of all the scalars are interleaved so the
+     * doublings are shared (Straus' method). Variable time, only to be used with public values.
+     *
+     * @param groupElements the group elements in P3 coordinate system.
+     * @param scalars the encoded field elements, one per group element.
+     * @return The resulting group element in P2 coordinate system.
+     */
+    public static Ed25519GroupElement multiScalarMultiplyVariableTime(
+        final List<Ed25519GroupElement> groupElements,
+        final List<Ed25519EncodedFieldElement> scalars) {
+        if (groupElements.size() != scalars.size()) {
+            throw new IllegalArgumentException("there must be one scalar per group element");
+        }
+        final int size = groupElements.size();
+        final byte[][] slides = new byte[size][];
+        final Ed25519GroupElement[][] tables = new Ed25519GroupElement[size][];
+        for (int j = 0; j < size; j++) {
+            final Ed25519GroupElement groupElement = groupElements.get(j);
+            if (null == groupElement.precomputedForDouble) {
+                throw new IllegalArgumentException("group elements must be precomputed");
+            }
+            slides[j] = slide(scalars.get(j));
+            tables[j] = groupElement.precomputedForDouble;
+        }
+
+        int i;
+        for (i = 255; i >= 0; --i) {
+            if (hasNonZeroDigit(slides, i)) {
+                break;
+            }
+        }
+
+        final Ed25519GroupWorkspace r = Ed25519GroupWorkspace.get();
+        r.setNeutral();
+        for (; i >= 0; --i) {
+            r.dbl();
+            for (int j = 0; j < size; j++) {
+                final byte digit = slides[j][i];
+                if (digit > 0) {
+                    r.toP3();
+                    r.precomputedAdd(tables[j][digit / 2]);
+                } else if (digit < 0) {
+                    r.toP3();
+                    r.precomputedSubtract(tables[j][(-digit) / 2]);
+                }
+            }
+            r.toP2();
+        }
+
+        return r.toP2Element();
+    }
+
+    private static boolean hasNonZeroDigit(final byte[][] slides, final int index) {
+        for (final byte[] slide : slides) {
+            if (slide[index] != 0) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Determines if this group element is the neutral element of the group.
+     *
+     * @return true if this is the neutral element.
+     */
+    public boolean isNeutral() {
+        final Ed25519GroupElement p2 = this.coordinateSystem == CoordinateSystem.P2
+            || this.coordinateSystem == CoordinateSystem.P3 ? this : this.toP2();
+        return !p2.x.isNonZero() && p2.y.equals(p2.z);
     }
 
     /**
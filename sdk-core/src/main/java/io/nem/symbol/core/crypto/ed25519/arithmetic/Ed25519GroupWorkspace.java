@@ -0,0 +1,263 @@
+/*
+ * Copyright 2020 NEM
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.nem.symbol.core.crypto.ed25519.arithmetic;
+
+import io.nem.symbol.core.utils.ByteUtils;
+
+/**
+ * Mutable registers used by the scalar multiplications of {@link Ed25519GroupElement}. The
+ * accumulator is kept in P2 / P3 coordinates, the result of a doubling or an addition in P1xP1
+ * coordinates. All the operations write into the registers, so the loops do not create a field
+ * element per step. The formulas are the ones of the immutable {@link Ed25519GroupElement}
+ * operations, in the same order, so the results are identical.
+ *
+ * <p>There is one workspace per thread, see {@link #get()}. A workspace is not thread safe and
+ * must not be used by two multiplications at the same time.
+ */
+final class Ed25519GroupWorkspace {
+
+    private static final ThreadLocal<Ed25519GroupWorkspace> WORKSPACES =
+        ThreadLocal.withInitial(Ed25519GroupWorkspace::new);
+
+    // the accumulator in P2 or P3 coordinates
+    private final int[] x = new int[10];
+    private final int[] y = new int[10];
+    private final int[] z = new int[10];
+    private final int[] t = new int[10];
+
+    // the last doubling or addition in P1xP1 coordinates
+    private final int[] rx = new int[10];
+    private final int[] ry = new int[10];
+    private final int[] rz = new int[10];
+    private final int[] rt = new int[10];
+
+    // the element selected from a precomputed table
+    private final int[] yPlusX = new int[10];
+    private final int[] yMinusX = new int[10];
+    private final int[] xy2d = new int[10];
+
+    // temporaries
+    private final int[] a = new int[10];
+    private final int[] b = new int[10];
+    private final int[] c = new int[10];
+    private final int[] d = new int[10];
+
+    /**
+     * Buffer for the radix 2^4 digits of a scalar. It's cleared after each multiplication.
+     */
+    final byte[] radix16 = new byte[64];
+
+    /**
+     * Buffer for the radix 2^8 digits of a scalar. It's cleared after each multiplication.
+     */
+    final int[] radix256 = new int[32];
+
+    /**
+     * Buffer for the sliding window of the first scalar.
+     */
+    final byte[] aSlide = new byte[256];
+
+    /**
+     * Buffer for the sliding window of the second scalar.
+     */
+    final byte[] bSlide = new byte[256];
+
+    private Ed25519GroupWorkspace() {
+    }
+
+    /**
+     * @return the workspace of the current thread.
+     */
+    static Ed25519GroupWorkspace get() {
+        return WORKSPACES.get();
+    }
+
+    /**
+     * Sets the accumulator to the neutral element, valid in P2 and P3 coordinates.
+     */
+    void setNeutral() {
+        System.arraycopy(Ed25519Field.ZERO.getRaw(), 0, this.x, 0, 10);
+        System.arraycopy(Ed25519Field.ONE.getRaw(), 0, this.y, 0, 10);
+        System.arraycopy(Ed25519Field.ONE.getRaw(), 0, this.z, 0, 10);
+        System.arraycopy(Ed25519Field.ZERO.getRaw(), 0, this.t, 0, 10);
+    }
+
+    /**
+     * r = 2 * accumulator, see {@link Ed25519GroupElement#dbl()}. The accumulator must be in P2 or
+     * P3 coordinates.
+     */
+    void dbl() {
+        Ed25519FieldElement.square(this.x, this.a, false);
+        Ed25519FieldElement.square(this.y, this.b, false);
+        Ed25519FieldElement.square(this.z, this.c, true);
+        Ed25519FieldElement.add(this.x, this.y, this.d);
+        Ed25519FieldElement.square(this.d, this.d, false);
+        Ed25519FieldElement.add(this.b, this.a, this.ry);
+        Ed25519FieldElement.subtract(this.b, this.a, this.rz);
+        Ed25519FieldElement.subtract(this.d, this.ry, this.rx);
+        Ed25519FieldElement.subtract(this.c, this.rz, this.rt);
+    }
+
+    /**
+     * r = accumulator + g, see {@link #precomputedAdd(int[], int[], int[])}. The accumulator must
+     * be in P3 coordinates.
+     *
+     * @param g The group element in PRECOMPUTED coordinates.
+     */
+    void precomputedAdd(final Ed25519GroupElement g) {
+        this.precomputedAdd(g.getX().getRaw(), g.getY().getRaw(), g.getZ().getRaw());
+    }
+
+    /**
+     * r = accumulator - g. The accumulator must be in P3 coordinates. Negating g means negating the
+     * value of X2 and T2, the formula is in accordance to {@link #precomputedAdd(int[], int[],
+     * int[])}.
+     *
+     * @param g The group element in PRECOMPUTED coordinates.
+     */
+    void precomputedSubtract(final Ed25519GroupElement g) {
+        final int[] gYPlusX = g.getX().getRaw();
+        final int[] gYMinusX = g.getY().getRaw();
+        Ed25519FieldElement.add(this.y, this.x, this.a);
+        Ed25519FieldElement.subtract(this.y, this.x, this.b);
+        Ed25519FieldElement.multiply(this.a, gYMinusX, this.a);
+        Ed25519FieldElement.multiply(this.b, gYPlusX, this.b);
+        Ed25519FieldElement.multiply(g.getZ().getRaw(), this.t, this.c);
+        Ed25519FieldElement.add(this.z, this.z, this.d);
+        Ed25519FieldElement.subtract(this.a, this.b, this.rx);
+        Ed25519FieldElement.add(this.a, this.b, this.ry);
+        Ed25519FieldElement.subtract(this.d, this.c, this.rz);
+        Ed25519FieldElement.add(this.d, this.c, this.rt);
+    }
+
+    /**
+     * r = accumulator + the element chosen by the last {@link #select}. The accumulator must be in
+     * P3 coordinates.
+     */
+    void addSelected() {
+        this.precomputedAdd(this.yPlusX, this.yMinusX, this.xy2d);
+    }
+
+    /**
+     * Ed25519GroupElement addition using the twisted Edwards addition law for extended coordinates.
+     * The accumulator (this) must be given in P^3 coordinate system and g in PRECOMPUTED coordinate
+     * system. r = this + g where this = (X1 : Y1 : Z1 : T1), g = (g.X, g.Y, g.Z) = (Y2/Z2 + X2/Z2, Y2/Z2 - X2/Z2, 2
+     * * d * X2/Z2 * Y2/Z2) <br> r in P x P coordinate system: <br> r = ((X' : Z'), (Y' : T')) where
+     * X' = (Y1 + X1) * g.X - (Y1 - X1) * q.Y = ((Y1 + X1) * (Y2 + X2) - (Y1 - X1) * (Y2 - X2)) *
+     * 1/Z2 Y' = (Y1 + X1) * g.X + (Y1 - X1) * q.Y = ((Y1 + X1) * (Y2 + X2) + (Y1 - X1) * (Y2 - X2))
+     * * 1/Z2 Z' = 2 * Z1 + T1 * g.Z = 2 * Z1 + T1 * 2 * d * X2 * Y2 * 1/Z2^2 = (2 * Z1 * Z2 + 2 * d
+     * * T1 * T2) * 1/Z2 T' = 2 * Z1 - T1 * g.Z = 2 * Z1 - T1 * 2 * d * X2 * Y2 * 1/Z2^2 = (2 * Z1 *
+     * Z2 - 2 * d * T1 * T2) * 1/Z2 <br> Formula for the P x P coordinate system is in agreement
+     * with the formula given in file ge25519.c method add_p1p1() in ref implementation. Setting A =
+     * (Y1 - X1) * (Y2 - X2), B = (Y1 + X1) * (Y2 + X2), C = 2 * d * T1 * T2, D = 2 * Z1 * Z2 we get
+     * X' = (B - A) * 1/Z2 Y' = (B + A) * 1/Z2 Z' = (D + C) * 1/Z2 T' = (D - C) * 1/Z2 <br> r
+     * converted from P x P to P^2 coordinate system: <br> r = (X'' : Y'' : Z'' : T'') where X'' =
+     * X' * T' = (B - A) * (D - C) * 1/Z2^2 Y'' = Y' * Z' = (B + A) * (D + C) * 1/Z2^2 Z'' = Z' * T'
+     * = (D + C) * (D - C) * 1/Z2^2 T'' = X' * Y' = (B - A) * (B + A) * 1/Z2^2 <br> Formula above
+     * for the P^2 coordinate system is in agreement with the formula given in [2] page 6 (the
+     * common factor 1/Z2^2 does not matter) E = B - A, F = D - C, G = D + C, H = B + A X3 = E * F =
+     * (B - A) * (D - C); Y3 = G * H = (D + C) * (B + A); Z3 = F * G = (D - C) * (D + C); T3 = E * H
+     * = (B - A) * (B + A);
+     *
+     * @param gYPlusX The g.X value, Y2/Z2 + X2/Z2.
+     * @param gYMinusX The g.Y value, Y2/Z2 - X2/Z2.
+     * @param gXy2d The g.Z value, 2 * d * X2/Z2 * Y2/Z2.
+     */
+    private void precomputedAdd(final int[] gYPlusX, final int[] gYMinusX, final int[] gXy2d) {
+        Ed25519FieldElement.add(this.y, this.x, this.a);
+        Ed25519FieldElement.subtract(this.y, this.x, this.b);
+        Ed25519FieldElement.multiply(this.a, gYPlusX, this.a);
+        Ed25519FieldElement.multiply(this.b, gYMinusX, this.b);
+        Ed25519FieldElement.multiply(gXy2d, this.t, this.c);
+        Ed25519FieldElement.add(this.z, this.z, this.d);
+        Ed25519FieldElement.subtract(this.a, this.b, this.rx);
+        Ed25519FieldElement.add(this.a, this.b, this.ry);
+        Ed25519FieldElement.add(this.d, this.c, this.rz);
+        Ed25519FieldElement.subtract(this.d, this.c, this.rt);
+    }
+
+    /**
+     * Converts r to P2 coordinates into the accumulator.
+     */
+    void toP2() {
+        Ed25519FieldElement.multiply(this.rx, this.rt, this.x);
+        Ed25519FieldElement.multiply(this.ry, this.rz, this.y);
+        Ed25519FieldElement.multiply(this.rz, this.rt, this.z);
+    }
+
+    /**
+     * Converts r to P3 coordinates into the accumulator.
+     */
+    void toP3() {
+        Ed25519FieldElement.multiply(this.rx, this.rt, this.x);
+        Ed25519FieldElement.multiply(this.ry, this.rz, this.y);
+        Ed25519FieldElement.multiply(this.rz, this.rt, this.z);
+        Ed25519FieldElement.multiply(this.rx, this.ry, this.t);
+    }
+
+    /**
+     * Selects |b| * P from a row of a precomputed table holding P, 2P, 3P, ... and negates it if b
+     * is negative. Every entry is visited, no secret array indices, no secret branching. Constant
+     * time.
+     *
+     * @param row the row of the precomputed table.
+     * @param b the signed digit, |b| must not be greater than the row length.
+     */
+    void select(final Ed25519GroupElement[] row, final int b) {
+        // Is r_i negative?
+        final int bNegative = ByteUtils.isNegativeConstantTime(b);
+        // |r_i|
+        final int bAbs = b - (((-bNegative) & b) << 1);
+
+        // |r_i| P
+        System.arraycopy(Ed25519Field.ONE.getRaw(), 0, this.yPlusX, 0, 10);
+        System.arraycopy(Ed25519Field.ONE.getRaw(), 0, this.yMinusX, 0, 10);
+        System.arraycopy(Ed25519Field.ZERO.getRaw(), 0, this.xy2d, 0, 10);
+        for (int j = 0; j < row.length; j++) {
+            final int move = ByteUtils.isEqualConstantTime(bAbs, j + 1);
+            final Ed25519GroupElement entry = row[j];
+            Ed25519FieldElement.cmov(this.yPlusX, entry.getX().getRaw(), move);
+            Ed25519FieldElement.cmov(this.yMinusX, entry.getY().getRaw(), move);
+            Ed25519FieldElement.cmov(this.xy2d, entry.getZ().getRaw(), move);
+        }
+
+        // r_i P, -|r_i| P swaps y + x with y - x and negates 2 * d * x * y
+        System.arraycopy(this.yPlusX, 0, this.a, 0, 10);
+        Ed25519FieldElement.cmov(this.yPlusX, this.yMinusX, bNegative);
+        Ed25519FieldElement.cmov(this.yMinusX, this.a, bNegative);
+        Ed25519FieldElement.negate(this.xy2d, this.a);
+        Ed25519FieldElement.cmov(this.xy2d, this.a, bNegative);
+    }
+
+    /**
+     * @return a copy of the accumulator as a group element in P2 coordinates.
+     */
+    Ed25519GroupElement toP2Element() {
+        return Ed25519GroupElement.p2(copy(this.x), copy(this.y), copy(this.z));
+    }
+
+    /**
+     * @return a copy of the accumulator as a group element in P3 coordinates.
+     */
+    Ed25519GroupElement toP3Element() {
+        return Ed25519GroupElement.p3(copy(this.x), copy(this.y), copy(this.z), copy(this.t));
+    }
+
+    private static Ed25519FieldElement copy(final int[] values) {
+        return new Ed25519FieldElement(values.clone());
+    }
+}
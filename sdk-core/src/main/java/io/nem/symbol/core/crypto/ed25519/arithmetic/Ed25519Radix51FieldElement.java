@@ -0,0 +1,566 @@
+/*
+ * Copyright 2020 NEM
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package io.nem.symbol.core.crypto.ed25519.arithmetic;
+
+import io.nem.symbol.core.utils.ConvertUtils;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.util.Arrays;
+
+/**
+ * Element of the Ed25519 finite field, p = 2^255 - 19, in radix 2^51: five 51 bits limbs held in
+ * longs. On 64 bits JVMs it needs a quarter of the multiplications of the ref10 representation used
+ * by {@link Ed25519FieldElement}.
+ *
+ * The 128 bits products are calculated with Math.multiplyHigh when the JVM provides it (Java 9+)
+ * and with a portable fallback on Java 8. All the operations return weakly reduced elements (limbs
+ * slightly above 2^51 at most) so they can be chained without overflowing.
+ */
+public final class Ed25519Radix51FieldElement {
+
+    static final long MASK = (1L << 51) - 1;
+
+    private static final MethodHandle MULTIPLY_HIGH = findMultiplyHigh();
+
+    public static final Ed25519Radix51FieldElement ZERO = new Ed25519Radix51FieldElement(0, 0, 0,
+        0, 0);
+
+    public static final Ed25519Radix51FieldElement ONE = new Ed25519Radix51FieldElement(1, 0, 0,
+        0, 0);
+
+    public static final Ed25519Radix51FieldElement D = fromFieldElement(Ed25519Field.D);
+
+    public static final Ed25519Radix51FieldElement D_TIMES_TWO = fromFieldElement(
+        Ed25519Field.D_Times_TWO);
+
+    /**
+     * I ^ 2 = -1
+     */
+    public static final Ed25519Radix51FieldElement I = fromFieldElement(Ed25519Field.I);
+
+    /**
+     * 2 * p, added before subtracting so the limbs stay positive.
+     */
+    private static final long TWO_P0 = 0xFFFFFFFFFFFDAL;
+
+    private static final long TWO_P1234 = 0xFFFFFFFFFFFFEL;
+
+    private final long l0;
+
+    private final long l1;
+
+    private final long l2;
+
+    private final long l3;
+
+    private final long l4;
+
+    private Ed25519Radix51FieldElement(long l0, long l1, long l2, long l3, long l4) {
+        this.l0 = l0;
+        this.l1 = l1;
+        this.l2 = l2;
+        this.l3 = l3;
+        this.l4 = l4;
+    }
+
+    private static MethodHandle findMultiplyHigh() {
+        try {
+            return MethodHandles.publicLookup().findStatic(Math.class, "multiplyHigh",
+                MethodType.methodType(long.class, long.class, long.class));
+        } catch (NoSuchMethodException | IllegalAccessException e) {
+            return null;
+        }
+    }
+
+    /**
+     * The high 64 bits of the 128 bits product of two longs.
+     *
+     * @param x the first value.
+     * @param y the second value.
+     * @return the high 64 bits of x * y.
+     */
+    @SuppressWarnings("squid:S1181")
+    static long multiplyHigh(long x, long y) {
+        if (MULTIPLY_HIGH != null) {
+            try {
+                return (long) MULTIPLY_HIGH.invokeExact(x, y);
+            } catch (Throwable e) {
+                throw new IllegalStateException(e);
+            }
+        }
+        return multiplyHighPortable(x, y);
+    }
+
+    /**
+     * Java 8 version of Math.multiplyHigh.
+     */
+    static long multiplyHighPortable(long x, long y) {
+        final long x1 = x >> 32;
+        final long x2 = x & 0xFFFFFFFFL;
+        final long y1 = y >> 32;
+        final long y2 = y & 0xFFFFFFFFL;
+        final long z2 = x2 * y2;
+        final long t = x1 * y2 + (z2 >>> 32);
+        long z1 = t & 0xFFFFFFFFL;
+        final long z0 = t >> 32;
+        z1 += x2 * y1;
+        return x1 * y1 + z0 + (z1 >> 32);
+    }
+
+    /**
+     * It creates an element from the little endian encoding. Bit 255 is ignored.
+     *
+     * @param in the 32 bytes encoding.
+     * @return the field element.
+     */
+    public static Ed25519Radix51FieldElement decode(final byte[] in) {
+        if (32 != in.length) {
+            throw new IllegalArgumentException("Invalid field element encoding.");
+        }
+        return new Ed25519Radix51FieldElement(
+            load(in, 0) & MASK,
+            (load(in, 6) >>> 3) & MASK,
+            (load(in, 12) >>> 6) & MASK,
+            (load(in, 19) >>> 1) & MASK,
+            (load(in, 24) >>> 12) & MASK);
+    }
+
+    /**
+     * It converts a ref10 field element.
+     *
+     * @param element the ref10 element.
+     * @return the same value in radix 2^51.
+     */
+    public static Ed25519Radix51FieldElement fromFieldElement(final Ed25519FieldElement element) {
+        return decode(element.encode().getRaw());
+    }
+
+    private static long load(final byte[] in, final int offset) {
+        long result = 0;
+        for (int i = 7; i >= 0; i--) {
+            result = (result << 8) | (in[offset + i] & 0xFF);
+        }
+        return result;
+    }
+
+    private static Ed25519Radix51FieldElement reduce(long h0, long h1, long h2, long h3,
+        long h4) {
+        h1 += h0 >>> 51;
+        h0 &= MASK;
+        h2 += h1 >>> 51;
+        h1 &= MASK;
+        h3 += h2 >>> 51;
+        h2 &= MASK;
+        h4 += h3 >>> 51;
+        h3 &= MASK;
+        h0 += 19 * (h4 >>> 51);
+        h4 &= MASK;
+        h1 += h0 >>> 51;
+        h0 &= MASK;
+        return new Ed25519Radix51FieldElement(h0, h1, h2, h3, h4);
+    }
+
+    /**
+     * @return the canonical little endian encoding of this element.
+     */
+    public byte[] encode() {
+        // Weak reduction first, then subtract p if the value is greater or equal to p.
+        final Ed25519Radix51FieldElement r = reduce(l0, l1, l2, l3, l4);
+        long h0 = r.l0;
+        long h1 = r.l1;
+        long h2 = r.l2;
+        long h3 = r.l3;
+        long h4 = r.l4;
+        long q = (h0 + 19) >>> 51;
+        q = (h1 + q) >>> 51;
+        q = (h2 + q) >>> 51;
+        q = (h3 + q) >>> 51;
+        q = (h4 + q) >>> 51;
+        h0 += 19 * q;
+        h1 += h0 >>> 51;
+        h0 &= MASK;
+        h2 += h1 >>> 51;
+        h1 &= MASK;
+        h3 += h2 >>> 51;
+        h2 &= MASK;
+        h4 += h3 >>> 51;
+        h3 &= MASK;
+        h4 &= MASK;
+
+        final byte[] out = new byte[32];
+        store(out, 0, h0 | (h1 << 51));
+        store(out, 8, (h1 >>> 13) | (h2 << 38));
+        store(out, 16, (h2 >>> 26) | (h3 << 25));
+        store(out, 24, (h3 >>> 39) | (h4 << 12));
+        return out;
+    }
+
+    private static void store(final byte[] out, final int offset, long value) {
+        for (int i = 0; i < 8; i++) {
+            out[offset + i] = (byte) value;
+            value >>>= 8;
+        }
+    }
+
+    /**
+     * @return true if this element is not zero.
+     */
+    public boolean isNonZero() {
+        final byte[] s = this.encode();
+        int result = 0;
+        for (final byte b : s) {
+            result |= b;
+        }
+        return result != 0;
+    }
+
+    /**
+     * @return true if the encoding of this element is odd.
+     */
+    public boolean isNegative() {
+        return (this.encode()[0] & 1) != 0;
+    }
+
+    /**
+     * h = this + g
+     *
+     * @param g the element to add.
+     * @return the sum.
+     */
+    public Ed25519Radix51FieldElement add(final Ed25519Radix51FieldElement g) {
+        return reduce(l0 + g.l0, l1 + g.l1, l2 + g.l2, l3 + g.l3, l4 + g.l4);
+    }
+
+    /**
+     * h = this - g
+     *
+     * @param g the element to subtract.
+     * @return the difference.
+     */
+    public Ed25519Radix51FieldElement subtract(final Ed25519Radix51FieldElement g) {
+        return reduce(l0 + TWO_P0 - g.l0, l1 + TWO_P1234 - g.l1, l2 + TWO_P1234 - g.l2,
+            l3 + TWO_P1234 - g.l3, l4 + TWO_P1234 - g.l4);
+    }
+
+    /**
+     * h = -this
+     *
+     * @return the negated element.
+     */
+    public Ed25519Radix51FieldElement negate() {
+        return ZERO.subtract(this);
+    }
+
+    /**
+     * h = this * g
+     *
+     * @param g the element to multiply.
+     * @return the product.
+     */
+    @SuppressWarnings("squid:S3776")
+    public Ed25519Radix51FieldElement multiply(final Ed25519Radix51FieldElement g) {
+        final long a0 = l0;
+        final long a1 = l1;
+        final long a2 = l2;
+        final long a3 = l3;
+        final long a4 = l4;
+        final long b0 = g.l0;
+        final long b1 = g.l1;
+        final long b2 = g.l2;
+        final long b3 = g.l3;
+        final long b4 = g.l4;
+        final long b1x19 = 19 * b1;
+        final long b2x19 = 19 * b2;
+        final long b3x19 = 19 * b3;
+        final long b4x19 = 19 * b4;
+
+        // Each product is split at bit 51, lo_i is added to limb i and hi_i to limb i + 1.
+        long p;
+        long lo0;
+        long hi0;
+        long lo1;
+        long hi1;
+        long lo2;
+        long hi2;
+        long lo3;
+        long hi3;
+        long lo4;
+        long hi4;
+        p = a0 * b0;
+        lo0 = p & MASK;
+        hi0 = (multiplyHigh(a0, b0) << 13) | (p >>> 51);
+        p = a1 * b4x19;
+        lo0 += p & MASK;
+        hi0 += (multiplyHigh(a1, b4x19) << 13) | (p >>> 51);
+        p = a2 * b3x19;
+        lo0 += p & MASK;
+        hi0 += (multiplyHigh(a2, b3x19) << 13) | (p >>> 51);
+        p = a3 * b2x19;
+        lo0 += p & MASK;
+        hi0 += (multiplyHigh(a3, b2x19) << 13) | (p >>> 51);
+        p = a4 * b1x19;
+        lo0 += p & MASK;
+        hi0 += (multiplyHigh(a4, b1x19) << 13) | (p >>> 51);
+
+        p = a0 * b1;
+        lo1 = p & MASK;
+        hi1 = (multiplyHigh(a0, b1) << 13) | (p >>> 51);
+        p = a1 * b0;
+        lo1 += p & MASK;
+        hi1 += (multiplyHigh(a1, b0) << 13) | (p >>> 51);
+        p = a2 * b4x19;
+        lo1 += p & MASK;
+        hi1 += (multiplyHigh(a2, b4x19) << 13) | (p >>> 51);
+        p = a3 * b3x19;
+        lo1 += p & MASK;
+        hi1 += (multiplyHigh(a3, b3x19) << 13) | (p >>> 51);
+        p = a4 * b2x19;
+        lo1 += p & MASK;
+        hi1 += (multiplyHigh(a4, b2x19) << 13) | (p >>> 51);
+
+        p = a0 * b2;
+        lo2 = p & MASK;
+        hi2 = (multiplyHigh(a0, b2) << 13) | (p >>> 51);
+        p = a1 * b1;
+        lo2 += p & MASK;
+        hi2 += (multiplyHigh(a1, b1) << 13) | (p >>> 51);
+        p = a2 * b0;
+        lo2 += p & MASK;
+        hi2 += (multiplyHigh(a2, b0) << 13) | (p >>> 51);
+        p = a3 * b4x19;
+        lo2 += p & MASK;
+        hi2 += (multiplyHigh(a3, b4x19) << 13) | (p >>> 51);
+        p = a4 * b3x19;
+        lo2 += p & MASK;
+        hi2 += (multiplyHigh(a4, b3x19) << 13) | (p >>> 51);
+
+        p = a0 * b3;
+        lo3 = p & MASK;
+        hi3 = (multiplyHigh(a0, b3) << 13) | (p >>> 51);
+        p = a1 * b2;
+        lo3 += p & MASK;
+        hi3 += (multiplyHigh(a1, b2) << 13) | (p >>> 51);
+        p = a2 * b1;
+        lo3 += p & MASK;
+        hi3 += (multiplyHigh(a2, b1) << 13) | (p >>> 51);
+        p = a3 * b0;
+        lo3 += p & MASK;
+        hi3 += (multiplyHigh(a3, b0) << 13) | (p >>> 51);
+        p = a4 * b4x19;
+        lo3 += p & MASK;
+        hi3 += (multiplyHigh(a4, b4x19) << 13) | (p >>> 51);
+
+        p = a0 * b4;
+        lo4 = p & MASK;
+        hi4 = (multiplyHigh(a0, b4) << 13) | (p >>> 51);
+        p = a1 * b3;
+        lo4 += p & MASK;
+        hi4 += (multiplyHigh(a1, b3) << 13) | (p >>> 51);
+        p = a2 * b2;
+        lo4 += p & MASK;
+        hi4 += (multiplyHigh(a2, b2) << 13) | (p >>> 51);
+        p = a3 * b1;
+        lo4 += p & MASK;
+        hi4 += (multiplyHigh(a3, b1) << 13) | (p >>> 51);
+        p = a4 * b0;
+        lo4 += p & MASK;
+        hi4 += (multiplyHigh(a4, b0) << 13) | (p >>> 51);
+        return carry(lo0, hi0, lo1, hi1, lo2, hi2, lo3, hi3, lo4, hi4);
+    }
+
+    /**
+     * h = this * this
+     *
+     * @return the square.
+     */
+    public Ed25519Radix51FieldElement square() {
+        final long a0 = l0;
+        final long a1 = l1;
+        final long a2 = l2;
+        final long a3 = l3;
+        final long a4 = l4;
+        final long a0x2 = 2 * a0;
+        final long a1x2 = 2 * a1;
+        final long a2x2 = 2 * a2;
+        final long a3x2 = 2 * a3;
+        final long a3x19 = 19 * a3;
+        final long a4x19 = 19 * a4;
+
+        long p;
+        long lo0;
+        long hi0;
+        long lo1;
+        long hi1;
+        long lo2;
+        long hi2;
+        long lo3;
+        long hi3;
+        long lo4;
+        long hi4;
+        p = a0 * a0;
+        lo0 = p & MASK;
+        hi0 = (multiplyHigh(a0, a0) << 13) | (p >>> 51);
+        p = a1x2 * a4x19;
+        lo0 += p & MASK;
+        hi0 += (multiplyHigh(a1x2, a4x19) << 13) | (p >>> 51);
+        p = a2x2 * a3x19;
+        lo0 += p & MASK;
+        hi0 += (multiplyHigh(a2x2, a3x19) << 13) | (p >>> 51);
+
+        p = a0x2 * a1;
+        lo1 = p & MASK;
+        hi1 = (multiplyHigh(a0x2, a1) << 13) | (p >>> 51);
+        p = a2x2 * a4x19;
+        lo1 += p & MASK;
+        hi1 += (multiplyHigh(a2x2, a4x19) << 13) | (p >>> 51);
+        p = a3 * a3x19;
+        lo1 += p & MASK;
+        hi1 += (multiplyHigh(a3, a3x19) << 13) | (p >>> 51);
+
+        p = a0x2 * a2;
+        lo2 = p & MASK;
+        hi2 = (multiplyHigh(a0x2, a2) << 13) | (p >>> 51);
+        p = a1 * a1;
+        lo2 += p & MASK;
+        hi2 += (multiplyHigh(a1, a1) << 13) | (p >>> 51);
+        p = a3x2 * a4x19;
+        lo2 += p & MASK;
+        hi2 += (multiplyHigh(a3x2, a4x19) << 13) | (p >>> 51);
+
+        p = a0x2 * a3;
+        lo3 = p & MASK;
+        hi3 = (multiplyHigh(a0x2, a3) << 13) | (p >>> 51);
+        p = a1x2 * a2;
+        lo3 += p & MASK;
+        hi3 += (multiplyHigh(a1x2, a2) << 13) | (p >>> 51);
+        p = a4 * a4x19;
+        lo3 += p & MASK;
+        hi3 += (multiplyHigh(a4, a4x19) << 13) | (p >>> 51);
+
+        p = a0x2 * a4;
+        lo4 = p & MASK;
+        hi4 = (multiplyHigh(a0x2, a4) << 13) | (p >>> 51);
+        p = a1x2 * a3;
+        lo4 += p & MASK;
+        hi4 += (multiplyHigh(a1x2, a3) << 13) | (p >>> 51);
+        p = a2 * a2;
+        lo4 += p & MASK;
+        hi4 += (multiplyHigh(a2, a2) << 13) | (p >>> 51);
+        return carry(lo0, hi0, lo1, hi1, lo2, hi2, lo3, hi3, lo4, hi4);
+    }
+
+    @SuppressWarnings("squid:S00107")
+    private static Ed25519Radix51FieldElement carry(long lo0, long hi0, long lo1, long hi1,
+        long lo2, long hi2, long lo3, long hi3, long lo4, long hi4) {
+        // 2^255 = 19 mod p, so the carry out of limb 4 is multiplied by 19 into limb 0.
+        return reduce(lo0 + 19 * hi4, lo1 + hi0, lo2 + hi1, lo3 + hi2, lo4 + hi3);
+    }
+
+    /**
+     * h = this^(2^n)
+     *
+     * @param n the number of squarings.
+     * @return the result.
+     */
+    public Ed25519Radix51FieldElement squareTimes(final int n) {
+        Ed25519Radix51FieldElement result = this;
+        for (int i = 0; i < n; i++) {
+            result = result.square();
+        }
+        return result;
+    }
+
+    /**
+     * h = 1 / this = this^(p - 2), 0 for 0.
+     *
+     * @return the inverse.
+     */
+    public Ed25519Radix51FieldElement invert() {
+        final Ed25519Radix51FieldElement z2 = this.square();
+        final Ed25519Radix51FieldElement z9 = z2.squareTimes(2).multiply(this);
+        final Ed25519Radix51FieldElement z11 = z9.multiply(z2);
+        // 2^5 - 2^0
+        final Ed25519Radix51FieldElement t5 = z11.square().multiply(z9);
+        final Ed25519Radix51FieldElement t250 = pow2250Minus1(t5);
+        // 2^255 - 2^5 + 11 = p - 2
+        return t250.squareTimes(5).multiply(z11);
+    }
+
+    /**
+     * h = this^((p - 5) / 8) = this^(2^252 - 3)
+     *
+     * @return the result.
+     */
+    public Ed25519Radix51FieldElement pow22523() {
+        final Ed25519Radix51FieldElement z2 = this.square();
+        final Ed25519Radix51FieldElement z9 = z2.squareTimes(2).multiply(this);
+        final Ed25519Radix51FieldElement z11 = z9.multiply(z2);
+        final Ed25519Radix51FieldElement t5 = z11.square().multiply(z9);
+        final Ed25519Radix51FieldElement t250 = pow2250Minus1(t5);
+        return t250.squareTimes(2).multiply(this);
+    }
+
+    /**
+     * It raises x^(2^5 - 1) to x^(2^250 - 1).
+     */
+    private static Ed25519Radix51FieldElement pow2250Minus1(final Ed25519Radix51FieldElement t5) {
+        final Ed25519Radix51FieldElement t10 = t5.squareTimes(5).multiply(t5);
+        final Ed25519Radix51FieldElement t20 = t10.squareTimes(10).multiply(t10);
+        final Ed25519Radix51FieldElement t40 = t20.squareTimes(20).multiply(t20);
+        final Ed25519Radix51FieldElement t50 = t40.squareTimes(10).multiply(t10);
+        final Ed25519Radix51FieldElement t100 = t50.squareTimes(50).multiply(t50);
+        final Ed25519Radix51FieldElement t200 = t100.squareTimes(100).multiply(t100);
+        return t200.squareTimes(50).multiply(t50);
+    }
+
+    /**
+     * Constant time conditional move.
+     *
+     * @param g the element to return if b == 1.
+     * @param b 0 or 1.
+     * @return g if b == 1, this if b == 0.
+     */
+    public Ed25519Radix51FieldElement cmov(final Ed25519Radix51FieldElement g, final int b) {
+        final long mask = -((long) b);
+        return new Ed25519Radix51FieldElement(
+            l0 ^ ((l0 ^ g.l0) & mask),
+            l1 ^ ((l1 ^ g.l1) & mask),
+            l2 ^ ((l2 ^ g.l2) & mask),
+            l3 ^ ((l3 ^ g.l3) & mask),
+            l4 ^ ((l4 ^ g.l4) & mask));
+    }
+
+    @Override
+    public int hashCode() {
+        return Arrays.hashCode(this.encode());
+    }
+
+    @Override
+    public boolean equals(final Object obj) {
+        if (!(obj instanceof Ed25519Radix51FieldElement)) {
+            return false;
+        }
+        return Arrays.equals(this.encode(), ((Ed25519Radix51FieldElement) obj).encode());
+    }
+
+    @Override
+    public String toString() {
+        return ConvertUtils.toHex(this.encode());
+    }
+}
@@ -0,0 +1,444 @@
+/*
+ * Copyright 2020 NEM
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package io.nem.symbol.core.crypto.ed25519.arithmetic;
+
+import io.nem.symbol.core.utils.ByteUtils;
+import java.util.Arrays;
+
+/**
+ * Ed25519 group element using the radix 2^51 field arithmetic of {@link
+ * Ed25519Radix51FieldElement}. It follows the same ref10 formulas as {@link Ed25519GroupElement}
+ * and supports the operations needed to sign and verify: fixed base scalar multiplication and the
+ * b * B - a * A double scalar multiplication.
+ */
+public final class Ed25519Radix51GroupElement {
+
+    // different representations of zero
+    public static final Ed25519Radix51GroupElement ZERO_P3 = p3(
+        Ed25519Radix51FieldElement.ZERO,
+        Ed25519Radix51FieldElement.ONE,
+        Ed25519Radix51FieldElement.ONE,
+        Ed25519Radix51FieldElement.ZERO);
+
+    public static final Ed25519Radix51GroupElement ZERO_P2 = p2(
+        Ed25519Radix51FieldElement.ZERO,
+        Ed25519Radix51FieldElement.ONE,
+        Ed25519Radix51FieldElement.ONE);
+
+    public static final Ed25519Radix51GroupElement ZERO_PRECOMPUTED = precomputed(
+        Ed25519Radix51FieldElement.ONE,
+        Ed25519Radix51FieldElement.ONE,
+        Ed25519Radix51FieldElement.ZERO);
+
+    /**
+     * The 16^i * j * B table of the base point (32 x 8), converted from {@link Ed25519Group}.
+     */
+    private static final Ed25519Radix51GroupElement[][] BASE_TABLE = convertSingleTable(
+        Ed25519Group.BASE_POINT.getPrecomputedForSingle());
+
+    /**
+     * The odd multiples B, 3B, ..., 15B of the base point, converted from {@link Ed25519Group}.
+     */
+    private static final Ed25519Radix51GroupElement[] BASE_DOUBLE_TABLE = convertDoubleTable(
+        Ed25519Group.BASE_POINT.getPrecomputedForDouble());
+
+    private final CoordinateSystem coordinateSystem;
+
+    private final Ed25519Radix51FieldElement x;
+
+    private final Ed25519Radix51FieldElement y;
+
+    private final Ed25519Radix51FieldElement z;
+
+    private final Ed25519Radix51FieldElement t;
+
+    private Ed25519Radix51GroupElement(
+        final CoordinateSystem coordinateSystem,
+        final Ed25519Radix51FieldElement x,
+        final Ed25519Radix51FieldElement y,
+        final Ed25519Radix51FieldElement z,
+        final Ed25519Radix51FieldElement t) {
+        this.coordinateSystem = coordinateSystem;
+        this.x = x;
+        this.y = y;
+        this.z = z;
+        this.t = t;
+    }
+
+    // region constructors
+
+    public static Ed25519Radix51GroupElement p2(
+        final Ed25519Radix51FieldElement x,
+        final Ed25519Radix51FieldElement y,
+        final Ed25519Radix51FieldElement z) {
+        return new Ed25519Radix51GroupElement(CoordinateSystem.P2, x, y, z, null);
+    }
+
+    public static Ed25519Radix51GroupElement p3(
+        final Ed25519Radix51FieldElement x,
+        final Ed25519Radix51FieldElement y,
+        final Ed25519Radix51FieldElement z,
+        final Ed25519Radix51FieldElement t) {
+        return new Ed25519Radix51GroupElement(CoordinateSystem.P3, x, y, z, t);
+    }
+
+    public static Ed25519Radix51GroupElement p1xp1(
+        final Ed25519Radix51FieldElement x,
+        final Ed25519Radix51FieldElement y,
+        final Ed25519Radix51FieldElement z,
+        final Ed25519Radix51FieldElement t) {
+        return new Ed25519Radix51GroupElement(CoordinateSystem.P1xP1, x, y, z, t);
+    }
+
+    public static Ed25519Radix51GroupElement precomputed(
+        final Ed25519Radix51FieldElement yPlusX,
+        final Ed25519Radix51FieldElement yMinusX,
+        final Ed25519Radix51FieldElement xy2d) {
+        return new Ed25519Radix51GroupElement(CoordinateSystem.PRECOMPUTED, yPlusX, yMinusX, xy2d,
+            null);
+    }
+
+    public static Ed25519Radix51GroupElement cached(
+        final Ed25519Radix51FieldElement yPlusX,
+        final Ed25519Radix51FieldElement yMinusX,
+        final Ed25519Radix51FieldElement z,
+        final Ed25519Radix51FieldElement t2d) {
+        return new Ed25519Radix51GroupElement(CoordinateSystem.CACHED, yPlusX, yMinusX, z, t2d);
+    }
+
+    private static Ed25519Radix51GroupElement fromPrecomputed(final Ed25519GroupElement element) {
+        return precomputed(
+            Ed25519Radix51FieldElement.fromFieldElement(element.getX()),
+            Ed25519Radix51FieldElement.fromFieldElement(element.getY()),
+            Ed25519Radix51FieldElement.fromFieldElement(element.getZ()));
+    }
+
+    private static Ed25519Radix51GroupElement[][] convertSingleTable(
+        final Ed25519GroupElement[][] table) {
+        final Ed25519Radix51GroupElement[][] converted =
+            new Ed25519Radix51GroupElement[table.length][];
+        for (int i = 0; i < table.length; i++) {
+            converted[i] = convertDoubleTable(table[i]);
+        }
+        return converted;
+    }
+
+    private static Ed25519Radix51GroupElement[] convertDoubleTable(
+        final Ed25519GroupElement[] table) {
+        final Ed25519Radix51GroupElement[] converted = new Ed25519Radix51GroupElement[table.length];
+        for (int i = 0; i < table.length; i++) {
+            converted[i] = fromPrecomputed(table[i]);
+        }
+        return converted;
+    }
+
+    // endregion
+
+    /**
+     * It decodes a compressed point. x is recovered from y with the same square root calculation
+     * used by {@link Ed25519EncodedGroupElement}.
+     *
+     * @param encoded the 32 bytes encoding.
+     * @return the group element in P3 coordinates.
+     * @throws IllegalArgumentException if the encoding is not a valid point.
+     */
+    public static Ed25519Radix51GroupElement decode(final byte[] encoded) {
+        final Ed25519Radix51FieldElement y = Ed25519Radix51FieldElement.decode(encoded);
+        final Ed25519Radix51FieldElement ySquare = y.square();
+        // u = y^2 - 1, v = d * y^2 + 1
+        final Ed25519Radix51FieldElement u = ySquare.subtract(Ed25519Radix51FieldElement.ONE);
+        final Ed25519Radix51FieldElement v = ySquare.multiply(Ed25519Radix51FieldElement.D)
+            .add(Ed25519Radix51FieldElement.ONE);
+        // x = u * v^3 * (u * v^7)^((p - 5) / 8)
+        final Ed25519Radix51FieldElement v3 = v.square().multiply(v);
+        Ed25519Radix51FieldElement x = v3.square().multiply(v).multiply(u).pow22523().multiply(v3)
+            .multiply(u);
+        final Ed25519Radix51FieldElement vxSquare = x.square().multiply(v);
+        if (vxSquare.subtract(u).isNonZero()) {
+            if (vxSquare.add(u).isNonZero()) {
+                throw new IllegalArgumentException("not a valid Ed25519EncodedGroupElement.");
+            }
+            x = x.multiply(Ed25519Radix51FieldElement.I);
+        }
+        if (x.isNegative() != ((encoded[31] & 0x80) != 0)) {
+            x = x.negate();
+        }
+        return p3(x, y, Ed25519Radix51FieldElement.ONE, x.multiply(y));
+    }
+
+    /**
+     * @return the compressed encoding, only for P2 and P3 elements.
+     */
+    public byte[] encode() {
+        requireCoordinateSystem(this, CoordinateSystem.P2, CoordinateSystem.P3);
+        final Ed25519Radix51FieldElement inverse = this.z.invert();
+        final Ed25519Radix51FieldElement xElement = this.x.multiply(inverse);
+        final byte[] s = this.y.multiply(inverse).encode();
+        s[31] |= (xElement.isNegative() ? (byte) 0x80 : 0);
+        return s;
+    }
+
+    public CoordinateSystem getCoordinateSystem() {
+        return coordinateSystem;
+    }
+
+    /**
+     * @return the element in P2 coordinates, from P3 or P1xP1.
+     */
+    public Ed25519Radix51GroupElement toP2() {
+        if (this.coordinateSystem == CoordinateSystem.P1xP1) {
+            return p2(this.x.multiply(this.t), this.y.multiply(this.z), this.z.multiply(this.t));
+        }
+        requireCoordinateSystem(this, CoordinateSystem.P2, CoordinateSystem.P3);
+        return p2(this.x, this.y, this.z);
+    }
+
+    /**
+     * @return the element in P3 coordinates, from P3 or P1xP1.
+     */
+    public Ed25519Radix51GroupElement toP3() {
+        if (this.coordinateSystem == CoordinateSystem.P1xP1) {
+            return p3(this.x.multiply(this.t), this.y.multiply(this.z), this.z.multiply(this.t),
+                this.x.multiply(this.y));
+        }
+        requireCoordinateSystem(this, CoordinateSystem.P3);
+        return this;
+    }
+
+    /**
+     * @return the element in CACHED coordinates, from P3.
+     */
+    public Ed25519Radix51GroupElement toCached() {
+        requireCoordinateSystem(this, CoordinateSystem.P3);
+        return cached(this.y.add(this.x), this.y.subtract(this.x), this.z,
+            this.t.multiply(Ed25519Radix51FieldElement.D_TIMES_TWO));
+    }
+
+    /**
+     * r = 2 * this, this in P2 or P3 coordinates.
+     *
+     * @return the result in P1xP1 coordinates.
+     */
+    public Ed25519Radix51GroupElement dbl() {
+        requireCoordinateSystem(this, CoordinateSystem.P2, CoordinateSystem.P3);
+        final Ed25519Radix51FieldElement xSquare = this.x.square();
+        final Ed25519Radix51FieldElement ySquare = this.y.square();
+        final Ed25519Radix51FieldElement zSquare = this.z.square();
+        final Ed25519Radix51FieldElement b = zSquare.add(zSquare);
+        final Ed25519Radix51FieldElement aSquare = this.x.add(this.y).square();
+        final Ed25519Radix51FieldElement ySquarePlusXSquare = ySquare.add(xSquare);
+        final Ed25519Radix51FieldElement ySquareMinusXSquare = ySquare.subtract(xSquare);
+        return p1xp1(aSquare.subtract(ySquarePlusXSquare), ySquarePlusXSquare,
+            ySquareMinusXSquare, b.subtract(ySquareMinusXSquare));
+    }
+
+    /**
+     * r = this + g, this in P3 coordinates and g in CACHED coordinates.
+     *
+     * @param g the element to add.
+     * @return the result in P1xP1 coordinates.
+     */
+    public Ed25519Radix51GroupElement add(final Ed25519Radix51GroupElement g) {
+        requireCoordinateSystem(this, CoordinateSystem.P3);
+        requireCoordinateSystem(g, CoordinateSystem.CACHED);
+        final Ed25519Radix51FieldElement a = this.y.add(this.x).multiply(g.x);
+        final Ed25519Radix51FieldElement b = this.y.subtract(this.x).multiply(g.y);
+        final Ed25519Radix51FieldElement c = g.t.multiply(this.t);
+        final Ed25519Radix51FieldElement zz = this.z.multiply(g.z);
+        final Ed25519Radix51FieldElement d = zz.add(zz);
+        return p1xp1(a.subtract(b), a.add(b), d.add(c), d.subtract(c));
+    }
+
+    /**
+     * r = this - g, this in P3 coordinates and g in CACHED coordinates.
+     *
+     * @param g the element to subtract.
+     * @return the result in P1xP1 coordinates.
+     */
+    public Ed25519Radix51GroupElement subtract(final Ed25519Radix51GroupElement g) {
+        requireCoordinateSystem(this, CoordinateSystem.P3);
+        requireCoordinateSystem(g, CoordinateSystem.CACHED);
+        final Ed25519Radix51FieldElement a = this.y.add(this.x).multiply(g.y);
+        final Ed25519Radix51FieldElement b = this.y.subtract(this.x).multiply(g.x);
+        final Ed25519Radix51FieldElement c = g.t.multiply(this.t);
+        final Ed25519Radix51FieldElement zz = this.z.multiply(g.z);
+        final Ed25519Radix51FieldElement d = zz.add(zz);
+        return p1xp1(a.subtract(b), a.add(b), d.subtract(c), d.add(c));
+    }
+
+    /**
+     * r = this + g, this in P3 coordinates and g in PRECOMPUTED coordinates.
+     */
+    private Ed25519Radix51GroupElement precomputedAdd(final Ed25519Radix51GroupElement g) {
+        final Ed25519Radix51FieldElement a = this.y.add(this.x).multiply(g.x);
+        final Ed25519Radix51FieldElement b = this.y.subtract(this.x).multiply(g.y);
+        final Ed25519Radix51FieldElement c = g.z.multiply(this.t);
+        final Ed25519Radix51FieldElement d = this.z.add(this.z);
+        return p1xp1(a.subtract(b), a.add(b), d.add(c), d.subtract(c));
+    }
+
+    /**
+     * r = this - g, this in P3 coordinates and g in PRECOMPUTED coordinates.
+     */
+    private Ed25519Radix51GroupElement precomputedSubtract(final Ed25519Radix51GroupElement g) {
+        final Ed25519Radix51FieldElement a = this.y.add(this.x).multiply(g.y);
+        final Ed25519Radix51FieldElement b = this.y.subtract(this.x).multiply(g.x);
+        final Ed25519Radix51FieldElement c = g.z.multiply(this.t);
+        final Ed25519Radix51FieldElement d = this.z.add(this.z);
+        return p1xp1(a.subtract(b), a.add(b), d.subtract(c), d.add(c));
+    }
+
+    /**
+     * Constant time conditional move of PRECOMPUTED elements.
+     */
+    private Ed25519Radix51GroupElement cmov(final Ed25519Radix51GroupElement u, final int b) {
+        return precomputed(this.x.cmov(u.x, b), this.y.cmov(u.y, b), this.z.cmov(u.z, b));
+    }
+
+    /**
+     * Look up 16^i r_i B in the base point table. No secret array indices, no secret branching.
+     *
+     * @param pos = i/2 for i in {0, 2, 4,..., 62}
+     * @param b = r_i
+     * @return the element in PRECOMPUTED coordinates.
+     */
+    private static Ed25519Radix51GroupElement select(final int pos, final int b) {
+        final int bNegative = ByteUtils.isNegativeConstantTime(b);
+        final int bAbs = b - (((-bNegative) & b) << 1);
+        final Ed25519Radix51GroupElement[] row = BASE_TABLE[pos];
+        Ed25519Radix51GroupElement element = ZERO_PRECOMPUTED;
+        for (int j = 0; j < row.length; j++) {
+            element = element.cmov(row[j], ByteUtils.isEqualConstantTime(bAbs, j + 1));
+        }
+        final Ed25519Radix51GroupElement minus = precomputed(element.y, element.x,
+            element.z.negate());
+        return element.cmov(minus, bNegative);
+    }
+
+    /**
+     * r = a * B where B is the base point. Constant time.
+     *
+     * @param a the encoded scalar.
+     * @return the result in P3 coordinates.
+     */
+    public static Ed25519Radix51GroupElement scalarMultiplyBase(
+        final Ed25519EncodedFieldElement a) {
+        final byte[] e = Ed25519GroupElement.toRadix16(a);
+        Ed25519Radix51GroupElement h = ZERO_P3;
+        for (int i = 1; i < 64; i += 2) {
+            h = h.precomputedAdd(select(i / 2, e[i])).toP3();
+        }
+
+        h = h.dbl().toP2().dbl().toP2().dbl().toP2().dbl().toP3();
+
+        for (int i = 0; i < 64; i += 2) {
+            h = h.precomputedAdd(select(i / 2, e[i])).toP3();
+        }
+        return h;
+    }
+
+    /**
+     * It calculates the odd multiples A, 3A, ..., 15A used by {@link
+     * #doubleScalarMultiplyBaseVariableTime}. They are kept in CACHED coordinates so no field
+     * inversion is needed.
+     *
+     * @param a the element in P3 coordinates.
+     * @return the table.
+     */
+    public static Ed25519Radix51GroupElement[] precomputeForDoubleScalarMultiplication(
+        final Ed25519Radix51GroupElement a) {
+        requireCoordinateSystem(a, CoordinateSystem.P3);
+        final Ed25519Radix51GroupElement[] table = new Ed25519Radix51GroupElement[8];
+        final Ed25519Radix51GroupElement doubled = a.dbl().toP3();
+        table[0] = a.toCached();
+        for (int i = 1; i < table.length; i++) {
+            table[i] = doubled.add(table[i - 1]).toP3().toCached();
+        }
+        return table;
+    }
+
+    /**
+     * r = b * B - a * A where B is the base point and A is given by its precomputed table. Variable
+     * time, only to be used with public values.
+     *
+     * @param aTable the table of A calculated by {@link #precomputeForDoubleScalarMultiplication}.
+     * @param a the first encoded scalar.
+     * @param b the second encoded scalar.
+     * @return the result in P2 coordinates.
+     */
+    public static Ed25519Radix51GroupElement doubleScalarMultiplyBaseVariableTime(
+        final Ed25519Radix51GroupElement[] aTable,
+        final Ed25519EncodedFieldElement a,
+        final Ed25519EncodedFieldElement b) {
+        final byte[] aSlide = Ed25519GroupElement.slide(a);
+        final byte[] bSlide = Ed25519GroupElement.slide(b);
+        Ed25519Radix51GroupElement r = ZERO_P2;
+
+        int i;
+        for (i = 255; i >= 0; --i) {
+            if (aSlide[i] != 0 || bSlide[i] != 0) {
+                break;
+            }
+        }
+
+        for (; i >= 0; --i) {
+            Ed25519Radix51GroupElement element = r.dbl();
+
+            if (aSlide[i] > 0) {
+                element = element.toP3().subtract(aTable[aSlide[i] / 2]);
+            } else if (aSlide[i] < 0) {
+                element = element.toP3().add(aTable[(-aSlide[i]) / 2]);
+            }
+
+            if (bSlide[i] > 0) {
+                element = element.toP3().precomputedAdd(BASE_DOUBLE_TABLE[bSlide[i] / 2]);
+            } else if (bSlide[i] < 0) {
+                element = element.toP3().precomputedSubtract(BASE_DOUBLE_TABLE[(-bSlide[i]) / 2]);
+            }
+
+            r = element.toP2();
+        }
+
+        return r;
+    }
+
+    private static void requireCoordinateSystem(final Ed25519Radix51GroupElement element,
+        final CoordinateSystem... coordinateSystems) {
+        for (final CoordinateSystem coordinateSystem : coordinateSystems) {
+            if (element.coordinateSystem == coordinateSystem) {
+                return;
+            }
+        }
+        throw new UnsupportedOperationException(
+            "Unsupported coordinate system " + element.coordinateSystem);
+    }
+
+    @Override
+    public int hashCode() {
+        return Arrays.hashCode(this.toP2().encode());
+    }
+
+    @Override
+    public boolean equals(final Object obj) {
+        if (!(obj instanceof Ed25519Radix51GroupElement)) {
+            return false;
+        }
+        return Arrays
+            .equals(this.toP2().encode(), ((Ed25519Radix51GroupElement) obj).toP2().encode());
+    }
+}
@@ -17,6 +17,10 @@
 package io.nem.symbol.sdk.api;
 
 import io.nem.symbol.sdk.model.transaction.Transaction;
+import java.nio.ByteBuffer;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.Stream;
 
 
 /**
@@ -34,6 +38,19 @@ public interface BinarySerialization {
      */
     <T extends Transaction> byte[] serialize(T transaction);
 
+    /**
+     * It serializes a transaction into the given buffer using the symbol buffer format. The bytes
+     * are written from the buffer's current position, which is advanced by the transaction size.
+     * Callers can reuse the same (heap or direct) buffer for many transactions.
+     *
+     * @param <T> the type of the transaction
+     * @param transaction the transaction
+     * @param buffer the destination buffer. It must have at least {@link #getSize(Transaction)}
+     * bytes remaining.
+     * @return the number of written bytes.
+     */
+    <T extends Transaction> int serializeInto(T transaction, ByteBuffer buffer);
+
 
     /**
      * It deserializes the symbol buffer payload into a transaction.
@@ -43,6 +60,44 @@ public interface BinarySerialization {
      */
     Transaction deserialize(byte[] payload);
 
+    /**
+     * It deserializes the symbol buffer payload that starts at the buffer's current position into
+     * a transaction. The payload is read in place, the buffer's position is advanced to the end of
+     * the transaction.
+     *
+     * @param payload the buffer containing the payload.
+     * @return the transaction.
+     */
+    Transaction deserialize(ByteBuffer payload);
+
+    /**
+     * It deserializes many payloads in parallel using the {@link ForkJoinPool#commonPool()}.
+     *
+     * @param payloads the byte array payloads
+     * @return the transactions in the same order as the payloads.
+     */
+    List<Transaction> deserializeAll(List<byte[]> payloads);
+
+    /**
+     * It deserializes many payloads in parallel using the given fork join pool.
+     *
+     * @param payloads the byte array payloads
+     * @param pool the pool running the deserialization tasks.
+     * @return the transactions in the same order as the payloads.
+     */
+    List<Transaction> deserializeAll(List<byte[]> payloads, ForkJoinPool pool);
+
+    /**
+     * It deserializes a stream of payloads lazily. The returned stream keeps the mode and the
+     * encounter order of the payloads stream: pass a parallel stream to decode the payloads on
+     * its fork join pool, terminal operations like forEachOrdered or collect return the
+     * transactions in order.
+     *
+     * @param payloads the byte array payloads
+     * @return the stream of transactions.
+     */
+    Stream<Transaction> deserializeAll(Stream<byte[]> payloads);
+
 
     /**
      * It returns the transaction's byte array size useful to calculate its fee.
@@ -18,6 +18,7 @@ package io.nem.symbol.sdk.api;
 
 import io.reactivex.Observable;
 import java.math.BigInteger;
+import java.util.List;
 
 /**
  * Service with block related functions.
@@ -34,6 +35,17 @@ public interface BlockService {
      */
     Observable<Boolean> isValidTransactionInBlock(BigInteger height, String transactionHash);
 
+    /**
+     * Validate many transaction hashes in the same block. The block is requested once and the
+     * merkle proofs of the transactions are requested and verified concurrently.
+     *
+     * @param height block height
+     * @param transactionHashes the transaction hashes
+     * @return if each transaction is valid in the block, in the same order as the hashes.
+     */
+    Observable<List<Boolean>> isValidTransactionsInBlock(BigInteger height,
+        List<String> transactionHashes);
+
 
     /**
      * Validate statement hash in block
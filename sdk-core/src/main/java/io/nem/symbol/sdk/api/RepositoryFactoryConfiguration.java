@@ -57,6 +57,25 @@ public class RepositoryFactoryConfiguration {
      */
     private NetworkCurrency harvestCurrency;
 
+    /**
+     * If the pages of transactions should be decoded while the response is being read. The
+     * transactions are built from each json element instead of parsing the whole page into
+     * generic DTOs first. Currently supported by the OkHttp repositories.
+     */
+    private boolean streamingTransactionDecoding;
+
+    /**
+     * The maximum number of concurrent requests. If not provided, the http client's default is
+     * used. Currently supported by the OkHttp repositories.
+     */
+    private Integer maxRequests;
+
+    /**
+     * The maximum number of concurrent requests to the node. If not provided, the http client's
+     * default is used. Currently supported by the OkHttp repositories.
+     */
+    private Integer maxRequestsPerHost;
+
     /**
      * It creates a basic configuration with the required base url.
      *
@@ -114,6 +133,41 @@ public class RepositoryFactoryConfiguration {
         return this;
     }
 
+    /**
+     * Helper method to enable or disable the streaming decoding of transaction pages.
+     *
+     * @param streamingTransactionDecoding if the transaction pages are decoded while they are
+     * read.
+     * @return this configuration.
+     */
+    public RepositoryFactoryConfiguration withStreamingTransactionDecoding(
+        boolean streamingTransactionDecoding) {
+        this.streamingTransactionDecoding = streamingTransactionDecoding;
+        return this;
+    }
+
+    /**
+     * Helper method to setup the maximum number of concurrent requests.
+     *
+     * @param maxRequests the maximum number of concurrent requests.
+     * @return this configuration.
+     */
+    public RepositoryFactoryConfiguration withMaxRequests(Integer maxRequests) {
+        this.maxRequests = maxRequests;
+        return this;
+    }
+
+    /**
+     * Helper method to setup the maximum number of concurrent requests to the node.
+     *
+     * @param maxRequestsPerHost the maximum number of concurrent requests to the node.
+     * @return this configuration.
+     */
+    public RepositoryFactoryConfiguration withMaxRequestsPerHost(Integer maxRequestsPerHost) {
+        this.maxRequestsPerHost = maxRequestsPerHost;
+        return this;
+    }
+
 
     public String getBaseUrl() {
         return baseUrl;
@@ -135,6 +189,18 @@ public class RepositoryFactoryConfiguration {
         return harvestCurrency;
     }
 
+    public boolean isStreamingTransactionDecoding() {
+        return streamingTransactionDecoding;
+    }
+
+    public Integer getMaxRequests() {
+        return maxRequests;
+    }
+
+    public Integer getMaxRequestsPerHost() {
+        return maxRequestsPerHost;
+    }
+
     public void setNetworkType(NetworkType networkType) {
         this.networkType = networkType;
     }
@@ -152,4 +218,16 @@ public class RepositoryFactoryConfiguration {
         NetworkCurrency harvestCurrency) {
         this.harvestCurrency = harvestCurrency;
     }
+
+    public void setStreamingTransactionDecoding(boolean streamingTransactionDecoding) {
+        this.streamingTransactionDecoding = streamingTransactionDecoding;
+    }
+
+    public void setMaxRequests(Integer maxRequests) {
+        this.maxRequests = maxRequests;
+    }
+
+    public void setMaxRequestsPerHost(Integer maxRequestsPerHost) {
+        this.maxRequestsPerHost = maxRequestsPerHost;
+    }
 }
@@ -0,0 +1,56 @@
+/*
+ * Copyright 2020 NEM
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.nem.symbol.sdk.api;
+
+import io.nem.symbol.sdk.model.transaction.SignedTransaction;
+import io.nem.symbol.sdk.model.transaction.Transaction;
+import java.util.List;
+import java.util.stream.Stream;
+
+/**
+ * Service that signs many transactions with the same account and generation hash. The
+ * serialization, signature and hash of each transaction are independent, so they are spread
+ * across threads.
+ */
+public interface TransactionSigner {
+
+    /**
+     * It signs one transaction in the caller thread.
+     *
+     * @param transaction the transaction to sign.
+     * @return the signed transaction.
+     */
+    SignedTransaction sign(Transaction transaction);
+
+    /**
+     * It signs many transactions in parallel.
+     *
+     * @param transactions the transactions to sign.
+     * @return the signed transactions in the same order as the transactions.
+     */
+    List<SignedTransaction> signAll(List<? extends Transaction> transactions);
+
+    /**
+     * It signs a stream of transactions. The returned stream is parallel and keeps the encounter
+     * order of the transactions, terminal operations like forEachOrdered or collect return the
+     * signed transactions in order.
+     *
+     * @param transactions the transactions to sign.
+     * @return the stream of signed transactions.
+     */
+    Stream<SignedTransaction> signAll(Stream<? extends Transaction> transactions);
+}
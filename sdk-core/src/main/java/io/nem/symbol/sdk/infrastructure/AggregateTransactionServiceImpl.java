@@ -17,7 +17,6 @@
 package io.nem.symbol.sdk.infrastructure;
 
 import io.nem.symbol.core.crypto.PublicKey;
-import io.nem.symbol.core.utils.ConvertUtils;
 import io.nem.symbol.sdk.api.AggregateTransactionService;
 import io.nem.symbol.sdk.api.MultisigRepository;
 import io.nem.symbol.sdk.api.RepositoryFactory;
@@ -59,8 +58,7 @@ public class AggregateTransactionServiceImpl implements AggregateTransactionServ
             "signedTransaction type must be AGGREGATE_COMPLETE");
 
         AggregateTransaction transaction = (AggregateTransaction) BinarySerializationImpl.INSTANCE
-            .deserialize(
-                ConvertUtils.fromHexToBytes(signedTransaction.getPayload()));
+            .deserialize(signedTransaction.getPayloadBytes());
 
         /*
          * Include both initiator & cosigners
@@ -51,12 +51,9 @@ import io.nem.symbol.catapult.builders.MultisigAccountModificationTransactionBod
 import io.nem.symbol.catapult.builders.NamespaceIdDto;
 import io.nem.symbol.catapult.builders.NamespaceMetadataTransactionBodyBuilder;
 import io.nem.symbol.catapult.builders.NamespaceRegistrationTransactionBodyBuilder;
-import io.nem.symbol.catapult.builders.NetworkTypeDto;
 import io.nem.symbol.catapult.builders.SecretLockTransactionBodyBuilder;
 import io.nem.symbol.catapult.builders.SecretProofTransactionBodyBuilder;
 import io.nem.symbol.catapult.builders.Serializer;
-import io.nem.symbol.catapult.builders.SignatureDto;
-import io.nem.symbol.catapult.builders.TimestampDto;
 import io.nem.symbol.catapult.builders.TransactionBuilder;
 import io.nem.symbol.catapult.builders.TransactionBuilderFactory;
 import io.nem.symbol.catapult.builders.TransferTransactionBodyBuilder;
@@ -136,15 +133,20 @@ import io.nem.symbol.sdk.model.transaction.TransferTransactionFactory;
 import java.io.DataInputStream;
 import java.math.BigInteger;
 import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
 import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Comparator;
 import java.util.EnumMap;
 import java.util.EnumSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 import org.apache.commons.lang3.Validate;
 
 
@@ -159,6 +161,39 @@ public class BinarySerializationImpl implements BinarySerialization {
      */
     public static final BinarySerialization INSTANCE = new BinarySerializationImpl();
 
+    /**
+     * Size of the top level transaction header: size, reserved, signature, signer, reserved,
+     * version, network type, transaction type, max fee and deadline.
+     */
+    private static final int TRANSACTION_HEADER_SIZE = 128;
+
+    /**
+     * Size of the embedded transaction header: size, reserved, signer, reserved, version, network
+     * type and transaction type.
+     */
+    private static final int EMBEDDED_TRANSACTION_HEADER_SIZE = 48;
+
+    private static final int SIGNATURE_SIZE = 64;
+
+    private static final int PUBLIC_KEY_SIZE = 32;
+
+    /**
+     * Size of the aggregate body header: transactions hash, payload size and reserved.
+     */
+    private static final int AGGREGATE_BODY_HEADER_SIZE = 40;
+
+    private static final int COSIGNATURE_SIZE = PUBLIC_KEY_SIZE + SIGNATURE_SIZE;
+
+    /**
+     * Zeros written in place of the missing signature or signer. It must never be modified.
+     */
+    private static final byte[] ZEROS = new byte[SIGNATURE_SIZE];
+
+    /**
+     * Number of payloads below which a bulk deserialization task is not split further.
+     */
+    private static final int DESERIALIZE_ALL_THRESHOLD = 64;
+
     /**
      * The serializers, one per {@link TransactionType} must be registered.
      */
@@ -232,8 +267,34 @@ public class BinarySerializationImpl implements BinarySerialization {
     @Override
     public <T extends Transaction> byte[] serialize(T transaction) {
         Validate.notNull(transaction, "Transaction must not be null");
-        TransactionBuilder transactionBuilder = getTransactionBuilder(transaction);
-        return serializeTransaction(transactionBuilder.serialize(), transaction);
+        Serializer bodyBuilder = getBodyBuilder(transaction);
+        ByteBuffer buffer = ByteBuffer
+            .allocate(TRANSACTION_HEADER_SIZE + bodyBuilder.getSize());
+        writeTransaction(transaction, bodyBuilder, buffer);
+        return buffer.array();
+    }
+
+    /**
+     * It serializes the transaction straight into the given buffer starting at the buffer's
+     * current position. The header is written field by field and the body is appended without
+     * creating the intermediate catbuffer header builder or concatenated arrays.
+     *
+     * @param transaction the transaction
+     * @param buffer the destination buffer, it can be a reused or direct buffer.
+     * @param <T> the type of the transaction
+     * @return the number of written bytes.
+     */
+    @Override
+    public <T extends Transaction> int serializeInto(T transaction, ByteBuffer buffer) {
+        Validate.notNull(transaction, "Transaction must not be null");
+        Validate.notNull(buffer, "Buffer must not be null");
+        Serializer bodyBuilder = getBodyBuilder(transaction);
+        int size = TRANSACTION_HEADER_SIZE + bodyBuilder.getSize();
+        Validate.isTrue(buffer.remaining() >= size,
+            "Buffer remaining %s is smaller than the transaction size %s", buffer.remaining(),
+            size);
+        writeTransaction(transaction, bodyBuilder, buffer);
+        return size;
     }
 
 
@@ -246,67 +307,136 @@ public class BinarySerializationImpl implements BinarySerialization {
      */
     public <T extends Transaction> byte[] serializeEmbedded(T transaction) {
         Validate.notNull(transaction, "Transaction must not be null");
-        EmbeddedTransactionBuilder embeddedTransactionBuilder = EmbeddedTransactionBuilder.create(
-            new KeyDto(getRequiredSignerBytes(transaction.getSigner())),
-            transaction.getVersion().byteValue(),
-            NetworkTypeDto.rawValueOf((byte) transaction.getNetworkType().getValue()),
-            EntityTypeDto.rawValueOf((short) transaction.getType().getValue()));
-        return serializeTransaction(embeddedTransactionBuilder.serialize(), transaction);
+        Serializer bodyBuilder = getBodyBuilder(transaction);
+        ByteBuffer buffer = ByteBuffer
+            .allocate(EMBEDDED_TRANSACTION_HEADER_SIZE + bodyBuilder.getSize());
+        writeEmbeddedTransaction(transaction, bodyBuilder, buffer);
+        return buffer.array();
     }
 
     /**
-     * Creates the right {@link EmbeddedTransactionBuilder} from the transaction
+     * It resolves the {@link TransactionSerializer} of the transaction and creates the catbuffer
+     * body builder.
      *
      * @param transaction the transaction
-     * @param <T> the transaction class
-     * @return the {@link EmbeddedTransactionBuilder}
+     * @param <T> the type of the transaction
+     * @return the catbuffer body {@link Serializer}
      */
-    private <T extends Transaction> EmbeddedTransactionBuilder toEmbeddedTransactionBuilder(
-        T transaction) {
-        return TransactionBuilderFactory.createEmbeddedTransactionBuilder(
-            SerializationUtils.toDataInput(serializeEmbedded(transaction)));
+    private <T extends Transaction> Serializer getBodyBuilder(T transaction) {
+        TransactionSerializer<T> transactionSerializer = resolveSerializer(transaction.getType());
+        Validate.isTrue(
+            transactionSerializer.getTransactionClass().isAssignableFrom(transaction.getClass()),
+            "Invalid TransactionSerializer's transaction class.");
+        return transactionSerializer.toBodyBuilder(transaction);
     }
 
     /**
-     * Gets the top level {@link TransactionBuilder} for the given transaction
+     * It writes the top level transaction header followed by the body into the buffer. The values
+     * are written in little endian, the buffer's original byte order is restored afterwards.
      *
      * @param transaction the transaction
-     * @return the top level {@link TransactionBuilder}
+     * @param bodyBuilder the body builder of the transaction
+     * @param buffer the destination buffer.
      */
-    private TransactionBuilder getTransactionBuilder(Transaction transaction) {
-
-        final SignatureDto signatureDto = transaction.getSignature()
-            .map(SerializationUtils::toSignatureDto)
-            .orElseGet(() -> new SignatureDto(ByteBuffer.allocate(64)));
-
-        final ByteBuffer signerBuffer = transaction.getSigner()
-            .map(SerializationUtils::toByteBuffer).orElseGet(() -> ByteBuffer.allocate(32));
-
-        return TransactionBuilder.create(
-            signatureDto,
-            new KeyDto(signerBuffer),
-            transaction.getVersion().byteValue(),
-            NetworkTypeDto.rawValueOf((byte) transaction.getNetworkType().getValue()),
-            EntityTypeDto.rawValueOf((short) transaction.getType().getValue()),
-            new AmountDto(transaction.getMaxFee().longValue()),
-            new TimestampDto(transaction.getDeadline().getInstant()));
+    private void writeTransaction(Transaction transaction, Serializer bodyBuilder,
+        ByteBuffer buffer) {
+        ByteOrder originalOrder = buffer.order();
+        buffer.order(ByteOrder.LITTLE_ENDIAN);
+        try {
+            buffer.putInt(TRANSACTION_HEADER_SIZE + bodyBuilder.getSize());
+            buffer.putInt(0);
+            putOrZeros(buffer,
+                transaction.getSignature().map(ConvertUtils::getBytes).orElse(null),
+                SIGNATURE_SIZE);
+            putOrZeros(buffer,
+                transaction.getSigner().map(s -> s.getPublicKey().getBytes()).orElse(null),
+                PUBLIC_KEY_SIZE);
+            writeEntityHeader(transaction, buffer);
+            buffer.putLong(transaction.getMaxFee().longValue());
+            buffer.putLong(transaction.getDeadline().getInstant());
+            writeBody(bodyBuilder, buffer);
+        } finally {
+            buffer.order(originalOrder);
+        }
     }
 
     /**
-     * This method concats the common bytes to the serialized specific transaction.
+     * It writes the embedded transaction header followed by the body into the buffer. The values
+     * are written in little endian, the buffer's original byte order is restored afterwards.
      *
-     * @param <T> the type of the transaction
-     * @param commonBytes the common byte array.
-     * @param transaction the transaction.
-     * @return the serialized transaction.
+     * @param transaction the transaction
+     * @param bodyBuilder the body builder of the transaction
+     * @param buffer the destination buffer.
      */
-    private <T extends Transaction> byte[] serializeTransaction(byte[] commonBytes, T transaction) {
-        TransactionSerializer<T> transactionSerializer = resolveSerializer(transaction.getType());
-        Validate.isTrue(
-            transactionSerializer.getTransactionClass().isAssignableFrom(transaction.getClass()),
-            "Invalid TransactionSerializer's transaction class.");
-        byte[] transactionBytes = transactionSerializer.toBodyBuilder(transaction).serialize();
-        return SerializationUtils.concat(commonBytes, transactionBytes);
+    private void writeEmbeddedTransaction(Transaction transaction, Serializer bodyBuilder,
+        ByteBuffer buffer) {
+        ByteOrder originalOrder = buffer.order();
+        buffer.order(ByteOrder.LITTLE_ENDIAN);
+        try {
+            buffer.putInt(EMBEDDED_TRANSACTION_HEADER_SIZE + bodyBuilder.getSize());
+            buffer.putInt(0);
+            buffer.put(getRequiredSignerBytes(transaction.getSigner()).array());
+            writeEntityHeader(transaction, buffer);
+            writeBody(bodyBuilder, buffer);
+        } finally {
+            buffer.order(originalOrder);
+        }
+    }
+
+    /**
+     * It writes the entity body reserved bytes, version, network type and transaction type.
+     *
+     * @param transaction the transaction
+     * @param buffer the little endian destination buffer.
+     */
+    private void writeEntityHeader(Transaction transaction, ByteBuffer buffer) {
+        buffer.putInt(0);
+        buffer.put(transaction.getVersion().byteValue());
+        buffer.put((byte) transaction.getNetworkType().getValue());
+        buffer.putShort((short) transaction.getType().getValue());
+    }
+
+    /**
+     * It writes the body into the buffer. Bodies that know how to write themselves are streamed
+     * directly, catbuffer's body builders are serialized and copied.
+     *
+     * @param bodyBuilder the body builder.
+     * @param buffer the little endian destination buffer.
+     */
+    private static void writeBody(Serializer bodyBuilder, ByteBuffer buffer) {
+        if (bodyBuilder instanceof BufferSerializer) {
+            ((BufferSerializer) bodyBuilder).writeTo(buffer);
+        } else {
+            buffer.put(bodyBuilder.serialize());
+        }
+    }
+
+    /**
+     * It returns the padding required to align an embedded transaction of the given size to 8
+     * bytes inside an aggregate transaction.
+     *
+     * @param size the embedded transaction size.
+     * @return the padding size.
+     */
+    private static int getPaddingSize(int size) {
+        return (8 - size % 8) % 8;
+    }
+
+    /**
+     * It writes the value or, if not provided, the same number of zeros.
+     *
+     * @param buffer the destination buffer
+     * @param value the value, it can be null.
+     * @param size the expected size of the value.
+     */
+    private static void putOrZeros(ByteBuffer buffer, byte[] value, int size) {
+        if (value == null) {
+            buffer.put(ZEROS, 0, size);
+            return;
+        }
+        Validate.isTrue(value.length == size, "Expected %s bytes but got %s", size,
+            value.length);
+        buffer.put(value);
     }
 
     /**
@@ -318,9 +448,7 @@ public class BinarySerializationImpl implements BinarySerialization {
      */
     @Override
     public <T extends Transaction> int getSize(T transaction) {
-        return getTransactionBuilder(transaction).getSize() + resolveSerializer(
-            transaction.getType()).toBodyBuilder(transaction)
-            .getSize();
+        return TRANSACTION_HEADER_SIZE + getBodyBuilder(transaction).getSize();
     }
 
     /**
@@ -345,10 +473,90 @@ public class BinarySerializationImpl implements BinarySerialization {
     @SuppressWarnings("squid:S1192")
     public Transaction deserialize(byte[] payload) {
         Validate.notNull(payload, "Payload must not be null");
-        DataInputStream stream = SerializationUtils.toDataInput(payload);
+        return deserialize(SerializationUtils.toDataInput(payload));
+    }
+
+    /**
+     * It deserializes the transaction that starts at the buffer's current position without
+     * copying the payload into its own array. The transaction is read from a slice limited to the
+     * size in its header, catbuffer reads the cosignatures of an aggregate until the end of the
+     * input, so the following payloads of the buffer must not be visible.
+     *
+     * @param payload the buffer, its position is advanced to the end of the transaction.
+     * @return the {@link Transaction}
+     */
+    @Override
+    public Transaction deserialize(ByteBuffer payload) {
+        Validate.notNull(payload, "Payload must not be null");
+        Validate.isTrue(payload.remaining() >= 4, "Payload must contain the transaction size");
+        int size = payload.duplicate().order(ByteOrder.LITTLE_ENDIAN).getInt(payload.position());
+        Validate.isTrue(size >= 4 && size <= payload.remaining(),
+            "Invalid transaction size %s, %s bytes remaining", size, payload.remaining());
+        ByteBuffer transactionPayload = payload.slice();
+        transactionPayload.limit(size);
+        Transaction transaction = deserialize(SerializationUtils.toDataInput(transactionPayload));
+        payload.position(payload.position() + size);
+        return transaction;
+    }
+
+    /**
+     * It deserializes many payloads in parallel using the common fork join pool.
+     *
+     * @param payloads the byte array payloads
+     * @return the transactions in the same order as the payloads.
+     */
+    @Override
+    public List<Transaction> deserializeAll(List<byte[]> payloads) {
+        return deserializeAll(payloads, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * It deserializes many payloads in parallel. The list is split in chunks that are decoded by
+     * the pool's workers, each transaction is stored at its payload's index so the order is
+     * preserved. This class is stateless after construction, the same instance can be used by all
+     * the workers.
+     *
+     * @param payloads the byte array payloads
+     * @param pool the pool running the deserialization tasks.
+     * @return the transactions in the same order as the payloads.
+     */
+    @Override
+    public List<Transaction> deserializeAll(List<byte[]> payloads, ForkJoinPool pool) {
+        Validate.notNull(payloads, "Payloads must not be null");
+        Validate.notNull(pool, "Pool must not be null");
+        Transaction[] transactions = new Transaction[payloads.size()];
+        DeserializeAllAction action = new DeserializeAllAction(this, payloads, transactions, 0,
+            payloads.size());
+        if (payloads.size() <= DESERIALIZE_ALL_THRESHOLD) {
+            action.compute();
+        } else {
+            pool.invoke(action);
+        }
+        return Arrays.asList(transactions);
+    }
+
+    /**
+     * It deserializes a stream of payloads keeping its encounter order. The stream is not switched
+     * to parallel, the caller decides how and where it runs.
+     *
+     * @param payloads the byte array payloads
+     * @return the stream of transactions, parallel if the payloads stream is parallel.
+     */
+    @Override
+    public Stream<Transaction> deserializeAll(Stream<byte[]> payloads) {
+        Validate.notNull(payloads, "Payloads must not be null");
+        return payloads.map(this::deserialize);
+    }
+
+    /**
+     * It deserializes a top level transaction from the stream.
+     *
+     * @param stream the stream
+     * @return the {@link Transaction}
+     */
+    private Transaction deserialize(DataInputStream stream) {
         TransactionBuilder builder = TransactionBuilderFactory
             .createTransactionBuilder(stream);
-
         return toTransaction(builder);
     }
 
@@ -436,6 +644,48 @@ public class BinarySerializationImpl implements BinarySerialization {
     }
 
 
+    /**
+     * Fork join action that deserializes a range of the payloads into the same range of the
+     * result array. {@link RecursiveAction} is serializable but the actions are never
+     * serialized, so the fields don't need to be.
+     */
+    @SuppressWarnings("squid:S1948")
+    private static final class DeserializeAllAction extends RecursiveAction {
+
+        private final BinarySerializationImpl serialization;
+
+        private final List<byte[]> payloads;
+
+        private final Transaction[] transactions;
+
+        private final int from;
+
+        private final int to;
+
+        DeserializeAllAction(BinarySerializationImpl serialization, List<byte[]> payloads,
+            Transaction[] transactions, int from, int to) {
+            this.serialization = serialization;
+            this.payloads = payloads;
+            this.transactions = transactions;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from <= DESERIALIZE_ALL_THRESHOLD) {
+                for (int i = from; i < to; i++) {
+                    transactions[i] = serialization.deserialize(payloads.get(i));
+                }
+            } else {
+                int middle = (from + to) >>> 1;
+                invokeAll(
+                    new DeserializeAllAction(serialization, payloads, transactions, from, middle),
+                    new DeserializeAllAction(serialization, payloads, transactions, middle, to));
+            }
+        }
+    }
+
     /**
      * Interface of the serializer helper classes that know how to serialize/deserialize one type of
      * transaction from a payload.
@@ -478,6 +728,27 @@ public class BinarySerializationImpl implements BinarySerialization {
 
     }
 
+    /**
+     * A body {@link Serializer} that can write itself straight into a little endian {@link
+     * ByteBuffer} without creating an intermediate byte array.
+     */
+    interface BufferSerializer extends Serializer {
+
+        /**
+         * It writes the serialized body from the buffer's current position.
+         *
+         * @param buffer the little endian destination buffer.
+         */
+        void writeTo(ByteBuffer buffer);
+
+        @Override
+        default byte[] serialize() {
+            ByteBuffer buffer = ByteBuffer.allocate(getSize()).order(ByteOrder.LITTLE_ENDIAN);
+            writeTo(buffer);
+            return buffer.array();
+        }
+    }
+
     private static class TransferTransactionSerializer implements
         TransactionSerializer<TransferTransaction> {
 
@@ -1579,24 +1850,67 @@ public class BinarySerializationImpl implements BinarySerialization {
 
         @Override
         public Serializer toBodyBuilder(AggregateTransaction transaction) {
+            return new AggregateTransactionBodySerializer(transactionSerialization, transaction);
+        }
 
-            List<EmbeddedTransactionBuilder> transactions = transaction.getInnerTransactions()
-                .stream()
-                .map(transactionSerialization::toEmbeddedTransactionBuilder
-                ).collect(Collectors.toList());
+    }
+
+    /**
+     * It writes the aggregate transaction body. The inner transactions are streamed as embedded
+     * transactions (including the 8 bytes alignment padding) straight into the aggregate body
+     * instead of being serialized and parsed back into catbuffer's {@link
+     * EmbeddedTransactionBuilder}s.
+     */
+    private static class AggregateTransactionBodySerializer implements BufferSerializer {
+
+        private final BinarySerializationImpl transactionSerialization;
+
+        private final AggregateTransaction transaction;
+
+        private final List<Serializer> innerBodyBuilders;
 
-            List<CosignatureBuilder> cosignatures = transaction.getCosignatures().stream()
-                .map(this::getCosignatureBuilder).collect(Collectors.toList());
+        private final int payloadSize;
 
-            return AggregateTransactionBodyBuilder
-                .create(SerializationUtils.toHash256Dto(transaction.getTransactionsHash()),
-                    transactions, cosignatures);
+        AggregateTransactionBodySerializer(BinarySerializationImpl transactionSerialization,
+            AggregateTransaction transaction) {
+            this.transactionSerialization = transactionSerialization;
+            this.transaction = transaction;
+            this.innerBodyBuilders = new ArrayList<>(transaction.getInnerTransactions().size());
+            int size = 0;
+            for (Transaction innerTransaction : transaction.getInnerTransactions()) {
+                Serializer bodyBuilder = transactionSerialization.getBodyBuilder(innerTransaction);
+                int embeddedSize = EMBEDDED_TRANSACTION_HEADER_SIZE + bodyBuilder.getSize();
+                size += embeddedSize + getPaddingSize(embeddedSize);
+                innerBodyBuilders.add(bodyBuilder);
+            }
+            this.payloadSize = size;
+        }
+
+        @Override
+        public int getSize() {
+            return AGGREGATE_BODY_HEADER_SIZE + payloadSize
+                + transaction.getCosignatures().size() * COSIGNATURE_SIZE;
         }
 
-        private CosignatureBuilder getCosignatureBuilder(AggregateTransactionCosignature c) {
-            return CosignatureBuilder
-                .create(SerializationUtils.toKeyDto(c.getSigner().getPublicKey()),
-                    SerializationUtils.toSignatureDto(c.getSignature()));
+        @Override
+        public void writeTo(ByteBuffer buffer) {
+            buffer.put(ConvertUtils.fromHexToBytes(transaction.getTransactionsHash()));
+            buffer.putInt(payloadSize);
+            buffer.putInt(0);
+            List<Transaction> innerTransactions = transaction.getInnerTransactions();
+            for (int i = 0; i < innerTransactions.size(); i++) {
+                Serializer bodyBuilder = innerBodyBuilders.get(i);
+                transactionSerialization
+                    .writeEmbeddedTransaction(innerTransactions.get(i), bodyBuilder, buffer);
+                buffer.put(ZEROS, 0, getPaddingSize(
+                    EMBEDDED_TRANSACTION_HEADER_SIZE + bodyBuilder.getSize()));
+            }
+            for (AggregateTransactionCosignature cosignature : transaction.getCosignatures()) {
+                putOrZeros(buffer, cosignature.getSigner().getPublicKey().getBytes(),
+                    PUBLIC_KEY_SIZE);
+                putOrZeros(buffer, ConvertUtils.getBytes(cosignature.getSignature()),
+                    SIGNATURE_SIZE);
+            }
         }
     }
 
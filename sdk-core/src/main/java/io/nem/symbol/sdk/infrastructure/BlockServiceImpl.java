@@ -17,7 +17,7 @@
 package io.nem.symbol.sdk.infrastructure;
 
 
-import io.nem.symbol.core.crypto.Hashes;
+import io.nem.symbol.core.crypto.MerkleHashBuilder;
 import io.nem.symbol.core.utils.ConvertUtils;
 import io.nem.symbol.sdk.api.BlockRepository;
 import io.nem.symbol.sdk.api.BlockService;
@@ -26,10 +26,10 @@ import io.nem.symbol.sdk.api.RepositoryFactory;
 import io.nem.symbol.sdk.model.blockchain.BlockInfo;
 import io.nem.symbol.sdk.model.blockchain.MerklePathItem;
 import io.nem.symbol.sdk.model.blockchain.MerkleProofInfo;
-import io.nem.symbol.sdk.model.blockchain.Position;
 import io.reactivex.Observable;
 import io.reactivex.functions.BiFunction;
 import java.math.BigInteger;
+import java.util.Collections;
 import java.util.List;
 import org.apache.commons.lang3.Validate;
 
@@ -38,6 +38,12 @@ import org.apache.commons.lang3.Validate;
  */
 public class BlockServiceImpl implements BlockService {
 
+    /**
+     * The maximum number of merkle proofs requested at the same time when validating many
+     * transactions.
+     */
+    private static final int MAX_CONCURRENT_MERKLE_REQUESTS = 16;
+
     /**
      * The block repository.
      */
@@ -77,28 +83,36 @@ public class BlockServiceImpl implements BlockService {
                 .getMerkleReceipts(height, statementHash));
     }
 
+    @Override
+    public Observable<List<Boolean>> isValidTransactionsInBlock(BigInteger height,
+        List<String> transactionHashes) {
+        Validate.notNull(height, "height is required");
+        Validate.notNull(transactionHashes, "transactionHashes is required");
+        return blockRepository.getBlockByHeight(height).map(BlockInfo::getBlockTransactionsHash)
+            .flatMap(root -> Observable.fromIterable(transactionHashes).concatMapEager(
+                transactionHash -> blockRepository.getMerkleTransaction(height, transactionHash)
+                    .map(merkleProofInfo -> isValid(root, transactionHash, merkleProofInfo))
+                    .onErrorReturnItem(false), MAX_CONCURRENT_MERKLE_REQUESTS,
+                Observable.bufferSize()).toList().toObservable())
+            .onErrorReturnItem(Collections.nCopies(transactionHashes.size(), false));
+    }
+
     private Observable<Boolean> getBooleanObservable(Observable<String> rootObservable, String leaf,
         Observable<MerkleProofInfo> merkleTransactionObservable) {
-
-        BiFunction<String, MerkleProofInfo, Boolean> zipper = (root, merkleProofInfo) -> {
-            List<MerklePathItem> merklePath = merkleProofInfo.getMerklePath();
-            if (merklePath.isEmpty()) {
-                // Single item tree, so leaf = HRoot0
-                return leaf.equalsIgnoreCase(root);
-            }
-
-            // 1 is left
-            java.util.function.BiFunction<String, MerklePathItem, String> accumulator = (proofHash, pathItem) -> ConvertUtils
-                .toHex(Hashes
-                    .sha3_256(ConvertUtils
-                        .fromHexToBytes(
-                            pathItem.getPosition() == Position.LEFT ? pathItem.getHash() + proofHash
-                                : proofHash + pathItem.getHash())));
-
-            String hroot0 = merklePath.stream().reduce(leaf, accumulator, (s1, s2) -> s1);
-            return root.equalsIgnoreCase(hroot0);
-        };
+        BiFunction<String, MerkleProofInfo, Boolean> zipper = (root, merkleProofInfo) -> isValid(
+            root, leaf, merkleProofInfo);
         return Observable.zip(rootObservable, merkleTransactionObservable, zipper)
             .onErrorReturnItem(false);
     }
+
+    private static boolean isValid(String root, String leaf, MerkleProofInfo merkleProofInfo) {
+        List<MerklePathItem> merklePath = merkleProofInfo.getMerklePath();
+        if (merklePath.isEmpty()) {
+            // Single item tree, so leaf = HRoot0
+            return leaf.equalsIgnoreCase(root);
+        }
+        byte[] hroot0 = MerkleHashBuilder
+            .calculateRootHash(ConvertUtils.fromHexToBytes(leaf), merklePath);
+        return root.equalsIgnoreCase(ConvertUtils.toHex(hroot0));
+    }
 }
@@ -0,0 +1,129 @@
+/*
+ * Copyright 2020 NEM
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.nem.symbol.sdk.infrastructure;
+
+import io.nem.symbol.sdk.api.AccountRepository;
+import io.nem.symbol.sdk.api.TransactionSearchCriteria;
+import io.nem.symbol.sdk.model.account.AccountInfo;
+import io.nem.symbol.sdk.model.account.Address;
+import io.nem.symbol.sdk.model.account.PublicAccount;
+import io.nem.symbol.sdk.model.transaction.AggregateTransaction;
+import io.nem.symbol.sdk.model.transaction.Transaction;
+import io.reactivex.Observable;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * {@link AccountRepository} that caches the account infos returned by another repository. The
+ * balances and importances change every block, so the cached infos expire after a short time to
+ * live. The transaction pages are not cached.
+ */
+class CachingAccountRepository implements AccountRepository {
+
+    private final AccountRepository delegate;
+
+    private final RepositoryCache cache;
+
+    private final Duration timeToLive;
+
+    CachingAccountRepository(AccountRepository delegate, RepositoryCache cache,
+        Duration timeToLive) {
+        this.delegate = delegate;
+        this.cache = cache;
+        this.timeToLive = timeToLive;
+    }
+
+    @Override
+    public Observable<AccountInfo> getAccountInfo(Address address) {
+        return cache.get(Arrays.asList("accountInfo", address), timeToLive,
+            () -> delegate.getAccountInfo(address));
+    }
+
+    @Override
+    public Observable<List<AccountInfo>> getAccountsInfo(List<Address> addresses) {
+        return delegate.getAccountsInfo(addresses).doOnNext(accountInfos -> accountInfos.forEach(
+            accountInfo -> cache.put(Arrays.asList("accountInfo", accountInfo.getAddress()),
+                accountInfo, timeToLive)));
+    }
+
+    @Override
+    public Observable<List<Transaction>> transactions(PublicAccount publicAccount) {
+        return delegate.transactions(publicAccount);
+    }
+
+    @Override
+    public Observable<List<Transaction>> transactions(PublicAccount publicAccount,
+        TransactionSearchCriteria criteria) {
+        return delegate.transactions(publicAccount, criteria);
+    }
+
+    @Override
+    public Observable<List<Transaction>> incomingTransactions(PublicAccount publicAccount) {
+        return delegate.incomingTransactions(publicAccount);
+    }
+
+    @Override
+    public Observable<List<Transaction>> incomingTransactions(PublicAccount publicAccount,
+        TransactionSearchCriteria criteria) {
+        return delegate.incomingTransactions(publicAccount, criteria);
+    }
+
+    @Override
+    public Observable<List<Transaction>> outgoingTransactions(PublicAccount publicAccount) {
+        return delegate.outgoingTransactions(publicAccount);
+    }
+
+    @Override
+    public Observable<List<Transaction>> outgoingTransactions(PublicAccount publicAccount,
+        TransactionSearchCriteria criteria) {
+        return delegate.outgoingTransactions(publicAccount, criteria);
+    }
+
+    @Override
+    public Observable<List<Transaction>> partialTransactions(PublicAccount publicAccount) {
+        return delegate.partialTransactions(publicAccount);
+    }
+
+    @Override
+    public Observable<List<Transaction>> partialTransactions(PublicAccount publicAccount,
+        TransactionSearchCriteria criteria) {
+        return delegate.partialTransactions(publicAccount, criteria);
+    }
+
+    @Override
+    public Observable<List<AggregateTransaction>> aggregateBondedTransactions(
+        PublicAccount publicAccount) {
+        return delegate.aggregateBondedTransactions(publicAccount);
+    }
+
+    @Override
+    public Observable<List<AggregateTransaction>> aggregateBondedTransactions(
+        PublicAccount publicAccount, TransactionSearchCriteria criteria) {
+        return delegate.aggregateBondedTransactions(publicAccount, criteria);
+    }
+
+    @Override
+    public Observable<List<Transaction>> unconfirmedTransactions(PublicAccount publicAccount) {
+        return delegate.unconfirmedTransactions(publicAccount);
+    }
+
+    @Override
+    public Observable<List<Transaction>> unconfirmedTransactions(PublicAccount publicAccount,
+        TransactionSearchCriteria criteria) {
+        return delegate.unconfirmedTransactions(publicAccount, criteria);
+    }
+}
@@ -0,0 +1,79 @@
+/*
+ * Copyright 2020 NEM
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.nem.symbol.sdk.infrastructure;
+
+import io.nem.symbol.sdk.api.BlockRepository;
+import io.nem.symbol.sdk.api.QueryParams;
+import io.nem.symbol.sdk.model.blockchain.BlockInfo;
+import io.nem.symbol.sdk.model.blockchain.MerkleProofInfo;
+import io.nem.symbol.sdk.model.transaction.Transaction;
+import io.reactivex.Observable;
+import java.math.BigInteger;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * {@link BlockRepository} that caches the blocks, the block transactions and the merkle proofs
+ * returned by another repository. They never expire once the block is finalized, the data of
+ * newer blocks can be rolled back and expires after the mutable time to live.
+ */
+class CachingBlockRepository implements BlockRepository {
+
+    private final BlockRepository delegate;
+
+    private final ChainDataCache cache;
+
+    CachingBlockRepository(BlockRepository delegate, ChainDataCache cache) {
+        this.delegate = delegate;
+        this.cache = cache;
+    }
+
+    @Override
+    public Observable<BlockInfo> getBlockByHeight(BigInteger height) {
+        return cache.get(Arrays.asList("block", height), height,
+            () -> delegate.getBlockByHeight(height));
+    }
+
+    @Override
+    public Observable<List<Transaction>> getBlockTransactions(BigInteger height) {
+        return cache.get(Arrays.asList("blockTransactions", height), height,
+            () -> delegate.getBlockTransactions(height).map(Collections::unmodifiableList));
+    }
+
+    @Override
+    public Observable<List<Transaction>> getBlockTransactions(BigInteger height,
+        QueryParams queryParams) {
+        Object key = queryParams == null ? Arrays.asList("blockTransactions", height)
+            : Arrays.asList("blockTransactions", height, queryParams.getPageSize(),
+                queryParams.getId(), queryParams.getOrder());
+        return cache.get(key, height, () -> delegate.getBlockTransactions(height, queryParams)
+            .map(Collections::unmodifiableList));
+    }
+
+    @Override
+    public Observable<List<BlockInfo>> getBlocksByHeightWithLimit(BigInteger height, int limit) {
+        return delegate.getBlocksByHeightWithLimit(height, limit).flatMap(blocks -> cache
+            .putAll(blocks, block -> Arrays.asList("block", block.getHeight()),
+                BlockInfo::getHeight));
+    }
+
+    @Override
+    public Observable<MerkleProofInfo> getMerkleTransaction(BigInteger height, String hash) {
+        return cache.get(Arrays.asList("merkleTransaction", height, hash), height,
+            () -> delegate.getMerkleTransaction(height, hash));
+    }
+}
@@ -0,0 +1,68 @@
+/*
+ * Copyright 2020 NEM
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.nem.symbol.sdk.infrastructure;
+
+import io.nem.symbol.sdk.api.MosaicRepository;
+import io.nem.symbol.sdk.model.account.Address;
+import io.nem.symbol.sdk.model.mosaic.MosaicId;
+import io.nem.symbol.sdk.model.mosaic.MosaicInfo;
+import io.reactivex.Observable;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * {@link MosaicRepository} that caches the mosaics returned by another repository. The supply of
+ * a mosaic changes, so the cached mosaics expire after a short time to live.
+ */
+class CachingMosaicRepository implements MosaicRepository {
+
+    private final MosaicRepository delegate;
+
+    private final RepositoryCache cache;
+
+    private final Duration timeToLive;
+
+    CachingMosaicRepository(MosaicRepository delegate, RepositoryCache cache,
+        Duration timeToLive) {
+        this.delegate = delegate;
+        this.cache = cache;
+        this.timeToLive = timeToLive;
+    }
+
+    @Override
+    public Observable<MosaicInfo> getMosaic(MosaicId mosaicId) {
+        return cache.get(Arrays.asList("mosaic", mosaicId), timeToLive,
+            () -> delegate.getMosaic(mosaicId));
+    }
+
+    @Override
+    public Observable<List<MosaicInfo>> getMosaics(List<MosaicId> mosaicIds) {
+        return delegate.getMosaics(mosaicIds).doOnNext(mosaics -> mosaics.forEach(
+            mosaic -> cache.put(Arrays.asList("mosaic", mosaic.getMosaicId()), mosaic,
+                timeToLive)));
+    }
+
+    @Override
+    public Observable<List<MosaicInfo>> getMosaicsFromAccount(Address address) {
+        return delegate.getMosaicsFromAccount(address);
+    }
+
+    @Override
+    public Observable<List<MosaicInfo>> getMosaicsFromAccounts(List<Address> addresses) {
+        return delegate.getMosaicsFromAccounts(addresses);
+    }
+}
@@ -0,0 +1,52 @@
+/*
+ * Copyright 2020 NEM
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.nem.symbol.sdk.infrastructure;
+
+import io.nem.symbol.sdk.api.ReceiptRepository;
+import io.nem.symbol.sdk.model.blockchain.MerkleProofInfo;
+import io.nem.symbol.sdk.model.receipt.Statement;
+import io.reactivex.Observable;
+import java.math.BigInteger;
+import java.util.Arrays;
+
+/**
+ * {@link ReceiptRepository} that caches the block statements and the merkle proofs returned by
+ * another repository. They never expire once the block is finalized, the statements of newer
+ * blocks can be rolled back and expire after the mutable time to live.
+ */
+class CachingReceiptRepository implements ReceiptRepository {
+
+    private final ReceiptRepository delegate;
+
+    private final ChainDataCache cache;
+
+    CachingReceiptRepository(ReceiptRepository delegate, ChainDataCache cache) {
+        this.delegate = delegate;
+        this.cache = cache;
+    }
+
+    @Override
+    public Observable<Statement> getBlockReceipts(BigInteger height) {
+        return cache.get(Arrays.asList("blockReceipts", height), height,
+            () -> delegate.getBlockReceipts(height));
+    }
+
+    @Override
+    public Observable<MerkleProofInfo> getMerkleReceipts(BigInteger height, String hash) {
+        return cache.get(Arrays.asList("merkleReceipts", height, hash), height,
+            () -> delegate.getMerkleReceipts(height, hash));
+    }
+}
@@ -0,0 +1,292 @@
+/*
+ * Copyright 2020 NEM
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.nem.symbol.sdk.infrastructure;
+
+import io.nem.symbol.sdk.api.AccountRepository;
+import io.nem.symbol.sdk.api.BlockRepository;
+import io.nem.symbol.sdk.api.ChainRepository;
+import io.nem.symbol.sdk.api.JsonSerialization;
+import io.nem.symbol.sdk.api.Listener;
+import io.nem.symbol.sdk.api.MetadataRepository;
+import io.nem.symbol.sdk.api.MosaicRepository;
+import io.nem.symbol.sdk.api.MultisigRepository;
+import io.nem.symbol.sdk.api.NamespaceRepository;
+import io.nem.symbol.sdk.api.NetworkRepository;
+import io.nem.symbol.sdk.api.NodeRepository;
+import io.nem.symbol.sdk.api.ReceiptRepository;
+import io.nem.symbol.sdk.api.RepositoryFactory;
+import io.nem.symbol.sdk.api.RestrictionAccountRepository;
+import io.nem.symbol.sdk.api.RestrictionMosaicRepository;
+import io.nem.symbol.sdk.api.TransactionRepository;
+import io.nem.symbol.sdk.model.blockchain.MerkleProofInfo;
+import io.nem.symbol.sdk.model.mosaic.NetworkCurrency;
+import io.nem.symbol.sdk.model.network.NetworkType;
+import io.nem.symbol.sdk.model.receipt.Statement;
+import io.nem.symbol.sdk.model.transaction.Transaction;
+import io.reactivex.Observable;
+import java.math.BigInteger;
+import java.time.Duration;
+import java.util.Collection;
+import org.apache.commons.lang3.Validate;
+
+/**
+ * {@link RepositoryFactory} that wraps another factory and caches the chain data that doesn't
+ * change once it's finalized: blocks, block transactions, block statements, merkle proofs and
+ * confirmed transactions. A block is finalized when it's at least max rollback blocks below the
+ * chain height. The data of newer blocks can be rolled back and account and mosaic infos change,
+ * they are cached with a short time to live.
+ *
+ * All the repositories created by this factory share the same {@link RepositoryCache}. The cache
+ * is bounded by the approximate size in bytes of the cached objects.
+ */
+public class CachingRepositoryFactory implements RepositoryFactory {
+
+    /**
+     * The default maximum size of the cache, 32 MB.
+     */
+    public static final long DEFAULT_MAX_WEIGHT = 32L * 1024 * 1024;
+
+    /**
+     * The default time to live of the account and mosaic infos.
+     */
+    public static final Duration DEFAULT_MUTABLE_TIME_TO_LIVE = Duration.ofSeconds(5);
+
+    /**
+     * The default number of blocks that can be rolled back, the maxRollbackBlocks of the public
+     * network configuration.
+     */
+    public static final BigInteger DEFAULT_MAX_ROLLBACK_BLOCKS = BigInteger.valueOf(398);
+
+    /**
+     * The estimated size of the key and the entry of a cached object. It's added to every cached
+     * object, so empty collections also count towards the maximum size.
+     */
+    private static final long ENTRY_SIZE = 96;
+
+    /**
+     * The estimated size of a cached object that is not a transaction. It's around the size of a
+     * serialized block header.
+     */
+    private static final long DEFAULT_OBJECT_SIZE = 384;
+
+    /**
+     * The size of a merkle path item, a 32 bytes hash and its position.
+     */
+    private static final long MERKLE_PATH_ITEM_SIZE = 33;
+
+    /**
+     * The estimated size of a statement of a block.
+     */
+    private static final long STATEMENT_SIZE = 128;
+
+    private final RepositoryFactory delegate;
+
+    private final RepositoryCache cache;
+
+    private final Duration mutableTimeToLive;
+
+    private final ChainDataCache chainDataCache;
+
+    /**
+     * Creates a caching factory with the default maximum size and time to live.
+     *
+     * @param delegate the factory creating the repositories that connect to the server.
+     */
+    public CachingRepositoryFactory(RepositoryFactory delegate) {
+        this(delegate, DEFAULT_MAX_WEIGHT, DEFAULT_MUTABLE_TIME_TO_LIVE);
+    }
+
+    /**
+     * Creates a caching factory.
+     *
+     * @param delegate the factory creating the repositories that connect to the server.
+     * @param maxWeight the maximum approximate size in bytes of the cached objects.
+     * @param mutableTimeToLive the time to live of the account and mosaic infos and of the data
+     * of the blocks that are not finalized.
+     */
+    public CachingRepositoryFactory(RepositoryFactory delegate, long maxWeight,
+        Duration mutableTimeToLive) {
+        this(delegate, new RepositoryCache(maxWeight, CachingRepositoryFactory::estimateSize),
+            mutableTimeToLive, DEFAULT_MAX_ROLLBACK_BLOCKS);
+    }
+
+    /**
+     * Creates a caching factory using the given cache.
+     *
+     * @param delegate the factory creating the repositories that connect to the server.
+     * @param cache the cache shared by the repositories.
+     * @param mutableTimeToLive the time to live of the account and mosaic infos and of the data
+     * of the blocks that are not finalized.
+     * @param maxRollbackBlocks the number of blocks below the chain height that can be rolled
+     * back.
+     */
+    public CachingRepositoryFactory(RepositoryFactory delegate, RepositoryCache cache,
+        Duration mutableTimeToLive, BigInteger maxRollbackBlocks) {
+        Validate.notNull(delegate, "Delegate must not be null");
+        Validate.notNull(cache, "Cache must not be null");
+        Validate.notNull(mutableTimeToLive, "MutableTimeToLive must not be null");
+        Validate.notNull(maxRollbackBlocks, "MaxRollbackBlocks must not be null");
+        Validate.isTrue(maxRollbackBlocks.signum() >= 0, "MaxRollbackBlocks must not be negative");
+        this.delegate = delegate;
+        this.cache = cache;
+        this.mutableTimeToLive = mutableTimeToLive;
+        this.chainDataCache = new ChainDataCache(cache,
+            () -> delegate.createChainRepository().getBlockchainHeight(), maxRollbackBlocks,
+            mutableTimeToLive);
+    }
+
+    /**
+     * It estimates the size in bytes of a cached object, including its key and cache entry.
+     * Transactions use their serialized size, collections add the size of their elements.
+     *
+     * @param value the cached object.
+     * @return the approximate size in bytes, always greater than 0.
+     */
+    public static long estimateSize(Object value) {
+        return ENTRY_SIZE + estimateContentSize(value);
+    }
+
+    private static long estimateContentSize(Object value) {
+        if (value instanceof Collection) {
+            return ((Collection<?>) value).stream()
+                .mapToLong(CachingRepositoryFactory::estimateContentSize).sum();
+        }
+        if (value instanceof Transaction) {
+            return ((Transaction) value).getSize();
+        }
+        if (value instanceof MerkleProofInfo) {
+            return MERKLE_PATH_ITEM_SIZE * ((MerkleProofInfo) value).getMerklePath().size();
+        }
+        if (value instanceof Statement) {
+            Statement statement = (Statement) value;
+            return STATEMENT_SIZE * (statement.getTransactionStatements().size()
+                + statement.getAddressResolutionStatements().size()
+                + statement.getMosaicResolutionStatement().size());
+        }
+        return DEFAULT_OBJECT_SIZE;
+    }
+
+    /**
+     * @return the cache shared by the repositories, it provides the hit and miss statistics.
+     */
+    public RepositoryCache getCache() {
+        return cache;
+    }
+
+    @Override
+    public AccountRepository createAccountRepository() {
+        return new CachingAccountRepository(delegate.createAccountRepository(), cache,
+            mutableTimeToLive);
+    }
+
+    @Override
+    public MultisigRepository createMultisigRepository() {
+        return delegate.createMultisigRepository();
+    }
+
+    @Override
+    public BlockRepository createBlockRepository() {
+        return new CachingBlockRepository(delegate.createBlockRepository(), chainDataCache);
+    }
+
+    @Override
+    public ReceiptRepository createReceiptRepository() {
+        return new CachingReceiptRepository(delegate.createReceiptRepository(), chainDataCache);
+    }
+
+    @Override
+    public ChainRepository createChainRepository() {
+        return delegate.createChainRepository();
+    }
+
+    @Override
+    public MosaicRepository createMosaicRepository() {
+        return new CachingMosaicRepository(delegate.createMosaicRepository(), cache,
+            mutableTimeToLive);
+    }
+
+    @Override
+    public NamespaceRepository createNamespaceRepository() {
+        return delegate.createNamespaceRepository();
+    }
+
+    @Override
+    public NetworkRepository createNetworkRepository() {
+        return delegate.createNetworkRepository();
+    }
+
+    @Override
+    public NodeRepository createNodeRepository() {
+        return delegate.createNodeRepository();
+    }
+
+    @Override
+    public TransactionRepository createTransactionRepository() {
+        return new CachingTransactionRepository(delegate.createTransactionRepository(),
+            chainDataCache);
+    }
+
+    @Override
+    public MetadataRepository createMetadataRepository() {
+        return delegate.createMetadataRepository();
+    }
+
+    @Override
+    public RestrictionAccountRepository createRestrictionAccountRepository() {
+        return delegate.createRestrictionAccountRepository();
+    }
+
+    @Override
+    public RestrictionMosaicRepository createRestrictionMosaicRepository() {
+        return delegate.createRestrictionMosaicRepository();
+    }
+
+    @Override
+    public Listener createListener() {
+        return delegate.createListener();
+    }
+
+    @Override
+    public JsonSerialization createJsonSerialization() {
+        return delegate.createJsonSerialization();
+    }
+
+    @Override
+    public Observable<NetworkType> getNetworkType() {
+        return delegate.getNetworkType();
+    }
+
+    @Override
+    public Observable<String> getGenerationHash() {
+        return delegate.getGenerationHash();
+    }
+
+    @Override
+    public Observable<NetworkCurrency> getNetworkCurrency() {
+        return delegate.getNetworkCurrency();
+    }
+
+    @Override
+    public Observable<NetworkCurrency> getHarvestCurrency() {
+        return delegate.getHarvestCurrency();
+    }
+
+    @Override
+    public void close() {
+        cache.clear();
+        delegate.close();
+    }
+}
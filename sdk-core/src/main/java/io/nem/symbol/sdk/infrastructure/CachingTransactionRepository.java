@@ -0,0 +1,118 @@
+/*
+ * Copyright 2020 NEM
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.nem.symbol.sdk.infrastructure;
+
+import io.nem.symbol.sdk.api.TransactionRepository;
+import io.nem.symbol.sdk.model.transaction.CosignatureSignedTransaction;
+import io.nem.symbol.sdk.model.transaction.SignedTransaction;
+import io.nem.symbol.sdk.model.transaction.Transaction;
+import io.nem.symbol.sdk.model.transaction.TransactionAnnounceResponse;
+import io.nem.symbol.sdk.model.transaction.TransactionInfo;
+import io.nem.symbol.sdk.model.transaction.TransactionStatus;
+import io.reactivex.Observable;
+import java.math.BigInteger;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Collectors;
+import org.apache.commons.lang3.StringUtils;
+
+/**
+ * {@link TransactionRepository} that caches the confirmed transactions returned by another
+ * repository. They never expire once their block is finalized, newer transactions can be rolled
+ * back and expire after the mutable time to live. Unconfirmed and partial transactions, statuses
+ * and announcements are not cached.
+ */
+class CachingTransactionRepository implements TransactionRepository {
+
+    private final TransactionRepository delegate;
+
+    private final ChainDataCache cache;
+
+    CachingTransactionRepository(TransactionRepository delegate, ChainDataCache cache) {
+        this.delegate = delegate;
+        this.cache = cache;
+    }
+
+    @Override
+    public Observable<Transaction> getTransaction(String transactionHash) {
+        return Observable.defer(() -> {
+            Optional<Transaction> cached = cache.getIfPresent(getKey(transactionHash));
+            if (cached.isPresent()) {
+                return Observable.just(cached.get());
+            }
+            return delegate.getTransaction(transactionHash).flatMap(
+                transaction -> isCacheable(transaction) ? cache
+                    .put(getKey(transaction), transaction, getHeight(transaction))
+                    : Observable.just(transaction));
+        });
+    }
+
+    @Override
+    public Observable<List<Transaction>> getTransactions(List<String> transactionHashes) {
+        return delegate.getTransactions(transactionHashes).flatMap(transactions -> cache
+            .putAll(transactions.stream().filter(CachingTransactionRepository::isCacheable)
+                    .collect(Collectors.toList()), CachingTransactionRepository::getKey,
+                CachingTransactionRepository::getHeight).map(cached -> transactions));
+    }
+
+    @Override
+    public Observable<TransactionStatus> getTransactionStatus(String transactionHash) {
+        return delegate.getTransactionStatus(transactionHash);
+    }
+
+    @Override
+    public Observable<List<TransactionStatus>> getTransactionStatuses(
+        List<String> transactionHashes) {
+        return delegate.getTransactionStatuses(transactionHashes);
+    }
+
+    @Override
+    public Observable<TransactionAnnounceResponse> announce(SignedTransaction signedTransaction) {
+        return delegate.announce(signedTransaction);
+    }
+
+    @Override
+    public Observable<TransactionAnnounceResponse> announceAggregateBonded(
+        SignedTransaction signedTransaction) {
+        return delegate.announceAggregateBonded(signedTransaction);
+    }
+
+    @Override
+    public Observable<TransactionAnnounceResponse> announceAggregateBondedCosignature(
+        CosignatureSignedTransaction cosignatureSignedTransaction) {
+        return delegate.announceAggregateBondedCosignature(cosignatureSignedTransaction);
+    }
+
+    private static boolean isCacheable(Transaction transaction) {
+        return transaction.isConfirmed() && transaction.getTransactionInfo()
+            .flatMap(TransactionInfo::getHash).isPresent();
+    }
+
+    private static Object getKey(Transaction transaction) {
+        return getKey(transaction.getTransactionInfo().flatMap(TransactionInfo::getHash)
+            .orElseThrow(() -> new IllegalStateException("Transaction hash is required")));
+    }
+
+    private static BigInteger getHeight(Transaction transaction) {
+        return transaction.getTransactionInfo().map(TransactionInfo::getHeight)
+            .orElseThrow(() -> new IllegalStateException("Transaction height is required"));
+    }
+
+    private static Object getKey(String transactionHash) {
+        return Arrays.asList("transaction", StringUtils.upperCase(transactionHash));
+    }
+}
@@ -0,0 +1,140 @@
+/*
+ * Copyright 2020 NEM
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.nem.symbol.sdk.infrastructure;
+
+import io.reactivex.Observable;
+import java.math.BigInteger;
+import java.time.Duration;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * It caches the chain data of a given height in a {@link RepositoryCache}. Data at or below the
+ * finalized height, the chain height minus the max rollback blocks, can't be rolled back, so it
+ * never expires. Newer data expires after the mutable time to live.
+ *
+ * The chain height is cached with the mutable time to live too. The finalized height only
+ * increases, data at or below the last known finalized height is cached without asking for it.
+ */
+class ChainDataCache {
+
+    private static final Object CHAIN_HEIGHT_KEY = Collections.singletonList("chainHeight");
+
+    private final RepositoryCache cache;
+
+    private final Supplier<Observable<BigInteger>> chainHeightLoader;
+
+    private final BigInteger maxRollbackBlocks;
+
+    private final Duration mutableTimeToLive;
+
+    private final AtomicReference<BigInteger> finalizedHeight = new AtomicReference<>(
+        BigInteger.ZERO);
+
+    ChainDataCache(RepositoryCache cache, Supplier<Observable<BigInteger>> chainHeightLoader,
+        BigInteger maxRollbackBlocks, Duration mutableTimeToLive) {
+        this.cache = cache;
+        this.chainHeightLoader = chainHeightLoader;
+        this.maxRollbackBlocks = maxRollbackBlocks;
+        this.mutableTimeToLive = mutableTimeToLive;
+    }
+
+    /**
+     * It returns an observable that emits the cached value or, if the value is not cached, the
+     * value returned by the loader.
+     *
+     * @param key the key of the value.
+     * @param height the height of the block the value belongs to.
+     * @param loader the supplier of the observable loading the value.
+     * @param <T> the type of the value.
+     * @return the observable of the value.
+     */
+    <T> Observable<T> get(Object key, BigInteger height, Supplier<Observable<T>> loader) {
+        return Observable.defer(() -> {
+            Optional<T> cached = cache.getIfPresent(key);
+            if (cached.isPresent()) {
+                return Observable.just(cached.get());
+            }
+            return loader.get().flatMap(value -> put(key, value, height));
+        });
+    }
+
+    /**
+     * @param key the key of the value.
+     * @param <T> the type of the value.
+     * @return the cached value if present and not expired.
+     */
+    <T> Optional<T> getIfPresent(Object key) {
+        return cache.getIfPresent(key);
+    }
+
+    /**
+     * It caches a value once the finalized height is known.
+     *
+     * @param key the key of the value.
+     * @param value the value.
+     * @param height the height of the block the value belongs to.
+     * @param <T> the type of the value.
+     * @return the observable that emits the value once it's cached.
+     */
+    <T> Observable<T> put(Object key, T value, BigInteger height) {
+        return getFinalizedHeight(height).map(finalized -> {
+            cache.put(key, value, getTimeToLive(height, finalized));
+            return value;
+        });
+    }
+
+    /**
+     * It caches the values of a list once the finalized height is known.
+     *
+     * @param values the values.
+     * @param keyMapper the function that returns the key of a value.
+     * @param heightMapper the function that returns the height of a value.
+     * @param <T> the type of the values.
+     * @return the observable that emits the list once its values are cached.
+     */
+    <T> Observable<List<T>> putAll(List<T> values, Function<T, Object> keyMapper,
+        Function<T, BigInteger> heightMapper) {
+        BigInteger maxHeight = values.stream().map(heightMapper).max(BigInteger::compareTo)
+            .orElse(BigInteger.ZERO);
+        return getFinalizedHeight(maxHeight).map(finalized -> {
+            values.forEach(value -> cache.put(keyMapper.apply(value), value,
+                getTimeToLive(heightMapper.apply(value), finalized)));
+            return values;
+        });
+    }
+
+    private Observable<BigInteger> getFinalizedHeight(BigInteger height) {
+        BigInteger knownFinalizedHeight = finalizedHeight.get();
+        if (height.compareTo(knownFinalizedHeight) <= 0) {
+            return Observable.just(knownFinalizedHeight);
+        }
+        // If the chain height can't be loaded, the value is still returned and cached as mutable.
+        return cache.get(CHAIN_HEIGHT_KEY, mutableTimeToLive, chainHeightLoader).map(
+            chainHeight -> finalizedHeight
+                .accumulateAndGet(chainHeight.subtract(maxRollbackBlocks), BigInteger::max))
+            .onErrorReturnItem(knownFinalizedHeight);
+    }
+
+    private Duration getTimeToLive(BigInteger height, BigInteger finalized) {
+        return height.compareTo(finalized) <= 0 ? null : mutableTimeToLive;
+    }
+}
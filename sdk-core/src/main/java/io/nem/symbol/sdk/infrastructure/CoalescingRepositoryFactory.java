@@ -0,0 +1,222 @@
+/*
+ * Copyright 2020 NEM
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.nem.symbol.sdk.infrastructure;
+
+import io.nem.symbol.sdk.api.AccountRepository;
+import io.nem.symbol.sdk.api.BlockRepository;
+import io.nem.symbol.sdk.api.ChainRepository;
+import io.nem.symbol.sdk.api.JsonSerialization;
+import io.nem.symbol.sdk.api.Listener;
+import io.nem.symbol.sdk.api.MetadataRepository;
+import io.nem.symbol.sdk.api.MosaicRepository;
+import io.nem.symbol.sdk.api.MultisigRepository;
+import io.nem.symbol.sdk.api.NamespaceRepository;
+import io.nem.symbol.sdk.api.NetworkRepository;
+import io.nem.symbol.sdk.api.NodeRepository;
+import io.nem.symbol.sdk.api.ReceiptRepository;
+import io.nem.symbol.sdk.api.RepositoryFactory;
+import io.nem.symbol.sdk.api.RestrictionAccountRepository;
+import io.nem.symbol.sdk.api.RestrictionMosaicRepository;
+import io.nem.symbol.sdk.api.TransactionRepository;
+import io.nem.symbol.sdk.model.mosaic.NetworkCurrency;
+import io.nem.symbol.sdk.model.network.NetworkType;
+import io.reactivex.Observable;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import org.apache.commons.lang3.Validate;
+
+/**
+ * {@link RepositoryFactory} that wraps another factory so concurrent identical requests share one
+ * call to the server.
+ *
+ * Every repository method returning an {@link Observable} is coalesced by a {@link
+ * RequestCoalescer} shared by all the repositories of this factory. Two requests are identical
+ * when they call the same method with equal arguments. Arguments without equals, like {@link
+ * io.nem.symbol.sdk.api.QueryParams}, make every request different. It works with any factory,
+ * like the OkHttp and Vertx ones, and it can be combined with a {@link
+ * CachingRepositoryFactory}.
+ */
+public class CoalescingRepositoryFactory implements RepositoryFactory {
+
+    private final RepositoryFactory delegate;
+
+    private final RequestCoalescer coalescer;
+
+    /**
+     * @param delegate the factory creating the repositories that connect to the server.
+     */
+    public CoalescingRepositoryFactory(RepositoryFactory delegate) {
+        this(delegate, new RequestCoalescer());
+    }
+
+    /**
+     * @param delegate the factory creating the repositories that connect to the server.
+     * @param coalescer the coalescer shared by the repositories.
+     */
+    public CoalescingRepositoryFactory(RepositoryFactory delegate, RequestCoalescer coalescer) {
+        Validate.notNull(delegate, "Delegate must not be null");
+        Validate.notNull(coalescer, "Coalescer must not be null");
+        this.delegate = delegate;
+        this.coalescer = coalescer;
+    }
+
+    /**
+     * @return the coalescer shared by the repositories.
+     */
+    public RequestCoalescer getCoalescer() {
+        return coalescer;
+    }
+
+    /**
+     * It creates a proxy of the repository interface that coalesces the observable methods.
+     */
+    @SuppressWarnings("unchecked")
+    private <T> T coalescing(Class<T> repositoryInterface, T repository) {
+        return repositoryInterface.cast(Proxy.newProxyInstance(
+            repositoryInterface.getClassLoader(), new Class<?>[]{repositoryInterface},
+            (proxy, method, args) -> {
+                if (!Observable.class.equals(method.getReturnType())) {
+                    return invoke(repository, method, args);
+                }
+                List<Object> key = new ArrayList<>();
+                key.add(method);
+                if (args != null) {
+                    key.addAll(Arrays.asList(args));
+                }
+                return coalescer.coalesce(key, () -> (Observable<Object>) invoke(repository,
+                    method, args));
+            }));
+    }
+
+    private static Object invoke(Object repository, Method method, Object[] args) {
+        try {
+            return method.invoke(repository, args);
+        } catch (InvocationTargetException e) {
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+            throw new IllegalStateException(e.getCause().getMessage(), e.getCause());
+        } catch (IllegalAccessException e) {
+            throw new IllegalStateException(e.getMessage(), e);
+        }
+    }
+
+    @Override
+    public AccountRepository createAccountRepository() {
+        return coalescing(AccountRepository.class, delegate.createAccountRepository());
+    }
+
+    @Override
+    public MultisigRepository createMultisigRepository() {
+        return coalescing(MultisigRepository.class, delegate.createMultisigRepository());
+    }
+
+    @Override
+    public BlockRepository createBlockRepository() {
+        return coalescing(BlockRepository.class, delegate.createBlockRepository());
+    }
+
+    @Override
+    public ReceiptRepository createReceiptRepository() {
+        return coalescing(ReceiptRepository.class, delegate.createReceiptRepository());
+    }
+
+    @Override
+    public ChainRepository createChainRepository() {
+        return coalescing(ChainRepository.class, delegate.createChainRepository());
+    }
+
+    @Override
+    public MosaicRepository createMosaicRepository() {
+        return coalescing(MosaicRepository.class, delegate.createMosaicRepository());
+    }
+
+    @Override
+    public NamespaceRepository createNamespaceRepository() {
+        return coalescing(NamespaceRepository.class, delegate.createNamespaceRepository());
+    }
+
+    @Override
+    public NetworkRepository createNetworkRepository() {
+        return coalescing(NetworkRepository.class, delegate.createNetworkRepository());
+    }
+
+    @Override
+    public NodeRepository createNodeRepository() {
+        return coalescing(NodeRepository.class, delegate.createNodeRepository());
+    }
+
+    @Override
+    public TransactionRepository createTransactionRepository() {
+        return coalescing(TransactionRepository.class, delegate.createTransactionRepository());
+    }
+
+    @Override
+    public MetadataRepository createMetadataRepository() {
+        return coalescing(MetadataRepository.class, delegate.createMetadataRepository());
+    }
+
+    @Override
+    public RestrictionAccountRepository createRestrictionAccountRepository() {
+        return coalescing(RestrictionAccountRepository.class,
+            delegate.createRestrictionAccountRepository());
+    }
+
+    @Override
+    public RestrictionMosaicRepository createRestrictionMosaicRepository() {
+        return coalescing(RestrictionMosaicRepository.class,
+            delegate.createRestrictionMosaicRepository());
+    }
+
+    @Override
+    public Listener createListener() {
+        return delegate.createListener();
+    }
+
+    @Override
+    public JsonSerialization createJsonSerialization() {
+        return delegate.createJsonSerialization();
+    }
+
+    @Override
+    public Observable<NetworkType> getNetworkType() {
+        return delegate.getNetworkType();
+    }
+
+    @Override
+    public Observable<String> getGenerationHash() {
+        return delegate.getGenerationHash();
+    }
+
+    @Override
+    public Observable<NetworkCurrency> getNetworkCurrency() {
+        return delegate.getNetworkCurrency();
+    }
+
+    @Override
+    public Observable<NetworkCurrency> getHarvestCurrency() {
+        return delegate.getHarvestCurrency();
+    }
+
+    @Override
+    public void close() {
+        delegate.close();
+    }
+}
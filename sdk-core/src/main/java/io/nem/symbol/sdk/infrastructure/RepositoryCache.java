@@ -0,0 +1,238 @@
+/*
+ * Copyright 2020 NEM
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.nem.symbol.sdk.infrastructure;
+
+import io.reactivex.Observable;
+import java.time.Duration;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.LongSupplier;
+import java.util.function.Supplier;
+import java.util.function.ToLongFunction;
+import org.apache.commons.lang3.Validate;
+
+/**
+ * Bounded, thread safe, least recently used cache of the objects returned by the repositories.
+ *
+ * Each entry has a weight, usually its approximate size in bytes. The least recently used entries
+ * are evicted when the total weight goes over the maximum weight. Entries can have a time to live,
+ * expired entries are removed when they are accessed.
+ */
+public class RepositoryCache {
+
+    private final long maxWeight;
+
+    private final ToLongFunction<Object> weigher;
+
+    private final LongSupplier currentTimeMillis;
+
+    private final Map<Object, Entry> entries = new LinkedHashMap<>(16, 0.75f, true);
+
+    private long weight;
+
+    private long hitCount;
+
+    private long missCount;
+
+    private long evictionCount;
+
+    /**
+     * Constructor.
+     *
+     * @param maxWeight the maximum total weight of the cached entries.
+     * @param weigher the function that calculates the weight of a cached value.
+     */
+    public RepositoryCache(long maxWeight, ToLongFunction<Object> weigher) {
+        this(maxWeight, weigher, System::currentTimeMillis);
+    }
+
+    RepositoryCache(long maxWeight, ToLongFunction<Object> weigher,
+        LongSupplier currentTimeMillis) {
+        Validate.isTrue(maxWeight > 0, "Max weight must be greater than 0");
+        Validate.notNull(weigher, "Weigher must not be null");
+        Validate.notNull(currentTimeMillis, "CurrentTimeMillis must not be null");
+        this.maxWeight = maxWeight;
+        this.weigher = weigher;
+        this.currentTimeMillis = currentTimeMillis;
+    }
+
+    /**
+     * It returns an observable that emits the cached value or, if the value is not cached, the
+     * value returned by the loader. Loaded values are cached, errors are not.
+     *
+     * @param key the key of the value.
+     * @param timeToLive the time to live of the loaded value, null if it never expires.
+     * @param loader the supplier of the observable loading the value.
+     * @param <T> the type of the value.
+     * @return the observable of the value.
+     */
+    public <T> Observable<T> get(Object key, Duration timeToLive,
+        Supplier<Observable<T>> loader) {
+        return Observable.defer(() -> {
+            Optional<T> value = getIfPresent(key);
+            if (value.isPresent()) {
+                return Observable.just(value.get());
+            }
+            return loader.get().doOnNext(v -> put(key, v, timeToLive));
+        });
+    }
+
+    /**
+     * It returns the cached value of the key, registering the hit or the miss.
+     *
+     * @param key the key of the value.
+     * @param <T> the type of the value.
+     * @return the cached value if present and not expired.
+     */
+    @SuppressWarnings("unchecked")
+    public <T> Optional<T> getIfPresent(Object key) {
+        Validate.notNull(key, "Key must not be null");
+        synchronized (entries) {
+            Entry entry = entries.get(key);
+            if (entry != null && entry.isExpired(currentTimeMillis.getAsLong())) {
+                remove(key);
+                entry = null;
+            }
+            if (entry == null) {
+                missCount++;
+                return Optional.empty();
+            }
+            hitCount++;
+            return Optional.of((T) entry.value);
+        }
+    }
+
+    /**
+     * It caches a value. Values heavier than the maximum weight are not cached.
+     *
+     * @param key the key of the value.
+     * @param value the value.
+     * @param timeToLive the time to live of the value, null if it never expires.
+     */
+    public void put(Object key, Object value, Duration timeToLive) {
+        Validate.notNull(key, "Key must not be null");
+        Validate.notNull(value, "Value must not be null");
+        long entryWeight = weigher.applyAsLong(value);
+        Validate.isTrue(entryWeight >= 0, "Weight must not be negative");
+        synchronized (entries) {
+            remove(key);
+            if (entryWeight > maxWeight) {
+                return;
+            }
+            long expiresAt = timeToLive == null ? Long.MAX_VALUE
+                : currentTimeMillis.getAsLong() + timeToLive.toMillis();
+            entries.put(key, new Entry(value, entryWeight, expiresAt));
+            weight += entryWeight;
+            Iterator<Entry> iterator = entries.values().iterator();
+            while (weight > maxWeight && iterator.hasNext()) {
+                weight -= iterator.next().weight;
+                iterator.remove();
+                evictionCount++;
+            }
+        }
+    }
+
+    /**
+     * It removes all the cached values. The statistics are kept.
+     */
+    public void clear() {
+        synchronized (entries) {
+            entries.clear();
+            weight = 0;
+        }
+    }
+
+    /**
+     * @return the number of cached values.
+     */
+    public int size() {
+        synchronized (entries) {
+            return entries.size();
+        }
+    }
+
+    /**
+     * @return the total weight of the cached values.
+     */
+    public long getWeight() {
+        synchronized (entries) {
+            return weight;
+        }
+    }
+
+    /**
+     * @return the maximum total weight of the cached values.
+     */
+    public long getMaxWeight() {
+        return maxWeight;
+    }
+
+    /**
+     * @return the number of lookups that returned a cached value.
+     */
+    public long getHitCount() {
+        synchronized (entries) {
+            return hitCount;
+        }
+    }
+
+    /**
+     * @return the number of lookups that didn't find a cached value.
+     */
+    public long getMissCount() {
+        synchronized (entries) {
+            return missCount;
+        }
+    }
+
+    /**
+     * @return the number of values removed to keep the total weight under the maximum weight.
+     */
+    public long getEvictionCount() {
+        synchronized (entries) {
+            return evictionCount;
+        }
+    }
+
+    private void remove(Object key) {
+        Entry removed = entries.remove(key);
+        if (removed != null) {
+            weight -= removed.weight;
+        }
+    }
+
+    private static class Entry {
+
+        private final Object value;
+
+        private final long weight;
+
+        private final long expiresAt;
+
+        private Entry(Object value, long weight, long expiresAt) {
+            this.value = value;
+            this.weight = weight;
+            this.expiresAt = expiresAt;
+        }
+
+        private boolean isExpired(long now) {
+            return now >= expiresAt;
+        }
+    }
+}
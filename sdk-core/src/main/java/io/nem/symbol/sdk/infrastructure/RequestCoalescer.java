@@ -0,0 +1,72 @@
+/*
+ * Copyright 2020 NEM
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.nem.symbol.sdk.infrastructure;
+
+import io.reactivex.Observable;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Supplier;
+import org.apache.commons.lang3.Validate;
+
+/**
+ * It shares one in flight request between all the concurrent subscribers of the same key.
+ *
+ * The first subscriber of a key subscribes to the request, the subscribers arriving while the
+ * request is in flight receive the same result. The request is forgotten once it completes or
+ * fails, or once all its subscribers are disposed, which also cancels it. The next subscriber of
+ * the key starts a new request.
+ */
+public class RequestCoalescer {
+
+    private final Map<Object, Observable<?>> inFlightRequests = new ConcurrentHashMap<>();
+
+    /**
+     * It returns a lazy observable that shares the in flight request of the key or, if there is
+     * none, subscribes to a new request.
+     *
+     * @param key the key identifying the request, usually the method and its arguments.
+     * @param request the supplier of the request observable.
+     * @param <T> the type of the result.
+     * @return the observable of the shared result.
+     */
+    @SuppressWarnings("unchecked")
+    public <T> Observable<T> coalesce(Object key, Supplier<Observable<T>> request) {
+        Validate.notNull(key, "Key must not be null");
+        Validate.notNull(request, "Request must not be null");
+        return Observable.defer(() -> (Observable<T>) inFlightRequests
+            .computeIfAbsent(key, k -> createInFlightRequest(k, request)));
+    }
+
+    /**
+     * @return the number of requests in flight.
+     */
+    public int size() {
+        return inFlightRequests.size();
+    }
+
+    private <T> Observable<T> createInFlightRequest(Object key,
+        Supplier<Observable<T>> request) {
+        AtomicReference<Observable<T>> inFlightRequest = new AtomicReference<>();
+        // replay(1) so subscribers joining after the result is emitted, but before the request
+        // completes, still receive it. refCount disposes the request when the last subscriber is
+        // disposed, then doFinally forgets it.
+        inFlightRequest.set(Observable.defer(request::get)
+            .doFinally(() -> inFlightRequests.remove(key, inFlightRequest.get())).replay(1)
+            .refCount());
+        return inFlightRequest.get();
+    }
+}
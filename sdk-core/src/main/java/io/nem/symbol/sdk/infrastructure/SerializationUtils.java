@@ -42,6 +42,7 @@ import io.nem.symbol.sdk.model.namespace.NamespaceId;
 import io.nem.symbol.sdk.model.network.NetworkType;
 import java.io.ByteArrayInputStream;
 import java.io.DataInputStream;
+import java.io.InputStream;
 import java.math.BigInteger;
 import java.nio.ByteBuffer;
 import java.nio.ByteOrder;
@@ -208,6 +209,17 @@ public class SerializationUtils {
         return new DataInputStream(new ByteArrayInputStream(payload));
     }
 
+    /**
+     * It creates a {@link DataInputStream} that reads the buffer from its current position without
+     * copying its content. The buffer's position is advanced as the stream is consumed.
+     *
+     * @param payload the payload, it can be a heap, direct or memory mapped buffer.
+     * @return the {@link DataInputStream} catbuffer uses.
+     */
+    public static DataInputStream toDataInput(ByteBuffer payload) {
+        return new DataInputStream(new ByteBufferInputStream(payload));
+    }
+
     /**
      * It converts an AmountDto into a positive {@link BigInteger}.
      *
@@ -316,4 +328,46 @@ public class SerializationUtils {
         return new Hash256Dto(ByteBuffer.wrap(ConvertUtils.fromHexToBytes(hash)));
     }
 
+    /**
+     * {@link InputStream} that reads from a {@link ByteBuffer}.
+     */
+    private static class ByteBufferInputStream extends InputStream {
+
+        private final ByteBuffer buffer;
+
+        ByteBufferInputStream(ByteBuffer buffer) {
+            this.buffer = buffer;
+        }
+
+        @Override
+        public int read() {
+            return buffer.hasRemaining() ? buffer.get() & 0xFF : -1;
+        }
+
+        @Override
+        public int read(byte[] bytes, int offset, int length) {
+            if (length == 0) {
+                return 0;
+            }
+            if (!buffer.hasRemaining()) {
+                return -1;
+            }
+            int read = Math.min(length, buffer.remaining());
+            buffer.get(bytes, offset, read);
+            return read;
+        }
+
+        @Override
+        public long skip(long n) {
+            int skipped = (int) Math.max(0, Math.min(n, buffer.remaining()));
+            buffer.position(buffer.position() + skipped);
+            return skipped;
+        }
+
+        @Override
+        public int available() {
+            return buffer.remaining();
+        }
+    }
+
 }
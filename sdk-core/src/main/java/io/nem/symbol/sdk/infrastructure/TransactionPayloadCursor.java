@@ -0,0 +1,196 @@
+/*
+ * Copyright 2020 NEM
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.nem.symbol.sdk.infrastructure;
+
+import io.nem.symbol.core.utils.ExceptionUtils;
+import io.nem.symbol.sdk.model.transaction.Transaction;
+import io.nem.symbol.sdk.model.transaction.TransactionHeaderView;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileChannel.MapMode;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+import org.apache.commons.lang3.Validate;
+
+/**
+ * Cursor that iterates over concatenated, size prefixed, top level transaction payloads (the
+ * catapult binary layout) stored in a {@link ByteBuffer} or a {@link FileChannel}.
+ *
+ * Each payload is returned as a {@link TransactionHeaderView} backed by a slice of the buffer, the
+ * payloads are not copied into their own arrays. Files are memory mapped in windows so archives
+ * larger than the maximum {@link ByteBuffer} size can be replayed without loading them into the
+ * heap.
+ */
+public class TransactionPayloadCursor implements Iterator<TransactionHeaderView> {
+
+    /**
+     * The default size of the mapped windows when reading from a {@link FileChannel}.
+     */
+    public static final int DEFAULT_WINDOW_SIZE = 64 * 1024 * 1024;
+
+    private static final int SIZE_PREFIX_SIZE = 4;
+
+    /**
+     * The channel when reading from a file, null when reading from a buffer.
+     */
+    private final FileChannel channel;
+
+    private final int windowSize;
+
+    private final long end;
+
+    private ByteBuffer window;
+
+    private long windowOffset;
+
+    private long position;
+
+    /**
+     * Private constructor, use the static constructors.
+     */
+    private TransactionPayloadCursor(FileChannel channel, ByteBuffer window, long position,
+        long end, int windowSize) {
+        this.channel = channel;
+        this.window = window;
+        this.windowOffset = position;
+        this.position = position;
+        this.end = end;
+        this.windowSize = windowSize;
+    }
+
+    /**
+     * It creates a cursor over the payloads stored from the buffer's current position to its
+     * limit. The buffer's position is not modified.
+     *
+     * @param buffer the buffer, it can be a heap, direct or memory mapped buffer.
+     * @return the {@link TransactionPayloadCursor}.
+     */
+    public static TransactionPayloadCursor of(ByteBuffer buffer) {
+        Validate.notNull(buffer, "Buffer must not be null");
+        ByteBuffer window = buffer.slice();
+        return new TransactionPayloadCursor(null, window, 0, window.remaining(),
+            window.remaining());
+    }
+
+    /**
+     * It creates a cursor over the payloads stored in the whole file using the default window
+     * size. The channel is not closed by the cursor.
+     *
+     * @param channel the file channel.
+     * @return the {@link TransactionPayloadCursor}.
+     */
+    public static TransactionPayloadCursor of(FileChannel channel) {
+        return of(channel, DEFAULT_WINDOW_SIZE);
+    }
+
+    /**
+     * It creates a cursor over the payloads stored in the whole file. The file is memory mapped in
+     * windows of the given size, a window is remapped when a payload does not fit in the current
+     * one. The channel is not closed by the cursor.
+     *
+     * @param channel the file channel.
+     * @param windowSize the size of the memory mapped windows.
+     * @return the {@link TransactionPayloadCursor}.
+     */
+    public static TransactionPayloadCursor of(FileChannel channel, int windowSize) {
+        Validate.notNull(channel, "Channel must not be null");
+        Validate.isTrue(windowSize >= TransactionHeaderView.HEADER_SIZE,
+            "Window size must be at least %s", TransactionHeaderView.HEADER_SIZE);
+        long size = ExceptionUtils.propagate(channel::size);
+        return new TransactionPayloadCursor(channel, null, 0, size, windowSize);
+    }
+
+    /**
+     * @return if there are more payloads to read.
+     */
+    @Override
+    public boolean hasNext() {
+        return position < end;
+    }
+
+    /**
+     * It returns the view of the next payload and moves the cursor to the following one.
+     *
+     * @return the {@link TransactionHeaderView} of the next payload.
+     */
+    @Override
+    public TransactionHeaderView next() {
+        if (!hasNext()) {
+            throw new NoSuchElementException("There are no more payloads");
+        }
+        if (end - position < SIZE_PREFIX_SIZE) {
+            throw new IllegalStateException("Truncated payload size at offset " + position);
+        }
+        int size = region(position, SIZE_PREFIX_SIZE).order(ByteOrder.LITTLE_ENDIAN).getInt(0);
+        if (size < TransactionHeaderView.HEADER_SIZE || end - position < size) {
+            throw new IllegalStateException(
+                "Invalid payload size " + size + " at offset " + position);
+        }
+        TransactionHeaderView view = TransactionHeaderView.of(region(position, size));
+        position += size;
+        return view;
+    }
+
+    /**
+     * @return the offset of the next payload from the beginning of the buffer or file.
+     */
+    public long getPosition() {
+        return position;
+    }
+
+    /**
+     * @return the remaining payloads as a sequential stream of views.
+     */
+    public Stream<TransactionHeaderView> stream() {
+        return StreamSupport.stream(Spliterators.spliteratorUnknownSize(this,
+            Spliterator.ORDERED | Spliterator.NONNULL | Spliterator.IMMUTABLE), false);
+    }
+
+    /**
+     * @return the remaining payloads decoded as a sequential stream of transactions.
+     */
+    public Stream<Transaction> transactions() {
+        return stream().map(TransactionHeaderView::getTransaction);
+    }
+
+    /**
+     * It returns a slice of the given region, remapping the file window if required.
+     *
+     * @param offset the offset of the region.
+     * @param length the length of the region.
+     * @return the slice.
+     */
+    private ByteBuffer region(long offset, int length) {
+        if (window == null || offset < windowOffset
+            || offset + length > windowOffset + window.capacity()) {
+            long mappedSize = Math.min(Math.max(windowSize, length), end - offset);
+            window = ExceptionUtils
+                .propagate(() -> channel.map(MapMode.READ_ONLY, offset, mappedSize));
+            windowOffset = offset;
+        }
+        ByteBuffer duplicate = window.duplicate();
+        int start = (int) (offset - windowOffset);
+        duplicate.limit(start + length);
+        duplicate.position(start);
+        return duplicate.slice();
+    }
+}
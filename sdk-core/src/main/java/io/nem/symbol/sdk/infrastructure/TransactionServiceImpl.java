@@ -59,7 +59,11 @@ import io.nem.symbol.sdk.model.transaction.TransferTransaction;
 import io.nem.symbol.sdk.model.transaction.TransferTransactionFactory;
 import io.reactivex.Observable;
 import io.reactivex.functions.BiFunction;
+import java.math.BigInteger;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import org.apache.commons.lang3.Validate;
 
 /**
@@ -68,6 +72,11 @@ import org.apache.commons.lang3.Validate;
  */
 public class TransactionServiceImpl implements TransactionService {
 
+    /**
+     * The maximum number of transactions resolved at the same time.
+     */
+    private static final int MAX_CONCURRENT_RESOLUTIONS = 16;
+
     /**
      * The @{@link TransactionRepository} used to query and announce the different transactions.
      */
@@ -78,14 +87,39 @@ public class TransactionServiceImpl implements TransactionService {
      */
     private final ReceiptRepository receiptRepository;
 
+    /**
+     * The least recently used statements of the resolved blocks, null if disabled.
+     */
+    private final Map<BigInteger, Observable<Statement>> statementCache;
+
     /**
      * The constructor
      *
      * @param repositoryFactory the {@link RepositoryFactory} with the catapult server connection.
      */
     public TransactionServiceImpl(RepositoryFactory repositoryFactory) {
+        this(repositoryFactory, 0);
+    }
+
+    /**
+     * The constructor
+     *
+     * @param repositoryFactory the {@link RepositoryFactory} with the catapult server connection.
+     * @param statementCacheSize the number of block statements kept between alias resolutions,
+     * 0 to request the statements on every resolution.
+     */
+    public TransactionServiceImpl(RepositoryFactory repositoryFactory, int statementCacheSize) {
+        Validate.isTrue(statementCacheSize >= 0, "statementCacheSize must not be negative");
         this.transactionRepository = repositoryFactory.createTransactionRepository();
         this.receiptRepository = repositoryFactory.createReceiptRepository();
+        this.statementCache = statementCacheSize == 0 ? null
+            : new LinkedHashMap<BigInteger, Observable<Statement>>(16, 0.75f, true) {
+                @Override
+                protected boolean removeEldestEntry(
+                    Map.Entry<BigInteger, Observable<Statement>> eldest) {
+                    return size() > statementCacheSize;
+                }
+            };
     }
 
     @Override
@@ -126,78 +160,95 @@ public class TransactionServiceImpl implements TransactionService {
             .flatMap(t -> announceAggregateBonded(listener, signedAggregateTransaction));
     }
 
+    /**
+     * It resolves the aliases of the transactions. The transactions are grouped by block height
+     * and the statement of each block is requested once, when the first alias of the block needs
+     * to be resolved, and shared by all the transactions of the block.
+     *
+     * @param transactionHashes the transaction hashes.
+     * @return the transactions with the resolved aliases.
+     */
     @Override
     public Observable<List<Transaction>> resolveAliases(List<String> transactionHashes) {
-        return transactionRepository.getTransactions(transactionHashes).flatMapIterable(a -> a)
-            .flatMap(transaction -> resolveTransaction(transaction,
-                createExpectedReceiptSource(transaction))).toList().toObservable();
+        return transactionRepository.getTransactions(transactionHashes).flatMap(transactions -> {
+            Map<BigInteger, Observable<Statement>> statements = new HashMap<>();
+            transactions.forEach(transaction -> transaction.getTransactionInfo()
+                .map(TransactionInfo::getHeight).ifPresent(
+                    height -> statements.computeIfAbsent(height, this::getBlockStatement)));
+            return Observable.fromIterable(transactions).flatMap(
+                transaction -> resolveTransaction(transaction,
+                    createExpectedReceiptSource(transaction),
+                    statements.get(getTransactionInfo(transaction).getHeight())),
+                MAX_CONCURRENT_RESOLUTIONS).toList().toObservable();
+        });
     }
 
 
     private Observable<Transaction> resolveTransaction(Transaction transaction,
-        ReceiptSource expectedSource) {
-        return basicTransactionFactory(transaction, expectedSource).map(
+        ReceiptSource expectedSource, Observable<Statement> statementObservable) {
+        return basicTransactionFactory(transaction, expectedSource, statementObservable).map(
             transactionTransactionFactory -> completeAndBuild(transactionTransactionFactory,
                 transaction));
     }
 
     private Observable<TransactionFactory<? extends Transaction>> basicTransactionFactory(
-        Transaction transaction, ReceiptSource expectedReceiptSource) {
+        Transaction transaction, ReceiptSource expectedReceiptSource,
+        Observable<Statement> statementObservable) {
 
         if (transaction.getType() == TransactionType.TRANSFER) {
             return resolveTransactionFactory((TransferTransaction) transaction,
-                expectedReceiptSource);
+                expectedReceiptSource, statementObservable);
         }
 
         if (transaction.getType() == TransactionType.HASH_LOCK) {
             return resolveTransactionFactory((HashLockTransaction) transaction,
-                expectedReceiptSource);
+                expectedReceiptSource, statementObservable);
         }
 
         if (transaction.getType() == TransactionType.SECRET_LOCK) {
             return resolveTransactionFactory((SecretLockTransaction) transaction,
-                expectedReceiptSource);
+                expectedReceiptSource, statementObservable);
         }
 
         if (transaction.getType() == TransactionType.SECRET_PROOF) {
             return resolveTransactionFactory((SecretProofTransaction) transaction,
-                expectedReceiptSource);
+                expectedReceiptSource, statementObservable);
         }
 
         if (transaction.getType() == TransactionType.MOSAIC_GLOBAL_RESTRICTION) {
             return resolveTransactionFactory((MosaicGlobalRestrictionTransaction) transaction,
-                expectedReceiptSource);
+                expectedReceiptSource, statementObservable);
         }
 
         if (transaction.getType() == TransactionType.MOSAIC_ADDRESS_RESTRICTION) {
             return resolveTransactionFactory((MosaicAddressRestrictionTransaction) transaction,
-                expectedReceiptSource);
+                expectedReceiptSource, statementObservable);
         }
 
         if (transaction.getType() == TransactionType.ACCOUNT_MOSAIC_RESTRICTION) {
             return resolveTransactionFactory((AccountMosaicRestrictionTransaction) transaction,
-                expectedReceiptSource);
+                expectedReceiptSource, statementObservable);
         }
 
         if (transaction.getType() == TransactionType.MOSAIC_METADATA) {
             return resolveTransactionFactory((MosaicMetadataTransaction) transaction,
-                expectedReceiptSource);
+                expectedReceiptSource, statementObservable);
         }
 
         if (transaction.getType() == TransactionType.ACCOUNT_ADDRESS_RESTRICTION) {
             return resolveTransactionFactory((AccountAddressRestrictionTransaction) transaction,
-                expectedReceiptSource);
+                expectedReceiptSource, statementObservable);
         }
 
         if (transaction.getType() == TransactionType.MOSAIC_SUPPLY_CHANGE) {
             return resolveTransactionFactory((MosaicSupplyChangeTransaction) transaction,
-                expectedReceiptSource);
+                expectedReceiptSource, statementObservable);
         }
 
         if (transaction.getType() == TransactionType.AGGREGATE_COMPLETE
             || transaction.getType() == TransactionType.AGGREGATE_BONDED) {
             return resolveTransactionFactory((AggregateTransaction) transaction,
-                expectedReceiptSource);
+                expectedReceiptSource, statementObservable);
         }
 
         return Observable.just(new TransactionFactory<Transaction>(transaction.getType(),
@@ -210,9 +261,8 @@ public class TransactionServiceImpl implements TransactionService {
     }
 
     private Observable<TransactionFactory<? extends Transaction>> resolveTransactionFactory(
-        HashLockTransaction transaction, ReceiptSource expectedReceiptSource) {
-        Observable<Statement> statementObservable = getStatement(transaction);
-
+        HashLockTransaction transaction, ReceiptSource expectedReceiptSource,
+        Observable<Statement> statementObservable) {
         Observable<Mosaic> resolvedMosaic = getResolvedMosaic(transaction, transaction.getMosaic(),
             statementObservable, expectedReceiptSource
         );
@@ -223,8 +273,8 @@ public class TransactionServiceImpl implements TransactionService {
     }
 
     private Observable<TransactionFactory<? extends Transaction>> resolveTransactionFactory(
-        SecretLockTransaction transaction, ReceiptSource expectedReceiptSource) {
-        Observable<Statement> statementObservable = getStatement(transaction);
+        SecretLockTransaction transaction, ReceiptSource expectedReceiptSource,
+        Observable<Statement> statementObservable) {
         Observable<Address> resolvedAddress = getResolvedAddress(transaction,
             transaction.getRecipient(), statementObservable, expectedReceiptSource);
         Observable<Mosaic> resolvedMosaic = getResolvedMosaic(transaction, transaction.getMosaic(),
@@ -241,8 +291,8 @@ public class TransactionServiceImpl implements TransactionService {
     }
 
     private Observable<TransactionFactory<? extends Transaction>> resolveTransactionFactory(
-        SecretProofTransaction transaction, ReceiptSource expectedReceiptSource) {
-        Observable<Statement> statementObservable = getStatement(transaction);
+        SecretProofTransaction transaction, ReceiptSource expectedReceiptSource,
+        Observable<Statement> statementObservable) {
         Observable<Address> resolvedAddress = getResolvedAddress(transaction,
             transaction.getRecipient(), statementObservable, expectedReceiptSource);
         return resolvedAddress.map(address -> SecretProofTransactionFactory
@@ -251,8 +301,8 @@ public class TransactionServiceImpl implements TransactionService {
     }
 
     private Observable<TransactionFactory<? extends Transaction>> resolveTransactionFactory(
-        TransferTransaction transaction, ReceiptSource expectedReceiptSource) {
-        Observable<Statement> statementObservable = getStatement(transaction);
+        TransferTransaction transaction, ReceiptSource expectedReceiptSource,
+        Observable<Statement> statementObservable) {
         Observable<List<Mosaic>> resolvedMosaics = Observable
             .fromIterable(transaction.getMosaics()).flatMap(
                 m -> getResolvedMosaic(transaction, m, statementObservable, expectedReceiptSource))
@@ -269,8 +319,8 @@ public class TransactionServiceImpl implements TransactionService {
     }
 
     private Observable<TransactionFactory<? extends Transaction>> resolveTransactionFactory(
-        MosaicGlobalRestrictionTransaction transaction, ReceiptSource expectedReceiptSource) {
-        Observable<Statement> statementObservable = getStatement(transaction);
+        MosaicGlobalRestrictionTransaction transaction, ReceiptSource expectedReceiptSource,
+        Observable<Statement> statementObservable) {
         Observable<MosaicId> resolvedMosaicId = getResolvedMosaicId(transaction,
             transaction.getMosaicId(),
             statementObservable, expectedReceiptSource);
@@ -296,8 +346,8 @@ public class TransactionServiceImpl implements TransactionService {
 
     private Observable<TransactionFactory<? extends Transaction>> resolveTransactionFactory(
         MosaicAddressRestrictionTransaction transaction,
-        ReceiptSource expectedReceiptSource) {
-        Observable<Statement> statementObservable = getStatement(transaction);
+        ReceiptSource expectedReceiptSource,
+        Observable<Statement> statementObservable) {
         Observable<MosaicId> resolvedMosaicId = getResolvedMosaicId(transaction,
             transaction.getMosaicId(),
             statementObservable, expectedReceiptSource);
@@ -318,8 +368,8 @@ public class TransactionServiceImpl implements TransactionService {
 
     private Observable<TransactionFactory<? extends Transaction>> resolveTransactionFactory(
         AccountMosaicRestrictionTransaction transaction,
-        ReceiptSource expectedReceiptSource) {
-        Observable<Statement> statementObservable = getStatement(transaction);
+        ReceiptSource expectedReceiptSource,
+        Observable<Statement> statementObservable) {
         Observable<List<UnresolvedMosaicId>> unresolvedAdditions = getResolvedMosaicIds(transaction,
             transaction.getRestrictionAdditions(), statementObservable, expectedReceiptSource);
 
@@ -335,8 +385,8 @@ public class TransactionServiceImpl implements TransactionService {
 
     private Observable<TransactionFactory<? extends Transaction>> resolveTransactionFactory(
         AccountAddressRestrictionTransaction transaction,
-        ReceiptSource expectedReceiptSource) {
-        Observable<Statement> statementObservable = getStatement(transaction);
+        ReceiptSource expectedReceiptSource,
+        Observable<Statement> statementObservable) {
         Observable<List<UnresolvedAddress>> unresolvedAdditions = getResolvedAddresses(transaction,
             transaction.getRestrictionAdditions(), statementObservable, expectedReceiptSource);
 
@@ -352,9 +402,8 @@ public class TransactionServiceImpl implements TransactionService {
 
 
     private Observable<TransactionFactory<? extends Transaction>> resolveTransactionFactory(
-        MosaicMetadataTransaction transaction, ReceiptSource expectedReceiptSource) {
-        Observable<Statement> statementObservable = getStatement(transaction);
-
+        MosaicMetadataTransaction transaction, ReceiptSource expectedReceiptSource,
+        Observable<Statement> statementObservable) {
         Observable<MosaicId> resolvedMosaicId = getResolvedMosaicId(transaction,
             transaction.getTargetMosaicId(), statementObservable, expectedReceiptSource);
 
@@ -365,9 +414,8 @@ public class TransactionServiceImpl implements TransactionService {
     }
 
     private Observable<TransactionFactory<? extends Transaction>> resolveTransactionFactory(
-        MosaicSupplyChangeTransaction transaction, ReceiptSource expectedReceiptSource) {
-        Observable<Statement> statementObservable = getStatement(transaction);
-
+        MosaicSupplyChangeTransaction transaction, ReceiptSource expectedReceiptSource,
+        Observable<Statement> statementObservable) {
         Observable<MosaicId> resolvedMosaicId = getResolvedMosaicId(transaction,
             transaction.getMosaicId(), statementObservable, expectedReceiptSource);
 
@@ -378,11 +426,13 @@ public class TransactionServiceImpl implements TransactionService {
 
 
     private Observable<TransactionFactory<? extends Transaction>> resolveTransactionFactory(
-        AggregateTransaction transaction, ReceiptSource aggregateTransactionReceiptSource) {
+        AggregateTransaction transaction, ReceiptSource aggregateTransactionReceiptSource,
+        Observable<Statement> statementObservable) {
         Observable<List<Transaction>> innerTransactions = Observable
             .just(transaction.getInnerTransactions()).flatMapIterable(m -> m)
             .flatMap(innerTransaction -> resolveTransaction(innerTransaction,
-                createExpectedReceiptSource(aggregateTransactionReceiptSource, innerTransaction)))
+                createExpectedReceiptSource(aggregateTransactionReceiptSource, innerTransaction),
+                statementObservable))
             .toList().toObservable();
 
         return innerTransactions.map(txs -> AggregateTransactionFactory
@@ -401,9 +451,29 @@ public class TransactionServiceImpl implements TransactionService {
         return transactionFactory.build();
     }
 
-    private Observable<Statement> getStatement(Transaction transaction) {
-        return receiptRepository.getBlockReceipts(getTransactionInfo(transaction)
-            .getHeight()).cache();
+    /**
+     * It returns the lazy and cached statement of a block. If the statement cache is enabled,
+     * the statements of the most recent blocks are shared between calls. Failed requests are
+     * removed from the cache.
+     *
+     * @param height the block height.
+     * @return the {@link Statement} of the block.
+     */
+    private Observable<Statement> getBlockStatement(BigInteger height) {
+        if (statementCache == null) {
+            return Observable.defer(() -> receiptRepository.getBlockReceipts(height)).cache();
+        }
+        synchronized (statementCache) {
+            return statementCache.computeIfAbsent(height,
+                h -> Observable.defer(() -> receiptRepository.getBlockReceipts(h))
+                    .doOnError(e -> removeBlockStatement(h)).cache());
+        }
+    }
+
+    private void removeBlockStatement(BigInteger height) {
+        synchronized (statementCache) {
+            statementCache.remove(height);
+        }
     }
 
 
@@ -0,0 +1,138 @@
+/*
+ * Copyright 2020 NEM
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.nem.symbol.sdk.infrastructure;
+
+import io.nem.symbol.core.utils.ConvertUtils;
+import io.nem.symbol.sdk.api.TransactionSigner;
+import io.nem.symbol.sdk.model.account.Account;
+import io.nem.symbol.sdk.model.transaction.SignedTransaction;
+import io.nem.symbol.sdk.model.transaction.Transaction;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.Stream;
+import org.apache.commons.lang3.Validate;
+
+/**
+ * Implementation of {@link TransactionSigner}. The generation hash is decoded once and the
+ * account's signer is shared by all the workers.
+ */
+public class TransactionSignerImpl implements TransactionSigner {
+
+    /**
+     * Number of transactions signed by each task submitted to the executor.
+     */
+    private static final int SIGN_ALL_CHUNK_SIZE = 64;
+
+    private final Account account;
+
+    private final byte[] generationHashBytes;
+
+    private final Executor executor;
+
+    /**
+     * Creates a signer that runs in the {@link ForkJoinPool#commonPool()}.
+     *
+     * @param account the account signing the transactions.
+     * @param generationHash the generation hash of the network.
+     */
+    public TransactionSignerImpl(Account account, String generationHash) {
+        this(account, generationHash, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * Creates a signer that runs in the given executor.
+     *
+     * @param account the account signing the transactions.
+     * @param generationHash the generation hash of the network.
+     * @param executor the executor running the signing tasks.
+     */
+    public TransactionSignerImpl(Account account, String generationHash, Executor executor) {
+        Validate.notNull(account, "Account must not be null");
+        Validate.notNull(generationHash, "GenerationHash must not be null");
+        Validate.notNull(executor, "Executor must not be null");
+        this.account = account;
+        this.generationHashBytes = ConvertUtils.getBytes(generationHash);
+        this.executor = executor;
+    }
+
+    @Override
+    public SignedTransaction sign(Transaction transaction) {
+        Validate.notNull(transaction, "Transaction must not be null");
+        return transaction.signWith(account, generationHashBytes);
+    }
+
+    /**
+     * It signs many transactions in parallel. The list is split in chunks submitted to the
+     * executor, each signed transaction is stored at its transaction's index so the order is
+     * preserved. Small lists are signed in the caller thread.
+     *
+     * @param transactions the transactions to sign.
+     * @return the signed transactions in the same order as the transactions.
+     */
+    @Override
+    public List<SignedTransaction> signAll(List<? extends Transaction> transactions) {
+        Validate.notNull(transactions, "Transactions must not be null");
+        int size = transactions.size();
+        SignedTransaction[] signedTransactions = new SignedTransaction[size];
+        if (size <= SIGN_ALL_CHUNK_SIZE) {
+            signRange(transactions, signedTransactions, 0, size);
+            return Arrays.asList(signedTransactions);
+        }
+        List<CompletableFuture<Void>> futures = new ArrayList<>();
+        for (int from = 0; from < size; from += SIGN_ALL_CHUNK_SIZE) {
+            int start = from;
+            int end = Math.min(size, from + SIGN_ALL_CHUNK_SIZE);
+            futures.add(CompletableFuture
+                .runAsync(() -> signRange(transactions, signedTransactions, start, end),
+                    executor));
+        }
+        try {
+            CompletableFuture.allOf(futures.toArray(new CompletableFuture[0])).join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+            throw e;
+        }
+        return Arrays.asList(signedTransactions);
+    }
+
+    /**
+     * It signs a stream of transactions in parallel keeping the encounter order. The stream runs
+     * in the common fork join pool, not in the configured executor.
+     *
+     * @param transactions the transactions to sign.
+     * @return the parallel stream of signed transactions.
+     */
+    @Override
+    public Stream<SignedTransaction> signAll(Stream<? extends Transaction> transactions) {
+        Validate.notNull(transactions, "Transactions must not be null");
+        return transactions.parallel().map(this::sign);
+    }
+
+    private void signRange(List<? extends Transaction> transactions,
+        SignedTransaction[] signedTransactions, int from, int to) {
+        for (int i = from; i < to; i++) {
+            signedTransactions[i] = sign(transactions.get(i));
+        }
+    }
+}
@@ -16,8 +16,11 @@
 
 package io.nem.symbol.sdk.model.account;
 
+import io.nem.symbol.core.crypto.CryptoEngines;
+import io.nem.symbol.core.crypto.DsaSigner;
 import io.nem.symbol.core.crypto.KeyPair;
 import io.nem.symbol.core.crypto.PrivateKey;
+import io.nem.symbol.core.utils.Suppliers;
 import io.nem.symbol.sdk.model.network.NetworkType;
 import io.nem.symbol.sdk.model.transaction.AggregateTransaction;
 import io.nem.symbol.sdk.model.transaction.CosignatureSignedTransaction;
@@ -25,6 +28,7 @@ import io.nem.symbol.sdk.model.transaction.CosignatureTransaction;
 import io.nem.symbol.sdk.model.transaction.SignedTransaction;
 import io.nem.symbol.sdk.model.transaction.Transaction;
 import java.util.List;
+import java.util.function.Supplier;
 
 /**
  * The account structure describes an account private key, public key, address and allows signing
@@ -40,6 +44,12 @@ public class Account {
 
     private final NetworkType networkType;
 
+    /**
+     * The signer, created once and reused by all the transactions this account signs.
+     */
+    private final Supplier<DsaSigner> signer = Suppliers
+        .memoize(() -> CryptoEngines.defaultEngine().createDsaSigner(getKeyPair()));
+
     /**
      * Constructor
      *
@@ -107,6 +117,16 @@ public class Account {
         return keyPair;
     }
 
+    /**
+     * The account's signer using the default crypto engine. The same signer is returned on every
+     * call so the prepared private key is reused when signing many transactions.
+     *
+     * @return {@link DsaSigner}
+     */
+    public DsaSigner getSigner() {
+        return signer.get();
+    }
+
     /**
      * Account address.
      *
@@ -17,7 +17,6 @@
 package io.nem.symbol.sdk.model.receipt;
 
 import io.nem.symbol.core.crypto.Hashes;
-import io.nem.symbol.core.utils.ArrayUtils;
 import io.nem.symbol.core.utils.ByteUtils;
 import io.nem.symbol.core.utils.ConvertUtils;
 import io.nem.symbol.sdk.infrastructure.SerializationUtils;
@@ -27,6 +26,8 @@ import io.nem.symbol.sdk.model.mosaic.MosaicId;
 import io.nem.symbol.sdk.model.mosaic.UnresolvedMosaicId;
 import io.nem.symbol.sdk.model.network.NetworkType;
 import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.Comparator;
 import java.util.List;
 import java.util.Optional;
 
@@ -42,6 +43,12 @@ public abstract class ResolutionStatement<U, R> {
     private final U unresolved;
     private final List<ResolutionEntry<R>> resolutionEntries;
 
+    /**
+     * The resolution entries sorted by receipt source. Entries with the same source keep their
+     * order.
+     */
+    private final List<ResolutionEntry<R>> sortedResolutionEntries;
+
     /**
      * Constructor
      *
@@ -60,6 +67,10 @@ public abstract class ResolutionStatement<U, R> {
         this.resolutionEntries = resolutionEntries;
         this.resolutionType = resolutionType;
         this.validateType();
+        this.sortedResolutionEntries = new ArrayList<>(resolutionEntries);
+        this.sortedResolutionEntries.sort(Comparator
+            .comparingInt((ResolutionEntry<R> entry) -> entry.getReceiptSource().getPrimaryId())
+            .thenComparingInt(entry -> entry.getReceiptSource().getSecondaryId()));
     }
 
     /**
@@ -161,6 +172,10 @@ public abstract class ResolutionStatement<U, R> {
         Based on above example, 2 transactions (index 0 & 1) are created on the same block, however, only 1
         resolution entry get generated for both.
         */
+        if (sortedResolutionEntries.isEmpty()) {
+            throw new IllegalArgumentException(
+                "resolutionEntries is empty when calculating getMaxAvailablePrimaryId");
+        }
         int resolvedPrimaryId = getMaxAvailablePrimaryId(primaryId);
 
         /*
@@ -188,10 +203,7 @@ public abstract class ResolutionStatement<U, R> {
             Transaction: [Inx:3(2+1), AggInx:0]
             It should return Entry: {P:2, S:0}
             */
-            return this.resolutionEntries.stream()
-                .filter(entry -> entry.getReceiptSource().getPrimaryId() == resolvedPrimaryId &&
-                    entry.getReceiptSource().getSecondaryId() == this
-                        .getMaxSecondaryIdByPrimaryId(resolvedPrimaryId)).findFirst();
+            return getLastResolutionEntryByPrimaryId(resolvedPrimaryId);
         }
 
         // When transaction index matches a primaryId, get the most recent secondaryId (resolvedPrimaryId can only <= primaryId)
@@ -210,11 +222,7 @@ public abstract class ResolutionStatement<U, R> {
         */
         if (resolvedSecondaryId == 0 && resolvedSecondaryId != secondaryId) {
             int lastPrimaryId = this.getMaxAvailablePrimaryId(resolvedPrimaryId - 1);
-            return
-                this.resolutionEntries.stream()
-                    .filter(entry -> entry.getReceiptSource().getPrimaryId() == lastPrimaryId &&
-                        entry.getReceiptSource().getSecondaryId() == this
-                            .getMaxSecondaryIdByPrimaryId(lastPrimaryId)).findFirst();
+            return getLastResolutionEntryByPrimaryId(lastPrimaryId);
         }
 
         /*
@@ -225,26 +233,38 @@ public abstract class ResolutionStatement<U, R> {
         Transaction: [Inx:5(4+1), AggInx:6(2+1)]
         It should return Entry: {P:5, S:6}
         */
-        return this.resolutionEntries.stream()
-            .filter(entry -> entry.getReceiptSource().getPrimaryId() == resolvedPrimaryId)
-            .filter(entry -> entry.getReceiptSource().getSecondaryId() == resolvedSecondaryId)
-            .findFirst();
+        return getResolutionEntry(resolvedPrimaryId, resolvedSecondaryId);
     }
 
     /**
-     * Get max secondary id by a given primaryId
+     * Get the entry with the max secondary id of a given primaryId
      *
      * @param primaryId Primary source id
-     * @return Get max secondary id by a given primaryId
+     * @return the entry, empty if there is no entry with the primary id.
      */
-    private int getMaxSecondaryIdByPrimaryId(int primaryId) {
-        return this.resolutionEntries.stream()
-            .filter(entry -> entry.getReceiptSource().getPrimaryId() == primaryId)
-            .mapToInt(entry -> entry.getReceiptSource().getSecondaryId()).max().orElseThrow(() ->
-                new IllegalArgumentException(
-                    "resolutionEntries is empty when calculating getMaxSecondaryIdByPrimaryId"));
+    private Optional<ResolutionEntry<R>> getLastResolutionEntryByPrimaryId(int primaryId) {
+        int index = upperBound(primaryId, Integer.MAX_VALUE) - 1;
+        if (index < 0 || getReceiptSource(index).getPrimaryId() != primaryId) {
+            return Optional.empty();
+        }
+        return getResolutionEntry(primaryId, getReceiptSource(index).getSecondaryId());
     }
 
+    /**
+     * Get the first entry with the given primaryId and secondaryId
+     *
+     * @param primaryId Primary source id
+     * @param secondaryId Secondary source id
+     * @return the entry, empty if there is no entry with the primary and secondary id.
+     */
+    private Optional<ResolutionEntry<R>> getResolutionEntry(int primaryId, int secondaryId) {
+        int index = lowerBound(primaryId, secondaryId);
+        if (index < sortedResolutionEntries.size()
+            && compareReceiptSource(index, primaryId, secondaryId) == 0) {
+            return Optional.of(sortedResolutionEntries.get(index));
+        }
+        return Optional.empty();
+    }
 
     /**
      * Get most `recent` available secondary id by a given primaryId
@@ -254,13 +274,11 @@ public abstract class ResolutionStatement<U, R> {
      * @return the expected max available.
      */
     private int getMaxSecondaryIdByPrimaryIdAndSecondaryId(int primaryId, int secondaryId) {
-
-        return this.resolutionEntries.stream()
-            .filter(entry -> entry.getReceiptSource().getPrimaryId() == primaryId).mapToInt(
-                entry -> secondaryId >= entry.getReceiptSource().getSecondaryId()
-                    ? entry.getReceiptSource().getSecondaryId() : 0).max().orElseThrow(() ->
-                new IllegalArgumentException(
-                    "resolutionEntries is empty when calculating getMaxSecondaryIdByPrimaryIdAndSecondaryId"));
+        int index = upperBound(primaryId, secondaryId) - 1;
+        if (index < 0 || getReceiptSource(index).getPrimaryId() != primaryId) {
+            return 0;
+        }
+        return getReceiptSource(index).getSecondaryId();
     }
 
     /**
@@ -271,12 +289,52 @@ public abstract class ResolutionStatement<U, R> {
      * @return the expected max available.
      */
     private int getMaxAvailablePrimaryId(int primaryId) {
+        int index = upperBound(primaryId, Integer.MAX_VALUE) - 1;
+        return index < 0 ? 0 : getReceiptSource(index).getPrimaryId();
+    }
 
-        return this.resolutionEntries.stream().mapToInt(
-            entry -> primaryId >= entry.getReceiptSource().getPrimaryId()
-                ? entry.getReceiptSource().getPrimaryId() : 0).max().orElseThrow(() ->
-            new IllegalArgumentException(
-                "resolutionEntries is empty when calculating getMaxAvailablePrimaryId"));
+    /**
+     * @return the index of the first sorted entry whose source is not lower than the given one.
+     */
+    private int lowerBound(int primaryId, int secondaryId) {
+        int low = 0;
+        int high = sortedResolutionEntries.size();
+        while (low < high) {
+            int middle = (low + high) >>> 1;
+            if (compareReceiptSource(middle, primaryId, secondaryId) < 0) {
+                low = middle + 1;
+            } else {
+                high = middle;
+            }
+        }
+        return low;
+    }
+
+    /**
+     * @return the index of the first sorted entry whose source is greater than the given one.
+     */
+    private int upperBound(int primaryId, int secondaryId) {
+        int low = 0;
+        int high = sortedResolutionEntries.size();
+        while (low < high) {
+            int middle = (low + high) >>> 1;
+            if (compareReceiptSource(middle, primaryId, secondaryId) <= 0) {
+                low = middle + 1;
+            } else {
+                high = middle;
+            }
+        }
+        return low;
+    }
+
+    private int compareReceiptSource(int index, int primaryId, int secondaryId) {
+        ReceiptSource receiptSource = getReceiptSource(index);
+        int result = Integer.compare(receiptSource.getPrimaryId(), primaryId);
+        return result != 0 ? result : Integer.compare(receiptSource.getSecondaryId(), secondaryId);
+    }
+
+    private ReceiptSource getReceiptSource(int index) {
+        return sortedResolutionEntries.get(index).getReceiptSource();
     }
 
     /**
@@ -286,24 +344,33 @@ public abstract class ResolutionStatement<U, R> {
      * @return resolution statement hash
      */
     public String generateHash(NetworkType networkType) {
+        return ConvertUtils.toHex(generateHashBytes(networkType));
+    }
 
-        final byte[] versionByte = ByteUtils.shortToBytes(
+    /**
+     * Serialize resolution statement and generate hash. The header and the entries are hashed one
+     * after the other without being concatenated.
+     *
+     * @param networkType networkType
+     * @return resolution statement hash bytes
+     */
+    public byte[] generateHashBytes(NetworkType networkType) {
+        final byte[][] inputs = new byte[resolutionEntries.size() + 3][];
+        inputs[0] = ByteUtils.shortToBytes(
             Short.reverseBytes((short) ReceiptVersion.RESOLUTION_STATEMENT.getValue()));
-        final byte[] typeByte = getResolutionType() == ResolutionType.ADDRESS ?
+        inputs[1] = getResolutionType() == ResolutionType.ADDRESS ?
             ByteUtils.shortToBytes(
                 Short.reverseBytes((short) ReceiptType.ADDRESS_ALIAS_RESOLUTION.getValue())) :
             ByteUtils.shortToBytes(
                 Short.reverseBytes((short) ReceiptType.MOSAIC_ALIAS_RESOLUTION.getValue()));
-        final byte[] unresolvedBytes = serializeUnresolved(networkType);
-
-        byte[] results = ArrayUtils.concat(versionByte, typeByte, unresolvedBytes);
+        inputs[2] = serializeUnresolved(networkType);
 
-        for (final ResolutionEntry entry : resolutionEntries) {
-            results = ArrayUtils.concat(results, entry.serialize());
+        int index = 3;
+        for (final ResolutionEntry<R> entry : resolutionEntries) {
+            inputs[index++] = entry.serialize();
         }
 
-        byte[] hash = Hashes.sha3_256(results);
-        return ConvertUtils.toHex(hash).toUpperCase();
+        return Hashes.sha3_256(inputs);
     }
 
     /**
@@ -312,7 +379,7 @@ public abstract class ResolutionStatement<U, R> {
      * @param networkType the network type.
      * @return unresolved bytes
      */
-    private byte[] serializeUnresolved(NetworkType networkType) {
+    byte[] serializeUnresolved(NetworkType networkType) {
         if (getResolutionType() == ResolutionType.ADDRESS) {
             return SerializationUtils
                 .fromUnresolvedAddressToByteBuffer((UnresolvedAddress) getUnresolved(), networkType)
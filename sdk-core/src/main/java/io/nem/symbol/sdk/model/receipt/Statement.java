@@ -16,14 +16,19 @@
 
 package io.nem.symbol.sdk.model.receipt;
 
+import io.nem.symbol.core.crypto.MerkleHashBuilder;
+import io.nem.symbol.core.utils.ConvertUtils;
 import io.nem.symbol.sdk.model.account.Address;
 import io.nem.symbol.sdk.model.account.UnresolvedAddress;
 import io.nem.symbol.sdk.model.mosaic.MosaicId;
 import io.nem.symbol.sdk.model.mosaic.UnresolvedMosaicId;
+import io.nem.symbol.sdk.model.network.NetworkType;
 import java.math.BigInteger;
+import java.util.Comparator;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
-import java.util.function.Function;
 
 public class Statement {
 
@@ -31,6 +36,18 @@ public class Statement {
     private final List<AddressResolutionStatement> addressResolutionStatements;
     private final List<MosaicResolutionStatement> mosaicResolutionStatement;
 
+    /**
+     * The first address resolution statement of each height and unresolved address.
+     */
+    private final Map<BigInteger, Map<UnresolvedAddress, AddressResolutionStatement>>
+        addressResolutionStatementIndex;
+
+    /**
+     * The first mosaic resolution statement of each height and unresolved mosaic id.
+     */
+    private final Map<BigInteger, Map<UnresolvedMosaicId, MosaicResolutionStatement>>
+        mosaicResolutionStatementIndex;
+
     /**
      * Constructor
      *
@@ -45,6 +62,28 @@ public class Statement {
         this.addressResolutionStatements = addressResolutionStatements;
         this.mosaicResolutionStatement = mosaicResolutionStatement;
         this.transactionStatements = transactionStatements;
+        this.addressResolutionStatementIndex = createIndex(addressResolutionStatements);
+        this.mosaicResolutionStatementIndex = createIndex(mosaicResolutionStatement);
+    }
+
+    /**
+     * It indexes the resolution statements by height and unresolved value. If many statements
+     * have the same height and unresolved value, the first one is indexed.
+     */
+    private static <U, S extends ResolutionStatement<U, ?>> Map<BigInteger, Map<U, S>> createIndex(
+        List<S> resolutionStatements) {
+        Map<BigInteger, Map<U, S>> index = new HashMap<>();
+        for (S resolutionStatement : resolutionStatements) {
+            index.computeIfAbsent(resolutionStatement.getHeight(), height -> new HashMap<>())
+                .putIfAbsent(resolutionStatement.getUnresolved(), resolutionStatement);
+        }
+        return index;
+    }
+
+    private static <U, S> Optional<S> getResolutionStatement(Map<BigInteger, Map<U, S>> index,
+        BigInteger height, U unresolved) {
+        return Optional.ofNullable(index.get(height))
+            .map(resolutionStatements -> resolutionStatements.get(unresolved));
     }
 
     /**
@@ -89,11 +128,9 @@ public class Statement {
         if (mosaicAlias instanceof MosaicId) {
             return Optional.of((MosaicId) mosaicAlias);
         }
-        return this.getMosaicResolutionStatement().stream()
-            .filter(s -> height.equals(s.getHeight()))
-            .filter(r -> r.getUnresolved().equals(mosaicAlias))
-            .map(r -> r.getResolutionEntryById(primaryId, secondaryId)
-                .map(ResolutionEntry::getResolved)).findFirst().flatMap(Function.identity());
+        return getResolutionStatement(mosaicResolutionStatementIndex, height, mosaicAlias)
+            .flatMap(r -> r.getResolutionEntryById(primaryId, secondaryId))
+            .map(ResolutionEntry::getResolved);
     }
 
     /**
@@ -111,10 +148,49 @@ public class Statement {
         if (unresolvedAddress instanceof Address) {
             return Optional.of((Address) unresolvedAddress);
         }
-        return this.getAddressResolutionStatements().stream()
-            .filter(s -> height.equals(s.getHeight()))
-            .filter(r -> r.getUnresolved().equals(unresolvedAddress))
-            .map(r -> r.getResolutionEntryById(primaryId, secondaryId)
-                .map(ResolutionEntry::getResolved)).findFirst().flatMap(Function.identity());
+        return getResolutionStatement(addressResolutionStatementIndex, height, unresolvedAddress)
+            .flatMap(r -> r.getResolutionEntryById(primaryId, secondaryId))
+            .map(ResolutionEntry::getResolved);
+    }
+
+    /**
+     * It calculates the merkle root hash of the statements, the block receipts hash of {@link
+     * io.nem.symbol.sdk.model.blockchain.BlockInfo#getBlockReceiptsHash()}. The statements must
+     * be the ones of a single block. The hashes are added in the server's order, whatever the
+     * order of the lists: the transaction statements sorted by receipt source, then the address
+     * resolution statements sorted by unresolved address bytes and then the mosaic resolution
+     * statements sorted by unresolved mosaic id.
+     *
+     * @param networkType the network type.
+     * @return the merkle root hash of the statements.
+     */
+    public String generateMerkleRootHash(NetworkType networkType) {
+        MerkleHashBuilder builder = new MerkleHashBuilder();
+        transactionStatements.stream().sorted(Comparator
+            .comparingLong((TransactionStatement s) -> Integer
+                .toUnsignedLong(s.getReceiptSource().getPrimaryId()))
+            .thenComparingLong(s -> Integer.toUnsignedLong(s.getReceiptSource().getSecondaryId())))
+            .forEach(s -> builder.update(s.generateHashBytes()));
+        addressResolutionStatements.stream().sorted((s1, s2) -> compareUnsigned(
+            s1.serializeUnresolved(networkType), s2.serializeUnresolved(networkType)))
+            .forEach(s -> builder.update(s.generateHashBytes(networkType)));
+        mosaicResolutionStatement.stream().sorted(
+            Comparator.comparing((MosaicResolutionStatement s) -> s.getUnresolved().getId()))
+            .forEach(s -> builder.update(s.generateHashBytes(networkType)));
+        return ConvertUtils.toHex(builder.getRootHash());
+    }
+
+    /**
+     * It compares two byte arrays lexicographically as unsigned bytes, like the server compares
+     * unresolved addresses.
+     */
+    private static int compareUnsigned(byte[] left, byte[] right) {
+        for (int i = 0; i < Math.min(left.length, right.length); i++) {
+            int result = Integer.compare(Byte.toUnsignedInt(left[i]), Byte.toUnsignedInt(right[i]));
+            if (result != 0) {
+                return result;
+            }
+        }
+        return Integer.compare(left.length, right.length);
     }
 }
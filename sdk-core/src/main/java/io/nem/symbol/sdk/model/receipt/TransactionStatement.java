@@ -17,7 +17,6 @@
 package io.nem.symbol.sdk.model.receipt;
 
 import io.nem.symbol.core.crypto.Hashes;
-import io.nem.symbol.core.utils.ArrayUtils;
 import io.nem.symbol.core.utils.ByteUtils;
 import io.nem.symbol.core.utils.ConvertUtils;
 import java.math.BigInteger;
@@ -76,20 +75,28 @@ public class TransactionStatement {
      * @return transaction statement hash
      */
     public String generateHash() {
+        return ConvertUtils.toHex(generateHashBytes());
+    }
 
-        final byte[] versionByte = ByteUtils.shortToBytes(
+    /**
+     * Serialize transaction statement and generate hash. The header and the receipts are hashed
+     * one after the other without being concatenated.
+     *
+     * @return transaction statement hash bytes
+     */
+    public byte[] generateHashBytes() {
+        final byte[][] inputs = new byte[receipts.size() + 3][];
+        inputs[0] = ByteUtils.shortToBytes(
             Short.reverseBytes((short) ReceiptVersion.TRANSACTION_STATEMENT.getValue()));
-        final byte[] typeByte = ByteUtils
+        inputs[1] = ByteUtils
             .shortToBytes(Short.reverseBytes((short) ReceiptType.TRANSACTION_GROUP.getValue()));
-        final byte[] sourceByte = getReceiptSource().serialize();
-
-        byte[] results = ArrayUtils.concat(versionByte, typeByte, sourceByte);
+        inputs[2] = getReceiptSource().serialize();
 
+        int index = 3;
         for (final Receipt receipt : receipts) {
-            results = ArrayUtils.concat(results, receipt.serialize());
+            inputs[index++] = receipt.serialize();
         }
 
-        byte[] hash = Hashes.sha3_256(results);
-        return ConvertUtils.toHex(hash);
+        return Hashes.sha3_256(inputs);
     }
 }
@@ -16,14 +16,13 @@
 
 package io.nem.symbol.sdk.model.transaction;
 
-import io.nem.symbol.core.crypto.CryptoEngines;
-import io.nem.symbol.core.crypto.DsaSigner;
-import io.nem.symbol.core.utils.ConvertUtils;
 import io.nem.symbol.sdk.model.account.Account;
 import io.nem.symbol.sdk.model.account.PublicAccount;
-import java.math.BigInteger;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.Arrays;
 import java.util.List;
-import org.apache.commons.lang3.ArrayUtils;
+import java.util.stream.IntStream;
 
 /**
  * The aggregate innerTransactions contain multiple innerTransactions that can be initiated by
@@ -33,6 +32,11 @@ import org.apache.commons.lang3.ArrayUtils;
  */
 public class AggregateTransaction extends Transaction {
 
+    /**
+     * Size of a cosignature in the payload, the signer public key followed by the signature.
+     */
+    private static final int COSIGNATURE_SIZE = 32 + 64;
+
     private final String transactionsHash;
 
     private final List<Transaction> innerTransactions;
@@ -75,7 +79,9 @@ public class AggregateTransaction extends Transaction {
     }
 
     /**
-     * Sign transaction with cosignatories creating a new SignedTransaction.
+     * Sign transaction with cosignatories creating a new SignedTransaction. The cosignatures are
+     * calculated in parallel over the transaction hash and written straight into the payload,
+     * one after the other in the order of the cosignatories.
      *
      * @param initiatorAccount Initiator account
      * @param cosignatories The list of accounts that will cosign the transaction
@@ -87,25 +93,25 @@ public class AggregateTransaction extends Transaction {
         final List<Account> cosignatories,
         final String generationHash) {
         SignedTransaction signedTransaction = this.signWith(initiatorAccount, generationHash);
-        StringBuilder payload = new StringBuilder(signedTransaction.getPayload());
-
-        for (Account cosignatory : cosignatories) {
-            final DsaSigner signer = CryptoEngines.defaultEngine()
-                .createDsaSigner(cosignatory.getKeyPair());
-            byte[] bytes = ConvertUtils.fromHexToBytes(signedTransaction.getHash());
-            byte[] signatureBytes = signer.sign(bytes).getBytes();
-            payload.append(cosignatory.getPublicKey()).append(ConvertUtils.toHex(signatureBytes));
-        }
-
-        byte[] payloadBytes = ConvertUtils.fromHexToBytes(payload.toString());
-
-        byte[] size = BigInteger.valueOf(payloadBytes.length).toByteArray();
-        ArrayUtils.reverse(size);
-
-        System.arraycopy(size, 0, payloadBytes, 0, size.length);
-
-        return new SignedTransaction(initiatorAccount.getPublicAccount(),
-            ConvertUtils.toHex(payloadBytes), signedTransaction.getHash(), getType());
+        byte[] signedPayload = signedTransaction.getPayloadBytes();
+        byte[] hash = signedTransaction.getHashBytes();
+
+        byte[] payload = Arrays
+            .copyOf(signedPayload, signedPayload.length + cosignatories.size() * COSIGNATURE_SIZE);
+        IntStream.range(0, cosignatories.size()).parallel().forEach(i -> {
+            Account cosignatory = cosignatories.get(i);
+            int offset = signedPayload.length + i * COSIGNATURE_SIZE;
+            byte[] publicKey = cosignatory.getKeyPair().getPublicKey().getBytes();
+            System.arraycopy(publicKey, 0, payload, offset, publicKey.length);
+            byte[] signatureBytes = cosignatory.getSigner().sign(hash).getBytes();
+            System.arraycopy(signatureBytes, 0, payload, offset + publicKey.length,
+                signatureBytes.length);
+        });
+
+        ByteBuffer.wrap(payload).order(ByteOrder.LITTLE_ENDIAN).putInt(0, payload.length);
+
+        return new SignedTransaction(initiatorAccount.getPublicAccount(), payload, hash,
+            getType());
     }
 
     /**
@@ -16,7 +16,6 @@
 
 package io.nem.symbol.sdk.model.transaction;
 
-import io.nem.symbol.core.crypto.CryptoEngines;
 import io.nem.symbol.core.crypto.DsaSigner;
 import io.nem.symbol.core.utils.ConvertUtils;
 import io.nem.symbol.sdk.model.account.Account;
@@ -70,7 +69,7 @@ public class CosignatureTransaction {
      * @return {@link CosignatureSignedTransaction}
      */
     public CosignatureSignedTransaction signWith(Account account) {
-        DsaSigner signer = CryptoEngines.defaultEngine().createDsaSigner(account.getKeyPair());
+        DsaSigner signer = account.getSigner();
         byte[] bytes = ConvertUtils.fromHexToBytes(transactionHash);
         byte[] signatureBytes = signer.sign(bytes).getBytes();
         return new CosignatureSignedTransaction(transactionHash, ConvertUtils.toHex(signatureBytes),
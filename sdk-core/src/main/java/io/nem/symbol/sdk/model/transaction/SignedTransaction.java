@@ -16,19 +16,27 @@
 
 package io.nem.symbol.sdk.model.transaction;
 
+import io.nem.symbol.core.utils.ConvertUtils;
+import io.nem.symbol.core.utils.Suppliers;
 import io.nem.symbol.sdk.model.account.PublicAccount;
+import java.util.function.Supplier;
 
 /**
  * The signed transaction object is used to transfer the transaction data and the signature to NIS
  * in order to initiate and broadcast a transaction.
  *
+ * The payload and hash are kept in the form they were created with, hex or bytes. The other form
+ * is calculated the first time it's requested.
+ *
  * @since 1.0
  */
 public class SignedTransaction {
 
     private final PublicAccount signer;
-    private final String payload;
-    private final String hash;
+    private final Supplier<String> payload;
+    private final Supplier<byte[]> payloadBytes;
+    private final Supplier<String> hash;
+    private final Supplier<byte[]> hashBytes;
     private final TransactionType type;
 
     /**
@@ -42,8 +50,29 @@ public class SignedTransaction {
     public SignedTransaction(PublicAccount signer, String payload, String hash,
         TransactionType type) {
         this.signer = signer;
-        this.payload = payload;
-        this.hash = hash;
+        this.payload = () -> payload;
+        this.payloadBytes = Suppliers.memoize(() -> ConvertUtils.fromHexToBytes(payload));
+        this.hash = () -> hash;
+        this.hashBytes = Suppliers.memoize(() -> ConvertUtils.fromHexToBytes(hash));
+        this.type = type;
+    }
+
+    /**
+     * The SignedTransaction constructor using the binary payload and hash. The hex strings are
+     * only created if they are requested. The arrays are not copied, they must not be modified.
+     *
+     * @param signer the signer of the transaction.
+     * @param payloadBytes the payload bytes.
+     * @param hashBytes the hash bytes of the transaction.
+     * @param type the transaction type.
+     */
+    public SignedTransaction(PublicAccount signer, byte[] payloadBytes, byte[] hashBytes,
+        TransactionType type) {
+        this.signer = signer;
+        this.payload = Suppliers.memoize(() -> ConvertUtils.toHex(payloadBytes));
+        this.payloadBytes = () -> payloadBytes;
+        this.hash = Suppliers.memoize(() -> ConvertUtils.toHex(hashBytes));
+        this.hashBytes = () -> hashBytes;
         this.type = type;
     }
 
@@ -62,7 +91,17 @@ public class SignedTransaction {
      * @return transaction serialized data
      */
     public String getPayload() {
-        return payload;
+        return payload.get();
+    }
+
+    /**
+     * Returns transaction serialized data as bytes. The returned array is shared, it must not be
+     * modified.
+     *
+     * @return transaction serialized data bytes
+     */
+    public byte[] getPayloadBytes() {
+        return payloadBytes.get();
     }
 
     /**
@@ -71,7 +110,16 @@ public class SignedTransaction {
      * @return transaction hash
      */
     public String getHash() {
-        return hash;
+        return hash.get();
+    }
+
+    /**
+     * Returns transaction hash as bytes. The returned array is shared, it must not be modified.
+     *
+     * @return transaction hash bytes
+     */
+    public byte[] getHashBytes() {
+        return hashBytes.get();
     }
 
     /**
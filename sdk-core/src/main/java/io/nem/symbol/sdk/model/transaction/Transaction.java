@@ -16,7 +16,6 @@
 
 package io.nem.symbol.sdk.model.transaction;
 
-import io.nem.symbol.core.crypto.CryptoEngines;
 import io.nem.symbol.core.crypto.DsaSigner;
 import io.nem.symbol.core.crypto.Hashes;
 import io.nem.symbol.core.crypto.Signature;
@@ -28,6 +27,7 @@ import io.nem.symbol.sdk.model.account.Account;
 import io.nem.symbol.sdk.model.account.PublicAccount;
 import io.nem.symbol.sdk.model.network.NetworkType;
 import java.math.BigInteger;
+import java.util.Arrays;
 import java.util.Optional;
 
 /**
@@ -171,13 +171,34 @@ public abstract class Transaction {
     public String createTransactionHash(
         String transactionPayload, final byte[] generationHashBytes) {
         byte[] bytes = ConvertUtils.fromHexToBytes(transactionPayload);
-        final byte[] dataBytes = getSignBytes(bytes, generationHashBytes);
+        return ConvertUtils.toHex(createTransactionHash(bytes, generationHashBytes));
+    }
+
+    /**
+     * Generates hash for a serialized transaction payload.
+     *
+     * @param payloadBytes Transaction payload bytes
+     * @param generationHashBytes the generation hash.
+     * @return generated transaction hash bytes.
+     */
+    public byte[] createTransactionHash(final byte[] payloadBytes,
+        final byte[] generationHashBytes) {
+        return hashSignedPayload(payloadBytes, getSignBytes(payloadBytes, generationHashBytes));
+    }
+
+    /**
+     * Hashes the signature and signer of the payload followed by the signed bytes.
+     *
+     * @param payloadBytes the signed payload bytes.
+     * @param signingBytes the bytes that were signed, see {@link #getSignBytes(byte[], byte[])}.
+     * @return the transaction hash bytes.
+     */
+    private static byte[] hashSignedPayload(final byte[] payloadBytes,
+        final byte[] signingBytes) {
         final int sizeOfSignatureAndSignerPublicKey = 96;
-        byte[] signingBytes = new byte[dataBytes.length + sizeOfSignatureAndSignerPublicKey];
-        System.arraycopy(bytes, 8, signingBytes, 0, sizeOfSignatureAndSignerPublicKey);
-        System.arraycopy(dataBytes, 0, signingBytes, sizeOfSignatureAndSignerPublicKey, dataBytes.length);
-        byte[] result = Hashes.sha3_256(signingBytes);
-        return ConvertUtils.toHex(result);
+        final byte[] signatureAndSigner = Arrays
+            .copyOfRange(payloadBytes, 8, 8 + sizeOfSignatureAndSignerPublicKey);
+        return Hashes.sha3_256(signatureAndSigner, signingBytes);
     }
 
     /**
@@ -206,25 +227,32 @@ public abstract class Transaction {
      * @return {@link SignedTransaction}
      */
     public SignedTransaction signWith(final Account account, final String generationHash) {
-        final DsaSigner theSigner = CryptoEngines.defaultEngine()
-            .createDsaSigner(account.getKeyPair());
-        final byte[] bytes = this.serialize();
-        final byte[] generationHashBytes = ConvertUtils.getBytes(generationHash);
-        final byte[] signingBytes = getSignBytes(bytes, generationHashBytes);
+        return signWith(account, ConvertUtils.getBytes(generationHash));
+    }
+
+    /**
+     * Serialize and sign transaction creating a new SignedTransaction. Useful when signing many
+     * transactions, the generation hash is decoded once by the caller.
+     *
+     * @param account The account to sign the transaction.
+     * @param generationHashBytes The generation hash bytes for the network.
+     * @return {@link SignedTransaction}
+     */
+    public SignedTransaction signWith(final Account account, final byte[] generationHashBytes) {
+        final DsaSigner theSigner = account.getSigner();
+        final byte[] payload = this.serialize();
+        final byte[] signingBytes = getSignBytes(payload, generationHashBytes);
         final Signature theSignature = theSigner.sign(signingBytes);
 
-        final byte[] payload = new byte[bytes.length];
-        System.arraycopy(bytes, 0, payload, 0, 8); // Size
+        // the serialized array is not shared, the signature and signer are written in place
         System.arraycopy(theSignature.getBytes(), 0, payload, 8,
             theSignature.getBytes().length); // Signature
         System.arraycopy(
             account.getKeyPair().getPublicKey().getBytes(), 0, payload, 64 + 8,
             account.getKeyPair().getPublicKey().getBytes().length); // Signer
-        System.arraycopy(bytes, 104, payload, 104, bytes.length - 104);
 
-        final String hash = createTransactionHash(ConvertUtils.toHex(payload), generationHashBytes);
-        return new SignedTransaction(account.getPublicAccount(), ConvertUtils.toHex(payload), hash,
-            type);
+        final byte[] hash = hashSignedPayload(payload, signingBytes);
+        return new SignedTransaction(account.getPublicAccount(), payload, hash, type);
     }
 
     /**
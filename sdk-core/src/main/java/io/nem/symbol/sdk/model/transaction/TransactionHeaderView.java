@@ -0,0 +1,221 @@
+/*
+ * Copyright 2020 NEM
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.nem.symbol.sdk.model.transaction;
+
+import io.nem.symbol.core.crypto.PublicKey;
+import io.nem.symbol.core.utils.ConvertUtils;
+import io.nem.symbol.core.utils.Suppliers;
+import io.nem.symbol.sdk.api.BinarySerialization;
+import io.nem.symbol.sdk.infrastructure.BinarySerializationImpl;
+import io.nem.symbol.sdk.model.network.NetworkType;
+import java.math.BigInteger;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.Optional;
+import java.util.function.Supplier;
+import org.apache.commons.lang3.Validate;
+
+/**
+ * A read only view of the header of a serialized top level transaction. The header values are read
+ * at their fixed offsets from the payload without decoding the transaction body, creating the
+ * signer {@link io.nem.symbol.sdk.model.account.PublicAccount} or the body's mosaics and
+ * messages.
+ *
+ * The full {@link Transaction} is only decoded, in place, when {@link #getTransaction()} is
+ * called.
+ */
+public class TransactionHeaderView {
+
+    /**
+     * The size of the top level transaction header.
+     */
+    public static final int HEADER_SIZE = 128;
+
+    private static final int SIGNATURE_OFFSET = 8;
+
+    private static final int SIGNATURE_SIZE = 64;
+
+    private static final int SIGNER_OFFSET = SIGNATURE_OFFSET + SIGNATURE_SIZE;
+
+    private static final int SIGNER_SIZE = 32;
+
+    private static final int VERSION_OFFSET = SIGNER_OFFSET + SIGNER_SIZE + 4;
+
+    private static final int NETWORK_TYPE_OFFSET = VERSION_OFFSET + 1;
+
+    private static final int TYPE_OFFSET = NETWORK_TYPE_OFFSET + 1;
+
+    private static final int MAX_FEE_OFFSET = TYPE_OFFSET + 2;
+
+    private static final int DEADLINE_OFFSET = MAX_FEE_OFFSET + 8;
+
+    /**
+     * The little endian payload, starting at the beginning of the transaction.
+     */
+    private final ByteBuffer payload;
+
+    private final Supplier<Transaction> transaction;
+
+    /**
+     * Private constructor, use the static constructors.
+     *
+     * @param payload the little endian payload starting at the beginning of the transaction.
+     * @param binarySerialization the serialization used to decode the transaction on demand.
+     */
+    private TransactionHeaderView(ByteBuffer payload, BinarySerialization binarySerialization) {
+        Validate.isTrue(payload.remaining() >= HEADER_SIZE,
+            "Payload size %s is smaller than the transaction header size %s", payload.remaining(),
+            HEADER_SIZE);
+        this.payload = payload;
+        Validate.isTrue(getSize() >= HEADER_SIZE && getSize() <= payload.remaining(),
+            "Invalid transaction size %s, the payload has %s bytes", getSize(),
+            payload.remaining());
+        this.transaction = Suppliers
+            .memoize(() -> binarySerialization.deserialize(getPayloadBuffer()));
+    }
+
+    /**
+     * It creates a view of the transaction serialized in the byte array.
+     *
+     * @param payload the serialized transaction.
+     * @return the {@link TransactionHeaderView}
+     */
+    public static TransactionHeaderView of(byte[] payload) {
+        Validate.notNull(payload, "Payload must not be null");
+        return of(ByteBuffer.wrap(payload));
+    }
+
+    /**
+     * It creates a view of the transaction serialized in the buffer starting at the buffer's
+     * current position. The buffer's position, limit and byte order are not modified, the content
+     * must not be modified while the view is in use.
+     *
+     * @param payload the buffer containing the serialized transaction.
+     * @return the {@link TransactionHeaderView}
+     */
+    public static TransactionHeaderView of(ByteBuffer payload) {
+        Validate.notNull(payload, "Payload must not be null");
+        return new TransactionHeaderView(payload.slice().order(ByteOrder.LITTLE_ENDIAN),
+            BinarySerializationImpl.INSTANCE);
+    }
+
+    /**
+     * @return the size of the whole transaction including the header.
+     */
+    public int getSize() {
+        return payload.getInt(0);
+    }
+
+    /**
+     * @return the transaction type.
+     */
+    public TransactionType getType() {
+        return TransactionType.rawValueOf(Short.toUnsignedInt(payload.getShort(TYPE_OFFSET)));
+    }
+
+    /**
+     * @return the network type.
+     */
+    public NetworkType getNetworkType() {
+        return NetworkType.rawValueOf(Byte.toUnsignedInt(payload.get(NETWORK_TYPE_OFFSET)));
+    }
+
+    /**
+     * @return the transaction version.
+     */
+    public int getVersion() {
+        return Byte.toUnsignedInt(payload.get(VERSION_OFFSET));
+    }
+
+    /**
+     * @return the max fee.
+     */
+    public BigInteger getMaxFee() {
+        return ConvertUtils.toUnsignedBigInteger(payload.getLong(MAX_FEE_OFFSET));
+    }
+
+    /**
+     * @return the deadline.
+     */
+    public Deadline getDeadline() {
+        return new Deadline(ConvertUtils.toUnsignedBigInteger(payload.getLong(DEADLINE_OFFSET)));
+    }
+
+    /**
+     * @return the signature if the transaction has been signed.
+     */
+    public Optional<String> getSignature() {
+        return getBytes(SIGNATURE_OFFSET, SIGNATURE_SIZE).map(ConvertUtils::toHex);
+    }
+
+    /**
+     * @return the signer's public key if the transaction has been signed. The address is not
+     * derived.
+     */
+    public Optional<PublicKey> getSignerPublicKey() {
+        return getBytes(SIGNER_OFFSET, SIGNER_SIZE).map(PublicKey::new);
+    }
+
+    /**
+     * @return the decoded transaction. The body is only decoded once, the first time this method
+     * is called.
+     */
+    public Transaction getTransaction() {
+        return transaction.get();
+    }
+
+    /**
+     * @return a read only buffer with the transaction bytes, header and body. The bytes are not
+     * copied.
+     */
+    public ByteBuffer getPayloadBuffer() {
+        ByteBuffer duplicate = payload.asReadOnlyBuffer();
+        duplicate.limit(getSize());
+        return duplicate.slice();
+    }
+
+    /**
+     * @return a copy of the transaction bytes, header and body.
+     */
+    public byte[] getPayloadBytes() {
+        byte[] bytes = new byte[getSize()];
+        getPayloadBuffer().get(bytes);
+        return bytes;
+    }
+
+    /**
+     * It reads a fixed size value from the header.
+     *
+     * @param offset the offset of the value.
+     * @param size the size of the value.
+     * @return the bytes or empty if all the bytes are zeros.
+     */
+    private Optional<byte[]> getBytes(int offset, int size) {
+        boolean allZeros = true;
+        for (int i = offset; i < offset + size && allZeros; i++) {
+            allZeros = payload.get(i) == 0;
+        }
+        if (allZeros) {
+            return Optional.empty();
+        }
+        byte[] bytes = new byte[size];
+        ByteBuffer duplicate = payload.duplicate();
+        duplicate.position(offset);
+        duplicate.get(bytes);
+        return Optional.of(bytes);
+    }
+}
@@ -18,9 +18,10 @@ package io.nem.symbol.core.crypto;
 
 import io.nem.symbol.core.utils.AbstractVectorTester;
 import io.nem.symbol.core.utils.ConvertUtils;
-import java.util.Collections;
+import java.util.Arrays;
 import java.util.List;
 import java.util.Map;
+import java.util.stream.Collectors;
 import java.util.stream.Stream;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.params.ParameterizedTest;
@@ -40,25 +41,24 @@ class DsaSignerVectorTester extends AbstractVectorTester {
 
     private static List<Arguments> extractArguments(
         Map<String, String> entry) {
-        return Collections
-            .singletonList(Arguments.of(
+        return Arrays.asList(CryptoEngines.ed25519Engine(), CryptoEngines.ed25519Radix51Engine())
+            .stream().map(engine -> Arguments.of(
+                engine,
                 entry.get("privateKey"),
                 entry.get("publicKey"),
                 entry.get("data"),
                 entry.get("length"),
-                entry.get("signature")));
+                entry.get("signature"))).collect(Collectors.toList());
     }
 
     @ParameterizedTest
     @MethodSource("testSignAll")
-    void testSignAll(String privateKey, String publicKey,
+    void testSignAll(CryptoEngine engine, String privateKey, String publicKey,
         String data,
         int length, String signature) {
-        final CryptoEngine engine = CryptoEngines.defaultEngine();
-
         final KeyPair keyPair = KeyPair
             .fromPrivate(
-                PrivateKey.fromHexString(privateKey));
+                PrivateKey.fromHexString(privateKey), engine);
         final DsaSigner signer = engine.createDsaSigner(keyPair);
 
         // Act:
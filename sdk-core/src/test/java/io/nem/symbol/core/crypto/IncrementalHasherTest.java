@@ -0,0 +1,96 @@
+/*
+ * Copyright 2020 NEM
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package io.nem.symbol.core.crypto;
+
+import io.nem.symbol.sdk.infrastructure.RandomUtils;
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Test of {@link IncrementalHasher}
+ */
+public class IncrementalHasherTest {
+
+    private static void assertSameHash(Supplier<IncrementalHasher> hasherSupplier,
+        Function<byte[][], byte[]> hashes) {
+        final byte[] input1 = RandomUtils.generateRandomBytes(1000);
+        final byte[] input2 = RandomUtils.generateRandomBytes(77);
+        final byte[] expected = hashes.apply(new byte[][]{input1, input2});
+
+        // heap buffer and array
+        final IncrementalHasher hasher = hasherSupplier.get();
+        final ByteBuffer heap = ByteBuffer.wrap(input1);
+        hasher.update(heap).update(input2);
+        Assertions.assertFalse(heap.hasRemaining());
+        Assertions.assertArrayEquals(expected, hasher.digest());
+
+        // direct and read only buffers, reusing the hasher
+        final ByteBuffer direct = ByteBuffer.allocateDirect(input1.length);
+        direct.put(input1).flip();
+        final byte[] output = new byte[hasher.getDigestSize() + 3];
+        hasher.update(direct).update(ByteBuffer.wrap(input2).asReadOnlyBuffer());
+        Assertions.assertEquals(hasher.getDigestSize(), hasher.doFinal(output, 3));
+        Assertions.assertArrayEquals(expected, Arrays.copyOfRange(output, 3, output.length));
+
+        // reset discards the data
+        hasher.update(input2);
+        hasher.reset();
+        Assertions.assertArrayEquals(hashes.apply(new byte[][]{input1, input2}),
+            hasher.update(input1, 0, input1.length).update(input2).digest());
+    }
+
+    @Test
+    public void shouldHashLikeHashes() {
+        assertSameHash(IncrementalHasher::sha3_256, Hashes::sha3_256);
+        assertSameHash(IncrementalHasher::sha3_512, Hashes::sha3_512);
+        assertSameHash(IncrementalHasher::keccak256, Hashes::keccak256);
+        assertSameHash(IncrementalHasher::keccak512, Hashes::keccak512);
+        assertSameHash(IncrementalHasher::sha512, Hashes::sha512);
+        assertSameHash(IncrementalHasher::ripemd160, Hashes::ripemd160);
+    }
+
+    @Test
+    public void shouldValidateOutput() {
+        final IncrementalHasher hasher = IncrementalHasher.sha3_256();
+        Assertions.assertThrows(IllegalArgumentException.class,
+            () -> hasher.doFinal(new byte[32], 1));
+    }
+
+    @Test
+    public void hashesIsThreadSafe() {
+        final List<byte[]> inputs = IntStream.range(0, 500)
+            .mapToObj(i -> RandomUtils.generateRandomBytes(100 + i)).collect(Collectors.toList());
+        final List<byte[]> expected = inputs.stream()
+            .map(input -> IncrementalHasher.sha3_256().update(input).digest())
+            .collect(Collectors.toList());
+
+        final List<byte[]> actual = inputs.parallelStream().map(Hashes::sha3_256)
+            .collect(Collectors.toList());
+
+        for (int i = 0; i < inputs.size(); i++) {
+            Assertions.assertArrayEquals(expected.get(i), actual.get(i));
+        }
+    }
+}
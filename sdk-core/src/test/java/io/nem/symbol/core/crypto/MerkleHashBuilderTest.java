@@ -18,6 +18,10 @@ package io.nem.symbol.core.crypto;
 
 
 import io.nem.symbol.core.utils.ConvertUtils;
+import io.nem.symbol.sdk.model.blockchain.MerklePathItem;
+import io.nem.symbol.sdk.model.blockchain.Position;
+import java.util.ArrayList;
+import java.util.List;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
 
@@ -78,8 +82,67 @@ public class MerkleHashBuilderTest {
                 "e926cc323886d47234bb0b49219c81e280e8a65748b437c2ae83b09b37a5aaf2"));
 
         Assertions.assertEquals(
-            "5DC17B2409D50BCC7C1FAA720D0EC8B79A1705D0C517BCC0BDBD316540974D5E",
+            "15646372A7FD76613EAFA6FCEB5A7605C895E7F46FC59C00E5C61073F2481D81",
             ConvertUtils.toHex(builder.getRootHash()));
     }
 
+    @Test
+    public void testRootHashCanBeCalledManyTimes() {
+        MerkleHashBuilder builder = new MerkleHashBuilder();
+        for (int i = 0; i < 5; i++) {
+            builder.update(Hashes.sha3_256(new byte[]{(byte) i}));
+            byte[] rootHash = builder.getRootHash();
+            Assertions.assertArrayEquals(rootHash, builder.getRootHash());
+        }
+    }
+
+    @Test
+    public void testFiveDuplicatesLastHashOfOddLevels() {
+        List<byte[]> hashes = new ArrayList<>();
+        MerkleHashBuilder builder = new MerkleHashBuilder();
+        for (int i = 0; i < 5; i++) {
+            hashes.add(Hashes.sha3_256(new byte[]{(byte) i}));
+            builder.update(hashes.get(i));
+        }
+
+        byte[] hash01 = Hashes.sha3_256(hashes.get(0), hashes.get(1));
+        byte[] hash23 = Hashes.sha3_256(hashes.get(2), hashes.get(3));
+        byte[] hash44 = Hashes.sha3_256(hashes.get(4), hashes.get(4));
+        byte[] hash0123 = Hashes.sha3_256(hash01, hash23);
+        byte[] hash4444 = Hashes.sha3_256(hash44, hash44);
+        Assertions.assertArrayEquals(Hashes.sha3_256(hash0123, hash4444), builder.getRootHash());
+    }
+
+    @Test
+    public void testProofs() {
+        for (int size = 1; size <= 33; size++) {
+            MerkleHashBuilder builder = new MerkleHashBuilder();
+            List<byte[]> hashes = new ArrayList<>();
+            for (int i = 0; i < size; i++) {
+                hashes.add(Hashes.sha3_256(new byte[]{(byte) size, (byte) i}));
+                builder.update(hashes.get(i));
+            }
+            byte[] rootHash = builder.getRootHash();
+            for (int i = 0; i < size; i++) {
+                byte[] proofHash = hashes.get(i);
+                for (MerklePathItem item : builder.getProof(i)) {
+                    byte[] siblingHash = ConvertUtils.fromHexToBytes(item.getHash());
+                    proofHash = item.getPosition() == Position.LEFT ? Hashes
+                        .sha3_256(siblingHash, proofHash) : Hashes.sha3_256(proofHash, siblingHash);
+                }
+                Assertions.assertArrayEquals(rootHash, proofHash);
+                Assertions.assertArrayEquals(rootHash,
+                    MerkleHashBuilder.calculateRootHash(hashes.get(i), builder.getProof(i)));
+            }
+        }
+    }
+
+    @Test
+    public void testProofOfSingleHashIsEmpty() {
+        MerkleHashBuilder builder = new MerkleHashBuilder();
+        builder.update(Hashes.sha3_256(new byte[]{1}));
+        Assertions.assertTrue(builder.getProof(0).isEmpty());
+        Assertions.assertThrows(IllegalArgumentException.class, () -> builder.getProof(1));
+        Assertions.assertThrows(IllegalArgumentException.class, () -> builder.getProof(-1));
+    }
 }
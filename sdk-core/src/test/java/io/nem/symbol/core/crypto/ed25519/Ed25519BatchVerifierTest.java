@@ -0,0 +1,211 @@
+/*
+ * Copyright 2020 NEM
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package io.nem.symbol.core.crypto.ed25519;
+
+import io.nem.symbol.core.crypto.BlockCipher;
+import io.nem.symbol.core.crypto.CryptoEngine;
+import io.nem.symbol.core.crypto.CryptoEngines;
+import io.nem.symbol.core.crypto.Curve;
+import io.nem.symbol.core.crypto.DsaSigner;
+import io.nem.symbol.core.crypto.Hashes;
+import io.nem.symbol.core.crypto.KeyAnalyzer;
+import io.nem.symbol.core.crypto.KeyGenerator;
+import io.nem.symbol.core.crypto.KeyPair;
+import io.nem.symbol.core.crypto.PublicKey;
+import io.nem.symbol.core.crypto.Signature;
+import io.nem.symbol.core.crypto.SignedData;
+import io.nem.symbol.core.crypto.ed25519.arithmetic.Ed25519EncodedFieldElement;
+import io.nem.symbol.core.crypto.ed25519.arithmetic.Ed25519EncodedGroupElement;
+import io.nem.symbol.core.crypto.ed25519.arithmetic.Ed25519Group;
+import io.nem.symbol.core.crypto.ed25519.arithmetic.Ed25519GroupElement;
+import io.nem.symbol.core.utils.ConvertUtils;
+import io.nem.symbol.sdk.infrastructure.RandomUtils;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Test of {@link Ed25519BatchVerifier}
+ */
+public class Ed25519BatchVerifierTest {
+
+    /**
+     * The encoding of (0, -1), the point of order 2.
+     */
+    private static final String ORDER_TWO_POINT =
+        "ECFFFFFFFFFFFFFFFFFFFFFFFFFFFFFFFFFFFFFFFFFFFFFFFFFFFFFFFFFFFF7F";
+
+    private final CryptoEngine engine = CryptoEngines.ed25519Engine();
+
+    private List<SignedData> createSignedData(int count, int keys) {
+        List<KeyPair> keyPairs = new ArrayList<>();
+        for (int i = 0; i < keys; i++) {
+            keyPairs.add(KeyPair.random(engine));
+        }
+        List<SignedData> signedData = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            KeyPair keyPair = keyPairs.get(i % keys);
+            DsaSigner signer = engine.createDsaSigner(keyPair);
+            byte[] data = RandomUtils.generateRandomBytes();
+            signedData.add(new SignedData(keyPair.getPublicKey(), data, signer.sign(data)));
+        }
+        return signedData;
+    }
+
+    @Test
+    public void verifyBatchReturnsTrueForValidSignatures() {
+        // Arrange:
+        List<SignedData> signedData = createSignedData(Ed25519BatchVerifier.CHUNK_SIZE + 10, 7);
+
+        // Act:
+        List<Boolean> results = engine.verifyBatch(signedData);
+
+        // Assert:
+        Assertions.assertEquals(Collections.nCopies(signedData.size(), true), results);
+        Assertions.assertEquals(Collections.emptyList(),
+            engine.verifyBatch(Collections.emptyList()));
+    }
+
+    @Test
+    public void verifyBatchLocatesInvalidSignatures() {
+        // Arrange:
+        List<SignedData> signedData = createSignedData(20, 3);
+        SignedData original = signedData.get(3);
+        byte[] otherData = RandomUtils.generateRandomBytes();
+        signedData.set(3, new SignedData(original.getPublicKey(), otherData,
+            original.getSignature()));
+        SignedData nonCanonical = signedData.get(7);
+        signedData.set(7, new SignedData(nonCanonical.getPublicKey(), nonCanonical.getData(),
+            new Signature(nonCanonical.getSignature().getR(),
+                Ed25519Group.GROUP_ORDER.add(nonCanonical.getSignature().getS()))));
+        SignedData zeroKey = signedData.get(11);
+        signedData.set(11, new SignedData(new PublicKey(new byte[32]), zeroKey.getData(),
+            zeroKey.getSignature()));
+        SignedData wrongKey = signedData.get(15);
+        signedData.set(15, new SignedData(KeyPair.random(engine).getPublicKey(),
+            wrongKey.getData(), wrongKey.getSignature()));
+
+        // Act:
+        List<Boolean> results = engine.verifyBatch(signedData);
+
+        // Assert:
+        for (int i = 0; i < signedData.size(); i++) {
+            Assertions.assertEquals(i != 3 && i != 7 && i != 11 && i != 15, results.get(i),
+                "Index " + i);
+            Assertions.assertEquals(verifySingle(signedData.get(i)), results.get(i),
+                "Index " + i);
+        }
+    }
+
+    /**
+     * It signs random data with a nonce point R shifted by the point of order 2. S is calculated
+     * honestly from the shifted R, so only the small order component makes it invalid.
+     */
+    private SignedData createTorsionedSignature(KeyPair keyPair) {
+        Ed25519ExpandedPrivateKey expandedKey = new Ed25519ExpandedPrivateKey(
+            keyPair.getPrivateKey());
+        byte[] data = RandomUtils.generateRandomBytes();
+        Ed25519EncodedFieldElement r = new Ed25519EncodedFieldElement(
+            Hashes.sha512(RandomUtils.generateRandomBytes())).modQ();
+        Ed25519GroupElement torsion = new Ed25519EncodedGroupElement(
+            ConvertUtils.getBytes(ORDER_TWO_POINT)).decode();
+        byte[] encodedR = Ed25519Group.scalarMultiplyBase(r).add(torsion.toCached()).encode()
+            .getRaw();
+        Ed25519EncodedFieldElement h = new Ed25519EncodedFieldElement(
+            Hashes.sha512(encodedR, keyPair.getPublicKey().getBytes(), data)).modQ();
+        Ed25519EncodedFieldElement s = h.multiplyAndAddModQ(expandedKey.getScalar(), r);
+        return new SignedData(keyPair.getPublicKey(), data, new Signature(encodedR, s.getRaw()));
+    }
+
+    @Test
+    public void verifyBatchAcceptsSignaturesWithTorsionedRInAnyBatch() {
+        // Arrange:
+        KeyPair keyPair = KeyPair.random(engine);
+        List<SignedData> signedData = createSignedData(10, 2);
+        signedData.set(2, createTorsionedSignature(keyPair));
+        signedData.set(5, createTorsionedSignature(keyPair));
+        SignedData original = signedData.get(7);
+        signedData.set(7, new SignedData(original.getPublicKey(),
+            RandomUtils.generateRandomBytes(), original.getSignature()));
+
+        // Act:
+        List<Boolean> results = engine.verifyBatch(signedData);
+        List<Boolean> torsionedOnly = engine
+            .verifyBatch(Arrays.asList(signedData.get(2), signedData.get(5)));
+
+        // Assert: the cofactored equation ignores the small order component of R, the single
+        // verification doesn't.
+        for (int i = 0; i < signedData.size(); i++) {
+            Assertions.assertEquals(i != 7, results.get(i), "Index " + i);
+            Assertions.assertEquals(i != 2 && i != 5 && i != 7, verifySingle(signedData.get(i)),
+                "Index " + i);
+        }
+        Assertions.assertEquals(Arrays.asList(true, true), torsionedOnly);
+    }
+
+    @Test
+    public void defaultVerifyBatchVerifiesEachSignatureWithTheDsaSigner() {
+        // Arrange: an engine that doesn't override verifyBatch.
+        CryptoEngine defaultEngine = new CryptoEngine() {
+            @Override
+            public Curve getCurve() {
+                return engine.getCurve();
+            }
+
+            @Override
+            public DsaSigner createDsaSigner(KeyPair keyPair) {
+                return engine.createDsaSigner(keyPair);
+            }
+
+            @Override
+            public KeyGenerator createKeyGenerator() {
+                return engine.createKeyGenerator();
+            }
+
+            @Override
+            public BlockCipher createBlockCipher(KeyPair senderKeyPair,
+                KeyPair recipientKeyPair) {
+                return engine.createBlockCipher(senderKeyPair, recipientKeyPair);
+            }
+
+            @Override
+            public KeyAnalyzer createKeyAnalyzer() {
+                return engine.createKeyAnalyzer();
+            }
+        };
+        List<SignedData> signedData = createSignedData(5, 2);
+        signedData.set(1, createTorsionedSignature(KeyPair.random(engine)));
+        SignedData original = signedData.get(3);
+        signedData.set(3, new SignedData(original.getPublicKey(),
+            RandomUtils.generateRandomBytes(), original.getSignature()));
+
+        // Act:
+        List<Boolean> results = defaultEngine.verifyBatch(signedData);
+
+        // Assert:
+        Assertions.assertEquals(Arrays.asList(true, false, true, false, true), results);
+    }
+
+    private boolean verifySingle(SignedData signedData) {
+        return engine.createDsaSigner(KeyPair.onlyPublic(signedData.getPublicKey(), engine))
+            .verify(signedData.getData(), signedData.getSignature());
+    }
+}
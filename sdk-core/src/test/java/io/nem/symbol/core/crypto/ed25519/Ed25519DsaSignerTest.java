@@ -113,6 +113,24 @@ public class Ed25519DsaSignerTest extends DsaSignerTest {
         }
     }
 
+    @Test
+    public void reusedSignerReturnsExpectedSignatures() {
+        // Arrange:
+        final CryptoEngine engine = this.getCryptoEngine();
+        final KeyPair keyPair = KeyPair.random(engine);
+        final DsaSigner dsaSigner = this.getDsaSigner(keyPair);
+        for (int i = 0; i < 20; i++) {
+            final byte[] input = RandomUtils.generateRandomBytes();
+
+            // Act:
+            final Signature signature1 = dsaSigner.sign(input);
+            final Signature signature2 = MathUtils.sign(keyPair, input);
+
+            // Assert:
+            Assertions.assertEquals(signature1, signature2);
+        }
+    }
+
     @Test
     public void signReturnsVerifiableSignature() {
         // Arrange:
@@ -0,0 +1,107 @@
+/*
+ * Copyright 2020 NEM
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+
+package io.nem.symbol.core.crypto.ed25519;
+
+import io.nem.symbol.core.crypto.CryptoEngines;
+import io.nem.symbol.core.crypto.KeyPair;
+import io.nem.symbol.core.crypto.PublicKey;
+import io.nem.symbol.core.crypto.ed25519.arithmetic.Ed25519EncodedGroupElement;
+import io.nem.symbol.core.crypto.ed25519.arithmetic.Ed25519GroupElement;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Test of {@link Ed25519PublicKeyCache}
+ */
+public class Ed25519PublicKeyCacheTest {
+
+    @Test
+    public void getForVerificationReturnsCachedPrecomputedElement() {
+        // Arrange:
+        final Ed25519PublicKeyCache cache = new Ed25519PublicKeyCache(10);
+        final PublicKey publicKey = KeyPair.random(CryptoEngines.ed25519Engine()).getPublicKey();
+
+        // Act:
+        final Ed25519GroupElement groupElement = cache.getForVerification(publicKey);
+
+        // Assert:
+        Assertions.assertTrue(groupElement.isPrecomputedForDoubleScalarMultiplication());
+        Assertions.assertEquals(new Ed25519EncodedGroupElement(publicKey.getBytes()).decode(),
+            groupElement);
+        Assertions.assertSame(groupElement, cache.getForVerification(
+            new PublicKey(Arrays.copyOf(publicKey.getBytes(), 32))));
+        Assertions.assertEquals(1, cache.size());
+    }
+
+    @Test
+    public void decodeReturnsNewCopy() {
+        // Arrange:
+        final Ed25519PublicKeyCache cache = new Ed25519PublicKeyCache(10);
+        final PublicKey publicKey = KeyPair.random(CryptoEngines.ed25519Engine()).getPublicKey();
+
+        // Act:
+        final Ed25519GroupElement copy = cache.decode(publicKey);
+
+        // Assert:
+        Assertions.assertNotSame(cache.getForVerification(publicKey), copy);
+        Assertions.assertEquals(cache.getForVerification(publicKey), copy);
+        Assertions.assertFalse(copy.isPrecomputedForDoubleScalarMultiplication());
+    }
+
+    @Test
+    public void leastRecentlyUsedKeysAreEvicted() {
+        // Arrange:
+        final Ed25519PublicKeyCache cache = new Ed25519PublicKeyCache(2);
+        final List<PublicKey> publicKeys = new ArrayList<>();
+        IntStream.range(0, 3).forEach(i -> publicKeys
+            .add(KeyPair.random(CryptoEngines.ed25519Engine()).getPublicKey()));
+
+        // Act:
+        final Ed25519GroupElement first = cache.getForVerification(publicKeys.get(0));
+        cache.getForVerification(publicKeys.get(1));
+        cache.getForVerification(publicKeys.get(0));
+        final Ed25519GroupElement second = cache.getForVerification(publicKeys.get(1));
+        cache.getForVerification(publicKeys.get(2));
+
+        // Assert:
+        Assertions.assertEquals(2, cache.size());
+        Assertions.assertSame(second, cache.getForVerification(publicKeys.get(1)));
+        Assertions.assertNotSame(first, cache.getForVerification(publicKeys.get(0)));
+        cache.clear();
+        Assertions.assertEquals(0, cache.size());
+    }
+
+    @Test
+    public void invalidKeysAreNotCached() {
+        // Arrange:
+        final Ed25519PublicKeyCache cache = new Ed25519PublicKeyCache(2);
+        final byte[] invalid = new byte[32];
+        invalid[0] = 2;
+
+        // Act + Assert:
+        Assertions.assertThrows(IllegalArgumentException.class,
+            () -> cache.getForVerification(new PublicKey(invalid)));
+        Assertions.assertEquals(0, cache.size());
+        Assertions
+            .assertThrows(IllegalArgumentException.class, () -> new Ed25519PublicKeyCache(0));
+    }
+}
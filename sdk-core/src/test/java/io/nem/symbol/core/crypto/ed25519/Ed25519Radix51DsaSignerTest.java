@@ -0,0 +1,58 @@
+/*
+ * Copyright 2020 NEM
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.nem.symbol.core.crypto.ed25519;
+
+import io.nem.symbol.core.crypto.CryptoEngine;
+import io.nem.symbol.core.crypto.CryptoEngines;
+import io.nem.symbol.core.crypto.DsaSigner;
+import io.nem.symbol.core.crypto.KeyPair;
+import io.nem.symbol.core.crypto.Signature;
+import io.nem.symbol.sdk.infrastructure.RandomUtils;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Runs the Ed25519 signer tests against {@link Ed25519Radix51DsaSigner}.
+ */
+public class Ed25519Radix51DsaSignerTest extends Ed25519DsaSignerTest {
+
+    @Test
+    public void signaturesAreCompatibleWithEd25519DsaSigner() {
+        for (int i = 0; i < 20; i++) {
+            // Arrange:
+            final KeyPair keyPair = KeyPair.random(this.getCryptoEngine());
+            final DsaSigner radix51Signer = this.getDsaSigner(keyPair);
+            final DsaSigner signer = CryptoEngines.ed25519Engine().createDsaSigner(keyPair);
+            final byte[] input = RandomUtils.generateRandomBytes();
+
+            // Act:
+            final Signature signature = radix51Signer.sign(input);
+
+            // Assert:
+            Assertions.assertEquals(signer.sign(input), signature);
+            Assertions.assertTrue(signer.verify(input, signature));
+            Assertions.assertTrue(radix51Signer.verify(input, signer.sign(input)));
+            Assertions
+                .assertFalse(radix51Signer.verify(RandomUtils.generateRandomBytes(), signature));
+        }
+    }
+
+    @Override
+    protected CryptoEngine getCryptoEngine() {
+        return CryptoEngines.ed25519Radix51Engine();
+    }
+}
@@ -201,6 +201,48 @@ public class Ed25519FieldElementTest {
         }
     }
 
+    @Test
+    public void rawOperationsSupportAliasedResult() {
+        for (int i = 0; i < 1000; i++) {
+            // Arrange:
+            final Ed25519FieldElement f1 = MathUtils.getRandomFieldElement();
+            final Ed25519FieldElement f2 = MathUtils.getRandomFieldElement();
+            final int[] product = f1.getRaw().clone();
+            final int[] square = f1.getRaw().clone();
+            final int[] difference = f1.getRaw().clone();
+
+            // Act:
+            Ed25519FieldElement.multiply(product, f2.getRaw(), product);
+            Ed25519FieldElement.square(square, square, true);
+            Ed25519FieldElement.subtract(difference, f2.getRaw(), difference);
+
+            // Assert:
+            MatcherAssert.assertThat(new Ed25519FieldElement(product),
+                IsEqual.equalTo(f1.multiply(f2)));
+            MatcherAssert.assertThat(new Ed25519FieldElement(square),
+                IsEqual.equalTo(f1.squareAndDouble()));
+            MatcherAssert.assertThat(new Ed25519FieldElement(difference),
+                IsEqual.equalTo(f1.subtract(f2)));
+        }
+    }
+
+    @Test
+    public void cmovOnlyMovesIfBIsOne() {
+        // Arrange:
+        final Ed25519FieldElement f1 = MathUtils.getRandomFieldElement();
+        final Ed25519FieldElement f2 = MathUtils.getRandomFieldElement();
+        final int[] notMoved = f1.getRaw().clone();
+        final int[] moved = f1.getRaw().clone();
+
+        // Act:
+        Ed25519FieldElement.cmov(notMoved, f2.getRaw(), 0);
+        Ed25519FieldElement.cmov(moved, f2.getRaw(), 1);
+
+        // Assert:
+        Assertions.assertArrayEquals(f1.getRaw(), notMoved);
+        Assertions.assertArrayEquals(f2.getRaw(), moved);
+    }
+
     @Test
     public void invertReturnsCorrectResult() {
         for (int i = 0; i < 1000; i++) {
@@ -17,7 +17,12 @@
 package io.nem.symbol.core.crypto.ed25519.arithmetic;
 
 import java.math.BigInteger;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 import org.hamcrest.MatcherAssert;
 import org.hamcrest.core.IsEqual;
 import org.hamcrest.core.IsNot;
@@ -421,6 +426,33 @@ public class Ed25519GroupElementTest {
         }
     }
 
+    @Test
+    public void precomputeForDoubleScalarMultiplicationOfSeveralElementsMatchesSingleTables() {
+        // Arrange:
+        final List<Ed25519GroupElement> groupElements = new ArrayList<>();
+        final List<Ed25519GroupElement> expected = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            final Ed25519GroupElement g = MathUtils.getRandomGroupElement();
+            groupElements.add(g);
+            final Ed25519GroupElement copy = Ed25519GroupElement
+                .p3(g.getX(), g.getY(), g.getZ(), g.getT());
+            copy.precomputeForDoubleScalarMultiplication();
+            expected.add(copy);
+        }
+        groupElements.add(Ed25519Group.BASE_POINT);
+        final Ed25519GroupElement[] baseTable = Ed25519Group.BASE_POINT.getPrecomputedForDouble();
+
+        // Act:
+        Ed25519GroupElement.precomputeForDoubleScalarMultiplication(groupElements);
+
+        // Assert:
+        for (int i = 0; i < expected.size(); i++) {
+            Assertions.assertArrayEquals(expected.get(i).getPrecomputedForDouble(),
+                groupElements.get(i).getPrecomputedForDouble());
+        }
+        Assertions.assertSame(baseTable, Ed25519Group.BASE_POINT.getPrecomputedForDouble());
+    }
+
     @Test
     public void dblReturnsExpectedResult() {
         for (int i = 0; i < 1000; i++) {
@@ -593,6 +625,143 @@ public class Ed25519GroupElementTest {
         }
     }
 
+    @Test
+    public void scalarMultiplyReturnsSameResultFromConcurrentThreads() throws Exception {
+        // Arrange:
+        final Ed25519EncodedFieldElement[] scalars = new Ed25519EncodedFieldElement[50];
+        final Ed25519GroupElement[] expected = new Ed25519GroupElement[scalars.length];
+        for (int i = 0; i < scalars.length; i++) {
+            final Ed25519FieldElement f = MathUtils.getRandomFieldElement();
+            scalars[i] = f.encode();
+            expected[i] = MathUtils.scalarMultiplyGroupElement(Ed25519Group.BASE_POINT, f);
+        }
+        final ExecutorService executor = Executors.newFixedThreadPool(4);
+
+        try {
+            // Act:
+            final List<Future<Ed25519GroupElement[]>> futures = new ArrayList<>();
+            for (int t = 0; t < 4; t++) {
+                futures.add(executor.submit(() -> {
+                    final Ed25519GroupElement[] results = new Ed25519GroupElement[scalars.length];
+                    for (int i = 0; i < scalars.length; i++) {
+                        results[i] = Ed25519Group.BASE_POINT.scalarMultiply(scalars[i]);
+                    }
+                    return results;
+                }));
+            }
+
+            // Assert:
+            for (final Future<Ed25519GroupElement[]> future : futures) {
+                MatcherAssert.assertThat(future.get(), IsEqual.equalTo(expected));
+            }
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    @Test
+    public void toRadix256ReturnsSignedDigitsOfScalar() {
+        final byte[] max = new byte[32];
+        Arrays.fill(max, (byte) 0xFF);
+        max[31] = 0x7F;
+        for (int i = 0; i < 100; i++) {
+            // Arrange:
+            final Ed25519EncodedFieldElement encoded = 0 == i ? new Ed25519EncodedFieldElement(max)
+                : MathUtils.getRandomEncodedFieldElement(32);
+
+            // Act:
+            final int[] digits = Ed25519GroupElement.toRadix256(encoded);
+
+            // Assert:
+            BigInteger value = BigInteger.ZERO;
+            for (int j = digits.length - 1; j >= 0; j--) {
+                Assertions.assertTrue(digits[j] >= -128 && digits[j] <= 128);
+                value = value.shiftLeft(8).add(BigInteger.valueOf(digits[j]));
+            }
+            MatcherAssert.assertThat(value, IsEqual.equalTo(MathUtils.toBigInteger(encoded)));
+        }
+    }
+
+    @Test
+    public void widePrecomputedTableContainsExpectedGroupElements() {
+        // Arrange:
+        final Ed25519GroupElement[][] table = getBasePointWithWideTable().getPrecomputedForWide();
+        Ed25519GroupElement g = Ed25519Group.BASE_POINT;
+
+        // Act + Assert (first entries of every row and the whole first row):
+        for (int i = 0; i < Ed25519GroupElement.WIDE_TABLE_ROWS; i++) {
+            Ed25519GroupElement h = g;
+            final int columns = 0 == i ? Ed25519GroupElement.WIDE_TABLE_COLUMNS : 3;
+            for (int j = 0; j < columns; j++) {
+                MatcherAssert.assertThat(
+                    MathUtils.toRepresentation(h, CoordinateSystem.PRECOMPUTED),
+                    IsEqual.equalTo(table[i][j]));
+                h = MathUtils.addGroupElements(h, g);
+            }
+            for (int k = 0; k < 16; k++) {
+                g = MathUtils.addGroupElements(g, g);
+            }
+        }
+    }
+
+    @Test
+    public void scalarMultiplyWideReturnsSameResultAsScalarMultiply() {
+        // Arrange:
+        final Ed25519GroupElement basePoint = getBasePointWithWideTable();
+        final byte[] max = new byte[32];
+        Arrays.fill(max, (byte) 0xFF);
+        max[31] = 0x7F;
+        final byte[] digits128 = new byte[32];
+        Arrays.fill(digits128, (byte) 0x80);
+        digits128[31] = 0x7F;
+
+        for (int i = 0; i < 100; i++) {
+            final Ed25519EncodedFieldElement encoded;
+            if (0 == i) {
+                encoded = new Ed25519EncodedFieldElement(max);
+            } else if (1 == i) {
+                encoded = new Ed25519EncodedFieldElement(digits128);
+            } else if (2 == i) {
+                encoded = Ed25519Field.ZERO.encode();
+            } else {
+                encoded = MathUtils.getRandomEncodedFieldElement(32);
+            }
+
+            // Act:
+            final Ed25519GroupElement g = basePoint.scalarMultiplyWide(encoded);
+
+            // Assert:
+            MatcherAssert.assertThat(g, IsEqual.equalTo(basePoint.scalarMultiply(encoded)));
+        }
+    }
+
+    @Test
+    public void scalarMultiplyClearsTheDigitsOfTheScalar() {
+        // Arrange:
+        final Ed25519GroupElement basePoint = getBasePointWithWideTable();
+        final Ed25519EncodedFieldElement encoded = MathUtils.getRandomEncodedFieldElement(32);
+        final Ed25519GroupWorkspace workspace = Ed25519GroupWorkspace.get();
+
+        // Act:
+        basePoint.scalarMultiply(encoded);
+        basePoint.scalarMultiplyWide(encoded);
+
+        // Assert:
+        Assertions.assertArrayEquals(new byte[64], workspace.radix16);
+        Assertions.assertArrayEquals(new int[32], workspace.radix256);
+    }
+
+    /**
+     * The wide table of the shared base point is only built if the signer tests enable it, a copy
+     * is used so these tests don't depend on that.
+     */
+    private static Ed25519GroupElement getBasePointWithWideTable() {
+        final Ed25519GroupElement basePoint = Ed25519Group.BASE_POINT.toP3();
+        basePoint.precomputeForScalarMultiplication();
+        basePoint.precomputeForWideScalarMultiplication();
+        return basePoint;
+    }
+
     // This test is slow (~6s) due to math utils using an inferior algorithm to calculate the result.
     @Test
     public void doubleScalarMultiplyVariableTimeReturnsExpectedResult() {
@@ -615,6 +784,53 @@ public class Ed25519GroupElementTest {
         }
     }
 
+    @Test
+    public void multiScalarMultiplyVariableTimeReturnsExpectedResult() {
+        for (int i = 0; i < 5; i++) {
+            // Arrange:
+            final Ed25519GroupElement[] groupElements = new Ed25519GroupElement[4];
+            final Ed25519EncodedFieldElement[] scalars = new Ed25519EncodedFieldElement[4];
+            Ed25519GroupElement expected = Ed25519Group.ZERO_P3;
+            for (int j = 0; j < groupElements.length; j++) {
+                groupElements[j] = MathUtils.getRandomGroupElement();
+                groupElements[j].precomputeForDoubleScalarMultiplication();
+                final Ed25519FieldElement f = MathUtils.getRandomFieldElement();
+                scalars[j] = f.encode();
+                expected = MathUtils.addGroupElements(expected,
+                    MathUtils.scalarMultiplyGroupElement(groupElements[j], f));
+            }
+
+            // Act:
+            final Ed25519GroupElement result = Ed25519GroupElement
+                .multiScalarMultiplyVariableTime(Arrays.asList(groupElements),
+                    Arrays.asList(scalars));
+
+            // Assert:
+            MatcherAssert.assertThat(result, IsEqual.equalTo(expected));
+            Assertions.assertFalse(result.isNeutral());
+        }
+    }
+
+    @Test
+    public void multiScalarMultiplyVariableTimeReturnsNeutralElement() {
+        // Arrange:
+        final Ed25519GroupElement g = MathUtils.getRandomGroupElement();
+        g.precomputeForDoubleScalarMultiplication();
+        final Ed25519EncodedFieldElement f = MathUtils.getRandomFieldElement().encode();
+        final Ed25519GroupElement minusG = g.negate();
+        minusG.precomputeForDoubleScalarMultiplication();
+
+        // Act:
+        final Ed25519GroupElement result = Ed25519GroupElement
+            .multiScalarMultiplyVariableTime(Arrays.asList(g, minusG), Arrays.asList(f, f));
+
+        // Assert:
+        Assertions.assertTrue(result.isNeutral());
+        Assertions.assertTrue(Ed25519Group.ZERO_P3.isNeutral());
+        Assertions.assertThrows(IllegalArgumentException.class, () -> Ed25519GroupElement
+            .multiScalarMultiplyVariableTime(Arrays.asList(g), Arrays.asList(f, f)));
+    }
+
     // endregion
 
     @Test
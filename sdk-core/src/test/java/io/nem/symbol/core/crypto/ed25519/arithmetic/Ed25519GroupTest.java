@@ -19,6 +19,7 @@ package io.nem.symbol.core.crypto.ed25519.arithmetic;
 import java.math.BigInteger;
 import org.hamcrest.MatcherAssert;
 import org.hamcrest.core.IsEqual;
+import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
 
 public class Ed25519GroupTest {
@@ -78,4 +79,29 @@ public class Ed25519GroupTest {
         // Assert:
         MatcherAssert.assertThat(zeroPrecomputed, IsEqual.equalTo(Ed25519Group.ZERO_PRECOMPUTED));
     }
+
+    @Test
+    public void scalarMultiplyBaseReturnsSameResultWithWideBaseTable() {
+        final boolean enabled = Ed25519Group.isWideBaseTableEnabled();
+        try {
+            for (int i = 0; i < 10; i++) {
+                // Arrange:
+                final Ed25519EncodedFieldElement a = MathUtils.getRandomEncodedFieldElement(32);
+
+                // Act:
+                Ed25519Group.setWideBaseTableEnabled(false);
+                final Ed25519GroupElement g = Ed25519Group.scalarMultiplyBase(a);
+                Ed25519Group.setWideBaseTableEnabled(true);
+                final Ed25519GroupElement h = Ed25519Group.scalarMultiplyBase(a);
+
+                // Assert:
+                MatcherAssert
+                    .assertThat(g, IsEqual.equalTo(Ed25519Group.BASE_POINT.scalarMultiply(a)));
+                MatcherAssert.assertThat(h, IsEqual.equalTo(g));
+            }
+            Assertions.assertNotNull(Ed25519Group.BASE_POINT.getPrecomputedForWide());
+        } finally {
+            Ed25519Group.setWideBaseTableEnabled(enabled);
+        }
+    }
 }
@@ -0,0 +1,162 @@
+/*
+ * Copyright 2020 NEM
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.nem.symbol.core.crypto.ed25519.arithmetic;
+
+import io.nem.symbol.sdk.infrastructure.RandomUtils;
+import java.math.BigInteger;
+import java.util.Arrays;
+import java.util.Random;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests of {@link Ed25519Radix51FieldElement}, they rely on the BigInteger class.
+ */
+public class Ed25519Radix51FieldElementTest {
+
+    private static final BigInteger P = Ed25519Field.P;
+
+    private static byte[] randomEncoding() {
+        final byte[] bytes = RandomUtils.generateRandomBytes(32);
+        bytes[31] &= 0x7F;
+        return bytes;
+    }
+
+    private static BigInteger toBigInteger(final byte[] bytes) {
+        return MathUtils.toBigInteger(bytes).mod(P);
+    }
+
+    private static BigInteger toBigInteger(final Ed25519Radix51FieldElement element) {
+        return MathUtils.toBigInteger(element.encode());
+    }
+
+    private static byte[][] getEncodings() {
+        final byte[] max = new byte[32];
+        Arrays.fill(max, (byte) 0xFF);
+        max[31] = 0x7F;
+        final byte[][] encodings = new byte[22][];
+        encodings[0] = new byte[32];
+        encodings[1] = max;
+        for (int i = 2; i < encodings.length; i++) {
+            encodings[i] = randomEncoding();
+        }
+        return encodings;
+    }
+
+    @Test
+    void multiplyHighPortableMatchesBigInteger() {
+        final Random random = new Random(7);
+        final long[] values = {0, 1, -1, Long.MAX_VALUE, Long.MIN_VALUE, 1L << 51, (1L << 56) - 1};
+        for (int i = 0; i < 1000; i++) {
+            final long x = i < values.length ? values[i] : random.nextLong();
+            final long y = i < values.length ? values[values.length - 1 - i] : random.nextLong();
+            final long expected = BigInteger.valueOf(x).multiply(BigInteger.valueOf(y))
+                .shiftRight(64).longValue();
+            Assertions
+                .assertEquals(expected, Ed25519Radix51FieldElement.multiplyHighPortable(x, y));
+            Assertions.assertEquals(expected, Ed25519Radix51FieldElement.multiplyHigh(x, y));
+        }
+    }
+
+    @Test
+    void encodeReturnsCanonicalEncoding() {
+        for (final byte[] encoding : getEncodings()) {
+            final BigInteger expected = toBigInteger(encoding);
+            Assertions.assertEquals(expected,
+                toBigInteger(Ed25519Radix51FieldElement.decode(encoding)));
+        }
+        // p + 1 is encoded as 1
+        final byte[] pPlusOne = MathUtils.toByteArray(P.add(BigInteger.ONE));
+        Assertions.assertArrayEquals(Ed25519Radix51FieldElement.ONE.encode(),
+            Ed25519Radix51FieldElement.decode(pPlusOne).encode());
+    }
+
+    @Test
+    void cannotDecodeInvalidLength() {
+        Assertions.assertThrows(IllegalArgumentException.class,
+            () -> Ed25519Radix51FieldElement.decode(new byte[31]));
+    }
+
+    @Test
+    void arithmeticMatchesBigInteger() {
+        final byte[][] encodings = getEncodings();
+        for (final byte[] first : encodings) {
+            for (final byte[] second : encodings) {
+                final Ed25519Radix51FieldElement f = Ed25519Radix51FieldElement.decode(first);
+                final Ed25519Radix51FieldElement g = Ed25519Radix51FieldElement.decode(second);
+                final BigInteger a = toBigInteger(first);
+                final BigInteger b = toBigInteger(second);
+
+                Assertions.assertEquals(a.add(b).mod(P), toBigInteger(f.add(g)));
+                Assertions.assertEquals(a.subtract(b).mod(P), toBigInteger(f.subtract(g)));
+                Assertions.assertEquals(a.multiply(b).mod(P), toBigInteger(f.multiply(g)));
+                // chained operations without intermediate encoding
+                Assertions.assertEquals(a.add(b).multiply(a.subtract(b)).mod(P),
+                    toBigInteger(f.add(g).multiply(f.subtract(g))));
+            }
+        }
+    }
+
+    @Test
+    void squareMatchesMultiply() {
+        for (final byte[] encoding : getEncodings()) {
+            final Ed25519Radix51FieldElement f = Ed25519Radix51FieldElement.decode(encoding);
+            final BigInteger a = toBigInteger(encoding);
+            Assertions.assertEquals(a.multiply(a).mod(P), toBigInteger(f.square()));
+            Assertions.assertEquals(a.pow(8).mod(P), toBigInteger(f.squareTimes(3)));
+            Assertions.assertEquals(f.multiply(f), f.square());
+        }
+    }
+
+    @Test
+    void invertAndPowMatchBigInteger() {
+        final BigInteger exponent = BigInteger.ONE.shiftLeft(252).subtract(BigInteger.valueOf(3));
+        for (final byte[] encoding : getEncodings()) {
+            final Ed25519Radix51FieldElement f = Ed25519Radix51FieldElement.decode(encoding);
+            final BigInteger a = toBigInteger(encoding);
+            Assertions.assertEquals(a.modPow(P.subtract(BigInteger.valueOf(2)), P),
+                toBigInteger(f.invert()));
+            Assertions.assertEquals(a.modPow(exponent, P), toBigInteger(f.pow22523()));
+        }
+    }
+
+    @Test
+    void constantsMatchEd25519Field() {
+        Assertions.assertArrayEquals(Ed25519Field.D.encode().getRaw(),
+            Ed25519Radix51FieldElement.D.encode());
+        Assertions.assertArrayEquals(Ed25519Field.I.encode().getRaw(),
+            Ed25519Radix51FieldElement.I.encode());
+        Assertions.assertEquals(Ed25519Radix51FieldElement.ONE.negate(),
+            Ed25519Radix51FieldElement.I.square());
+    }
+
+    @Test
+    void cmovSelectsElement() {
+        final Ed25519Radix51FieldElement f = Ed25519Radix51FieldElement.decode(randomEncoding());
+        final Ed25519Radix51FieldElement g = Ed25519Radix51FieldElement.decode(randomEncoding());
+        Assertions.assertEquals(f, f.cmov(g, 0));
+        Assertions.assertEquals(g, f.cmov(g, 1));
+    }
+
+    @Test
+    void isNegativeAndIsNonZero() {
+        Assertions.assertFalse(Ed25519Radix51FieldElement.ZERO.isNonZero());
+        Assertions.assertTrue(Ed25519Radix51FieldElement.ONE.isNonZero());
+        Assertions.assertTrue(Ed25519Radix51FieldElement.ONE.isNegative());
+        Assertions.assertFalse(Ed25519Radix51FieldElement.ONE.negate().isNegative());
+    }
+}
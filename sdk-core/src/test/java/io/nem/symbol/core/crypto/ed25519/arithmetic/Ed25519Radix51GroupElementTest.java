@@ -0,0 +1,113 @@
+/*
+ * Copyright 2020 NEM
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.nem.symbol.core.crypto.ed25519.arithmetic;
+
+import io.nem.symbol.sdk.infrastructure.RandomUtils;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests of {@link Ed25519Radix51GroupElement} against the ref10 {@link Ed25519GroupElement}.
+ */
+public class Ed25519Radix51GroupElementTest {
+
+    private static Ed25519Radix51GroupElement toRadix51(final Ed25519GroupElement element) {
+        return Ed25519Radix51GroupElement.decode(element.encode().getRaw());
+    }
+
+    @Test
+    void decodeAndEncodeRoundTrip() {
+        for (int i = 0; i < 20; i++) {
+            final Ed25519GroupElement element = MathUtils.getRandomGroupElement();
+            final byte[] encoded = element.encode().getRaw();
+            Assertions.assertArrayEquals(encoded,
+                Ed25519Radix51GroupElement.decode(encoded).encode());
+        }
+    }
+
+    @Test
+    void decodeThrowsIfEncodingIsNotAValidPoint() {
+        // y = 2 is not the y coordinate of a point of the curve.
+        final byte[] encoded = new byte[32];
+        encoded[0] = 2;
+        Assertions.assertThrows(IllegalArgumentException.class,
+            () -> new Ed25519EncodedGroupElement(encoded).decode());
+        Assertions.assertThrows(IllegalArgumentException.class,
+            () -> Ed25519Radix51GroupElement.decode(encoded));
+    }
+
+    @Test
+    void encodeThrowsIfElementHasCachedRepresentation() {
+        final Ed25519Radix51GroupElement cached = toRadix51(MathUtils.getRandomGroupElement())
+            .toCached();
+        Assertions.assertThrows(UnsupportedOperationException.class, cached::encode);
+    }
+
+    @Test
+    void dblAndAddReturnExpectedResult() {
+        for (int i = 0; i < 10; i++) {
+            final Ed25519GroupElement g = MathUtils.getRandomGroupElement();
+            final Ed25519GroupElement h = MathUtils.getRandomGroupElement();
+            final Ed25519Radix51GroupElement g51 = toRadix51(g);
+            final Ed25519Radix51GroupElement h51 = toRadix51(h);
+
+            Assertions.assertArrayEquals(g.dbl().toP2().encode().getRaw(),
+                g51.dbl().toP2().encode());
+            Assertions.assertArrayEquals(g.add(h.toCached()).toP2().encode().getRaw(),
+                g51.add(h51.toCached()).toP2().encode());
+            Assertions.assertArrayEquals(g.subtract(h.toCached()).toP2().encode().getRaw(),
+                g51.subtract(h51.toCached()).toP2().encode());
+        }
+    }
+
+    @Test
+    void scalarMultiplyBaseReturnsExpectedResult() {
+        for (int i = 0; i < 10; i++) {
+            final Ed25519EncodedFieldElement a = MathUtils.getRandomEncodedFieldElement(32);
+            final Ed25519EncodedFieldElement aModQ = new Ed25519EncodedFieldElement(
+                RandomUtils.generateRandomBytes(64)).modQ();
+
+            Assertions.assertArrayEquals(
+                Ed25519Group.BASE_POINT.scalarMultiply(a).encode().getRaw(),
+                Ed25519Radix51GroupElement.scalarMultiplyBase(a).encode());
+            Assertions.assertArrayEquals(
+                Ed25519Group.BASE_POINT.scalarMultiply(aModQ).encode().getRaw(),
+                Ed25519Radix51GroupElement.scalarMultiplyBase(aModQ).encode());
+        }
+    }
+
+    @Test
+    void doubleScalarMultiplyBaseVariableTimeReturnsExpectedResult() {
+        for (int i = 0; i < 10; i++) {
+            final Ed25519GroupElement aElement = MathUtils.getRandomGroupElement();
+            aElement.precomputeForDoubleScalarMultiplication();
+            final Ed25519EncodedFieldElement a = new Ed25519EncodedFieldElement(
+                RandomUtils.generateRandomBytes(64)).modQ();
+            final Ed25519EncodedFieldElement b = new Ed25519EncodedFieldElement(
+                RandomUtils.generateRandomBytes(64)).modQ();
+
+            final Ed25519Radix51GroupElement[] table = Ed25519Radix51GroupElement
+                .precomputeForDoubleScalarMultiplication(toRadix51(aElement));
+
+            Assertions.assertArrayEquals(
+                Ed25519Group.BASE_POINT.doubleScalarMultiplyVariableTime(aElement, a, b).encode()
+                    .getRaw(),
+                Ed25519Radix51GroupElement.doubleScalarMultiplyBaseVariableTime(table, a, b)
+                    .encode());
+        }
+    }
+}
@@ -45,12 +45,20 @@ class RepositoryFactoryConfigurationTest {
             NamespaceId.createFromName("my.custom.harvest"), 3)
             .build();
         configuration.withHarvestCurrency(networkHarvestCurrency);
+        Assertions.assertFalse(configuration.isStreamingTransactionDecoding());
+        configuration.withStreamingTransactionDecoding(true);
+        Assertions.assertNull(configuration.getMaxRequests());
+        Assertions.assertNull(configuration.getMaxRequestsPerHost());
+        configuration.withMaxRequests(256).withMaxRequestsPerHost(128);
 
         Assertions.assertEquals("http://localhost:3000", configuration.getBaseUrl());
         Assertions.assertEquals("abc", configuration.getGenerationHash());
         Assertions.assertEquals(NetworkType.MAIN_NET, configuration.getNetworkType());
         Assertions.assertEquals(networkCurrency, configuration.getNetworkCurrency());
         Assertions.assertEquals(networkHarvestCurrency, configuration.getHarvestCurrency());
+        Assertions.assertTrue(configuration.isStreamingTransactionDecoding());
+        Assertions.assertEquals(256, configuration.getMaxRequests().intValue());
+        Assertions.assertEquals(128, configuration.getMaxRequestsPerHost().intValue());
     }
 
     @Test
@@ -69,12 +77,18 @@ class RepositoryFactoryConfigurationTest {
             NamespaceId.createFromName("my.custom.harvest"), 3)
             .build();
         configuration.setHarvestCurrency(networkHarvestCurrency);
+        configuration.setStreamingTransactionDecoding(true);
+        configuration.setMaxRequests(256);
+        configuration.setMaxRequestsPerHost(128);
 
         Assertions.assertEquals("http://localhost:3000", configuration.getBaseUrl());
         Assertions.assertEquals("abc", configuration.getGenerationHash());
         Assertions.assertEquals(NetworkType.MAIN_NET, configuration.getNetworkType());
         Assertions.assertEquals(networkCurrency, configuration.getNetworkCurrency());
         Assertions.assertEquals(networkHarvestCurrency, configuration.getHarvestCurrency());
+        Assertions.assertTrue(configuration.isStreamingTransactionDecoding());
+        Assertions.assertEquals(256, configuration.getMaxRequests().intValue());
+        Assertions.assertEquals(128, configuration.getMaxRequestsPerHost().intValue());
 
     }
 }
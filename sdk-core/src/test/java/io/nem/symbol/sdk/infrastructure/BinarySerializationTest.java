@@ -24,6 +24,8 @@ import io.nem.symbol.sdk.model.message.PlainMessage;
 import io.nem.symbol.sdk.model.mosaic.Mosaic;
 import io.nem.symbol.sdk.model.mosaic.MosaicId;
 import io.nem.symbol.sdk.model.network.NetworkType;
+import io.nem.symbol.sdk.model.transaction.AggregateTransaction;
+import io.nem.symbol.sdk.model.transaction.AggregateTransactionFactory;
 import io.nem.symbol.sdk.model.transaction.FakeDeadline;
 import io.nem.symbol.sdk.model.transaction.SignedTransaction;
 import io.nem.symbol.sdk.model.transaction.Transaction;
@@ -31,9 +33,14 @@ import io.nem.symbol.sdk.model.transaction.TransactionType;
 import io.nem.symbol.sdk.model.transaction.TransferTransaction;
 import io.nem.symbol.sdk.model.transaction.TransferTransactionFactory;
 import java.math.BigInteger;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.List;
+import java.util.concurrent.ForkJoinPool;
 import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
 
@@ -133,4 +140,157 @@ class BinarySerializationTest {
 
     }
 
+    @Test
+    void testSerializeIntoReusedBuffer() {
+        BinarySerializationImpl binarySerialization = new BinarySerializationImpl();
+        TransferTransaction transaction =
+            TransferTransactionFactory.create(
+                NetworkType.MIJIN_TEST,
+                new Address("SDUP5PLHDXKBX3UU5Q52LAY4WYEKGEWC6IB3VBFM", NetworkType.MIJIN_TEST),
+                Arrays.asList(
+                    new Mosaic(
+                        new MosaicId(new BigInteger("95442763262823")), BigInteger.valueOf(100))),
+                new PlainMessage("Some Message")).deadline(new FakeDeadline()).build();
+        SignedTransaction signedTransaction = transaction.signWith(account, generationHash);
+        Transaction signed = binarySerialization
+            .deserialize(ConvertUtils.getBytes(signedTransaction.getPayload()));
+
+        ByteBuffer buffer = ByteBuffer.allocateDirect(1024).order(ByteOrder.BIG_ENDIAN);
+
+        int signedSize = binarySerialization.serializeInto(signed, buffer);
+        Assertions.assertEquals(signed.getSize(), signedSize);
+        Assertions.assertEquals(signedSize, buffer.position());
+        Assertions.assertEquals(ByteOrder.BIG_ENDIAN, buffer.order());
+        Assertions.assertEquals(signedTransaction.getPayload(), ConvertUtils.toHex(read(buffer)));
+
+        buffer.clear();
+        int size = binarySerialization.serializeInto(transaction, buffer);
+        Assertions.assertEquals(signedSize, size);
+        Assertions.assertEquals(ConvertUtils.toHex(binarySerialization.serialize(transaction)),
+            ConvertUtils.toHex(read(buffer)));
+
+        Assertions.assertThrows(IllegalArgumentException.class,
+            () -> binarySerialization.serializeInto(transaction, ByteBuffer.allocate(size - 1)));
+    }
+
+    @Test
+    void testDeserializeAggregateFollowedByTransferFromOneBuffer() {
+        BinarySerializationImpl binarySerialization = new BinarySerializationImpl();
+        Account cosigner = Account.generateNewAccount(NetworkType.MIJIN_TEST);
+        TransferTransaction transfer = TransferTransactionFactory.create(NetworkType.MIJIN_TEST,
+            new Address("SDUP5PLHDXKBX3UU5Q52LAY4WYEKGEWC6IB3VBFM", NetworkType.MIJIN_TEST),
+            Arrays.asList(), new PlainMessage("Some Message")).deadline(new FakeDeadline())
+            .build();
+        AggregateTransaction aggregate = AggregateTransactionFactory.createComplete(
+            NetworkType.MIJIN_TEST,
+            Collections.singletonList(transfer.toAggregate(account.getPublicAccount())))
+            .deadline(new FakeDeadline()).build();
+        byte[] aggregatePayload = ConvertUtils.getBytes(aggregate
+            .signTransactionWithCosigners(account, Collections.singletonList(cosigner),
+                generationHash).getPayload());
+        byte[] transferPayload = binarySerialization.serialize(transfer);
+
+        ByteBuffer buffer = ByteBuffer.allocateDirect(
+            aggregatePayload.length + transferPayload.length + 3);
+        buffer.put(aggregatePayload).put(transferPayload).put(new byte[] {1, 2, 3}).flip();
+
+        AggregateTransaction deserializedAggregate = (AggregateTransaction) binarySerialization
+            .deserialize(buffer);
+        Assertions.assertEquals(aggregatePayload.length, buffer.position());
+        Assertions.assertEquals(1, deserializedAggregate.getCosignatures().size());
+        Assertions.assertEquals(cosigner.getPublicAccount(),
+            deserializedAggregate.getCosignatures().get(0).getSigner());
+        Assertions.assertEquals(1, deserializedAggregate.getInnerTransactions().size());
+
+        TransferTransaction deserializedTransfer = (TransferTransaction) binarySerialization
+            .deserialize(buffer);
+        Assertions.assertEquals(aggregatePayload.length + transferPayload.length,
+            buffer.position());
+        Assertions.assertEquals("Some Message", deserializedTransfer.getMessage().getPayload());
+
+        Assertions.assertThrows(IllegalArgumentException.class,
+            () -> binarySerialization.deserialize(buffer));
+    }
+
+    @Test
+    void testDeserializeAllKeepsOrder() {
+        BinarySerializationImpl binarySerialization = new BinarySerializationImpl();
+        List<byte[]> payloads = IntStream.range(0, 500).mapToObj(
+            i -> TransferTransactionFactory.create(NetworkType.MIJIN_TEST,
+                new Address("SDUP5PLHDXKBX3UU5Q52LAY4WYEKGEWC6IB3VBFM", NetworkType.MIJIN_TEST),
+                Arrays.asList(), new PlainMessage("Message " + i)).maxFee(BigInteger.valueOf(i))
+                .deadline(new FakeDeadline()).build().serialize()).collect(Collectors.toList());
+
+        ForkJoinPool pool = new ForkJoinPool(4);
+        try {
+            List<Transaction> transactions = binarySerialization.deserializeAll(payloads, pool);
+            Assertions.assertEquals(payloads.size(), transactions.size());
+            for (int i = 0; i < payloads.size(); i++) {
+                Assertions.assertEquals(BigInteger.valueOf(i), transactions.get(i).getMaxFee());
+            }
+        } finally {
+            pool.shutdown();
+        }
+
+        List<BigInteger> expectedFees = IntStream.range(0, 500).mapToObj(BigInteger::valueOf)
+            .collect(Collectors.toList());
+        Assertions.assertEquals(expectedFees, binarySerialization
+            .deserializeAll(payloads.parallelStream()).map(Transaction::getMaxFee)
+            .collect(Collectors.toList()));
+        Assertions.assertEquals(expectedFees,
+            binarySerialization.deserializeAll(payloads.stream()).map(Transaction::getMaxFee)
+                .collect(Collectors.toList()));
+    }
+
+    @Test
+    void testDeserializeAllKeepsTheStreamMode() {
+        BinarySerializationImpl binarySerialization = new BinarySerializationImpl();
+        List<byte[]> payloads = Collections.singletonList(binarySerialization.serialize(
+            TransferTransactionFactory.create(NetworkType.MIJIN_TEST,
+                new Address("SDUP5PLHDXKBX3UU5Q52LAY4WYEKGEWC6IB3VBFM", NetworkType.MIJIN_TEST),
+                Arrays.asList(), new PlainMessage("Message")).deadline(new FakeDeadline())
+                .build()));
+
+        Assertions.assertFalse(binarySerialization.deserializeAll(payloads.stream()).isParallel());
+        Assertions
+            .assertTrue(binarySerialization.deserializeAll(payloads.parallelStream()).isParallel());
+    }
+
+    @Test
+    void testDeserializeAllPropagatesErrors() {
+        BinarySerializationImpl binarySerialization = new BinarySerializationImpl();
+        List<byte[]> payloads = Arrays.asList(new byte[] {1, 2, 3});
+        Assertions.assertThrows(RuntimeException.class,
+            () -> binarySerialization.deserializeAll(payloads));
+    }
+
+    @Test
+    void testDeserializeAllPropagatesErrorsFromThePool() {
+        BinarySerializationImpl binarySerialization = new BinarySerializationImpl();
+        // More payloads than the split threshold, so they are decoded by the pool's workers.
+        List<byte[]> payloads = IntStream.range(0, 500).mapToObj(
+            i -> TransferTransactionFactory.create(NetworkType.MIJIN_TEST,
+                new Address("SDUP5PLHDXKBX3UU5Q52LAY4WYEKGEWC6IB3VBFM", NetworkType.MIJIN_TEST),
+                Arrays.asList(), new PlainMessage("Message " + i)).deadline(new FakeDeadline())
+                .build().serialize()).collect(Collectors.toList());
+        payloads.set(350, new byte[]{1, 2, 3});
+
+        Assertions.assertThrows(RuntimeException.class,
+            () -> binarySerialization.deserializeAll(payloads));
+        ForkJoinPool pool = new ForkJoinPool(4);
+        try {
+            Assertions.assertThrows(RuntimeException.class,
+                () -> binarySerialization.deserializeAll(payloads, pool));
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    private static byte[] read(ByteBuffer buffer) {
+        buffer.flip();
+        byte[] bytes = new byte[buffer.remaining()];
+        buffer.get(bytes);
+        return bytes;
+    }
+
 }
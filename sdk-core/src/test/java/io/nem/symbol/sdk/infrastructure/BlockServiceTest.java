@@ -16,6 +16,9 @@
 
 package io.nem.symbol.sdk.infrastructure;
 
+import io.nem.symbol.core.crypto.Hashes;
+import io.nem.symbol.core.crypto.MerkleHashBuilder;
+import io.nem.symbol.core.utils.ConvertUtils;
 import io.nem.symbol.sdk.api.BlockRepository;
 import io.nem.symbol.sdk.api.BlockService;
 import io.nem.symbol.sdk.api.ReceiptRepository;
@@ -27,6 +30,7 @@ import io.nem.symbol.sdk.model.blockchain.Position;
 import io.reactivex.Observable;
 import java.math.BigInteger;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 import java.util.concurrent.ExecutionException;
 import org.junit.jupiter.api.Assertions;
@@ -295,4 +299,53 @@ class BlockServiceTest {
         Assertions.assertFalse(service.isValidStatementInBlock(height, leaf).toFuture().get());
 
     }
+
+    @Test
+    void isValidTransactionsInBlock() throws ExecutionException, InterruptedException {
+
+        BigInteger height = BigInteger.ONE;
+        MerkleHashBuilder builder = new MerkleHashBuilder();
+        List<String> hashes = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            byte[] hash = Hashes.sha3_256(new byte[]{(byte) i});
+            hashes.add(ConvertUtils.toHex(hash));
+            builder.update(hash);
+        }
+        String root = ConvertUtils.toHex(builder.getRootHash());
+
+        BlockInfo blockInfo = Mockito.mock(BlockInfo.class);
+        Mockito.when(blockInfo.getBlockTransactionsHash()).thenReturn(root);
+        Mockito.when(blockRepositoryMock.getBlockByHeight(height))
+            .thenReturn(Observable.just(blockInfo));
+
+        for (int i = 0; i < hashes.size(); i++) {
+            Mockito.when(blockRepositoryMock.getMerkleTransaction(height, hashes.get(i)))
+                .thenReturn(Observable.just(new MerkleProofInfo(builder.getProof(i))));
+        }
+        String invalidHash = "1234";
+        Mockito.when(blockRepositoryMock.getMerkleTransaction(height, invalidHash))
+            .thenReturn(Observable.just(new MerkleProofInfo(builder.getProof(0))));
+        String failingHash = "5678";
+        Mockito.when(blockRepositoryMock.getMerkleTransaction(height, failingHash))
+            .thenReturn(Observable.error(new RuntimeException("Some Error")));
+
+        List<String> transactionHashes = new ArrayList<>(hashes);
+        transactionHashes.add(1, invalidHash);
+        transactionHashes.add(failingHash);
+
+        Assertions.assertEquals(Arrays.asList(true, false, true, true, true, true, false),
+            service.isValidTransactionsInBlock(height, transactionHashes).toFuture().get());
+        Mockito.verify(blockRepositoryMock, Mockito.times(1)).getBlockByHeight(height);
+    }
+
+    @Test
+    void isValidTransactionsInBlockOnBlockError() throws ExecutionException, InterruptedException {
+
+        BigInteger height = BigInteger.ONE;
+        Mockito.when(blockRepositoryMock.getBlockByHeight(height))
+            .thenReturn(Observable.error(new RuntimeException("Some Error When getting Block")));
+
+        Assertions.assertEquals(Arrays.asList(false, false), service
+            .isValidTransactionsInBlock(height, Arrays.asList("1234", "5678")).toFuture().get());
+    }
 }
@@ -0,0 +1,260 @@
+/*
+ * Copyright 2020 NEM
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.nem.symbol.sdk.infrastructure;
+
+import io.nem.symbol.sdk.api.AccountRepository;
+import io.nem.symbol.sdk.api.BlockRepository;
+import io.nem.symbol.sdk.api.ChainRepository;
+import io.nem.symbol.sdk.api.ReceiptRepository;
+import io.nem.symbol.sdk.api.RepositoryFactory;
+import io.nem.symbol.sdk.api.TransactionRepository;
+import io.nem.symbol.sdk.model.account.AccountInfo;
+import io.nem.symbol.sdk.model.account.Address;
+import io.nem.symbol.sdk.model.blockchain.BlockInfo;
+import io.nem.symbol.sdk.model.message.PlainMessage;
+import io.nem.symbol.sdk.model.network.NetworkType;
+import io.nem.symbol.sdk.model.receipt.Statement;
+import io.nem.symbol.sdk.model.transaction.FakeDeadline;
+import io.nem.symbol.sdk.model.transaction.Transaction;
+import io.nem.symbol.sdk.model.transaction.TransactionInfo;
+import io.nem.symbol.sdk.model.transaction.TransferTransactionFactory;
+import io.reactivex.Observable;
+import java.math.BigInteger;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.atomic.AtomicLong;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+
+/**
+ * Tests of {@link CachingRepositoryFactory}
+ */
+class CachingRepositoryFactoryTest {
+
+    private static final Address ADDRESS = new Address("SDUP5PLHDXKBX3UU5Q52LAY4WYEKGEWC6IB3VBFM",
+        NetworkType.MIJIN_TEST);
+
+    private final AtomicLong currentTimeMillis = new AtomicLong(1000);
+
+    private RepositoryFactory delegate;
+
+    private ChainRepository chainRepository;
+
+    private CachingRepositoryFactory factory;
+
+    @BeforeEach
+    void setup() {
+        delegate = Mockito.mock(RepositoryFactory.class);
+        chainRepository = Mockito.mock(ChainRepository.class);
+        Mockito.when(delegate.createChainRepository()).thenReturn(chainRepository);
+        Mockito.when(chainRepository.getBlockchainHeight())
+            .thenReturn(Observable.just(BigInteger.valueOf(1000)));
+        RepositoryCache cache = new RepositoryCache(CachingRepositoryFactory.DEFAULT_MAX_WEIGHT,
+            CachingRepositoryFactory::estimateSize, currentTimeMillis::get);
+        factory = new CachingRepositoryFactory(delegate, cache, Duration.ofSeconds(5),
+            BigInteger.valueOf(100));
+    }
+
+    private static Transaction createTransaction(BigInteger height, String hash) {
+        return TransferTransactionFactory.create(NetworkType.MIJIN_TEST, ADDRESS,
+            Collections.emptyList(), new PlainMessage("Message")).deadline(new FakeDeadline())
+            .transactionInfo(TransactionInfo.create(height, hash, hash)).build();
+    }
+
+    @Test
+    void shouldCacheBlocksBetweenRepositories()
+        throws ExecutionException, InterruptedException {
+        BlockRepository blockRepository = Mockito.mock(BlockRepository.class);
+        Mockito.when(delegate.createBlockRepository()).thenReturn(blockRepository);
+        BlockInfo blockInfo = Mockito.mock(BlockInfo.class);
+        Mockito.when(blockRepository.getBlockByHeight(BigInteger.TEN))
+            .thenReturn(Observable.just(blockInfo));
+
+        Assertions.assertSame(blockInfo,
+            factory.createBlockRepository().getBlockByHeight(BigInteger.TEN).toFuture().get());
+        Assertions.assertSame(blockInfo,
+            factory.createBlockRepository().getBlockByHeight(BigInteger.TEN).toFuture().get());
+
+        Mockito.verify(blockRepository, Mockito.times(1)).getBlockByHeight(BigInteger.TEN);
+        Mockito.verify(chainRepository, Mockito.times(1)).getBlockchainHeight();
+        Assertions.assertEquals(1, factory.getCache().getHitCount());
+        // The block and the chain height.
+        Assertions.assertEquals(2, factory.getCache().getMissCount());
+    }
+
+    @Test
+    void shouldExpireBlocksThatAreNotFinalized()
+        throws ExecutionException, InterruptedException {
+        BlockRepository blockRepository = Mockito.mock(BlockRepository.class);
+        Mockito.when(delegate.createBlockRepository()).thenReturn(blockRepository);
+        BigInteger height = BigInteger.valueOf(950);
+        BlockInfo blockInfo = Mockito.mock(BlockInfo.class);
+        Mockito.when(blockRepository.getBlockByHeight(height))
+            .thenReturn(Observable.just(blockInfo));
+
+        BlockRepository repository = factory.createBlockRepository();
+        Assertions.assertSame(blockInfo, repository.getBlockByHeight(height).toFuture().get());
+        currentTimeMillis.addAndGet(4999);
+        Assertions.assertSame(blockInfo, repository.getBlockByHeight(height).toFuture().get());
+        Mockito.verify(blockRepository, Mockito.times(1)).getBlockByHeight(height);
+
+        Mockito.when(chainRepository.getBlockchainHeight())
+            .thenReturn(Observable.just(BigInteger.valueOf(1050)));
+        currentTimeMillis.addAndGet(1);
+        Assertions.assertSame(blockInfo, repository.getBlockByHeight(height).toFuture().get());
+        Mockito.verify(blockRepository, Mockito.times(2)).getBlockByHeight(height);
+
+        currentTimeMillis.addAndGet(Duration.ofDays(1).toMillis());
+        Assertions.assertSame(blockInfo, repository.getBlockByHeight(height).toFuture().get());
+        Mockito.verify(blockRepository, Mockito.times(2)).getBlockByHeight(height);
+        Mockito.verify(chainRepository, Mockito.times(2)).getBlockchainHeight();
+    }
+
+    @Test
+    void shouldExpireBlocksWhenTheChainHeightFails()
+        throws ExecutionException, InterruptedException {
+        BlockRepository blockRepository = Mockito.mock(BlockRepository.class);
+        Mockito.when(delegate.createBlockRepository()).thenReturn(blockRepository);
+        BlockInfo blockInfo = Mockito.mock(BlockInfo.class);
+        Mockito.when(blockRepository.getBlockByHeight(BigInteger.TEN))
+            .thenReturn(Observable.just(blockInfo));
+        Mockito.when(chainRepository.getBlockchainHeight())
+            .thenReturn(Observable.error(new IllegalStateException("Not available")));
+
+        BlockRepository repository = factory.createBlockRepository();
+        Assertions.assertSame(blockInfo,
+            repository.getBlockByHeight(BigInteger.TEN).toFuture().get());
+        currentTimeMillis.addAndGet(5000);
+        Assertions.assertSame(blockInfo,
+            repository.getBlockByHeight(BigInteger.TEN).toFuture().get());
+
+        Mockito.verify(blockRepository, Mockito.times(2)).getBlockByHeight(BigInteger.TEN);
+    }
+
+    @Test
+    void shouldCacheBlockTransactions() throws ExecutionException, InterruptedException {
+        BlockRepository blockRepository = Mockito.mock(BlockRepository.class);
+        Mockito.when(delegate.createBlockRepository()).thenReturn(blockRepository);
+        List<Transaction> transactions = Arrays
+            .asList(createTransaction(BigInteger.TEN, "AAAA"),
+                createTransaction(BigInteger.TEN, "BBBB"));
+        Mockito.when(blockRepository.getBlockTransactions(BigInteger.TEN))
+            .thenReturn(Observable.just(transactions));
+
+        BlockRepository repository = factory.createBlockRepository();
+        Assertions.assertEquals(transactions,
+            repository.getBlockTransactions(BigInteger.TEN).toFuture().get());
+        Assertions.assertEquals(transactions,
+            repository.getBlockTransactions(BigInteger.TEN, null).toFuture().get());
+
+        Mockito.verify(blockRepository, Mockito.times(1)).getBlockTransactions(BigInteger.TEN);
+        // The transactions and the chain height.
+        Assertions.assertEquals(
+            CachingRepositoryFactory.estimateSize(Collections.emptyList())
+                + transactions.get(0).getSize() + transactions.get(1).getSize()
+                + CachingRepositoryFactory.estimateSize(BigInteger.valueOf(1000)),
+            factory.getCache().getWeight());
+    }
+
+    @Test
+    void shouldEvictEmptyCollections() {
+        RepositoryCache cache = new RepositoryCache(1024, CachingRepositoryFactory::estimateSize);
+        long entrySize = CachingRepositoryFactory.estimateSize(Collections.emptyList());
+        Assertions.assertTrue(entrySize > 0);
+
+        for (int i = 0; i < 1000; i++) {
+            cache.put(Arrays.asList("blockTransactions", BigInteger.valueOf(i)),
+                Collections.emptyList(), null);
+        }
+
+        Assertions.assertEquals(1024 / entrySize, cache.size());
+        Assertions.assertEquals(1000 - 1024 / entrySize, cache.getEvictionCount());
+        Assertions.assertTrue(cache.getWeight() <= cache.getMaxWeight());
+    }
+
+    @Test
+    void shouldCacheBlockReceipts() throws ExecutionException, InterruptedException {
+        ReceiptRepository receiptRepository = Mockito.mock(ReceiptRepository.class);
+        Mockito.when(delegate.createReceiptRepository()).thenReturn(receiptRepository);
+        Statement statement = new Statement(Collections.emptyList(), Collections.emptyList(),
+            Collections.emptyList());
+        Mockito.when(receiptRepository.getBlockReceipts(BigInteger.TEN))
+            .thenReturn(Observable.just(statement));
+
+        ReceiptRepository repository = factory.createReceiptRepository();
+        Assertions.assertSame(statement,
+            repository.getBlockReceipts(BigInteger.TEN).toFuture().get());
+        Assertions.assertSame(statement,
+            repository.getBlockReceipts(BigInteger.TEN).toFuture().get());
+
+        Mockito.verify(receiptRepository, Mockito.times(1)).getBlockReceipts(BigInteger.TEN);
+    }
+
+    @Test
+    void shouldCacheConfirmedTransactionsOnly() throws ExecutionException, InterruptedException {
+        TransactionRepository transactionRepository = Mockito.mock(TransactionRepository.class);
+        Mockito.when(delegate.createTransactionRepository()).thenReturn(transactionRepository);
+        Transaction confirmed = createTransaction(BigInteger.TEN, "AAAA");
+        Transaction unconfirmed = createTransaction(BigInteger.ZERO, "BBBB");
+        Mockito.when(transactionRepository.getTransaction("AAAA"))
+            .thenReturn(Observable.just(confirmed));
+        Mockito.when(transactionRepository.getTransaction("BBBB"))
+            .thenReturn(Observable.just(unconfirmed));
+
+        TransactionRepository repository = factory.createTransactionRepository();
+        for (int i = 0; i < 2; i++) {
+            Assertions.assertSame(confirmed, repository.getTransaction("AAAA").toFuture().get());
+            Assertions.assertSame(unconfirmed, repository.getTransaction("BBBB").toFuture().get());
+        }
+        Assertions.assertSame(confirmed, repository.getTransaction("aaaa").toFuture().get());
+
+        Mockito.verify(transactionRepository, Mockito.times(1)).getTransaction("AAAA");
+        Mockito.verify(transactionRepository, Mockito.times(2)).getTransaction("BBBB");
+        Mockito.verify(transactionRepository, Mockito.never()).getTransaction("aaaa");
+    }
+
+    @Test
+    void shouldExpireAccountInfos() throws ExecutionException, InterruptedException {
+        AccountRepository accountRepository = Mockito.mock(AccountRepository.class);
+        Mockito.when(delegate.createAccountRepository()).thenReturn(accountRepository);
+        AccountInfo accountInfo = Mockito.mock(AccountInfo.class);
+        Mockito.when(accountRepository.getAccountInfo(ADDRESS))
+            .thenReturn(Observable.just(accountInfo));
+
+        AccountRepository repository = factory.createAccountRepository();
+        Assertions.assertSame(accountInfo, repository.getAccountInfo(ADDRESS).toFuture().get());
+        currentTimeMillis.addAndGet(4999);
+        Assertions.assertSame(accountInfo, repository.getAccountInfo(ADDRESS).toFuture().get());
+        Mockito.verify(accountRepository, Mockito.times(1)).getAccountInfo(ADDRESS);
+
+        currentTimeMillis.addAndGet(1);
+        Assertions.assertSame(accountInfo, repository.getAccountInfo(ADDRESS).toFuture().get());
+        Mockito.verify(accountRepository, Mockito.times(2)).getAccountInfo(ADDRESS);
+    }
+
+    @Test
+    void shouldDelegateNotCachedRepositories() {
+        Assertions.assertSame(chainRepository, factory.createChainRepository());
+
+        factory.close();
+        Mockito.verify(delegate).close();
+    }
+}
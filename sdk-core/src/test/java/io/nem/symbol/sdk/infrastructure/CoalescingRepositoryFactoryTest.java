@@ -0,0 +1,89 @@
+/*
+ * Copyright 2020 NEM
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.nem.symbol.sdk.infrastructure;
+
+import io.nem.symbol.sdk.api.AccountRepository;
+import io.nem.symbol.sdk.api.ChainRepository;
+import io.nem.symbol.sdk.api.RepositoryFactory;
+import io.nem.symbol.sdk.model.account.AccountInfo;
+import io.nem.symbol.sdk.model.account.Address;
+import io.nem.symbol.sdk.model.network.NetworkType;
+import io.reactivex.subjects.PublishSubject;
+import java.math.BigInteger;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+
+/**
+ * Tests of {@link CoalescingRepositoryFactory}
+ */
+class CoalescingRepositoryFactoryTest {
+
+    private RepositoryFactory delegate;
+
+    private CoalescingRepositoryFactory factory;
+
+    @BeforeEach
+    void setup() {
+        delegate = Mockito.mock(RepositoryFactory.class);
+        factory = new CoalescingRepositoryFactory(delegate);
+    }
+
+    @Test
+    void shouldShareConcurrentIdenticalRequests()
+        throws ExecutionException, InterruptedException {
+        ChainRepository chainRepository = Mockito.mock(ChainRepository.class);
+        Mockito.when(delegate.createChainRepository()).thenReturn(chainRepository);
+        PublishSubject<BigInteger> response = PublishSubject.create();
+        Mockito.when(chainRepository.getBlockchainHeight()).thenReturn(response);
+
+        Future<BigInteger> first = factory.createChainRepository().getBlockchainHeight()
+            .toFuture();
+        Future<BigInteger> second = factory.createChainRepository().getBlockchainHeight()
+            .toFuture();
+        response.onNext(BigInteger.TEN);
+        response.onComplete();
+
+        Assertions.assertEquals(BigInteger.TEN, first.get());
+        Assertions.assertEquals(BigInteger.TEN, second.get());
+        Mockito.verify(chainRepository, Mockito.times(1)).getBlockchainHeight();
+        Assertions.assertEquals(0, factory.getCoalescer().size());
+    }
+
+    @Test
+    void shouldNotShareRequestsWithDifferentArguments() {
+        AccountRepository accountRepository = Mockito.mock(AccountRepository.class);
+        Mockito.when(delegate.createAccountRepository()).thenReturn(accountRepository);
+        Address address1 = new Address("SDUP5PLHDXKBX3UU5Q52LAY4WYEKGEWC6IB3VBFM",
+            NetworkType.MIJIN_TEST);
+        Address address2 = new Address("SDRDGFTDLLCB67D4HPGIMIHPNSRYRJRT7DOBGWZY",
+            NetworkType.MIJIN_TEST);
+        Mockito.when(accountRepository.getAccountInfo(Mockito.any(Address.class)))
+            .thenReturn(PublishSubject.<AccountInfo>create());
+
+        AccountRepository repository = factory.createAccountRepository();
+        repository.getAccountInfo(address1).toFuture();
+        repository.getAccountInfo(address1).toFuture();
+        repository.getAccountInfo(address2).toFuture();
+
+        Mockito.verify(accountRepository, Mockito.times(1)).getAccountInfo(address1);
+        Mockito.verify(accountRepository, Mockito.times(1)).getAccountInfo(address2);
+        Assertions.assertEquals(2, factory.getCoalescer().size());
+    }
+}
@@ -0,0 +1,121 @@
+/*
+ * Copyright 2020 NEM
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.nem.symbol.sdk.infrastructure;
+
+import io.reactivex.Observable;
+import java.time.Duration;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests of {@link RepositoryCache}
+ */
+class RepositoryCacheTest {
+
+    private final AtomicLong currentTimeMillis = new AtomicLong(1000);
+
+    private final RepositoryCache cache = new RepositoryCache(10,
+        value -> ((String) value).length(), currentTimeMillis::get);
+
+    @Test
+    void shouldCacheLoadedValues() throws ExecutionException, InterruptedException {
+        AtomicInteger calls = new AtomicInteger();
+
+        for (int i = 0; i < 3; i++) {
+            Assertions.assertEquals("abc", cache.get("key", null, () -> {
+                calls.incrementAndGet();
+                return Observable.just("abc");
+            }).toFuture().get());
+        }
+
+        Assertions.assertEquals(1, calls.get());
+        Assertions.assertEquals(1, cache.getMissCount());
+        Assertions.assertEquals(2, cache.getHitCount());
+        Assertions.assertEquals(1, cache.size());
+        Assertions.assertEquals(3, cache.getWeight());
+    }
+
+    @Test
+    void shouldNotCacheErrors() throws ExecutionException, InterruptedException {
+        ExecutionException exception = Assertions.assertThrows(ExecutionException.class,
+            () -> cache.get("key", null,
+                () -> Observable.<String>error(new IllegalStateException("Not found")))
+                .toFuture().get());
+        Assertions.assertEquals("Not found", exception.getCause().getMessage());
+        Assertions.assertEquals(0, cache.size());
+
+        Assertions.assertEquals("abc",
+            cache.get("key", null, () -> Observable.just("abc")).toFuture().get());
+        Assertions.assertEquals(2, cache.getMissCount());
+    }
+
+    @Test
+    void shouldEvictLeastRecentlyUsedByWeight() {
+        cache.put("a", "1234", null);
+        cache.put("b", "1234", null);
+        Assertions.assertTrue(cache.getIfPresent("a").isPresent());
+
+        cache.put("c", "1234", null);
+
+        Assertions.assertEquals(2, cache.size());
+        Assertions.assertEquals(8, cache.getWeight());
+        Assertions.assertEquals(1, cache.getEvictionCount());
+        Assertions.assertTrue(cache.getIfPresent("a").isPresent());
+        Assertions.assertFalse(cache.getIfPresent("b").isPresent());
+        Assertions.assertTrue(cache.getIfPresent("c").isPresent());
+    }
+
+    @Test
+    void shouldReplaceValuesAndSkipHeavyValues() {
+        cache.put("a", "1234", null);
+        cache.put("a", "12", null);
+        Assertions.assertEquals(2, cache.getWeight());
+
+        cache.put("b", "12345678901", null);
+
+        Assertions.assertFalse(cache.getIfPresent("b").isPresent());
+        Assertions.assertEquals("12", cache.getIfPresent("a").get());
+        Assertions.assertEquals(0, cache.getEvictionCount());
+    }
+
+    @Test
+    void shouldExpireValues() {
+        cache.put("a", "1234", Duration.ofSeconds(5));
+        cache.put("b", "1234", null);
+
+        currentTimeMillis.addAndGet(4999);
+        Assertions.assertTrue(cache.getIfPresent("a").isPresent());
+
+        currentTimeMillis.addAndGet(1);
+        Assertions.assertFalse(cache.getIfPresent("a").isPresent());
+        Assertions.assertTrue(cache.getIfPresent("b").isPresent());
+        Assertions.assertEquals(1, cache.size());
+        Assertions.assertEquals(4, cache.getWeight());
+    }
+
+    @Test
+    void shouldClearValues() {
+        cache.put("a", "1234", null);
+        cache.clear();
+
+        Assertions.assertEquals(0, cache.size());
+        Assertions.assertEquals(0, cache.getWeight());
+        Assertions.assertFalse(cache.getIfPresent("a").isPresent());
+    }
+}
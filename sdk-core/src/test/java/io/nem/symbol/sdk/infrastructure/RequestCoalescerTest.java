@@ -0,0 +1,121 @@
+/*
+ * Copyright 2020 NEM
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.nem.symbol.sdk.infrastructure;
+
+import io.reactivex.Observable;
+import io.reactivex.disposables.Disposable;
+import io.reactivex.subjects.PublishSubject;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests of {@link RequestCoalescer}
+ */
+class RequestCoalescerTest {
+
+    private final RequestCoalescer coalescer = new RequestCoalescer();
+
+    @Test
+    void shouldShareInFlightRequests() throws ExecutionException, InterruptedException {
+        AtomicInteger calls = new AtomicInteger();
+        PublishSubject<String> response = PublishSubject.create();
+
+        Future<String> first = coalescer.coalesce("key", () -> {
+            calls.incrementAndGet();
+            return response;
+        }).toFuture();
+        Future<String> second = coalescer.coalesce("key", () -> {
+            calls.incrementAndGet();
+            return Observable.just("other");
+        }).toFuture();
+        Assertions.assertEquals(1, coalescer.size());
+
+        response.onNext("value");
+        response.onComplete();
+
+        Assertions.assertEquals("value", first.get());
+        Assertions.assertEquals("value", second.get());
+        Assertions.assertEquals(1, calls.get());
+        Assertions.assertEquals(0, coalescer.size());
+    }
+
+    @Test
+    void shouldCancelRequestsWhenAllSubscribersAreDisposed()
+        throws ExecutionException, InterruptedException {
+        AtomicInteger calls = new AtomicInteger();
+        PublishSubject<String> response = PublishSubject.create();
+
+        Disposable first = coalescer.coalesce("key", () -> {
+            calls.incrementAndGet();
+            return response;
+        }).subscribe();
+        Disposable second = coalescer.coalesce("key", () -> {
+            calls.incrementAndGet();
+            return response;
+        }).subscribe();
+        Assertions.assertTrue(response.hasObservers());
+
+        first.dispose();
+        Assertions.assertTrue(response.hasObservers());
+        Assertions.assertEquals(1, coalescer.size());
+
+        second.dispose();
+        Assertions.assertFalse(response.hasObservers());
+        Assertions.assertEquals(0, coalescer.size());
+
+        Assertions.assertEquals("value",
+            coalescer.coalesce("key", () -> Observable.just("value")).toFuture().get());
+        Assertions.assertEquals(1, calls.get());
+    }
+
+    @Test
+    void shouldNotShareDifferentKeysOrCompletedRequests()
+        throws ExecutionException, InterruptedException {
+        AtomicInteger calls = new AtomicInteger();
+
+        Assertions.assertEquals("a", coalescer.coalesce("a", () -> {
+            calls.incrementAndGet();
+            return Observable.just("a");
+        }).toFuture().get());
+        Assertions.assertEquals("b", coalescer.coalesce("b", () -> {
+            calls.incrementAndGet();
+            return Observable.just("b");
+        }).toFuture().get());
+        Assertions.assertEquals("a", coalescer.coalesce("a", () -> {
+            calls.incrementAndGet();
+            return Observable.just("a");
+        }).toFuture().get());
+
+        Assertions.assertEquals(3, calls.get());
+        Assertions.assertEquals(0, coalescer.size());
+    }
+
+    @Test
+    void shouldForgetFailedRequests() throws ExecutionException, InterruptedException {
+        ExecutionException exception = Assertions.assertThrows(ExecutionException.class,
+            () -> coalescer.coalesce("key",
+                () -> Observable.<String>error(new IllegalStateException("Not found")))
+                .toFuture().get());
+        Assertions.assertEquals("Not found", exception.getCause().getMessage());
+        Assertions.assertEquals(0, coalescer.size());
+
+        Assertions.assertEquals("value",
+            coalescer.coalesce("key", () -> Observable.just("value")).toFuture().get());
+    }
+}
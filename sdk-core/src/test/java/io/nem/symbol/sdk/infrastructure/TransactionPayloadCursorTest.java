@@ -0,0 +1,141 @@
+/*
+ * Copyright 2020 NEM
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.nem.symbol.sdk.infrastructure;
+
+import io.nem.symbol.sdk.model.account.Address;
+import io.nem.symbol.sdk.model.message.PlainMessage;
+import io.nem.symbol.sdk.model.mosaic.Mosaic;
+import io.nem.symbol.sdk.model.mosaic.MosaicId;
+import io.nem.symbol.sdk.model.network.NetworkType;
+import io.nem.symbol.sdk.model.transaction.FakeDeadline;
+import io.nem.symbol.sdk.model.transaction.Transaction;
+import io.nem.symbol.sdk.model.transaction.TransactionHeaderView;
+import io.nem.symbol.sdk.model.transaction.TransferTransaction;
+import io.nem.symbol.sdk.model.transaction.TransferTransactionFactory;
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.math.BigInteger;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.stream.Collectors;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+/**
+ * Test of {@link TransactionPayloadCursor}
+ */
+class TransactionPayloadCursorTest {
+
+    private List<TransferTransaction> createTransactions(int count) {
+        List<TransferTransaction> transactions = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            transactions.add(TransferTransactionFactory.create(NetworkType.MIJIN_TEST,
+                new Address("SDUP5PLHDXKBX3UU5Q52LAY4WYEKGEWC6IB3VBFM", NetworkType.MIJIN_TEST),
+                Collections.singletonList(
+                    new Mosaic(new MosaicId(new BigInteger("95442763262823")),
+                        BigInteger.valueOf(i))), new PlainMessage("Message " + i))
+                .maxFee(BigInteger.valueOf(i)).deadline(new FakeDeadline()).build());
+        }
+        return transactions;
+    }
+
+    private byte[] concatenate(List<? extends Transaction> transactions) {
+        ByteArrayOutputStream stream = new ByteArrayOutputStream();
+        transactions.forEach(t -> {
+            byte[] payload = t.serialize();
+            stream.write(payload, 0, payload.length);
+        });
+        return stream.toByteArray();
+    }
+
+    private void assertTransactions(List<TransferTransaction> expected, List<Transaction> actual) {
+        Assertions.assertEquals(expected.size(), actual.size());
+        for (int i = 0; i < expected.size(); i++) {
+            TransferTransaction transaction = (TransferTransaction) actual.get(i);
+            Assertions.assertEquals(BigInteger.valueOf(i), transaction.getMaxFee());
+            Assertions.assertEquals(expected.get(i).getMessage().getPayload(),
+                transaction.getMessage().getPayload());
+        }
+    }
+
+    @Test
+    void shouldIterateBuffer() {
+        List<TransferTransaction> transactions = createTransactions(10);
+        byte[] payloads = concatenate(transactions);
+        ByteBuffer buffer = ByteBuffer.allocateDirect(payloads.length + 3);
+        buffer.position(3);
+        buffer.put(payloads);
+        buffer.position(3);
+
+        TransactionPayloadCursor cursor = TransactionPayloadCursor.of(buffer);
+        List<Transaction> decoded = cursor.transactions().collect(Collectors.toList());
+
+        Assertions.assertEquals(3, buffer.position());
+        Assertions.assertEquals(payloads.length, cursor.getPosition());
+        Assertions.assertFalse(cursor.hasNext());
+        Assertions.assertThrows(NoSuchElementException.class, cursor::next);
+        assertTransactions(transactions, decoded);
+    }
+
+    @Test
+    void shouldIterateFileWithSmallWindows(@TempDir File tempDir) throws Exception {
+        List<TransferTransaction> transactions = createTransactions(25);
+        byte[] payloads = concatenate(transactions);
+        File file = new File(tempDir, "transactions.bin");
+        Files.write(file.toPath(), payloads);
+
+        try (FileChannel channel = FileChannel.open(file.toPath(), StandardOpenOption.READ)) {
+            int windowSize = transactions.get(0).getSize() * 3 + 7;
+            List<TransactionHeaderView> views = TransactionPayloadCursor.of(channel, windowSize)
+                .stream().collect(Collectors.toList());
+            Assertions.assertEquals(transactions.size(), views.size());
+            Assertions.assertArrayEquals(transactions.get(24).serialize(),
+                views.get(24).getPayloadBytes());
+            assertTransactions(transactions, views.stream().map(
+                TransactionHeaderView::getTransaction).collect(Collectors.toList()));
+        }
+    }
+
+    @Test
+    void shouldFailOnTruncatedPayloads() {
+        byte[] payloads = concatenate(createTransactions(2));
+        TransactionPayloadCursor cursor = TransactionPayloadCursor
+            .of(ByteBuffer.wrap(payloads, 0, payloads.length - 1));
+        cursor.next();
+        Assertions.assertThrows(IllegalStateException.class, cursor::next);
+    }
+
+    @Test
+    void shouldDeserializeBufferInPlace() {
+        List<TransferTransaction> transactions = createTransactions(2);
+        ByteBuffer buffer = ByteBuffer.wrap(concatenate(transactions));
+
+        Transaction first = BinarySerializationImpl.INSTANCE.deserialize(buffer);
+        Assertions.assertEquals(transactions.get(0).getSize(), buffer.position());
+        Transaction second = BinarySerializationImpl.INSTANCE.deserialize(buffer);
+        Assertions.assertFalse(buffer.hasRemaining());
+        assertTransactions(transactions, Arrays.asList(first, second));
+    }
+}
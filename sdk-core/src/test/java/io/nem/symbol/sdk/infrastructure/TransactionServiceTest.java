@@ -887,6 +887,64 @@ class TransactionServiceTest {
             exception.getMessage());
     }
 
+    @Test
+    void resolveAliasesRequestsTheStatementOfEachBlockOnce()
+        throws ExecutionException, InterruptedException {
+
+        List<String> hashes = Arrays.asList("aaaa", "bbbb", "cccc");
+        List<Transaction> transactions = new ArrayList<>();
+        for (int i = 0; i < hashes.size(); i++) {
+            transactions.add(TransferTransactionFactory.create(NetworkType.MIJIN_TEST,
+                addressNamespace1,
+                Collections.singletonList(new Mosaic(mosaicNamespace2, BigInteger.valueOf(i))),
+                PlainMessage.Empty
+            ).transactionInfo(TransactionInfo.create(height, 0, "", hashes.get(i), "")).build());
+        }
+
+        simulateStatement(height, 1, 0);
+
+        Mockito.when(transactionRepositoryMock.getTransactions(Mockito.eq(hashes)))
+            .thenReturn(Observable.just(transactions));
+
+        List<Transaction> resolvedTransactions = service.resolveAliases(hashes).toFuture().get();
+
+        Assertions.assertEquals(3, resolvedTransactions.size());
+        resolvedTransactions.forEach(transaction -> {
+            Assertions.assertEquals(address1, ((TransferTransaction) transaction).getRecipient());
+            Assertions.assertEquals(mosaicId2,
+                ((TransferTransaction) transaction).getMosaics().get(0).getId());
+        });
+        Mockito.verify(receiptRepositoryMock, Mockito.times(1)).getBlockReceipts(height);
+    }
+
+    @Test
+    void resolveAliasesReusesCachedStatements() throws ExecutionException, InterruptedException {
+
+        RepositoryFactory factory = Mockito.mock(RepositoryFactory.class);
+        Mockito.when(factory.createTransactionRepository()).thenReturn(transactionRepositoryMock);
+        Mockito.when(factory.createReceiptRepository()).thenReturn(receiptRepositoryMock);
+        TransactionServiceImpl cachingService = new TransactionServiceImpl(factory, 10);
+
+        String transactionHash = "aaaa";
+        TransferTransaction transaction = TransferTransactionFactory
+            .create(NetworkType.MIJIN_TEST, addressNamespace1, Collections.emptyList(),
+                PlainMessage.Empty
+            ).transactionInfo(TransactionInfo.create(height, 0, "", transactionHash, "")).build();
+
+        simulateStatement(height, 1, 0);
+
+        List<String> hashes = Collections.singletonList(transactionHash);
+        Mockito.when(transactionRepositoryMock.getTransactions(Mockito.eq(hashes)))
+            .thenReturn(Observable.just(Collections.singletonList(transaction)));
+
+        for (int i = 0; i < 3; i++) {
+            TransferTransaction resolvedTransaction = (TransferTransaction) cachingService
+                .resolveAliases(hashes).toFuture().get().get(0);
+            Assertions.assertEquals(address1, resolvedTransaction.getRecipient());
+        }
+        Mockito.verify(receiptRepositoryMock, Mockito.times(1)).getBlockReceipts(height);
+    }
+
     private void simulateStatement(BigInteger height, int primaryId, int secondaryId) {
         List<TransactionStatement> transactionStatements = Collections.emptyList();
 
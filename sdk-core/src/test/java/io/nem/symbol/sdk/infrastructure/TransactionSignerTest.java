@@ -0,0 +1,114 @@
+/*
+ * Copyright 2020 NEM
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.nem.symbol.sdk.infrastructure;
+
+import io.nem.symbol.sdk.model.account.Account;
+import io.nem.symbol.sdk.model.account.Address;
+import io.nem.symbol.sdk.model.message.PlainMessage;
+import io.nem.symbol.sdk.model.network.NetworkType;
+import io.nem.symbol.sdk.model.transaction.FakeDeadline;
+import io.nem.symbol.sdk.model.transaction.SignedTransaction;
+import io.nem.symbol.sdk.model.transaction.TransferTransaction;
+import io.nem.symbol.sdk.model.transaction.TransferTransactionFactory;
+import java.math.BigInteger;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Test of {@link TransactionSignerImpl}
+ */
+class TransactionSignerTest {
+
+    private static final String GENERATION_HASH = "57F7DA205008026C776CB6AED843393F04CD458E0AA2D9F1D5F31A402072B2D6";
+
+    private static final Account ACCOUNT = new Account(
+        "787225aaff3d2c71f4ffa32d4f19ec4922f3cd869747f267378f81f8e3fcb12d",
+        NetworkType.MIJIN_TEST);
+
+    private static List<TransferTransaction> createTransactions(int count) {
+        return IntStream.range(0, count).mapToObj(
+            i -> TransferTransactionFactory.create(NetworkType.MIJIN_TEST,
+                new Address("SDUP5PLHDXKBX3UU5Q52LAY4WYEKGEWC6IB3VBFM", NetworkType.MIJIN_TEST),
+                Collections.emptyList(), new PlainMessage("Message " + i))
+                .maxFee(BigInteger.valueOf(i)).deadline(new FakeDeadline()).build())
+            .collect(Collectors.toList());
+    }
+
+    private static void assertSameAsSignWith(List<TransferTransaction> transactions,
+        List<SignedTransaction> signedTransactions) {
+        Assertions.assertEquals(transactions.size(), signedTransactions.size());
+        for (int i = 0; i < transactions.size(); i++) {
+            SignedTransaction expected = transactions.get(i).signWith(ACCOUNT, GENERATION_HASH);
+            SignedTransaction actual = signedTransactions.get(i);
+            Assertions.assertEquals(expected.getPayload(), actual.getPayload());
+            Assertions.assertEquals(expected.getHash(), actual.getHash());
+            Assertions.assertEquals(expected.getType(), actual.getType());
+            Assertions.assertEquals(ACCOUNT.getPublicAccount(), actual.getSigner());
+        }
+    }
+
+    @Test
+    void signAllKeepsOrderInCommonPool() {
+        List<TransferTransaction> transactions = createTransactions(300);
+        TransactionSignerImpl signer = new TransactionSignerImpl(ACCOUNT, GENERATION_HASH);
+
+        assertSameAsSignWith(transactions, signer.signAll(transactions));
+    }
+
+    @Test
+    void signAllKeepsOrderInExecutor() {
+        List<TransferTransaction> transactions = createTransactions(300);
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            TransactionSignerImpl signer = new TransactionSignerImpl(ACCOUNT, GENERATION_HASH,
+                executor);
+
+            assertSameAsSignWith(transactions, signer.signAll(transactions));
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    @Test
+    void signAllSmallListAndStream() {
+        List<TransferTransaction> transactions = createTransactions(10);
+        TransactionSignerImpl signer = new TransactionSignerImpl(ACCOUNT, GENERATION_HASH);
+
+        assertSameAsSignWith(transactions, signer.signAll(transactions));
+        assertSameAsSignWith(transactions,
+            signer.signAll(transactions.stream()).collect(Collectors.toList()));
+        Assertions.assertTrue(signer.signAll(Collections.emptyList()).isEmpty());
+    }
+
+    @Test
+    void signAllPropagatesErrors() {
+        List<TransferTransaction> transactions = createTransactions(200);
+        transactions.set(150, null);
+        TransactionSignerImpl signer = new TransactionSignerImpl(ACCOUNT, GENERATION_HASH);
+
+        Assertions.assertThrows(NullPointerException.class, () -> signer.signAll(transactions));
+        Assertions.assertThrows(NullPointerException.class,
+            () -> signer.signAll(Arrays.asList((TransferTransaction) null)));
+    }
+}
@@ -18,9 +18,11 @@ package io.nem.symbol.sdk.model.account;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
 
 import io.nem.symbol.core.crypto.KeyPair;
 import io.nem.symbol.core.crypto.ed25519.Ed25519CryptoEngine;
+import io.nem.symbol.core.crypto.ed25519.Ed25519DsaSigner;
 import io.nem.symbol.sdk.model.message.PlainMessage;
 import io.nem.symbol.sdk.model.mosaic.Mosaic;
 import io.nem.symbol.sdk.model.mosaic.MosaicId;
@@ -53,6 +55,18 @@ class AccountTest {
         assertEquals("SAEJCCEGA5SMEL65GTVYS6P6V2F5TOPDAOVAC5XI", account.getAddress().plain());
     }
 
+    @Test
+    void shouldReuseSigner() {
+        Account account =
+            new Account(
+                "787225aaff3d2c71f4ffa32d4f19ec4922f3cd869747f267378f81f8e3fcb12d",
+                NetworkType.MIJIN_TEST);
+        assertSame(account.getSigner(), account.getSigner());
+        assertSame(account.getKeyPair(),
+            ((Ed25519DsaSigner) account.getSigner())
+                .getKeyPair());
+    }
+
     @Test
     void shouldCreateAccountViaStaticConstructor() {
         Account account =
@@ -26,7 +26,9 @@ import io.nem.symbol.sdk.model.namespace.NamespaceId;
 import io.nem.symbol.sdk.model.network.NetworkType;
 import java.math.BigInteger;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
+import java.util.Optional;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.BeforeAll;
 import org.junit.jupiter.api.Test;
@@ -160,4 +162,36 @@ public class ResolutionStatementTest {
         assertEquals("9BB7E01FAEA831E790E4A2DE8DBEDB32F73889493F6B1BC02031457CB655F6D0", hash);
     }
 
+    @Test
+    void shouldGetResolutionEntryByIdWhenEntriesAreNotSorted() {
+        MosaicId mosaicId11 = new MosaicId("AAAAAAAAAAAAAA11");
+        MosaicId mosaicId20 = new MosaicId("AAAAAAAAAAAAAA20");
+        MosaicId mosaicId42 = new MosaicId("AAAAAAAAAAAAAA42");
+        MosaicId mosaicId44 = new MosaicId("AAAAAAAAAAAAAA44");
+        MosaicId mosaicId76 = new MosaicId("AAAAAAAAAAAAAA76");
+        MosaicResolutionStatement resolutionStatement = new MosaicResolutionStatement(
+            BigInteger.TEN, namespaceId, Arrays.asList(
+            ResolutionEntry.forMosaicId(mosaicId44, new ReceiptSource(4, 4)),
+            ResolutionEntry.forMosaicId(mosaicId11, new ReceiptSource(1, 0)),
+            ResolutionEntry.forMosaicId(mosaicId76, new ReceiptSource(7, 6)),
+            ResolutionEntry.forMosaicId(mosaicId20, new ReceiptSource(2, 0)),
+            ResolutionEntry.forMosaicId(mosaicId42, new ReceiptSource(4, 2))));
+
+        assertEquals(Optional.of(mosaicId44), getResolved(resolutionStatement, 5, 0));
+        assertEquals(Optional.of(mosaicId20), getResolved(resolutionStatement, 3, 0));
+        assertEquals(Optional.of(mosaicId42), getResolved(resolutionStatement, 4, 3));
+        assertEquals(Optional.of(mosaicId20), getResolved(resolutionStatement, 4, 1));
+        assertEquals(Optional.of(mosaicId44), getResolved(resolutionStatement, 4, 5));
+        assertEquals(Optional.of(mosaicId76), getResolved(resolutionStatement, 7, 6));
+        assertEquals(Optional.empty(), getResolved(resolutionStatement, 7, 0));
+        assertEquals(Optional.of(mosaicId11), getResolved(resolutionStatement, 1, 0));
+        assertEquals(Optional.empty(), getResolved(resolutionStatement, 0, 0));
+        assertEquals(Optional.of(mosaicId76), getResolved(resolutionStatement, 8, 0));
+    }
+
+    private static Optional<MosaicId> getResolved(MosaicResolutionStatement resolutionStatement,
+        int primaryId, int secondaryId) {
+        return resolutionStatement.getResolutionEntryById(primaryId, secondaryId)
+            .map(ResolutionEntry::getResolved);
+    }
 }
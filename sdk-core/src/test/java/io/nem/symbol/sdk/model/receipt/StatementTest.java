@@ -18,6 +18,8 @@ package io.nem.symbol.sdk.model.receipt;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 
+import io.nem.symbol.core.crypto.Hashes;
+import io.nem.symbol.core.utils.ConvertUtils;
 import io.nem.symbol.sdk.model.account.Account;
 import io.nem.symbol.sdk.model.account.Address;
 import io.nem.symbol.sdk.model.mosaic.MosaicId;
@@ -209,4 +211,113 @@ public class StatementTest {
 
 
     }
+
+    @Test
+    void shouldResolveWithFirstStatementOfHeightAndUnresolved() {
+        MosaicResolutionStatement first = new MosaicResolutionStatement(height, mosaicNamespace1,
+            Collections.singletonList(
+                ResolutionEntry.forMosaicId(mosaicId3, new ReceiptSource(1, 0))));
+        MosaicResolutionStatement second = new MosaicResolutionStatement(height, mosaicNamespace1,
+            Collections.singletonList(
+                ResolutionEntry.forMosaicId(mosaicId4, new ReceiptSource(1, 0))));
+        Statement statement = new Statement(Collections.emptyList(), Collections.emptyList(),
+            Arrays.asList(first, second));
+
+        assertEquals(Optional.of(mosaicId3),
+            statement.getResolvedMosaicId(height, mosaicNamespace1, 1, 0));
+        assertEquals(Optional.empty(),
+            statement.getResolvedMosaicId(height2, mosaicNamespace1, 1, 0));
+    }
+
+    private static TransactionStatement createTransactionStatement(ReceiptSource receiptSource) {
+        // Same receipts as TransactionStatementTest.
+        Account account = new Account(
+            "787225aaff3d2c71f4ffa32d4f19ec4922f3cd869747f267378f81f8e3fcb12d",
+            NetworkType.MIJIN_TEST);
+        MosaicId mosaicId = new MosaicId("85BBEA6CC462B244");
+        Address recipientAddress = new Address("SDGLFW-DSHILT-IUHGIB-H5UGX2-VYF5VN-JEKCCD-BR26",
+            NetworkType.MIJIN_TEST);
+        List<Receipt> receipts = Arrays.asList(
+            new ArtifactExpiryReceipt<>(mosaicId, ReceiptType.MOSAIC_EXPIRED,
+                ReceiptVersion.ARTIFACT_EXPIRY),
+            new BalanceChangeReceipt(account.getPublicAccount(), mosaicId, BigInteger.valueOf(10),
+                ReceiptType.LOCK_SECRET_EXPIRED, ReceiptVersion.BALANCE_CHANGE),
+            new BalanceTransferReceipt(account.getPublicAccount(), recipientAddress, mosaicId,
+                BigInteger.valueOf(10), ReceiptType.MOSAIC_RENTAL_FEE,
+                ReceiptVersion.BALANCE_TRANSFER));
+        return new TransactionStatement(BigInteger.TEN, receiptSource, receipts);
+    }
+
+    private static MosaicResolutionStatement createMosaicResolutionStatement(MosaicId mosaicId) {
+        return new MosaicResolutionStatement(BigInteger.TEN, mosaicId, Collections.singletonList(
+            new ResolutionEntry<>(new MosaicId("85BBEA6CC462B244"), new ReceiptSource(1, 1),
+                ReceiptType.MOSAIC_ALIAS_RESOLUTION)));
+    }
+
+    private static byte[] hash(String left, String right) {
+        return Hashes
+            .sha3_256(ConvertUtils.fromHexToBytes(left), ConvertUtils.fromHexToBytes(right));
+    }
+
+    @Test
+    void shouldGenerateMerkleRootHash() {
+        // The statements of the hash vectors of TransactionStatementTest and
+        // ResolutionStatementTest.
+        String transactionStatementHash =
+            "0C34C53E84366FF2662C60D60D61608831E0F3239BD32B729D94DA27FB917C5F";
+        String addressResolutionHash =
+            "DD7E0D121A33C7133366F8FD36DD6CD5DE01D9008BA9369D2B7DA1BCCBB04A72";
+        String mosaicResolutionHash =
+            "9BB7E01FAEA831E790E4A2DE8DBEDB32F73889493F6B1BC02031457CB655F6D0";
+        Address address = new Address("SDGLFW-DSHILT-IUHGIB-H5UGX2-VYF5VN-JEKCCD-BR26",
+            networkType);
+        AddressResolutionStatement addressResolutionStatement = new AddressResolutionStatement(
+            BigInteger.TEN, address, Collections.singletonList(
+            new ResolutionEntry<>(address, new ReceiptSource(1, 1),
+                ReceiptType.ADDRESS_ALIAS_RESOLUTION)));
+        Statement vectorStatement = new Statement(
+            Collections.singletonList(createTransactionStatement(new ReceiptSource(1, 1))),
+            Collections.singletonList(addressResolutionStatement),
+            Collections.singletonList(
+                createMosaicResolutionStatement(new MosaicId("85BBEA6CC462B244"))));
+
+        // Three leaves, the last one is paired with itself.
+        byte[] expected = Hashes.sha3_256(hash(transactionStatementHash, addressResolutionHash),
+            hash(mosaicResolutionHash, mosaicResolutionHash));
+
+        assertEquals(addressResolutionHash, addressResolutionStatement.generateHash(networkType));
+        assertEquals(ConvertUtils.toHex(expected),
+            vectorStatement.generateMerkleRootHash(networkType));
+    }
+
+    @Test
+    void shouldGenerateMerkleRootHashInServerOrder() {
+        TransactionStatement transactionStatement1 = createTransactionStatement(
+            new ReceiptSource(1, 1));
+        TransactionStatement transactionStatement2 = createTransactionStatement(
+            new ReceiptSource(2, 0));
+        MosaicResolutionStatement mosaicResolutionStatement1 = createMosaicResolutionStatement(
+            new MosaicId("0000000000000001"));
+        MosaicResolutionStatement mosaicResolutionStatement2 = createMosaicResolutionStatement(
+            new MosaicId("85BBEA6CC462B244"));
+
+        // The server sorts the statements by receipt source and unresolved value.
+        Statement unsorted = new Statement(
+            Arrays.asList(transactionStatement2, transactionStatement1), Collections.emptyList(),
+            Arrays.asList(mosaicResolutionStatement2, mosaicResolutionStatement1));
+        byte[] expected = Hashes.sha3_256(
+            hash(transactionStatement1.generateHash(), transactionStatement2.generateHash()),
+            hash(mosaicResolutionStatement1.generateHash(networkType),
+                mosaicResolutionStatement2.generateHash(networkType)));
+
+        assertEquals(ConvertUtils.toHex(expected), unsorted.generateMerkleRootHash(networkType));
+    }
+
+    @Test
+    void shouldGenerateEmptyMerkleRootHash() {
+        Statement emptyStatement = new Statement(Collections.emptyList(), Collections.emptyList(),
+            Collections.emptyList());
+        assertEquals("0000000000000000000000000000000000000000000000000000000000000000",
+            emptyStatement.generateMerkleRootHash(networkType));
+    }
 }
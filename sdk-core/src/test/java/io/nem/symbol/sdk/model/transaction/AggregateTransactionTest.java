@@ -34,6 +34,10 @@ import io.nem.symbol.sdk.model.network.NetworkType;
 import java.math.BigInteger;
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import org.apache.commons.lang3.StringUtils;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
 
@@ -315,5 +319,68 @@ public class AggregateTransactionTest extends AbstractTransactionTester {
 
     }
 
+    @Test
+    void serializeManyInnerTransactions() {
+        NetworkType networkType = NetworkType.MIJIN_TEST;
+        List<Transaction> innerTransactions = IntStream.range(0, 100).mapToObj(
+            i -> TransferTransactionFactory.create(networkType,
+                new Address("SDUP5PLHDXKBX3UU5Q52LAY4WYEKGEWC6IB3VBFM", networkType),
+                Collections.singletonList(
+                    new Mosaic(new MosaicId(new BigInteger("95442763262823")),
+                        BigInteger.valueOf(i))),
+                new PlainMessage(StringUtils.repeat("a", i))).signer(account.getPublicAccount())
+                .build()).collect(Collectors.toList());
+
+        AggregateTransaction aggregateTransaction = AggregateTransactionFactory
+            .create(TransactionType.AGGREGATE_COMPLETE, networkType, innerTransactions,
+                Collections.emptyList()).deadline(new FakeDeadline()).build();
+
+        byte[] serialized = aggregateTransaction.serialize();
+        Assertions.assertEquals(serialized.length, aggregateTransaction.getSize());
+
+        AggregateTransaction deserialized = (AggregateTransaction) new BinarySerializationImpl()
+            .deserialize(serialized);
+        Assertions.assertEquals(100, deserialized.getInnerTransactions().size());
+        Assertions.assertEquals(ConvertUtils.toHex(serialized),
+            ConvertUtils.toHex(deserialized.serialize()));
+    }
+
+    @Test
+    void signTransactionWithManyCosigners() {
+        NetworkType networkType = NetworkType.MIJIN_TEST;
+        String generationHash = "57F7DA205008026C776CB6AED843393F04CD458E0AA2D9F1D5F31A402072B2D6";
+        List<Account> cosigners = IntStream.range(0, 15)
+            .mapToObj(i -> Account.generateNewAccount(networkType)).collect(Collectors.toList());
+        TransferTransaction innerTransaction = TransferTransactionFactory.create(networkType,
+            new Address("SDUP5PLHDXKBX3UU5Q52LAY4WYEKGEWC6IB3VBFM", networkType),
+            Collections.emptyList(), new PlainMessage("treasury")).build();
+        AggregateTransaction aggregateTransaction = AggregateTransactionFactory
+            .createComplete(networkType,
+                Collections.singletonList(innerTransaction.toAggregate(account.getPublicAccount())))
+            .deadline(new FakeDeadline()).build();
+
+        SignedTransaction signedTransaction = aggregateTransaction
+            .signTransactionWithCosigners(account, cosigners, generationHash);
+        SignedTransaction signedWithoutCosigners = aggregateTransaction
+            .signWith(account, generationHash);
+
+        Assertions.assertEquals(signedWithoutCosigners.getHash(), signedTransaction.getHash());
+        Assertions.assertEquals(signedWithoutCosigners.getPayloadBytes().length + 15 * 96,
+            signedTransaction.getPayloadBytes().length);
+
+        AggregateTransaction deserialized = (AggregateTransaction) new BinarySerializationImpl()
+            .deserialize(signedTransaction.getPayloadBytes());
+        Assertions.assertEquals(signedTransaction.getPayloadBytes().length,
+            deserialized.getSize());
+        Assertions.assertEquals(15, deserialized.getCosignatures().size());
+        for (int i = 0; i < cosigners.size(); i++) {
+            Account cosigner = cosigners.get(i);
+            AggregateTransactionCosignature cosignature = deserialized.getCosignatures().get(i);
+            Assertions.assertEquals(cosigner.getPublicAccount(), cosignature.getSigner());
+            Assertions.assertEquals(ConvertUtils.toHex(
+                cosigner.getSigner().sign(signedTransaction.getHashBytes()).getBytes()),
+                cosignature.getSignature().toUpperCase());
+        }
+    }
 
 }
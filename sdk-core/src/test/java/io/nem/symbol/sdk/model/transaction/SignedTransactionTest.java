@@ -16,6 +16,7 @@
 
 package io.nem.symbol.sdk.model.transaction;
 
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 
 import io.nem.symbol.sdk.model.account.Account;
@@ -36,4 +37,30 @@ public class SignedTransactionTest {
         assertEquals(TransactionType.TRANSFER, signedTransaction.getType());
         assertEquals(signer.getPublicAccount(), signedTransaction.getSigner());
     }
+
+    @Test
+    void createASignedTransactionFromBytes() {
+        Account signer = Account.generateNewAccount(NetworkType.MIJIN_TEST);
+        SignedTransaction signedTransaction =
+            new SignedTransaction(signer.getPublicAccount(), new byte[]{1, 2, 10},
+                new byte[]{-1, 0}, TransactionType.TRANSFER);
+
+        assertEquals("01020A", signedTransaction.getPayload());
+        assertEquals("FF00", signedTransaction.getHash());
+        assertArrayEquals(new byte[]{1, 2, 10}, signedTransaction.getPayloadBytes());
+        assertArrayEquals(new byte[]{-1, 0}, signedTransaction.getHashBytes());
+        assertEquals(TransactionType.TRANSFER, signedTransaction.getType());
+        assertEquals(signer.getPublicAccount(), signedTransaction.getSigner());
+    }
+
+    @Test
+    void hexSignedTransactionDecodesBytes() {
+        Account signer = Account.generateNewAccount(NetworkType.MIJIN_TEST);
+        SignedTransaction signedTransaction =
+            new SignedTransaction(signer.getPublicAccount(), "01020A", "FF00",
+                TransactionType.TRANSFER);
+
+        assertArrayEquals(new byte[]{1, 2, 10}, signedTransaction.getPayloadBytes());
+        assertArrayEquals(new byte[]{-1, 0}, signedTransaction.getHashBytes());
+    }
 }
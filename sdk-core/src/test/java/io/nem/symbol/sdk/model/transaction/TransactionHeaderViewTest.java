@@ -0,0 +1,105 @@
+/*
+ * Copyright 2020 NEM
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package io.nem.symbol.sdk.model.transaction;
+
+import io.nem.symbol.core.utils.ConvertUtils;
+import io.nem.symbol.sdk.model.account.Account;
+import io.nem.symbol.sdk.model.account.Address;
+import io.nem.symbol.sdk.model.message.PlainMessage;
+import io.nem.symbol.sdk.model.mosaic.Mosaic;
+import io.nem.symbol.sdk.model.mosaic.MosaicId;
+import io.nem.symbol.sdk.model.network.NetworkType;
+import java.math.BigInteger;
+import java.nio.ByteBuffer;
+import java.util.Collections;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Test of {@link TransactionHeaderView}
+ */
+class TransactionHeaderViewTest {
+
+    private final Account account = new Account(
+        "787225aaff3d2c71f4ffa32d4f19ec4922f3cd869747f267378f81f8e3fcb12d",
+        NetworkType.MIJIN_TEST);
+
+    private final String generationHash = "57F7DA205008026C776CB6AED843393F04CD458E0AA2D9F1D5F31A402072B2D6";
+
+    private TransferTransaction createTransaction() {
+        return TransferTransactionFactory.create(NetworkType.MIJIN_TEST,
+            new Address("SDUP5PLHDXKBX3UU5Q52LAY4WYEKGEWC6IB3VBFM", NetworkType.MIJIN_TEST),
+            Collections.singletonList(
+                new Mosaic(new MosaicId(new BigInteger("95442763262823")),
+                    BigInteger.valueOf(100))),
+            new PlainMessage("Some Message")).maxFee(BigInteger.valueOf(2000))
+            .deadline(new FakeDeadline()).build();
+    }
+
+    @Test
+    void shouldReadUnsignedHeader() {
+        TransferTransaction transaction = createTransaction();
+        byte[] payload = transaction.serialize();
+
+        TransactionHeaderView view = TransactionHeaderView.of(payload);
+
+        Assertions.assertEquals(payload.length, view.getSize());
+        Assertions.assertEquals(TransactionType.TRANSFER, view.getType());
+        Assertions.assertEquals(NetworkType.MIJIN_TEST, view.getNetworkType());
+        Assertions.assertEquals(transaction.getVersion().intValue(), view.getVersion());
+        Assertions.assertEquals(BigInteger.valueOf(2000), view.getMaxFee());
+        Assertions.assertEquals(transaction.getDeadline().getInstant(),
+            view.getDeadline().getInstant());
+        Assertions.assertFalse(view.getSignature().isPresent());
+        Assertions.assertFalse(view.getSignerPublicKey().isPresent());
+    }
+
+    @Test
+    void shouldReadSignedHeaderAndDecodeOnDemand() {
+        SignedTransaction signedTransaction = createTransaction()
+            .signWith(account, generationHash);
+        byte[] payload = ConvertUtils.fromHexToBytes(signedTransaction.getPayload());
+
+        ByteBuffer buffer = ByteBuffer.allocate(payload.length + 10);
+        buffer.position(10);
+        buffer.put(payload);
+        buffer.position(10);
+
+        TransactionHeaderView view = TransactionHeaderView.of(buffer);
+        Assertions.assertEquals(10, buffer.position());
+
+        Assertions.assertEquals(account.getPublicAccount().getPublicKey(),
+            view.getSignerPublicKey().orElse(null));
+        Assertions.assertEquals(signedTransaction.getPayload().substring(16, 16 + 128),
+            view.getSignature().orElse(null));
+        Assertions.assertArrayEquals(payload, view.getPayloadBytes());
+
+        TransferTransaction transaction = (TransferTransaction) view.getTransaction();
+        Assertions.assertSame(transaction, view.getTransaction());
+        Assertions.assertEquals("Some Message", transaction.getMessage().getPayload());
+        Assertions.assertEquals(account.getPublicAccount(), transaction.getSigner().orElse(null));
+    }
+
+    @Test
+    void shouldFailOnInvalidPayloads() {
+        byte[] payload = createTransaction().serialize();
+        Assertions.assertThrows(IllegalArgumentException.class,
+            () -> TransactionHeaderView.of(new byte[TransactionHeaderView.HEADER_SIZE - 1]));
+        Assertions.assertThrows(IllegalArgumentException.class,
+            () -> TransactionHeaderView.of(ByteBuffer.wrap(payload, 0, payload.length - 1)));
+    }
+}
@@ -20,6 +20,7 @@ import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
+import io.nem.symbol.core.utils.ConvertUtils;
 import io.nem.symbol.sdk.model.account.Address;
 import io.nem.symbol.sdk.model.account.PublicAccount;
 import io.nem.symbol.sdk.model.message.PlainMessage;
@@ -58,6 +59,24 @@ public class TransactionTest {
         assertEquals("820C535E7998AEE4255677A9C53566190225C02D99558AC48192171EC8144B43", hash);
     }
 
+    @Test
+    void generateHashFromTransferTransactionPayloadBytes() {
+        TransferTransaction transaction = TransferTransactionFactory
+            .create(networkType,
+                new Address("SDGLFW-DSHILT-IUHGIB-H5UGX2-VYF5VN-JEKCCD-BR26",
+                    networkType),
+                Collections.emptyList(),
+                PlainMessage.Empty
+            ).build();
+
+        byte[] hash =
+            transaction.createTransactionHash(ConvertUtils.fromHexToBytes(
+                "C7000000D0B190DFEEAB0378F943F79CDB7BC44453491890FAA70F5AA95B909E67487408407956BDE32AC977D035FBBA575C11AA034B23402066C16FD6126893F3661B099A49366406ACA952B88BADF5F1E9BE6CE4968141035A60BE503273EA65456B24039054410000000000000000A76541BE0C00000090E8FEBD671DD41BEE94EC3BA5831CB608A312C2F203BA84AC03000300303064000000000000006400000000000000002F00FA0DEDD9086400000000000000443F6D806C05543A6400000000000000"),
+                generationHash.getBytes());
+        assertEquals("820C535E7998AEE4255677A9C53566190225C02D99558AC48192171EC8144B43",
+            ConvertUtils.toHex(hash));
+    }
+
     @Test
     void generateHashFromAggregateTransactionPayload() {
         TransferTransactionFactory factory = TransferTransactionFactory
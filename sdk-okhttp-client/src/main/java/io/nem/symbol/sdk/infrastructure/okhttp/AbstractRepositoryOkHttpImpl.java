@@ -16,19 +16,30 @@
 
 package io.nem.symbol.sdk.infrastructure.okhttp;
 
+import com.google.gson.Gson;
+import com.google.gson.JsonObject;
+import com.google.gson.stream.JsonReader;
 import io.nem.symbol.sdk.api.QueryParams;
 import io.nem.symbol.sdk.api.RepositoryCallException;
 import io.nem.symbol.sdk.model.transaction.JsonHelper;
+import io.nem.symbol.sdk.openapi.okhttp_gson.invoker.ApiCallback;
 import io.nem.symbol.sdk.openapi.okhttp_gson.invoker.ApiClient;
 import io.nem.symbol.sdk.openapi.okhttp_gson.invoker.ApiException;
 import io.reactivex.Observable;
+import io.reactivex.ObservableEmitter;
 import io.reactivex.ObservableSource;
 import io.reactivex.functions.Function;
+import java.io.IOException;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.concurrent.Callable;
 import java.util.stream.Collectors;
+import okhttp3.Call;
+import okhttp3.Callback;
+import okhttp3.Response;
+import okhttp3.ResponseBody;
 import org.apache.commons.lang3.StringUtils;
 import org.apache.commons.lang3.exception.ExceptionUtils;
 
@@ -40,22 +51,108 @@ import org.apache.commons.lang3.exception.ExceptionUtils;
 public abstract class AbstractRepositoryOkHttpImpl {
 
 
+    private final Gson gson;
+
     private final JsonHelper jsonHelper;
 
     public AbstractRepositoryOkHttpImpl(ApiClient apiClient) {
-        jsonHelper = new JsonHelperGson(apiClient.getJSON().getGson());
+        gson = apiClient.getJSON().getGson();
+        jsonHelper = new JsonHelperGson(gson);
 
     }
 
-    public <T> Observable<T> call(Callable<T> callback) {
-        Function<? super Throwable, ? extends ObservableSource<? extends T>> resumeFunction = this::onError;
-        return Observable.defer(() -> {
-            try {
-                return Observable.just(callback.call());
-            } catch (Exception e) {
-                return onError(e);
-            }
-        }).onErrorResumeNext(resumeFunction);
+    /**
+     * It enqueues an asynchronous call of the generated client. The call is executed by the
+     * okhttp's dispatcher and the Observable is completed from the dispatcher's threads, the
+     * subscriber's thread is never blocked. Disposing the subscription cancels the call.
+     *
+     * @param callback the callback starting the asynchronous call.
+     * @param <T> the type of the response.
+     * @return the Observable of the response.
+     */
+    public <T> Observable<T> call(AsyncCall<T> callback) {
+        return exceptionHandling(Observable.create(emitter -> {
+            Call call = callback.call(new ApiCallback<T>() {
+                @Override
+                public void onFailure(ApiException e, int statusCode,
+                    Map<String, List<String>> responseHeaders) {
+                    emitter.tryOnError(e);
+                }
+
+                @Override
+                public void onSuccess(T result, int statusCode,
+                    Map<String, List<String>> responseHeaders) {
+                    emitter.onNext(result);
+                    emitter.onComplete();
+                }
+
+                @Override
+                public void onUploadProgress(long bytesWritten, long contentLength,
+                    boolean done) {
+                    // Progress is not reported.
+                }
+
+                @Override
+                public void onDownloadProgress(long bytesRead, long contentLength,
+                    boolean done) {
+                    // Progress is not reported.
+                }
+            });
+            emitter.setCancellable(call::cancel);
+        }));
+    }
+
+    /**
+     * It enqueues a call that returns a json array and decodes the body while it's being read.
+     * Each element of the array is read into a json object, mapped and emitted before the next
+     * one is read, the whole page is never held in memory as generic DTOs. The body is read in
+     * the okhttp's dispatcher threads.
+     *
+     * @param callback the callback creating the call.
+     * @param mapper the function mapping each json object.
+     * @param <T> the type of the mapped elements.
+     * @return the Observable emitting the mapped elements in order.
+     */
+    public <T> Observable<T> callStreaming(Callable<Call> callback,
+        Function<JsonObject, T> mapper) {
+        return exceptionHandling(Observable.create(emitter -> {
+            Call call = callback.call();
+            emitter.setCancellable(call::cancel);
+            call.enqueue(new Callback() {
+                @Override
+                public void onFailure(Call failedCall, IOException e) {
+                    emitter.tryOnError(new ApiException(e));
+                }
+
+                @Override
+                public void onResponse(Call successfulCall, Response response) {
+                    try (Response closeableResponse = response) {
+                        decode(closeableResponse, mapper, emitter);
+                        emitter.onComplete();
+                    } catch (Exception e) {
+                        emitter.tryOnError(e);
+                    }
+                }
+            });
+        }));
+    }
+
+    private <T> void decode(Response response, Function<JsonObject, T> mapper,
+        ObservableEmitter<T> emitter) throws Exception {
+        ResponseBody body = response.body();
+        if (!response.isSuccessful()) {
+            throw new ApiException(response.message(), response.code(),
+                response.headers().toMultimap(), body == null ? null : body.string());
+        }
+        if (body == null) {
+            return;
+        }
+        JsonReader reader = new JsonReader(body.charStream());
+        reader.beginArray();
+        while (reader.hasNext() && !emitter.isDisposed()) {
+            JsonObject element = gson.fromJson(reader, JsonObject.class);
+            emitter.onNext(mapper.apply(element));
+        }
     }
 
     public RepositoryCallException exceptionHandling(Throwable e) {
@@ -117,4 +214,23 @@ public abstract class AbstractRepositoryOkHttpImpl {
     public JsonHelper getJsonHelper() {
         return jsonHelper;
     }
+
+    /**
+     * Function that starts an asynchronous call of the generated client, like the generated
+     * {@code ...Async} methods.
+     *
+     * @param <T> the type of the response.
+     */
+    @FunctionalInterface
+    public interface AsyncCall<T> {
+
+        /**
+         * It enqueues the call.
+         *
+         * @param callback the callback completed when the response is processed.
+         * @return the enqueued call.
+         * @throws ApiException if the call cannot be created.
+         */
+        Call call(ApiCallback<T> callback) throws ApiException;
+    }
 }
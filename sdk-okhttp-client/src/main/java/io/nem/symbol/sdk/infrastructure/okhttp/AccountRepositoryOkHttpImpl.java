@@ -22,7 +22,6 @@ import io.nem.symbol.core.utils.MapperUtils;
 import io.nem.symbol.sdk.api.AccountRepository;
 import io.nem.symbol.sdk.api.TransactionSearchCriteria;
 import io.nem.symbol.sdk.infrastructure.okhttp.mappers.GeneralTransactionMapper;
-import io.nem.symbol.sdk.infrastructure.okhttp.mappers.TransactionMapper;
 import io.nem.symbol.sdk.model.account.AccountInfo;
 import io.nem.symbol.sdk.model.account.AccountType;
 import io.nem.symbol.sdk.model.account.Address;
@@ -42,6 +41,7 @@ import io.reactivex.Observable;
 import java.util.List;
 import java.util.concurrent.Callable;
 import java.util.stream.Collectors;
+import okhttp3.Call;
 
 /**
  * Created by fernando on 29/07/19.
@@ -53,20 +53,30 @@ public class AccountRepositoryOkHttpImpl extends AbstractRepositoryOkHttpImpl im
 
     private final AccountRoutesApi client;
 
-    private final TransactionMapper transactionMapper;
+    private final GeneralTransactionMapper transactionMapper;
+
+    /**
+     * If the pages of transactions are decoded while the response is being read.
+     */
+    private final boolean streamingTransactionDecoding;
 
     public AccountRepositoryOkHttpImpl(ApiClient apiClient) {
+        this(apiClient, false);
+    }
+
+    public AccountRepositoryOkHttpImpl(ApiClient apiClient, boolean streamingTransactionDecoding) {
         super(apiClient);
         this.client = new AccountRoutesApi(apiClient);
         this.transactionMapper = new GeneralTransactionMapper(getJsonHelper());
+        this.streamingTransactionDecoding = streamingTransactionDecoding;
     }
 
 
     @Override
     public Observable<AccountInfo> getAccountInfo(Address address) {
 
-        Callable<AccountInfoDTO> callback = () -> getClient()
-            .getAccountInfo(address.plain());
+        AsyncCall<AccountInfoDTO> callback = apiCallback -> getClient()
+            .getAccountInfoAsync(address.plain(), apiCallback);
         return exceptionHandling(
             call(callback).map(AccountInfoDTO::getAccount).map(this::toAccountInfo));
     }
@@ -75,8 +85,8 @@ public class AccountRepositoryOkHttpImpl extends AbstractRepositoryOkHttpImpl im
     public Observable<List<AccountInfo>> getAccountsInfo(List<Address> addresses) {
         AccountIds accountIds = new AccountIds()
             .addresses(addresses.stream().map(Address::plain).collect(Collectors.toList()));
-        Callable<List<AccountInfoDTO>> callback = () -> getClient()
-            .getAccountsInfo(accountIds);
+        AsyncCall<List<AccountInfoDTO>> callback = apiCallback -> getClient()
+            .getAccountsInfoAsync(accountIds, apiCallback);
         return exceptionHandling(
             call(callback).flatMapIterable(item -> item)
                 .map(AccountInfoDTO::getAccount)
@@ -93,14 +103,16 @@ public class AccountRepositoryOkHttpImpl extends AbstractRepositoryOkHttpImpl im
     public Observable<List<Transaction>> transactions(
         PublicAccount publicAccount, TransactionSearchCriteria criteria) {
 
-        Callable<List<TransactionInfoDTO>> callback = () ->
-            getClient().getAccountConfirmedTransactions(publicAccount.getPublicKey().toHex(),
-                criteria.getPageSize(), criteria.getId(), criteria.getOrder(),
-                toTransactionTypes(criteria.getTransactionTypes()));
-
-        return exceptionHandling(
-            call(callback).flatMapIterable(item -> item).map(this::toTransaction).toList()
-                .toObservable());
+        String accountId = publicAccount.getPublicKey().toHex();
+        List<TransactionTypeEnum> transactionTypes = toTransactionTypes(
+            criteria.getTransactionTypes());
+        AsyncCall<List<TransactionInfoDTO>> callback = apiCallback ->
+            getClient().getAccountConfirmedTransactionsAsync(accountId, criteria.getPageSize(),
+                criteria.getId(), criteria.getOrder(), transactionTypes, apiCallback);
+        Callable<Call> streamingCallback = () ->
+            getClient().getAccountConfirmedTransactionsCall(accountId, criteria.getPageSize(),
+                criteria.getId(), criteria.getOrder(), transactionTypes, null);
+        return transactions(callback, streamingCallback);
     }
 
     @Override
@@ -112,14 +124,16 @@ public class AccountRepositoryOkHttpImpl extends AbstractRepositoryOkHttpImpl im
     public Observable<List<Transaction>> incomingTransactions(
         PublicAccount publicAccount, TransactionSearchCriteria criteria) {
 
-        Callable<List<TransactionInfoDTO>> callback = () ->
-            getClient().getAccountIncomingTransactions(publicAccount.getPublicKey().toHex(),
-                criteria.getPageSize(), criteria.getId(), criteria.getOrder(),
-                toTransactionTypes(criteria.getTransactionTypes()));
-
-        return exceptionHandling(
-            call(callback).flatMapIterable(item -> item).map(this::toTransaction).toList()
-                .toObservable());
+        String accountId = publicAccount.getPublicKey().toHex();
+        List<TransactionTypeEnum> transactionTypes = toTransactionTypes(
+            criteria.getTransactionTypes());
+        AsyncCall<List<TransactionInfoDTO>> callback = apiCallback ->
+            getClient().getAccountIncomingTransactionsAsync(accountId, criteria.getPageSize(),
+                criteria.getId(), criteria.getOrder(), transactionTypes, apiCallback);
+        Callable<Call> streamingCallback = () ->
+            getClient().getAccountIncomingTransactionsCall(accountId, criteria.getPageSize(),
+                criteria.getId(), criteria.getOrder(), transactionTypes, null);
+        return transactions(callback, streamingCallback);
     }
 
     @Override
@@ -131,11 +145,29 @@ public class AccountRepositoryOkHttpImpl extends AbstractRepositoryOkHttpImpl im
     public Observable<List<Transaction>> outgoingTransactions(
         PublicAccount publicAccount, TransactionSearchCriteria criteria) {
 
-        Callable<List<TransactionInfoDTO>> callback = () ->
-            getClient().getAccountOutgoingTransactions(publicAccount.getPublicKey().toHex(),
-                criteria.getPageSize(), criteria.getId(), criteria.getOrder(),
-                toTransactionTypes(criteria.getTransactionTypes()));
+        String accountId = publicAccount.getPublicKey().toHex();
+        List<TransactionTypeEnum> transactionTypes = toTransactionTypes(
+            criteria.getTransactionTypes());
+        AsyncCall<List<TransactionInfoDTO>> callback = apiCallback ->
+            getClient().getAccountOutgoingTransactionsAsync(accountId, criteria.getPageSize(),
+                criteria.getId(), criteria.getOrder(), transactionTypes, apiCallback);
+        Callable<Call> streamingCallback = () ->
+            getClient().getAccountOutgoingTransactionsCall(accountId, criteria.getPageSize(),
+                criteria.getId(), criteria.getOrder(), transactionTypes, null);
+        return transactions(callback, streamingCallback);
+    }
 
+    /**
+     * It loads a page of transactions. The page is either parsed into {@link TransactionInfoDTO}s
+     * by the generated client or decoded while it's being read when the streaming decoding is
+     * enabled.
+     */
+    private Observable<List<Transaction>> transactions(
+        AsyncCall<List<TransactionInfoDTO>> callback, Callable<Call> streamingCallback) {
+        if (streamingTransactionDecoding) {
+            return exceptionHandling(callStreaming(streamingCallback, transactionMapper::map)
+                .toList().toObservable());
+        }
         return exceptionHandling(
             call(callback).flatMapIterable(item -> item).map(this::toTransaction).toList()
                 .toObservable());
@@ -156,15 +188,18 @@ public class AccountRepositoryOkHttpImpl extends AbstractRepositoryOkHttpImpl im
     public Observable<List<AggregateTransaction>> aggregateBondedTransactions(
         PublicAccount publicAccount, TransactionSearchCriteria criteria) {
 
-        Callable<List<TransactionInfoDTO>> callback = () ->
-            getClient().getAccountPartialTransactions(publicAccount.getPublicKey().toHex(),
-                criteria.getPageSize(), criteria.getId(), criteria.getOrder(),
-                toTransactionTypes(criteria.getTransactionTypes()));
-
-        return exceptionHandling(
-            call(callback).flatMapIterable(item -> item).map(this::toTransaction)
-                .map(o -> (AggregateTransaction) o).toList()
-                .toObservable());
+        String accountId = publicAccount.getPublicKey().toHex();
+        List<TransactionTypeEnum> transactionTypes = toTransactionTypes(
+            criteria.getTransactionTypes());
+        AsyncCall<List<TransactionInfoDTO>> callback = apiCallback ->
+            getClient().getAccountPartialTransactionsAsync(accountId, criteria.getPageSize(),
+                criteria.getId(), criteria.getOrder(), transactionTypes, apiCallback);
+        Callable<Call> streamingCallback = () ->
+            getClient().getAccountPartialTransactionsCall(accountId, criteria.getPageSize(),
+                criteria.getId(), criteria.getOrder(), transactionTypes, null);
+        return transactions(callback, streamingCallback).map(
+            transactions -> transactions.stream().map(o -> (AggregateTransaction) o)
+                .collect(Collectors.toList()));
     }
 
     @Override
@@ -175,13 +210,16 @@ public class AccountRepositoryOkHttpImpl extends AbstractRepositoryOkHttpImpl im
     @Override
     public Observable<List<Transaction>> unconfirmedTransactions(
         PublicAccount publicAccount, TransactionSearchCriteria criteria) {
-        Callable<List<TransactionInfoDTO>> callback = () ->
-            getClient().getAccountUnconfirmedTransactions(publicAccount.getPublicKey().toHex(),
-                criteria.getPageSize(), criteria.getId(), criteria.getOrder(),
-                toTransactionTypes(criteria.getTransactionTypes()));
-        return exceptionHandling(
-            call(callback).flatMapIterable(item -> item).map(this::toTransaction).toList()
-                .toObservable());
+        String accountId = publicAccount.getPublicKey().toHex();
+        List<TransactionTypeEnum> transactionTypes = toTransactionTypes(
+            criteria.getTransactionTypes());
+        AsyncCall<List<TransactionInfoDTO>> callback = apiCallback ->
+            getClient().getAccountUnconfirmedTransactionsAsync(accountId, criteria.getPageSize(),
+                criteria.getId(), criteria.getOrder(), transactionTypes, apiCallback);
+        Callable<Call> streamingCallback = () ->
+            getClient().getAccountUnconfirmedTransactionsCall(accountId, criteria.getPageSize(),
+                criteria.getId(), criteria.getOrder(), transactionTypes, null);
+        return transactions(callback, streamingCallback);
     }
 
     @Override
@@ -192,13 +230,16 @@ public class AccountRepositoryOkHttpImpl extends AbstractRepositoryOkHttpImpl im
     @Override
     public Observable<List<Transaction>> partialTransactions(
         PublicAccount publicAccount, TransactionSearchCriteria criteria) {
-        Callable<List<TransactionInfoDTO>> callback = () ->
-            getClient().getAccountPartialTransactions(publicAccount.getPublicKey().toHex(),
-                criteria.getPageSize(), criteria.getId(), criteria.getOrder(),
-                toTransactionTypes(criteria.getTransactionTypes()));
-        return exceptionHandling(
-            call(callback).flatMapIterable(item -> item).map(this::toTransaction).toList()
-                .toObservable());
+        String accountId = publicAccount.getPublicKey().toHex();
+        List<TransactionTypeEnum> transactionTypes = toTransactionTypes(
+            criteria.getTransactionTypes());
+        AsyncCall<List<TransactionInfoDTO>> callback = apiCallback ->
+            getClient().getAccountPartialTransactionsAsync(accountId, criteria.getPageSize(),
+                criteria.getId(), criteria.getOrder(), transactionTypes, apiCallback);
+        Callable<Call> streamingCallback = () ->
+            getClient().getAccountPartialTransactionsCall(accountId, criteria.getPageSize(),
+                criteria.getId(), criteria.getOrder(), transactionTypes, null);
+        return transactions(callback, streamingCallback);
     }
 
 
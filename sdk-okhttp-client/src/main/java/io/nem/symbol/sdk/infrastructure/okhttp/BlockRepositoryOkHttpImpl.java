@@ -34,7 +34,6 @@ import io.reactivex.Observable;
 import java.math.BigInteger;
 import java.util.List;
 import java.util.Optional;
-import java.util.concurrent.Callable;
 import java.util.stream.Collectors;
 
 /**
@@ -57,7 +56,8 @@ public class BlockRepositoryOkHttpImpl extends AbstractRepositoryOkHttpImpl impl
 
     @Override
     public Observable<BlockInfo> getBlockByHeight(BigInteger height) {
-        Callable<BlockInfoDTO> callback = () -> getClient().getBlockByHeight(height);
+        AsyncCall<BlockInfoDTO> callback = apiCallback -> getClient()
+            .getBlockByHeightAsync(height, apiCallback);
         return exceptionHandling(call(callback).map(BlockRepositoryOkHttpImpl::toBlockInfo));
     }
 
@@ -74,8 +74,8 @@ public class BlockRepositoryOkHttpImpl extends AbstractRepositoryOkHttpImpl impl
 
     @Override
     public Observable<List<BlockInfo>> getBlocksByHeightWithLimit(BigInteger height, int limit) {
-        Callable<List<BlockInfoDTO>> callback = () ->
-            getClient().getBlocksByHeightWithLimit(height, limit);
+        AsyncCall<List<BlockInfoDTO>> callback = apiCallback ->
+            getClient().getBlocksByHeightWithLimitAsync(height, limit, apiCallback);
 
         return exceptionHandling(
             call(callback).flatMapIterable(item -> item).map(BlockRepositoryOkHttpImpl::toBlockInfo)
@@ -86,19 +86,19 @@ public class BlockRepositoryOkHttpImpl extends AbstractRepositoryOkHttpImpl impl
 
     @Override
     public Observable<MerkleProofInfo> getMerkleTransaction(BigInteger height, String hash) {
-        Callable<MerkleProofInfoDTO> callback = () ->
-            getClient().getMerkleTransaction(height, hash);
+        AsyncCall<MerkleProofInfoDTO> callback = apiCallback ->
+            getClient().getMerkleTransactionAsync(height, hash, apiCallback);
         return exceptionHandling(call(callback).map(this::toMerkleProofInfo));
 
     }
 
     private Observable<List<Transaction>> getBlockTransactions(
         BigInteger height, Optional<QueryParams> queryParams) {
-        Callable<List<TransactionInfoDTO>> callback = () ->
-            getClient().getBlockTransactions(height,
+        AsyncCall<List<TransactionInfoDTO>> callback = apiCallback ->
+            getClient().getBlockTransactionsAsync(height,
                 getPageSize(queryParams),
                 getId(queryParams),
-                null
+                null, apiCallback
             );
 
         return exceptionHandling(
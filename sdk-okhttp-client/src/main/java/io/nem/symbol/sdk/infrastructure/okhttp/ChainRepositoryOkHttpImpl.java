@@ -24,7 +24,6 @@ import io.nem.symbol.sdk.openapi.okhttp_gson.model.ChainScoreDTO;
 import io.nem.symbol.sdk.openapi.okhttp_gson.model.HeightInfoDTO;
 import io.reactivex.Observable;
 import java.math.BigInteger;
-import java.util.concurrent.Callable;
 
 /**
  * Chain http repository.
@@ -50,7 +49,7 @@ public class ChainRepositoryOkHttpImpl extends AbstractRepositoryOkHttpImpl impl
      */
     public Observable<BigInteger> getBlockchainHeight() {
 
-        Callable<HeightInfoDTO> callback = getClient()::getChainHeight;
+        AsyncCall<HeightInfoDTO> callback = getClient()::getChainHeightAsync;
         return exceptionHandling(
             call(callback).map(blockchainHeight -> (blockchainHeight.getHeight())));
 
@@ -62,7 +61,7 @@ public class ChainRepositoryOkHttpImpl extends AbstractRepositoryOkHttpImpl impl
      * @return io.reactivex.Observable of {@link BigInteger}
      */
     public Observable<BlockchainScore> getChainScore() {
-        Callable<ChainScoreDTO> callback = getClient()::getChainScore;
+        AsyncCall<ChainScoreDTO> callback = getClient()::getChainScoreAsync;
         return exceptionHandling(call(callback).map(
             blockchainScoreDTO ->
                 new BlockchainScore(
@@ -140,7 +140,30 @@ public class JsonHelperGson implements JsonHelper {
         if (instanceClass.isInstance(object)) {
             return (T) object;
         }
-        return parse(print(object), instanceClass);
+        JsonElement tree = toJsonTree(object);
+        if (instanceClass.isInstance(tree)) {
+            return (T) tree;
+        }
+        try {
+            return objectMapper.fromJson(tree, instanceClass);
+        } catch (Exception e) {
+            throw handleException(e, "Json payload: " + tree);
+        }
+    }
+
+    /**
+     * It binds the object into a json tree without printing it. Native json objects are returned
+     * as they are.
+     */
+    private JsonElement toJsonTree(Object object) {
+        if (object instanceof JsonElement) {
+            return (JsonElement) object;
+        }
+        try {
+            return objectMapper.toJsonTree(object);
+        } catch (Exception e) {
+            throw new IllegalArgumentException(e.getMessage(), e);
+        }
     }
 
     @Override
@@ -35,7 +35,6 @@ import java.math.BigInteger;
 import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
-import java.util.concurrent.Callable;
 
 
 /**
@@ -54,9 +53,9 @@ public class MetadataRepositoryOkHttpImpl extends AbstractRepositoryOkHttpImpl i
     @Override
     public Observable<List<Metadata>> getAccountMetadata(Address targetAddress,
         Optional<QueryParams> queryParams) {
-        Callable<MetadataEntriesDTO> callback = () -> getClient()
-            .getAccountMetadata(targetAddress.plain(), getPageSize(queryParams), getId(queryParams),
-                getOrder(queryParams)
+        AsyncCall<MetadataEntriesDTO> callback = apiCallback -> getClient()
+            .getAccountMetadataAsync(targetAddress.plain(), getPageSize(queryParams),
+                getId(queryParams), getOrder(queryParams), apiCallback
             );
         return handleList(callback);
     }
@@ -64,8 +63,8 @@ public class MetadataRepositoryOkHttpImpl extends AbstractRepositoryOkHttpImpl i
 
     @Override
     public Observable<List<Metadata>> getAccountMetadataByKey(Address targetAddress, BigInteger key) {
-        Callable<MetadataEntriesDTO> callback = () -> getClient()
-            .getAccountMetadataByKey(targetAddress.plain(), toHex(key));
+        AsyncCall<MetadataEntriesDTO> callback = apiCallback -> getClient()
+            .getAccountMetadataByKeyAsync(targetAddress.plain(), toHex(key), apiCallback);
         return handleList(callback);
     }
 
@@ -73,24 +72,25 @@ public class MetadataRepositoryOkHttpImpl extends AbstractRepositoryOkHttpImpl i
     @Override
     public Observable<List<Metadata>> getMosaicMetadata(MosaicId targetMosaicId,
         Optional<QueryParams> queryParams) {
-        Callable<MetadataEntriesDTO> callback = () -> getClient()
-            .getMosaicMetadata(targetMosaicId.getIdAsHex(), getPageSize(queryParams), getId(queryParams),
-                getOrder(queryParams));
+        AsyncCall<MetadataEntriesDTO> callback = apiCallback -> getClient()
+            .getMosaicMetadataAsync(targetMosaicId.getIdAsHex(), getPageSize(queryParams),
+                getId(queryParams), getOrder(queryParams), apiCallback);
         return handleList(callback);
     }
 
     @Override
     public Observable<List<Metadata>> getMosaicMetadataByKey(MosaicId targetMosaicId, BigInteger key) {
-        Callable<MetadataEntriesDTO> callback = () -> getClient()
-            .getMosaicMetadataByKey(targetMosaicId.getIdAsHex(), toHex(key));
+        AsyncCall<MetadataEntriesDTO> callback = apiCallback -> getClient()
+            .getMosaicMetadataByKeyAsync(targetMosaicId.getIdAsHex(), toHex(key), apiCallback);
         return handleList(callback);
     }
 
     @Override
     public Observable<Metadata> getAccountMetadataByKeyAndSender(Address targetAddress, BigInteger key,
         String senderPublicKey) {
-        Callable<MetadataDTO> callback = () -> getClient()
-            .getAccountMetadataByKeyAndSender(targetAddress.plain(), toHex(key), senderPublicKey);
+        AsyncCall<MetadataDTO> callback = apiCallback -> getClient()
+            .getAccountMetadataByKeyAndSenderAsync(targetAddress.plain(), toHex(key),
+                senderPublicKey, apiCallback);
         return handleOne(callback);
     }
 
@@ -98,27 +98,28 @@ public class MetadataRepositoryOkHttpImpl extends AbstractRepositoryOkHttpImpl i
     @Override
     public Observable<Metadata> getMosaicMetadataByKeyAndSender(MosaicId targetMosaicId, BigInteger key,
         String senderPublicKey) {
-        Callable<MetadataDTO> callback = () -> getClient()
-            .getMosaicMetadataByKeyAndSender(targetMosaicId.getIdAsHex(), toHex(key),
-                senderPublicKey);
+        AsyncCall<MetadataDTO> callback = apiCallback -> getClient()
+            .getMosaicMetadataByKeyAndSenderAsync(targetMosaicId.getIdAsHex(), toHex(key),
+                senderPublicKey, apiCallback);
         return handleOne(callback);
     }
 
     @Override
     public Observable<List<Metadata>> getNamespaceMetadata(NamespaceId targetNamespaceId,
         Optional<QueryParams> queryParams) {
-        Callable<MetadataEntriesDTO> callback = () -> getClient()
-            .getNamespaceMetadata(targetNamespaceId.getIdAsHex(), getPageSize(queryParams),
+        AsyncCall<MetadataEntriesDTO> callback = apiCallback -> getClient()
+            .getNamespaceMetadataAsync(targetNamespaceId.getIdAsHex(), getPageSize(queryParams),
                 getId(queryParams),
-                getOrder(queryParams));
+                getOrder(queryParams), apiCallback);
         return handleList(callback);
     }
 
     @Override
     public Observable<List<Metadata>> getNamespaceMetadataByKey(NamespaceId targetNamespaceId,
         BigInteger key) {
-        Callable<MetadataEntriesDTO> callback = () -> getClient()
-            .getNamespaceMetadataByKey(targetNamespaceId.getIdAsHex(), toHex(key));
+        AsyncCall<MetadataEntriesDTO> callback = apiCallback -> getClient()
+            .getNamespaceMetadataByKeyAsync(targetNamespaceId.getIdAsHex(), toHex(key),
+                apiCallback);
         return handleList(callback);
     }
 
@@ -126,9 +127,9 @@ public class MetadataRepositoryOkHttpImpl extends AbstractRepositoryOkHttpImpl i
     @Override
     public Observable<Metadata> getNamespaceMetadataByKeyAndSender(NamespaceId targetNamespaceId,
         BigInteger key, String senderPublicKey) {
-        Callable<MetadataDTO> callback = () -> getClient()
-            .getNamespaceMetadataByKeyAndSender(targetNamespaceId.getIdAsHex(),
-                MetadataRepositoryOkHttpImpl.this.toHex(key), senderPublicKey);
+        AsyncCall<MetadataDTO> callback = apiCallback -> getClient()
+            .getNamespaceMetadataByKeyAndSenderAsync(targetNamespaceId.getIdAsHex(),
+                MetadataRepositoryOkHttpImpl.this.toHex(key), senderPublicKey, apiCallback);
         return handleOne(callback);
     }
 
@@ -144,7 +145,7 @@ public class MetadataRepositoryOkHttpImpl extends AbstractRepositoryOkHttpImpl i
      * @return the {@link Observable} list of {@link Metadata}.
      */
     private Observable<List<Metadata>> handleList(
-        Callable<MetadataEntriesDTO> callback) {
+        AsyncCall<MetadataEntriesDTO> callback) {
         return exceptionHandling(
             call(callback).map(MetadataEntriesDTO::getMetadataEntries).flatMapIterable(item -> item)
                 .map(this::toMetadata).toList()
@@ -159,7 +160,7 @@ public class MetadataRepositoryOkHttpImpl extends AbstractRepositoryOkHttpImpl i
      * @return the {@link Observable} of {@link Metadata}.
      */
     private Observable<Metadata> handleOne(
-        Callable<MetadataDTO> callback) {
+        AsyncCall<MetadataDTO> callback) {
         return exceptionHandling(call(callback)
             .map(this::toMetadata));
     }
@@ -34,7 +34,6 @@ import io.nem.symbol.sdk.openapi.okhttp_gson.model.MosaicInfoDTO;
 import io.nem.symbol.sdk.openapi.okhttp_gson.model.MosaicsInfoDTO;
 import io.reactivex.Observable;
 import java.util.List;
-import java.util.concurrent.Callable;
 import java.util.stream.Collectors;
 
 /**
@@ -63,7 +62,8 @@ public class MosaicRepositoryOkHttpImpl extends AbstractRepositoryOkHttpImpl imp
 
     @Override
     public Observable<MosaicInfo> getMosaic(MosaicId mosaicId) {
-        Callable<MosaicInfoDTO> callback = () -> getClient().getMosaic(mosaicId.getIdAsHex());
+        AsyncCall<MosaicInfoDTO> callback = apiCallback -> getClient()
+            .getMosaicAsync(mosaicId.getIdAsHex(), apiCallback);
         return exceptionHandling(networkTypeObservable.flatMap(networkType -> call(callback).map(
             mosaicInfoDTO -> createMosaicInfo(mosaicInfoDTO, networkType))));
     }
@@ -74,8 +74,8 @@ public class MosaicRepositoryOkHttpImpl extends AbstractRepositoryOkHttpImpl imp
         mosaicIds.mosaicIds(ids.stream()
             .map(MosaicId::getIdAsHex)
             .collect(Collectors.toList()));
-        Callable<List<MosaicInfoDTO>> callback = () -> getClient()
-            .getMosaics(mosaicIds);
+        AsyncCall<List<MosaicInfoDTO>> callback = apiCallback -> getClient()
+            .getMosaicsAsync(mosaicIds, apiCallback);
         return exceptionHandling(networkTypeObservable.flatMap(networkType ->
             call(callback).flatMapIterable(item -> item).map(
                 mosaicInfoDTO -> createMosaicInfo(mosaicInfoDTO, networkType)).toList()
@@ -85,8 +85,8 @@ public class MosaicRepositoryOkHttpImpl extends AbstractRepositoryOkHttpImpl imp
 
     @Override
     public Observable<List<MosaicInfo>> getMosaicsFromAccount(Address address) {
-        Callable<MosaicsInfoDTO> callback = () -> getClient()
-            .getMosaicsFromAccount(address.plain());
+        AsyncCall<MosaicsInfoDTO> callback = apiCallback -> getClient()
+            .getMosaicsFromAccountAsync(address.plain(), apiCallback);
 
         return exceptionHandling(networkTypeObservable.flatMap(networkType ->
             call(callback).map(MosaicsInfoDTO::getMosaics).flatMapIterable(item -> item).map(
@@ -98,7 +98,8 @@ public class MosaicRepositoryOkHttpImpl extends AbstractRepositoryOkHttpImpl imp
     public Observable<List<MosaicInfo>> getMosaicsFromAccounts(List<Address> addresses) {
         AccountIds accountIds = new AccountIds()
             .addresses(addresses.stream().map(Address::plain).collect(Collectors.toList()));
-        Callable<MosaicsInfoDTO> callback = () -> getClient().getMosaicsFromAccounts(accountIds);
+        AsyncCall<MosaicsInfoDTO> callback = apiCallback -> getClient()
+            .getMosaicsFromAccountsAsync(accountIds, apiCallback);
 
         return exceptionHandling(networkTypeObservable.flatMap(networkType ->
             call(callback).map(MosaicsInfoDTO::getMosaics).flatMapIterable(item -> item).map(
@@ -50,7 +50,7 @@ public class MultisigRepositoryOkHttpImpl extends AbstractRepositoryOkHttpImpl i
     @Override
     public Observable<MultisigAccountInfo> getMultisigAccountInfo(Address address) {
         return exceptionHandling(networkTypeObservable.flatMap(networkType -> call(
-            () -> getClient().getAccountMultisig(address.plain()))
+            apiCallback -> getClient().getAccountMultisigAsync(address.plain(), apiCallback))
             .map(MultisigAccountInfoDTO::getMultisig)
             .map(dto -> toMultisigAccountInfo(dto, networkType))));
 
@@ -59,7 +59,7 @@ public class MultisigRepositoryOkHttpImpl extends AbstractRepositoryOkHttpImpl i
     @Override
     public Observable<MultisigAccountGraphInfo> getMultisigAccountGraphInfo(Address address) {
         return exceptionHandling(networkTypeObservable.flatMap(networkType -> call(
-            () -> getClient().getAccountMultisigGraph(address.plain()))
+            apiCallback -> getClient().getAccountMultisigGraphAsync(address.plain(), apiCallback))
             .map(multisigAccountGraphInfoDTOList -> {
                 Map<Integer, List<MultisigAccountInfo>> multisigAccountInfoMap = new HashMap<>();
                 multisigAccountGraphInfoDTOList.forEach(
@@ -53,7 +53,6 @@ import io.reactivex.Observable;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
-import java.util.concurrent.Callable;
 import java.util.stream.Collectors;
 
 /**
@@ -81,8 +80,8 @@ public class NamespaceRepositoryOkHttpImpl extends AbstractRepositoryOkHttpImpl
 
     @Override
     public Observable<NamespaceInfo> getNamespace(NamespaceId namespaceId) {
-        Callable<NamespaceInfoDTO> callback = () -> getClient()
-            .getNamespace(namespaceId.getIdAsHex());
+        AsyncCall<NamespaceInfoDTO> callback = apiCallback -> getClient()
+            .getNamespaceAsync(namespaceId.getIdAsHex(), apiCallback);
         return exceptionHandling(networkTypeObservable.flatMap(networkType -> call(callback).map(
             namespaceInfoDTO -> toNamespaceInfo(namespaceInfoDTO, networkType))));
     }
@@ -101,10 +100,10 @@ public class NamespaceRepositoryOkHttpImpl extends AbstractRepositoryOkHttpImpl
     private Observable<List<NamespaceInfo>> getNamespacesFromAccount(
         Address address, Optional<QueryParams> queryParams) {
 
-        Callable<NamespacesInfoDTO> callback = () ->
-            getClient().getNamespacesFromAccount(address.plain(),
+        AsyncCall<NamespacesInfoDTO> callback = apiCallback ->
+            getClient().getNamespacesFromAccountAsync(address.plain(),
                 getPageSize(queryParams),
-                getId(queryParams)
+                getId(queryParams), apiCallback
             );
 
         return exceptionHandling(networkTypeObservable.flatMap(networkType ->
@@ -120,9 +119,9 @@ public class NamespaceRepositoryOkHttpImpl extends AbstractRepositoryOkHttpImpl
             .addresses(addresses.stream().map(Address::plain).collect(
                 Collectors.toList()));
 
-        Callable<NamespacesInfoDTO> callback = () ->
+        AsyncCall<NamespacesInfoDTO> callback = apiCallback ->
             getClient()
-                .getNamespacesFromAccounts(accounts);
+                .getNamespacesFromAccountsAsync(accounts, apiCallback);
 
         return exceptionHandling(networkTypeObservable.flatMap(networkType ->
             call(callback).flatMapIterable(NamespacesInfoDTO::getNamespaces)
@@ -138,8 +137,8 @@ public class NamespaceRepositoryOkHttpImpl extends AbstractRepositoryOkHttpImpl
             .namespaceIds(namespaceIds.stream().map(NamespaceId::getIdAsHex)
                 .collect(Collectors.toList()));
 
-        Callable<List<NamespaceNameDTO>> callback = () ->
-            getClient().getNamespacesNames(ids);
+        AsyncCall<List<NamespaceNameDTO>> callback = apiCallback ->
+            getClient().getNamespacesNamesAsync(ids, apiCallback);
 
         return exceptionHandling(
             call(callback).flatMapIterable(item -> item).map(this::toNamespaceName).toList()
@@ -161,8 +160,8 @@ public class NamespaceRepositoryOkHttpImpl extends AbstractRepositoryOkHttpImpl
      */
     @Override
     public Observable<MosaicId> getLinkedMosaicId(NamespaceId namespaceId) {
-        Callable<NamespaceInfoDTO> callback = () -> getClient()
-            .getNamespace(namespaceId.getIdAsHex());
+        AsyncCall<NamespaceInfoDTO> callback = apiCallback -> getClient()
+            .getNamespaceAsync(namespaceId.getIdAsHex(), apiCallback);
         return exceptionHandling(call(callback).map(namespaceInfoDTO -> this
             .toMosaicId(namespaceInfoDTO.getNamespace())));
     }
@@ -175,8 +174,8 @@ public class NamespaceRepositoryOkHttpImpl extends AbstractRepositoryOkHttpImpl
      */
     @Override
     public Observable<Address> getLinkedAddress(NamespaceId namespaceId) {
-        Callable<NamespaceInfoDTO> callback = () -> getClient()
-            .getNamespace(namespaceId.getIdAsHex());
+        AsyncCall<NamespaceInfoDTO> callback = apiCallback -> getClient()
+            .getNamespaceAsync(namespaceId.getIdAsHex(), apiCallback);
         return exceptionHandling(call(callback).map(namespaceInfoDTO -> this
             .toAddress(namespaceInfoDTO.getNamespace())));
     }
@@ -190,8 +189,8 @@ public class NamespaceRepositoryOkHttpImpl extends AbstractRepositoryOkHttpImpl
     }
 
     private Observable<List<AccountNames>> getAccountNames(AccountIds accountIds) {
-        Callable<AccountsNamesDTO> callback = () -> getClient()
-            .getAccountsNames(accountIds);
+        AsyncCall<AccountsNamesDTO> callback = apiCallback -> getClient()
+            .getAccountsNamesAsync(accountIds, apiCallback);
         return exceptionHandling(
             call(callback).map(AccountsNamesDTO::getAccountNames).flatMapIterable(item -> item)
                 .map(this::toAccountNames).toList().toObservable());
@@ -215,8 +214,8 @@ public class NamespaceRepositoryOkHttpImpl extends AbstractRepositoryOkHttpImpl
         mosaicIds.mosaicIds(ids.stream()
             .map(MosaicId::getIdAsHex)
             .collect(Collectors.toList()));
-        Callable<MosaicsNamesDTO> callback = () -> getClient()
-            .getMosaicsNames(mosaicIds);
+        AsyncCall<MosaicsNamesDTO> callback = apiCallback -> getClient()
+            .getMosaicsNamesAsync(mosaicIds, apiCallback);
         return exceptionHandling(
             call(callback).map(MosaicsNamesDTO::getMosaicNames).flatMapIterable(item -> item)
                 .map(this::toMosaicNames).toList()
@@ -77,21 +77,21 @@ public class NetworkRepositoryOkHttpImpl extends AbstractRepositoryOkHttpImpl im
     @Override
     public Observable<NetworkType> getNetworkType() {
         return exceptionHandling(
-            call(getNodeRoutesApi()::getNodeInfo)
+            call(getNodeRoutesApi()::getNodeInfoAsync)
                 .map(info -> NetworkType.rawValueOf(info.getNetworkIdentifier())));
     }
 
     @Override
     public Observable<NetworkInfo> getNetworkInfo() {
         return exceptionHandling(
-            call(getNetworkRoutesApi()::getNetworkType)
+            call(getNetworkRoutesApi()::getNetworkTypeAsync)
                 .map(info -> new NetworkInfo(info.getName(), info.getDescription())));
     }
 
     @Override
     public Observable<TransactionFees> getTransactionFees() {
         return exceptionHandling(
-            call(getNetworkRoutesApi()::getTransactionFees)
+            call(getNetworkRoutesApi()::getTransactionFeesAsync)
                 .map(info -> new TransactionFees(info.getAverageFeeMultiplier(),
                     info.getMedianFeeMultiplier(), info.getLowestFeeMultiplier(),
                     info.getHighestFeeMultiplier()
@@ -101,7 +101,7 @@ public class NetworkRepositoryOkHttpImpl extends AbstractRepositoryOkHttpImpl im
     @Override
     public Observable<RentalFees> getRentalFees() {
         return exceptionHandling(
-            call(getNetworkRoutesApi()::getRentalFees)
+            call(getNetworkRoutesApi()::getRentalFeesAsync)
                 .map(info -> new RentalFees(info.getEffectiveRootNamespaceRentalFeePerBlock(),
                     info.getEffectiveChildNamespaceRentalFee(), info.getEffectiveMosaicRentalFee()
                 )));
@@ -110,7 +110,7 @@ public class NetworkRepositoryOkHttpImpl extends AbstractRepositoryOkHttpImpl im
 
     @Override
     public Observable<NetworkConfiguration> getNetworkProperties() {
-        return call(getNetworkRoutesApi()::getNetworkProperties)
+        return call(getNetworkRoutesApi()::getNetworkPropertiesAsync)
             .map(info -> new NetworkConfiguration(toNetworkProperties(info.getNetwork()),
                 toChainProperties(info.getChain()), toPluginsProperties(info.getPlugins())));
     }
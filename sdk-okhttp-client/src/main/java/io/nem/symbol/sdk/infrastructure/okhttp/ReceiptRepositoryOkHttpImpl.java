@@ -29,7 +29,6 @@ import io.nem.symbol.sdk.openapi.okhttp_gson.model.StatementsDTO;
 import io.reactivex.Observable;
 import java.math.BigInteger;
 import java.util.List;
-import java.util.concurrent.Callable;
 import java.util.stream.Collectors;
 
 
@@ -52,8 +51,8 @@ public class ReceiptRepositoryOkHttpImpl extends AbstractRepositoryOkHttpImpl im
 
     @Override
     public Observable<Statement> getBlockReceipts(BigInteger height) {
-        Callable<StatementsDTO> callback = () ->
-            getClient().getBlockReceipts(height);
+        AsyncCall<StatementsDTO> callback = apiCallback ->
+            getClient().getBlockReceiptsAsync(height, apiCallback);
         return exceptionHandling(
             networkTypeObservable.flatMap(networkType -> call(callback).map(statementsDTO ->
                 new ReceiptMappingOkHttp(getJsonHelper())
@@ -63,8 +62,8 @@ public class ReceiptRepositoryOkHttpImpl extends AbstractRepositoryOkHttpImpl im
 
     public Observable<MerkleProofInfo> getMerkleReceipts(BigInteger height, String hash) {
 
-        Callable<MerkleProofInfoDTO> callback = () ->
-            getClient().getMerkleReceipts(height, hash);
+        AsyncCall<MerkleProofInfoDTO> callback = apiCallback ->
+            getClient().getMerkleReceiptsAsync(height, hash, apiCallback);
         return exceptionHandling(call(callback).map(this::toMerkleProofInfo));
     }
 
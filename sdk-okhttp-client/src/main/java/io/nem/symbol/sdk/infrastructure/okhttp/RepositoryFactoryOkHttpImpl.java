@@ -35,6 +35,7 @@ import io.nem.symbol.sdk.api.RestrictionMosaicRepository;
 import io.nem.symbol.sdk.api.TransactionRepository;
 import io.nem.symbol.sdk.infrastructure.RepositoryFactoryBase;
 import io.nem.symbol.sdk.openapi.okhttp_gson.invoker.ApiClient;
+import okhttp3.Dispatcher;
 import okhttp3.OkHttpClient;
 import org.apache.commons.io.IOUtils;
 
@@ -49,6 +50,8 @@ public class RepositoryFactoryOkHttpImpl extends RepositoryFactoryBase {
 
     private final ApiClient apiClient;
 
+    private final boolean streamingTransactionDecoding;
+
 
     public RepositoryFactoryOkHttpImpl(String baseUrl) {
         this(new RepositoryFactoryConfiguration(baseUrl));
@@ -59,11 +62,19 @@ public class RepositoryFactoryOkHttpImpl extends RepositoryFactoryBase {
         this.apiClient = new ApiClient();
         this.apiClient.setBasePath(getBaseUrl());
         this.apiClient.getJSON().setGson(JsonHelperGson.creatGson(false));
+        this.streamingTransactionDecoding = configuration.isStreamingTransactionDecoding();
+        Dispatcher dispatcher = this.apiClient.getHttpClient().dispatcher();
+        if (configuration.getMaxRequests() != null) {
+            dispatcher.setMaxRequests(configuration.getMaxRequests());
+        }
+        if (configuration.getMaxRequestsPerHost() != null) {
+            dispatcher.setMaxRequestsPerHost(configuration.getMaxRequestsPerHost());
+        }
     }
 
     @Override
     public AccountRepository createAccountRepository() {
-        return new AccountRepositoryOkHttpImpl(apiClient);
+        return new AccountRepositoryOkHttpImpl(apiClient, streamingTransactionDecoding);
     }
 
     @Override
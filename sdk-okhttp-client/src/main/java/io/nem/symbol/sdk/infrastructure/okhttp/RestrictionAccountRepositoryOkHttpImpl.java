@@ -31,7 +31,6 @@ import io.nem.symbol.sdk.openapi.okhttp_gson.model.AccountRestrictionsInfoDTO;
 import io.reactivex.Observable;
 import java.util.List;
 import java.util.Objects;
-import java.util.concurrent.Callable;
 import java.util.stream.Collectors;
 
 public class RestrictionAccountRepositoryOkHttpImpl extends AbstractRepositoryOkHttpImpl implements
@@ -48,8 +47,8 @@ public class RestrictionAccountRepositoryOkHttpImpl extends AbstractRepositoryOk
     @Override
     public Observable<AccountRestrictions> getAccountRestrictions(Address address) {
 
-        Callable<AccountRestrictionsInfoDTO> callback = () -> getClient()
-            .getAccountRestrictions(address.plain());
+        AsyncCall<AccountRestrictionsInfoDTO> callback = apiCallback -> getClient()
+            .getAccountRestrictionsAsync(address.plain(), apiCallback);
         return exceptionHandling(
             call(callback).map(AccountRestrictionsInfoDTO::getAccountRestrictions)
                 .map(this::toAccountRestrictions));
@@ -65,8 +64,8 @@ public class RestrictionAccountRepositoryOkHttpImpl extends AbstractRepositoryOk
 
 
     private Observable<List<AccountRestrictions>> getAccountsRestrictions(AccountIds accountIds) {
-        Callable<List<AccountRestrictionsInfoDTO>> callback = () -> getClient()
-            .getAccountRestrictionsFromAccounts(accountIds);
+        AsyncCall<List<AccountRestrictionsInfoDTO>> callback = apiCallback -> getClient()
+            .getAccountRestrictionsFromAccountsAsync(accountIds, apiCallback);
         return exceptionHandling(
             call(callback).flatMapIterable(item -> item)
                 .map(AccountRestrictionsInfoDTO::getAccountRestrictions)
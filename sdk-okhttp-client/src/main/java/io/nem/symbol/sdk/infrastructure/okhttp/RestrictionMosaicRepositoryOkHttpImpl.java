@@ -56,8 +56,8 @@ public class RestrictionMosaicRepositoryOkHttpImpl extends AbstractRepositoryOkH
         MosaicId mosaicId, List<Address> addresses) {
         AccountIds accountIds = new AccountIds()
             .addresses(addresses.stream().map(Address::plain).collect(Collectors.toList()));
-        return exceptionHandling(call(() -> getClient()
-            .getMosaicAddressRestrictions(mosaicId.getIdAsHex(), accountIds))
+        return exceptionHandling(call(apiCallback -> getClient()
+            .getMosaicAddressRestrictionsAsync(mosaicId.getIdAsHex(), accountIds, apiCallback))
             .flatMapIterable(item -> item).map(this::toMosaicAddressRestriction)).toList()
             .toObservable();
     }
@@ -66,14 +66,17 @@ public class RestrictionMosaicRepositoryOkHttpImpl extends AbstractRepositoryOkH
     public Observable<MosaicAddressRestriction> getMosaicAddressRestriction(MosaicId mosaicId,
         Address address) {
         return exceptionHandling(call(
-            () -> getClient().getMosaicAddressRestriction(mosaicId.getIdAsHex(), address.plain()))
+            apiCallback -> getClient()
+                .getMosaicAddressRestrictionAsync(mosaicId.getIdAsHex(), address.plain(),
+                    apiCallback))
             .map(this::toMosaicAddressRestriction));
     }
 
     @Override
     public Observable<MosaicGlobalRestriction> getMosaicGlobalRestriction(MosaicId mosaicId) {
         return exceptionHandling(
-            call(() -> getClient().getMosaicGlobalRestriction(mosaicId.getIdAsHex()))
+            call(apiCallback -> getClient()
+                .getMosaicGlobalRestrictionAsync(mosaicId.getIdAsHex(), apiCallback))
                 .map(this::toMosaicGlobalRestriction));
     }
 
@@ -83,7 +86,8 @@ public class RestrictionMosaicRepositoryOkHttpImpl extends AbstractRepositoryOkH
         MosaicIds mosaicIdsParmas = new MosaicIds()
             .mosaicIds(mosaicIds.stream().map(MosaicId::getIdAsHex).collect(Collectors.toList()));
         return exceptionHandling(
-            call(() -> getClient().getMosaicGlobalRestrictions(mosaicIdsParmas))
+            call(apiCallback -> getClient()
+                .getMosaicGlobalRestrictionsAsync(mosaicIdsParmas, apiCallback))
                 .flatMapIterable(item -> item).map(this::toMosaicGlobalRestriction)).toList()
             .toObservable();
     }
@@ -36,7 +36,6 @@ import io.nem.symbol.sdk.openapi.okhttp_gson.model.TransactionPayload;
 import io.nem.symbol.sdk.openapi.okhttp_gson.model.TransactionStatusDTO;
 import io.reactivex.Observable;
 import java.util.List;
-import java.util.concurrent.Callable;
 
 /**
  * Transaction http repository.
@@ -62,8 +61,8 @@ public class TransactionRepositoryOkHttpImpl extends AbstractRepositoryOkHttpImp
 
     @Override
     public Observable<Transaction> getTransaction(String transactionHash) {
-        Callable<TransactionInfoDTO> callback = () -> getClient()
-            .getTransaction(transactionHash);
+        AsyncCall<TransactionInfoDTO> callback = apiCallback -> getClient()
+            .getTransactionAsync(transactionHash, apiCallback);
         return exceptionHandling(call(callback).map(this::toTransaction));
     }
 
@@ -73,8 +72,9 @@ public class TransactionRepositoryOkHttpImpl extends AbstractRepositoryOkHttpImp
 
     @Override
     public Observable<List<Transaction>> getTransactions(List<String> transactionHashes) {
-        Callable<List<TransactionInfoDTO>> callback = () ->
-            getClient().getTransactions(new TransactionIds().transactionIds(transactionHashes));
+        AsyncCall<List<TransactionInfoDTO>> callback = apiCallback ->
+            getClient().getTransactionsAsync(
+                new TransactionIds().transactionIds(transactionHashes), apiCallback);
         return exceptionHandling(
             call(callback).flatMapIterable(item -> item).map(this::toTransaction).toList()
                 .toObservable());
@@ -84,8 +84,8 @@ public class TransactionRepositoryOkHttpImpl extends AbstractRepositoryOkHttpImp
 
     @Override
     public Observable<TransactionStatus> getTransactionStatus(String transactionHash) {
-        Callable<TransactionStatusDTO> callback = () -> getClient()
-            .getTransactionStatus(transactionHash);
+        AsyncCall<TransactionStatusDTO> callback = apiCallback -> getClient()
+            .getTransactionStatusAsync(transactionHash, apiCallback);
         return exceptionHandling(call(callback).map(this::toTransactionStatus));
     }
 
@@ -102,8 +102,9 @@ public class TransactionRepositoryOkHttpImpl extends AbstractRepositoryOkHttpImp
     @Override
     public Observable<List<TransactionStatus>> getTransactionStatuses(
         List<String> transactionHashes) {
-        Callable<List<TransactionStatusDTO>> callback = () ->
-            getClient().getTransactionsStatuses(new TransactionHashes().hashes(transactionHashes));
+        AsyncCall<List<TransactionStatusDTO>> callback = apiCallback ->
+            getClient().getTransactionsStatusesAsync(
+                new TransactionHashes().hashes(transactionHashes), apiCallback);
         return exceptionHandling(
             call(callback).flatMapIterable(item -> item).map(this::toTransactionStatus).toList()
                 .toObservable());
@@ -113,9 +114,9 @@ public class TransactionRepositoryOkHttpImpl extends AbstractRepositoryOkHttpImp
     @Override
     public Observable<TransactionAnnounceResponse> announce(SignedTransaction signedTransaction) {
 
-        Callable<AnnounceTransactionInfoDTO> callback = () -> getClient()
-            .announceTransaction(
-                new TransactionPayload().payload(signedTransaction.getPayload()));
+        AsyncCall<AnnounceTransactionInfoDTO> callback = apiCallback -> getClient()
+            .announceTransactionAsync(
+                new TransactionPayload().payload(signedTransaction.getPayload()), apiCallback);
         return exceptionHandling(
             call(callback).map(dto -> new TransactionAnnounceResponse(dto.getMessage())));
     }
@@ -123,9 +124,9 @@ public class TransactionRepositoryOkHttpImpl extends AbstractRepositoryOkHttpImp
     @Override
     public Observable<TransactionAnnounceResponse> announceAggregateBonded(
         SignedTransaction signedTransaction) {
-        Callable<AnnounceTransactionInfoDTO> callback = () -> getClient()
-            .announcePartialTransaction(
-                new TransactionPayload().payload(signedTransaction.getPayload()));
+        AsyncCall<AnnounceTransactionInfoDTO> callback = apiCallback -> getClient()
+            .announcePartialTransactionAsync(
+                new TransactionPayload().payload(signedTransaction.getPayload()), apiCallback);
         return exceptionHandling(
             call(callback).map(dto -> new TransactionAnnounceResponse(dto.getMessage())));
     }
@@ -134,11 +135,12 @@ public class TransactionRepositoryOkHttpImpl extends AbstractRepositoryOkHttpImp
     public Observable<TransactionAnnounceResponse> announceAggregateBondedCosignature(
         CosignatureSignedTransaction cosignatureSignedTransaction) {
 
-        Callable<AnnounceTransactionInfoDTO> callback = () -> getClient()
-            .announceCosignatureTransaction(
+        AsyncCall<AnnounceTransactionInfoDTO> callback = apiCallback -> getClient()
+            .announceCosignatureTransactionAsync(
                 new Cosignature().parentHash(cosignatureSignedTransaction.getParentHash())
                     .signature(cosignatureSignedTransaction.getSignature())
-                    .signerPublicKey(cosignatureSignedTransaction.getSignerPublicKey()));
+                    .signerPublicKey(cosignatureSignedTransaction.getSignerPublicKey()),
+                apiCallback);
         return exceptionHandling(
             call(callback).map(dto -> new TransactionAnnounceResponse(dto.getMessage())));
 
@@ -16,11 +16,14 @@
 
 package io.nem.symbol.sdk.infrastructure.okhttp.mappers;
 
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
 import io.nem.symbol.sdk.model.transaction.JsonHelper;
 import io.nem.symbol.sdk.model.transaction.Transaction;
 import io.nem.symbol.sdk.model.transaction.TransactionType;
 import io.nem.symbol.sdk.openapi.okhttp_gson.model.EmbeddedTransactionInfoDTO;
 import io.nem.symbol.sdk.openapi.okhttp_gson.model.TransactionInfoDTO;
+import io.nem.symbol.sdk.openapi.okhttp_gson.model.TransactionMetaDTO;
 import java.util.EnumMap;
 import java.util.Map;
 import org.apache.commons.lang3.Validate;
@@ -86,6 +89,32 @@ public class GeneralTransactionMapper implements TransactionMapper {
         return resolveMapper(transactionInfoDTO).map(transactionInfoDTO);
     }
 
+    /**
+     * It maps a transaction info json object, for example one read by a streaming parser. The type
+     * is read once from the json object and the transaction object is handed to the specific
+     * mapper as it is, without converting the whole object into a {@link TransactionInfoDTO}
+     * first.
+     *
+     * @param transactionInfoJson the transaction info json object.
+     * @return the {@link Transaction}
+     */
+    public Transaction map(JsonObject transactionInfoJson) {
+        Validate.notNull(transactionInfoJson, "transactionInfoJson must not be null");
+        JsonElement transactionJson = transactionInfoJson.get("transaction");
+        JsonElement type = transactionJson != null && transactionJson.isJsonObject()
+            ? transactionJson.getAsJsonObject().get("type") : null;
+        if (type == null || type.isJsonNull()) {
+            throw new IllegalArgumentException(
+                "Transaction cannot be mapped, object does not not have transaction type.");
+        }
+        TransactionInfoDTO transactionInfoDTO = new TransactionInfoDTO();
+        transactionInfoDTO.setMeta(getJsonHelper()
+            .convert(transactionInfoJson.get("meta"), TransactionMetaDTO.class));
+        transactionInfoDTO.setTransaction(transactionJson);
+        return resolveMapper(TransactionType.rawValueOf(type.getAsInt()))
+            .map(transactionInfoDTO);
+    }
+
     @Override
     public EmbeddedTransactionInfoDTO mapToEmbedded(Transaction transaction) {
         Validate.notNull(transaction, "transaction must not be null");
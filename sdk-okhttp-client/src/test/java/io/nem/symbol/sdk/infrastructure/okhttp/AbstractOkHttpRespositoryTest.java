@@ -21,6 +21,7 @@ import io.nem.symbol.core.utils.HttpStatus;
 import io.nem.symbol.sdk.model.account.Address;
 import io.nem.symbol.sdk.model.network.NetworkType;
 import io.nem.symbol.sdk.model.transaction.JsonHelper;
+import io.nem.symbol.sdk.openapi.okhttp_gson.invoker.ApiCallback;
 import io.nem.symbol.sdk.openapi.okhttp_gson.invoker.ApiClient;
 import io.nem.symbol.sdk.openapi.okhttp_gson.invoker.ApiException;
 import io.nem.symbol.sdk.openapi.okhttp_gson.invoker.ApiResponse;
@@ -31,6 +32,13 @@ import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import okhttp3.Call;
+import okhttp3.Callback;
+import okhttp3.MediaType;
+import okhttp3.Protocol;
+import okhttp3.Request;
+import okhttp3.Response;
+import okhttp3.ResponseBody;
 import org.junit.jupiter.api.BeforeEach;
 import org.mockito.ArgumentCaptor;
 import org.mockito.Mockito;
@@ -84,9 +92,43 @@ public abstract class AbstractOkHttpRespositoryTest {
 
         Mockito.doReturn(apiResponse).when(apiClientMock).execute(Mockito.any(),
             Mockito.any(Type.class));
+
+        Mockito.doAnswer(invocation -> {
+            ApiCallback<T> callback = (ApiCallback<T>) invocation.getArguments()[2];
+            callback.onSuccess(value, 200, headers);
+            return null;
+        }).when(apiClientMock).executeAsync(Mockito.any(), Mockito.any(Type.class),
+            Mockito.any());
         return captor;
     }
 
+    /**
+     * Mocks the api client telling what would it be the next raw response when a remote call is
+     * enqueued directly, like the streaming calls do.
+     *
+     * @param statusCode the status code of the response.
+     * @param body the raw json body of the response.
+     * @return the mocked {@link Call}.
+     */
+    protected Call mockRemoteStreamingCall(int statusCode, String body) throws Exception {
+        Call call = Mockito.mock(Call.class);
+        Request request = new Request.Builder().url("http://localhost:3000").build();
+        Mockito.doAnswer(invocation -> {
+            Callback callback = (Callback) invocation.getArguments()[0];
+            callback.onResponse(call, new Response.Builder()
+                .request(request).protocol(Protocol.HTTP_1_1).code(statusCode)
+                .message(HttpStatus.valueOf(statusCode).getReasonPhrase())
+                .body(ResponseBody.create(MediaType.parse("application/json"), body)).build());
+            return null;
+        }).when(call).enqueue(Mockito.any(Callback.class));
+
+        Mockito.doReturn(call).when(apiClientMock)
+            .buildCall(Mockito.anyString(), Mockito.anyString(), Mockito.anyList(),
+                Mockito.anyList(), Mockito.any(), Mockito.anyMap(), Mockito.anyMap(),
+                Mockito.any(), Mockito.any(), Mockito.any());
+        return call;
+    }
+
     /**
      * Mocks the api client telling that the next time there is remote call, an error should be
      * returned. The mocked response body is the expected json from the catapult rest error
@@ -122,6 +164,13 @@ public abstract class AbstractOkHttpRespositoryTest {
 
         Mockito.doThrow(exception).when(apiClientMock).execute(Mockito.any(),
             Mockito.any(Type.class));
+
+        Mockito.doAnswer(invocation -> {
+            ApiCallback<?> callback = (ApiCallback<?>) invocation.getArguments()[2];
+            callback.onFailure(exception, statusCode, headers);
+            return null;
+        }).when(apiClientMock).executeAsync(Mockito.any(), Mockito.any(Type.class),
+            Mockito.any());
     }
 
     protected abstract AbstractRepositoryOkHttpImpl getRepository();
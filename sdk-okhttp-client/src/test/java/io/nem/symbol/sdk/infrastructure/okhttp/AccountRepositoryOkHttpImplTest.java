@@ -28,6 +28,7 @@ import io.nem.symbol.sdk.model.account.Address;
 import io.nem.symbol.sdk.model.account.PublicAccount;
 import io.nem.symbol.sdk.model.transaction.AggregateTransaction;
 import io.nem.symbol.sdk.model.transaction.Transaction;
+import io.nem.symbol.sdk.model.transaction.TransactionInfo;
 import io.nem.symbol.sdk.model.transaction.TransactionType;
 import io.nem.symbol.sdk.openapi.okhttp_gson.model.AccountDTO;
 import io.nem.symbol.sdk.openapi.okhttp_gson.model.AccountInfoDTO;
@@ -36,8 +37,11 @@ import io.nem.symbol.sdk.openapi.okhttp_gson.model.Mosaic;
 import io.nem.symbol.sdk.openapi.okhttp_gson.model.TransactionInfoDTO;
 import java.math.BigInteger;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -168,6 +172,71 @@ public class AccountRepositoryOkHttpImplTest extends AbstractOkHttpRespositoryTe
     }
 
 
+    @Test
+    public void streamingTransactions() throws Exception {
+        AccountRepositoryOkHttpImpl streamingRepository = new AccountRepositoryOkHttpImpl(
+            apiClientMock, true);
+        String transfer = TestHelperOkHttp
+            .loadResource("TransactionMapping-shouldCreateStandaloneTransferTransaction.json");
+        String aggregate = TestHelperOkHttp
+            .loadResource("TransactionMapping-shouldCreateAggregateTransferTransaction.json");
+
+        PublicAccount publicAccount = Account.generateNewAccount(networkType).getPublicAccount();
+
+        mockRemoteStreamingCall(200, "[" + transfer + "," + aggregate + "]");
+
+        List<Transaction> transactions = streamingRepository.transactions(publicAccount)
+            .toFuture().get();
+        Assertions.assertEquals(2, transactions.size());
+        Assertions.assertEquals(TransactionType.TRANSFER, transactions.get(0).getType());
+        Assertions.assertEquals(TransactionType.AGGREGATE_COMPLETE, transactions.get(1).getType());
+
+        mockRemoteCall(Arrays.asList(loadTransactionInfoDTO(
+            "shouldCreateStandaloneTransferTransaction.json"), loadTransactionInfoDTO(
+            "shouldCreateAggregateTransferTransaction.json")));
+        List<Transaction> expected = repository.transactions(publicAccount).toFuture().get();
+        Assertions.assertEquals(expected.size(), transactions.size());
+        for (int i = 0; i < expected.size(); i++) {
+            Assertions.assertEquals(expected.get(i).getSignature(),
+                transactions.get(i).getSignature());
+            Assertions.assertEquals(expected.get(i).getTransactionInfo().flatMap(
+                TransactionInfo::getHash),
+                transactions.get(i).getTransactionInfo().flatMap(TransactionInfo::getHash));
+        }
+    }
+
+    @Test
+    public void streamingTransactionsEmptyPage() throws Exception {
+        AccountRepositoryOkHttpImpl streamingRepository = new AccountRepositoryOkHttpImpl(
+            apiClientMock, true);
+        PublicAccount publicAccount = Account.generateNewAccount(networkType).getPublicAccount();
+
+        mockRemoteStreamingCall(200, "[]");
+
+        Assertions.assertTrue(
+            streamingRepository.outgoingTransactions(publicAccount).toFuture().get().isEmpty());
+    }
+
+    @Test
+    public void streamingTransactionsWhenNotFound() throws Exception {
+        AccountRepositoryOkHttpImpl streamingRepository = new AccountRepositoryOkHttpImpl(
+            apiClientMock, true);
+        PublicAccount publicAccount = Account.generateNewAccount(networkType).getPublicAccount();
+
+        Map<String, String> errorBody = new HashMap<>();
+        errorBody.put("code", "ResourceNotFound");
+        errorBody.put("message", "Account not found!");
+        mockRemoteStreamingCall(404, jsonHelper.print(errorBody));
+
+        Assertions
+            .assertEquals(
+                "ApiException: Not Found - 404 - ResourceNotFound - Account not found!",
+                Assertions.assertThrows(RepositoryCallException.class, () -> {
+                    ExceptionUtils.propagate(
+                        () -> streamingRepository.transactions(publicAccount).toFuture().get());
+                }).getMessage());
+    }
+
     @Test
     public void shouldGetAccountInfo() throws Exception {
         Address address =
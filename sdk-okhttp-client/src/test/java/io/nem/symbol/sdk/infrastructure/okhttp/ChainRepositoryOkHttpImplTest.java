@@ -17,12 +17,19 @@
 package io.nem.symbol.sdk.infrastructure.okhttp;
 
 import io.nem.symbol.sdk.model.blockchain.BlockchainScore;
+import io.nem.symbol.sdk.openapi.okhttp_gson.invoker.ApiCallback;
 import io.nem.symbol.sdk.openapi.okhttp_gson.model.ChainScoreDTO;
 import io.nem.symbol.sdk.openapi.okhttp_gson.model.HeightInfoDTO;
+import java.lang.reflect.Type;
 import java.math.BigInteger;
+import java.util.Collections;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
 
 /**
  * Unit Tests for {@link ChainRepositoryOkHttpImpl}
@@ -62,6 +69,25 @@ public class ChainRepositoryOkHttpImplTest extends AbstractOkHttpRespositoryTest
             blockchainScore.getScoreHigh());
     }
 
+    @Test
+    public void shouldCompleteFromTheCallbackWithoutBlocking() throws Exception {
+        AtomicReference<ApiCallback<HeightInfoDTO>> pendingCallback = new AtomicReference<>();
+        Mockito.doAnswer(invocation -> {
+            pendingCallback.set((ApiCallback<HeightInfoDTO>) invocation.getArguments()[2]);
+            return null;
+        }).when(apiClientMock).executeAsync(Mockito.any(), Mockito.any(Type.class),
+            Mockito.any());
+
+        Future<BigInteger> future = repository.getBlockchainHeight().toFuture();
+        Assertions.assertFalse(future.isDone());
+        Assertions.assertNotNull(pendingCallback.get());
+
+        HeightInfoDTO dto = new HeightInfoDTO();
+        dto.setHeight(BigInteger.valueOf(8L));
+        pendingCallback.get().onSuccess(dto, 200, Collections.emptyMap());
+        Assertions.assertEquals(dto.getHeight(), future.get(1, TimeUnit.SECONDS));
+    }
+
     @Override
     public ChainRepositoryOkHttpImpl getRepository() {
         return repository;
@@ -127,7 +127,15 @@ public class JsonHelperJackson2 implements JsonHelper {
         if (instanceClass.isInstance(object)) {
             return (T) object;
         }
-        return parse(print(object), instanceClass);
+        try {
+            if (object instanceof JsonNode) {
+                return objectMapper.treeToValue((JsonNode) object, instanceClass);
+            }
+            // convertValue streams the object into a token buffer, nothing is printed.
+            return objectMapper.convertValue(object, instanceClass);
+        } catch (Exception e) {
+            throw handleException(e, null);
+        }
     }
 
     @Override
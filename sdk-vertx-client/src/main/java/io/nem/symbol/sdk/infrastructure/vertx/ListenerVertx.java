@@ -91,7 +91,7 @@ public class ListenerVertx extends ListenerBase implements Listener {
                 ws.handler(
                     handler -> {
                         ObjectNode message = getJsonHelper()
-                            .convert(handler.toJsonObject(), ObjectNode.class);
+                            .parse(handler.toString(), ObjectNode.class);
                         handle(message, future);
                     });
             });
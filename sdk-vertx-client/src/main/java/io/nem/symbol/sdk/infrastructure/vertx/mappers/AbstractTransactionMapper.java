@@ -16,6 +16,7 @@
 
 package io.nem.symbol.sdk.infrastructure.vertx.mappers;
 
+import com.fasterxml.jackson.databind.JsonNode;
 import io.nem.symbol.core.crypto.PublicKey;
 import io.nem.symbol.sdk.model.account.PublicAccount;
 import io.nem.symbol.sdk.model.network.NetworkType;
@@ -68,9 +69,11 @@ public abstract class AbstractTransactionMapper<D, T extends Transaction> implem
     }
 
     protected final T createModel(TransactionInfo transactionInfo, Object transactionDto) {
-        D transaction = getJsonHelper().convert(transactionDto, transactionDtoClass);
+        // The generic object is bound into a json tree once, both DTOs are read from the tree.
+        JsonNode transactionTree = getJsonHelper().convert(transactionDto, JsonNode.class);
+        D transaction = getJsonHelper().convert(transactionTree, transactionDtoClass);
         TransactionDTO transactionDTO = getJsonHelper()
-            .convert(transactionDto, TransactionDTO.class);
+            .convert(transactionTree, TransactionDTO.class);
         NetworkType networkType = NetworkType.rawValueOf(transactionDTO.getNetwork().getValue());
         TransactionFactory<T> factory = createFactory(networkType, transaction);
         factory.version(transactionDTO.getVersion());
@@ -19,6 +19,8 @@ package io.nem.symbol.sdk.infrastructure.vertx;
 import com.fasterxml.jackson.databind.node.ObjectNode;
 import io.nem.symbol.sdk.model.transaction.JsonHelper;
 import java.math.BigInteger;
+import java.util.LinkedHashMap;
+import java.util.Map;
 import java.util.Objects;
 import java.util.OptionalInt;
 import org.junit.jupiter.api.Assertions;
@@ -102,6 +104,25 @@ public class JsonHelperJackson2Test {
 
     }
 
+    @Test
+    public void shouldConvertMapsAndTreesWithoutPrinting() {
+        Car car = new Car("Renault", "Scenic", 2005, OptionalInt.of(100));
+        Map<String, Object> map = new LinkedHashMap<>();
+        map.put("brand", "Renault");
+        map.put("model", "Scenic");
+        map.put("year", BigInteger.valueOf(2005));
+        map.put("millage", 100);
+
+        ObjectNode tree = jsonHelper.convert(map, ObjectNode.class);
+        Assertions.assertEquals("Renault", jsonHelper.getString(tree, "brand"));
+        Assertions.assertEquals(BigInteger.valueOf(2005), jsonHelper.getBigInteger(tree, "year"));
+        Assertions.assertSame(tree, jsonHelper.convert(tree, ObjectNode.class));
+
+        Assertions.assertEquals(car, jsonHelper.convert(tree, Car.class));
+        Assertions.assertEquals(car, jsonHelper.convert(map, Car.class));
+        Assertions.assertEquals(jsonHelper.print(car), jsonHelper.print(tree));
+    }
+
 
     @Test
     public void shouldParseGenericNode() {